@@ -0,0 +1,93 @@
+/*
+ * SeedEventsReceiver.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.benchmark;
+
+import com.jeffblagg.eventtracker.EventTrackerApp;
+import com.jeffblagg.eventtracker.UserSessionManager;
+import com.jeffblagg.eventtracker.database.EventTrackerDatabase;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.User;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds a benchmark user with upcoming events and logs them in. Only part of
+ * the benchmark build, where :macrobenchmark sends it with
+ * {@code am broadcast} before measuring.
+ */
+public class SeedEventsReceiver extends BroadcastReceiver {
+    /**
+     * Intent extra for the number of events to seed.
+     */
+    public static final String EXTRA_COUNT = "count";
+
+    private static final String USERNAME = "benchmark";
+    private static final String PASSWORD = "benchmark";
+
+    private static final int[] COLOR_PALETTE = new int[]{
+            0xFF475D92,
+            0xFF7B1FA2,
+            0xFF2E7D32,
+            0xFFEF6C00,
+            0xFF00695C
+    };
+
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        int count = intent.getIntExtra(EXTRA_COUNT, 2000);
+        PendingResult result = goAsync();
+
+        new Thread(() -> {
+            try {
+                seed(context.getApplicationContext(), count);
+            } finally {
+                result.finish();
+            }
+        }).start();
+    }
+
+    /**
+     * Replaces the benchmark user's events with {@code count} upcoming events,
+     * one hour apart, and logs the user in.
+     *
+     * @param context The application context.
+     * @param count The number of events to seed.
+     */
+    private static void seed(Context context, int count) {
+        EventTrackerDatabase db = ((EventTrackerApp) context).getDatabase();
+
+        User user = db.userDao().getUser(USERNAME);
+        long userId = user != null ? user.id : db.userDao().insert(new User(USERNAME, PASSWORD));
+
+        long now = System.currentTimeMillis();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new Event(userId,
+                    now + (i + 1) * 60 * 60 * 1000L,
+                    "Benchmark event " + i,
+                    "Seeded event " + i + " for measuring the events list.",
+                    COLOR_PALETTE[i % COLOR_PALETTE.length]));
+        }
+
+        db.runInTransaction(() -> {
+            db.eventDao().deleteBefore(userId, Long.MAX_VALUE);
+            db.eventDao().insertAll(events);
+        });
+
+        UserSessionManager sessionManager = new UserSessionManager(context);
+        sessionManager.setLoggedInUser(userId);
+        sessionManager.setSMSDecisionMade(userId, true);
+    }
+}
@@ -10,18 +10,31 @@
 package com.jeffblagg.eventtracker;
 
 import com.jeffblagg.eventtracker.database.EventTrackerDatabase;
+import com.jeffblagg.eventtracker.entities.EventInterval;
+import com.jeffblagg.eventtracker.entities.EventTitle;
+import com.jeffblagg.eventtracker.metrics.JankReport;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.search.TitleSuggestions;
 
 import android.app.Application;
 
+import androidx.annotation.VisibleForTesting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static androidx.room.Room.databaseBuilder;
 
 /**
  * Custom {@link Application} class for initializing the Event
  * Tracker database.
  *
- * <p>The database is created using Room on app start.</p>
+ * <p>The database is created using Room and opened on a background thread on
+ * app start, so the first screen does no disk I/O on the main thread.</p>
  */
-public class EventTrackerApp extends Application {
+public class EventTrackerApp extends Application implements RepositoryMetrics.Provider {
 
     /**
      * Singleton instance of the Room database.
@@ -29,24 +42,194 @@ public class EventTrackerApp extends Application {
     private EventTrackerDatabase db;
 
     /**
-     * Initializes the Room database on app start.
+     * Background startup work, shared with the first screen.
+     */
+    private final StartupOrchestrator startup = new StartupOrchestrator();
+
+    /**
+     * Source of the current time for repositories and reminders.
+     */
+    private volatile Clock clock = Clock.SYSTEM;
+
+    /**
+     * Repository latencies and Room read/write counts, shared by every
+     * repository in the process.
+     */
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * Frame statistics of the monitored screens, saved to app storage as
+     * the screens pause.
+     */
+    private final JankReport jankReport = new JankReport(System.currentTimeMillis());
+
+    /**
+     * Title suggestions drawn from one user's events, shared by every
+     * repository so each save keeps them current, or {@code null} until loaded.
+     */
+    private TitleSuggestions<Long> titleSuggestions;
+    private long titleSuggestionsUserId = -1L;
+
+    /**
+     * Interval index of one user's event times, shared by every repository
+     * so each save keeps it current, or {@code null} until loaded.
+     */
+    private EventIntervalTree<Long> eventIntervals;
+    private long eventIntervalsUserId = -1L;
+
+    /**
+     * Starts opening the Room database and loading the user session on app start.
      */
     @Override
     public void onCreate() {
         super.onCreate();
-        db = databaseBuilder(
-                this,
-                EventTrackerDatabase.class,
-                "event_tracker.db")
-                .build();
+        startup.add("database", () -> getDatabase().getOpenHelper().getWritableDatabase())
+                .add("session", () -> new UserSessionManager(this).isLoggedIn())
+                .start();
     }
 
     /**
-     * Getter for the database instance.
+     * Getter for the database instance. The database is created on first use.
      *
      * @return The database for the app.
      */
-    public EventTrackerDatabase getDatabase() {
+    public synchronized EventTrackerDatabase getDatabase() {
+        if (db == null) {
+            db = databaseBuilder(
+                    this,
+                    EventTrackerDatabase.class,
+                    "event_tracker.db")
+                    .addMigrations(EventTrackerDatabase.MIGRATION_1_2, EventTrackerDatabase.MIGRATION_2_3,
+                            EventTrackerDatabase.MIGRATION_3_4, EventTrackerDatabase.MIGRATION_4_5)
+                    .build();
+        }
         return db;
     }
+
+    /**
+     * Getter for the app's startup work.
+     *
+     * @return The startup orchestrator.
+     */
+    public StartupOrchestrator getStartup() {
+        return startup;
+    }
+
+    /**
+     * Getter for the app's clock.
+     *
+     * @return The clock used to filter upcoming events and schedule reminders.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Getter for the app's repository metrics.
+     *
+     * @return The repository metrics.
+     */
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Getter for the app's frame statistics.
+     *
+     * @return The jank report shared by every monitored screen.
+     */
+    public JankReport getJankReport() {
+        return jankReport;
+    }
+
+    /**
+     * Getter for the title suggestions of a user's events. They are loaded
+     * from the database on first use, and again for a different user. Must
+     * not be called on the main thread.
+     *
+     * @param userId The id of the user.
+     * @return The user's title suggestions.
+     */
+    public synchronized TitleSuggestions<Long> getTitleSuggestions(long userId) {
+        if (titleSuggestions == null || titleSuggestionsUserId != userId) {
+            List<EventTitle> events = getDatabase().eventDao().getEventTitles(userId);
+            Map<Long, String> titles = new HashMap<>(events.size() * 2);
+            for (EventTitle event : events) {
+                titles.put(event.id, event.title);
+            }
+            TitleSuggestions<Long> suggestions = new TitleSuggestions<>();
+            suggestions.putAll(titles);
+            titleSuggestions = suggestions;
+            titleSuggestionsUserId = userId;
+        }
+        return titleSuggestions;
+    }
+
+    /**
+     * Getter for a user's loaded title suggestions, without loading them.
+     *
+     * @param userId The id of the user.
+     * @return The user's title suggestions, or {@code null} if they haven't
+     * been loaded or were loaded for another user.
+     */
+    public synchronized TitleSuggestions<Long> getLoadedTitleSuggestions(long userId) {
+        return titleSuggestionsUserId == userId ? titleSuggestions : null;
+    }
+
+    /**
+     * Getter for the interval index of a user's single events. It is loaded
+     * from the database on first use, and again for a different user. Must
+     * not be called on the main thread.
+     *
+     * @param userId The id of the user.
+     * @return The user's event intervals.
+     */
+    public synchronized EventIntervalTree<Long> getEventIntervals(long userId) {
+        if (eventIntervals == null || eventIntervalsUserId != userId) {
+            EventIntervalTree<Long> intervals = new EventIntervalTree<>();
+            for (EventInterval event : getDatabase().eventDao().getEventIntervals(userId)) {
+                // repeating events are expanded when queried instead
+                if (event.recurrence == null) {
+                    intervals.put(event.id, event.eventTime, event.endTime);
+                }
+            }
+            eventIntervals = intervals;
+            eventIntervalsUserId = userId;
+        }
+        return eventIntervals;
+    }
+
+    /**
+     * Getter for a user's loaded interval index, without loading it.
+     *
+     * @param userId The id of the user.
+     * @return The user's event intervals, or {@code null} if they haven't
+     * been loaded or were loaded for another user.
+     */
+    public synchronized EventIntervalTree<Long> getLoadedEventIntervals(long userId) {
+        return eventIntervalsUserId == userId ? eventIntervals : null;
+    }
+
+    /**
+     * Drops the loaded title suggestions and interval index, so the next
+     * user to log in doesn't see the last user's events.
+     */
+    public synchronized void clearUserIndexes() {
+        titleSuggestions = null;
+        titleSuggestionsUserId = -1L;
+        eventIntervals = null;
+        eventIntervalsUserId = -1L;
+    }
+
+    /**
+     * Replaces the app's clock, so tests and simulations can run at a fixed
+     * or simulated time. Only affects repositories created afterwards.
+     *
+     * @param clock The clock to use.
+     */
+    @VisibleForTesting
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
 }
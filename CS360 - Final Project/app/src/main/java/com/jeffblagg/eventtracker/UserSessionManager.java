@@ -9,16 +9,11 @@
 
 package com.jeffblagg.eventtracker;
 
+import com.jeffblagg.eventtracker.reminder.SMSPermissionManager;
+
 import android.Manifest;
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.content.pm.PackageManager;
-import android.util.Log;
-
-import androidx.core.content.ContextCompat;
-
-import org.json.JSONException;
-import org.json.JSONObject;
 
 /**
  * Manages user session and SMS notification preferences for the app
@@ -31,12 +26,12 @@ public class UserSessionManager {
     /** Storage key for the current user's id */
     private static final String CURRENT_USER_ID_KEY = "current_user_id";
 
-    /** Storage key for record of whether a user has made a decision about SMS permission */
-    private static final String SMS_DECISIONS_MADE_KEY = "sms_decisions_made";
-
     /** {@link SharedPreferences} instance for local storage persistence needs */
     private final SharedPreferences prefs;
 
+    /** Stores the SMS decisions, in the same preferences file as the session */
+    private final SMSPermissionManager smsPermissionManager;
+
     /**
      * UserSessionManager constructor
      *
@@ -44,6 +39,7 @@ public class UserSessionManager {
      */
     public UserSessionManager(Context context) {
         prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        smsPermissionManager = new SMSPermissionManager(context);
     }
 
     /**
@@ -93,17 +89,7 @@ public class UserSessionManager {
      *                             that should not be recorded).
      */
     public void setSMSDecisionMade(long userId, boolean decision) {
-        try {
-            // get the existing set of saved user decisions
-            String jsonString = prefs.getString(SMS_DECISIONS_MADE_KEY, "{}");
-            JSONObject jsonObject = new JSONObject(jsonString);
-
-            // add the decision for the current user and save
-            jsonObject.put(String.valueOf(userId), decision);
-            prefs.edit().putString(SMS_DECISIONS_MADE_KEY, jsonObject.toString()).apply();
-        } catch (JSONException exception) {
-            Log.d("UserSessionManager", "JSON Exception " + exception);
-        }
+        smsPermissionManager.setSMSDecisionMade(String.valueOf(userId), decision);
     }
 
     /**
@@ -113,16 +99,7 @@ public class UserSessionManager {
      * @return {@code true} if a decision exists for the user, {@code false} otherwise.
      */
     public boolean userHasDecidedSMS(long userId) {
-        try {
-            String jsonString = prefs.getString(SMS_DECISIONS_MADE_KEY, "{}");
-            JSONObject jsonObject = new JSONObject(jsonString);
-
-            // return the stored value, or false if no entry exists for the user
-            return jsonObject.optBoolean(String.valueOf(userId), false);
-        } catch (JSONException exception) {
-            Log.d("UserSessionManager", "JSON Exception " + exception);
-            return false;
-        }
+        return smsPermissionManager.userHasDecidedSMS(String.valueOf(userId));
     }
 
     /**
@@ -133,7 +110,6 @@ public class UserSessionManager {
      * granted, {@code false} otherwise
      */
     public boolean smsPermissionGranted(Context context) {
-        return ContextCompat.checkSelfPermission(context, Manifest.permission.SEND_SMS)
-                == PackageManager.PERMISSION_GRANTED;
+        return smsPermissionManager.smsPermissionGranted(context);
     }
 }
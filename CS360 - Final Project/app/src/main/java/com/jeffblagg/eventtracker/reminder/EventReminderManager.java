@@ -9,6 +9,7 @@
 
 package com.jeffblagg.eventtracker.reminder;
 
+import com.jeffblagg.eventtracker.Clock;
 import com.jeffblagg.eventtracker.UserSessionManager;
 
 import android.app.AlarmManager;
@@ -16,27 +17,74 @@ import android.app.PendingIntent;
 import android.content.Context;
 import android.content.Intent;
 
+import java.util.List;
+
 /**
  * Manages scheduling of SMS reminders for events.
  *
  * <p>Reminders are only scheduled for future events and if the
  * {@link android.Manifest.permission#SEND_SMS} permission has been granted.</p>
+ *
+ * <p>A repeating event has one alarm at a time, for its next occurrence.
+ * The {@link EventReminderReceiver} schedules the following occurrence's
+ * reminder when it sends one.</p>
  */
 public final class EventReminderManager {
+   /**
+    * A single reminder to schedule as part of a batch.
+    */
+   public static final class Reminder {
+      public final long eventId;
+      public final long reminderTime;
+      public final String message;
+      public final boolean repeating;
+
+      /**
+       * Reminder constructor.
+       *
+       * @param eventId The id of the event.
+       * @param reminderTime The time for the reminder to be sent, in milliseconds.
+       * @param message The message used as the SMS body.
+       */
+      public Reminder(long eventId, long reminderTime, String message) {
+         this(eventId, reminderTime, message, false);
+      }
+
+      /**
+       * Reminder constructor.
+       *
+       * @param eventId The id of the event.
+       * @param reminderTime The time for the reminder to be sent, in milliseconds.
+       * @param message The message used as the SMS body.
+       * @param repeating Whether the event repeats, so the next occurrence's
+       *                  reminder is scheduled once this one is sent.
+       */
+      public Reminder(long eventId, long reminderTime, String message, boolean repeating) {
+         this.eventId = eventId;
+         this.reminderTime = reminderTime;
+         this.message = message;
+         this.repeating = repeating;
+      }
+   }
+
    /**
     * Creates a {@link PendingIntent} used for an SMS reminder.
     *
     * @param context The application context.
     * @param eventId The id of the scheduled event.
     * @param message The message for the scheduled SMS.
+    * @param repeating Whether the event repeats.
     * @param flags Flags for the PendingIntent
     * @return The configured PendingIntent for the scheduled event.
     */
-   private static PendingIntent buildPendingIntent(Context context, long eventId, String message, int flags) {
+   private static PendingIntent buildPendingIntent(Context context, long eventId, String message,
+                                                   boolean repeating, int flags) {
       Intent intent = new Intent(context, EventReminderReceiver.class);
       // hard code the phone number to "5554" to only send to the emulator
       intent.putExtra(EventReminderReceiver.PHONE_NUMBER, "5554");
       intent.putExtra(EventReminderReceiver.SMS_MESSAGE, message);
+      intent.putExtra(EventReminderReceiver.EVENT_ID, eventId);
+      intent.putExtra(EventReminderReceiver.REPEATING, repeating);
       return PendingIntent.getBroadcast(context, (int) eventId, intent, flags);
    }
 
@@ -46,15 +94,33 @@ public final class EventReminderManager {
     * through {@link android.Manifest.permission#SEND_SMS}.
     *
     * @param context The context for the scheduled message.
+    * @param clock The clock used to skip reminders whose time has passed.
     * @param eventId The id of the event.
     * @param reminderTime The time for the reminder to be sent, in milliseconds.
     * @param message The message used as the SMS body
     */
-   public static void schedule(Context context, long eventId, long reminderTime, String message) {
+   public static void schedule(Context context, Clock clock, long eventId, long reminderTime, String message) {
+      schedule(context, clock, eventId, reminderTime, message, false);
+   }
+
+   /**
+    * Schedules a new SMS reminder for an event at the specified time. See
+    * {@link #schedule(Context, Clock, long, long, String)}.
+    *
+    * @param context The context for the scheduled message.
+    * @param clock The clock used to skip reminders whose time has passed.
+    * @param eventId The id of the event.
+    * @param reminderTime The time for the reminder to be sent, in milliseconds.
+    * @param message The message used as the SMS body
+    * @param repeating Whether the event repeats, so the next occurrence's
+    *                  reminder is scheduled once this one is sent.
+    */
+   public static void schedule(Context context, Clock clock, long eventId, long reminderTime, String message,
+                               boolean repeating) {
       UserSessionManager sessionManager = new UserSessionManager(context);
 
       // block scheduling if reminder time is in the past or permission hasn't been granted
-      if (reminderTime <= System.currentTimeMillis() || !sessionManager.smsPermissionGranted(context)) {
+      if (reminderTime <= clock.now() || !sessionManager.smsPermissionGranted(context)) {
          return;
       }
 
@@ -63,6 +129,7 @@ public final class EventReminderManager {
               context,
               eventId,
               message,
+              repeating,
               PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
 
       if (alarmManager != null && pendingIntent != null) {
@@ -82,10 +149,74 @@ public final class EventReminderManager {
               context,
               eventId,
               null,
+              false,
               PendingIntent.FLAG_NO_CREATE | PendingIntent.FLAG_IMMUTABLE);
 
       if (alarmManager != null && pendingIntent != null) {
          alarmManager.cancel(pendingIntent);
       }
    }
+
+   /**
+    * Schedules a batch of reminders. The SMS permission check and
+    * {@link AlarmManager} lookup are done once for the whole batch.
+    *
+    * @param context The context for the scheduled messages.
+    * @param clock The clock used to skip reminders whose time has passed.
+    * @param reminders The reminders to schedule.
+    */
+   public static void scheduleAll(Context context, Clock clock, List<Reminder> reminders) {
+      UserSessionManager sessionManager = new UserSessionManager(context);
+      AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+
+      if (alarmManager == null || !sessionManager.smsPermissionGranted(context)) {
+         return;
+      }
+
+      long now = clock.now();
+      for (Reminder reminder : reminders) {
+         // skip reminders whose time has already passed
+         if (reminder.reminderTime <= now) {
+            continue;
+         }
+
+         PendingIntent pendingIntent = buildPendingIntent(
+                 context,
+                 reminder.eventId,
+                 reminder.message,
+                 reminder.repeating,
+                 PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
+
+         if (pendingIntent != null) {
+            alarmManager.setAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, reminder.reminderTime, pendingIntent);
+         }
+      }
+   }
+
+   /**
+    * Cancels the previously scheduled reminders for a batch of events.
+    *
+    * @param context The context for scheduled events.
+    * @param eventIds The ids of the events whose reminders should be cancelled.
+    */
+   public static void cancelAll(Context context, List<Long> eventIds) {
+      AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+
+      if (alarmManager == null) {
+         return;
+      }
+
+      for (long eventId : eventIds) {
+         PendingIntent pendingIntent = buildPendingIntent(
+                 context,
+                 eventId,
+                 null,
+                 false,
+                 PendingIntent.FLAG_NO_CREATE | PendingIntent.FLAG_IMMUTABLE);
+
+         if (pendingIntent != null) {
+            alarmManager.cancel(pendingIntent);
+         }
+      }
+   }
 }
@@ -9,6 +9,9 @@
 
 package com.jeffblagg.eventtracker.reminder;
 
+import com.jeffblagg.eventtracker.repo.EventRepository;
+
+import android.app.Application;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
@@ -16,7 +19,9 @@ import android.telephony.SmsManager;
 import android.util.Log;
 
 /**
- * Receiver that handles sending SMS event reminders at a scheduled time.
+ * Receiver that handles sending SMS event reminders at a scheduled time. For
+ * a repeating event, the reminder for its next occurrence is scheduled once
+ * the reminder has been sent.
  */
 public class EventReminderReceiver extends BroadcastReceiver {
     /**
@@ -29,11 +34,22 @@ public class EventReminderReceiver extends BroadcastReceiver {
      */
     public static final String SMS_MESSAGE = "sms_message";
 
+    /**
+     * Intent extra key for the id of the reminded event.
+     */
+    public static final String EVENT_ID = "event_id";
+
+    /**
+     * Intent extra key for whether the reminded event repeats.
+     */
+    public static final String REPEATING = "repeating";
+
     /**
      * Called when the scheduled broadcast intent is received at the scheduled time.
      *
      * @param context The context for the receiver.
-     * @param intent The intent containing the reminder phone number and message.
+     * @param intent The intent containing the reminder phone number, message
+     *               and event.
      */
     @Override
     public void onReceive(Context context, Intent intent) {
@@ -48,5 +64,12 @@ public class EventReminderReceiver extends BroadcastReceiver {
                 Log.d("EventReminderReceiver", "Failed to send SMS" ,exception);
             }
         }
+
+        if (intent.getBooleanExtra(REPEATING, false)) {
+            // keep the receiver alive until the next reminder is scheduled
+            PendingResult result = goAsync();
+            EventRepository repo = new EventRepository((Application) context.getApplicationContext());
+            repo.scheduleNextReminder(intent.getLongExtra(EVENT_ID, -1), result::finish);
+        }
     }
 }
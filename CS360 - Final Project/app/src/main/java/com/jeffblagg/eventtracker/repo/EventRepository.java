@@ -9,37 +9,93 @@
 
 package com.jeffblagg.eventtracker.repo;
 
+import com.jeffblagg.eventtracker.Clock;
 import com.jeffblagg.eventtracker.EventTrackerApp;
+import com.jeffblagg.eventtracker.database.EventDao;
 import com.jeffblagg.eventtracker.database.EventTrackerDatabase;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventMatch;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.entities.ImportCheckpoint;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
 import com.jeffblagg.eventtracker.reminder.EventReminderManager;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+import com.jeffblagg.eventtracker.search.EventSearch;
+import com.jeffblagg.eventtracker.search.TitleSuggestions;
+import com.jeffblagg.eventtracker.transfer.CalendarEvent;
+import com.jeffblagg.eventtracker.transfer.EventFormat;
+import com.jeffblagg.eventtracker.transfer.EventReader;
+import com.jeffblagg.eventtracker.transfer.EventWriter;
 
 import android.app.Application;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+import android.util.Log;
 
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.tracing.Trace;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * {@link Event} Repository class that facilitates Event DAO operations
  * for the rest of the app.
  */
 public class EventRepository {
+    /**
+     * File name prefix in app storage for each user's events list snapshot.
+     */
+    private static final String SNAPSHOT_FILE_PREFIX = "event_snapshot_";
+
+    /**
+     * Number of events read per query while exporting.
+     */
+    private static final int EXPORT_PAGE_SIZE = 200;
+
+    /**
+     * Size of the character buffers between calendar files and their channels.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
     private final Application application;
+    private final EventTrackerApp app;
     private final EventTrackerDatabase db;
+    private final Clock clock;
+    private final RepositoryMetrics metrics;
 
     /**
      * Single thread background executor for Room calls.
      */
     private final ExecutorService databaseExecutor = Executors.newSingleThreadExecutor();
 
+    /**
+     * Single thread executor for imports and exports, which may run for
+     * minutes. Each chunk is written on the database executor, so other
+     * database calls aren't held up until the whole file is done.
+     */
+    private final ExecutorService transferExecutor = Executors.newSingleThreadExecutor();
+
     /**
      * Main thread handler to return to the main thread after background operations.
      */
@@ -65,14 +121,256 @@ public class EventRepository {
      */
     public interface onEventDeleted { void onResult(int rows); }
 
+    /**
+     * Interface for a callback after a batch of events has been added.
+     */
+    public interface OnEventsAdded { void onResult(List<Long> eventIds); }
+
+    /**
+     * Interface for a callback after a batch of events has been updated or deleted.
+     */
+    public interface OnEventsChanged { void onResult(int rows); }
+
+    /**
+     * Interface for a callback after a search has finished.
+     */
+    public interface OnEventsSearched { void onResult(List<EventSummary> events); }
+
+    /**
+     * Interface for a callback after free time has been found.
+     */
+    public interface OnFreeTimeFound { void onResult(List<EventIntervalTree.TimeRange> free); }
+
+    /**
+     * Interface for a callback with the number of events an import has saved.
+     */
+    public interface OnImportProgress { void onProgress(long imported); }
+
+    /**
+     * Interface for a callback after an import has stopped.
+     */
+    public interface OnImportFinished { void onResult(ImportResult result); }
+
+    /**
+     * Interface for a callback after an export has finished.
+     */
+    public interface OnExportFinished { void onResult(Long exported); }
+
+    /**
+     * The outcome of importing a calendar file.
+     */
+    public static final class ImportResult {
+        /**
+         * The number of events from the start of the file that are saved,
+         * including those saved by earlier runs of the same import.
+         */
+        public final long position;
+
+        /**
+         * The number of events saved by this run.
+         */
+        public final long imported;
+
+        /**
+         * The number of entries in the file that couldn't be imported.
+         */
+        public final int skipped;
+
+        /**
+         * Whether the whole file was imported. If not, a chunk failed to
+         * save and importing the file again resumes after the last saved chunk.
+         */
+        public final boolean complete;
+
+        ImportResult(long position, long imported, int skipped, boolean complete) {
+            this.position = position;
+            this.imported = imported;
+            this.skipped = skipped;
+            this.complete = complete;
+        }
+    }
+
     /**
      * EventRepository constructor.
      *
-     * @param application The application object used to access the database.
+     * @param application The application object used to access the database,
+     *                    the app's clock and the repository metrics.
      */
     public EventRepository(Application application) {
         this.application = application;
-        db = ((EventTrackerApp) application).getDatabase();
+        app = (EventTrackerApp) application;
+        db = app.getDatabase();
+        clock = app.getClock();
+        metrics = app.getMetrics();
+    }
+
+    /**
+     * Gets the clock the repository decides upcoming events and reminders with.
+     *
+     * @return The repository's clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Searches a user's upcoming events by title and description with the
+     * {@code events_fts} full-text index.
+     *
+     * <p>The first query only reads the ids and match statistics of every
+     * match, which {@link EventSearch#rank(List, int)} scores. Summaries are
+     * then loaded for the best matches only.</p>
+     *
+     * @param userId The id of the user whose events are searched.
+     * @param query The search query.
+     * @param limit The maximum number of results.
+     * @param callback Action receiving the matching events, best match first.
+     */
+    public void searchEvents(long userId, String query, int limit, OnEventsSearched callback) {
+        long start = metrics.start();
+        long now = clock.now();
+        databaseExecutor.execute(() -> {
+            List<EventSummary> results = new ArrayList<>();
+            String match = EventSearch.matchExpression(query);
+            if (match != null) {
+                Trace.beginSection("EventDao.searchEvents");
+                try {
+                    List<EventMatch> matches = db.eventDao().searchEvents(userId, now, match);
+                    List<Long> eventIds = EventSearch.rank(matches, limit);
+                    metrics.recordRead(matches.size(), false);
+
+                    Map<Long, EventSummary> summaries = new HashMap<>();
+                    if (!eventIds.isEmpty()) {
+                        for (EventSummary summary : db.eventDao().getEventSummaries(userId, eventIds)) {
+                            summaries.put(summary.id, summary);
+                        }
+                    }
+                    // keep the ranked order, skipping events deleted in between
+                    // and repeating events with no occurrences left
+                    for (Long eventId : eventIds) {
+                        EventSummary summary = summaries.get(eventId);
+                        if (summary != null && Occurrences.isUpcoming(summary, now)) {
+                            results.add(summary);
+                        }
+                    }
+                } finally {
+                    Trace.endSection();
+                }
+            }
+            mainLooper.post(() -> {
+                metrics.record(RepositoryMetrics.Operation.SEARCH, start);
+                callback.onResult(results);
+            });
+        });
+    }
+
+    /**
+     * Loads the title suggestions for a user's events in the background, so
+     * later suggestions don't touch the database.
+     *
+     * @param userId The id of the user.
+     */
+    public void loadTitleSuggestions(long userId) {
+        databaseExecutor.execute(() -> {
+            Trace.beginSection("EventDao.getEventTitles");
+            try {
+                app.getTitleSuggestions(userId);
+            } finally {
+                Trace.endSection();
+            }
+        });
+    }
+
+    /**
+     * Suggests titles of the user's events starting with the typed text, the
+     * titles used by the most events first. Safe to call from any thread.
+     *
+     * @param userId The id of the user.
+     * @param prefix The typed text.
+     * @param limit The maximum number of suggestions.
+     * @return The suggested titles. Empty until
+     * {@link #loadTitleSuggestions(long)} has finished.
+     */
+    public List<String> suggestTitles(long userId, String prefix, int limit) {
+        TitleSuggestions<Long> suggestions = app.getLoadedTitleSuggestions(userId);
+        return suggestions != null ? suggestions.suggest(prefix, limit) : new ArrayList<>();
+    }
+
+    /**
+     * Finds a user's events that overlap a time range, using the interval
+     * index instead of comparing every event. Summaries are only loaded for
+     * the overlapping events. Repeating events are expanded into the
+     * occurrences in the range.
+     *
+     * @param userId The id of the user.
+     * @param eventId The id of the event being saved, left out of the
+     *                results, or -1 for a new event.
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, or {@code null} for the instant at {@code start}.
+     * @param callback Action receiving the overlapping events, in time order.
+     */
+    public void findOverlapping(long userId, long eventId, long start, Long end, OnEventsSearched callback) {
+        databaseExecutor.execute(() -> {
+            List<Long> eventIds = app.getEventIntervals(userId).overlapping(start, end);
+            eventIds.remove(Long.valueOf(eventId));
+
+            List<EventSummary> overlapping = new ArrayList<>();
+            if (!eventIds.isEmpty()) {
+                Trace.beginSection("EventDao.getEventSummaries");
+                try {
+                    int count = Math.min(eventIds.size(), EventDao.BATCH_SIZE);
+                    overlapping.addAll(db.eventDao().getEventSummaries(userId, eventIds.subList(0, count)));
+                } finally {
+                    Trace.endSection();
+                }
+                metrics.recordRead(overlapping.size(), false);
+            }
+            for (EventSummary series : db.eventDao().getRepeatingEvents(userId)) {
+                if (series.id != eventId) {
+                    overlapping.addAll(Occurrences.overlapping(series, start, end));
+                }
+            }
+            overlapping.sort(Comparator.comparingLong(summary -> summary.eventTime));
+            mainLooper.post(() -> callback.onResult(overlapping));
+        });
+    }
+
+    /**
+     * Finds the free time between a user's events in a time range.
+     *
+     * @param userId The id of the user.
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds.
+     * @param minDuration The shortest free time to include, in milliseconds.
+     * @param callback Action receiving the free time ranges, in order.
+     */
+    public void freeTime(long userId, long start, long end, long minDuration, OnFreeTimeFound callback) {
+        databaseExecutor.execute(() -> {
+            EventIntervalTree<Long> intervals = app.getEventIntervals(userId);
+            List<EventSummary> repeating = db.eventDao().getRepeatingEvents(userId);
+
+            List<EventIntervalTree.TimeRange> free;
+            if (repeating.isEmpty()) {
+                free = intervals.freeTime(start, end, minDuration);
+            } else {
+                // index the range's events and occurrences on their own, a range holds few of them
+                EventIntervalTree<Integer> busy = new EventIntervalTree<>();
+                List<Long> eventIds = intervals.overlapping(start, end);
+                for (int from = 0; from < eventIds.size(); from += EventDao.BATCH_SIZE) {
+                    List<Long> chunk = eventIds.subList(from, Math.min(from + EventDao.BATCH_SIZE, eventIds.size()));
+                    for (EventSummary event : db.eventDao().getEventSummaries(userId, chunk)) {
+                        busy.put(busy.size(), event.eventTime, event.endTime);
+                    }
+                }
+                for (EventSummary series : repeating) {
+                    for (EventSummary occurrence : Occurrences.overlapping(series, start, end)) {
+                        busy.put(busy.size(), occurrence.eventTime, occurrence.endTime);
+                    }
+                }
+                free = busy.freeTime(start, end, minDuration);
+            }
+            mainLooper.post(() -> callback.onResult(free));
+        });
     }
 
     /**
@@ -82,20 +380,69 @@ public class EventRepository {
      * @param callback Action receiving the fetched event.
      */
     public void getEvent(long eventId, OnEventLoaded callback) {
+        long start = metrics.start();
         databaseExecutor.execute(() -> {
-            Event event = db.eventDao().getEvent(eventId);
-            mainLooper.post(() -> callback.onResult(event));
+            Event event;
+            Trace.beginSection("EventDao.getEvent");
+            try {
+                event = db.eventDao().getEvent(eventId);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordRead(event != null ? 1 : 0, false);
+            mainLooper.post(() -> {
+                metrics.record(RepositoryMetrics.Operation.GET_EVENT, start);
+                callback.onResult(event);
+            });
         });
     }
 
     /**
-     * Creates a {@link LiveData} list of a user's upcoming events.
+     * Creates a {@link LiveData} list of summaries for a user's upcoming events.
+     * Full events, including the complete description, are only loaded through
+     * {@link #getEvent(long, OnEventLoaded)}.
+     *
+     * <p>The list starts with the {@link EventListSnapshot} saved the last
+     * time the list changed, so it can be shown before the database query
+     * returns. Each query result replaces the list and the snapshot.</p>
+     *
+     * <p>Repeating events are listed once, as stored. They are expanded into
+     * their occurrences by the caller, with
+     * {@link Occurrences#upcoming(java.util.Collection, long, int)}.</p>
      *
      * @param userId The id of the user whose events are fetched.
-     * @return LiveData list of the specified user's future events.
+     * @return LiveData list of the specified user's future event summaries.
      */
-    public LiveData<List<Event>> userEvents(long userId) {
-        return db.eventDao().getEventsForUser(userId);
+    public LiveData<List<EventSummary>> userEvents(long userId) {
+        File snapshotFile = new File(application.getFilesDir(), SNAPSHOT_FILE_PREFIX + userId + ".bin");
+        MediatorLiveData<List<EventSummary>> events = new MediatorLiveData<>();
+
+        long start = metrics.start();
+        boolean[] awaitingFirstQuery = {true};
+
+        long now = clock.now();
+        List<EventSummary> snapshot = EventListSnapshot.read(snapshotFile, now);
+        metrics.recordRead(snapshot != null ? snapshot.size() : 0, snapshot != null);
+        if (snapshot != null) {
+            events.setValue(snapshot);
+        }
+
+        events.addSource(db.eventDao().getEventSummariesForUser(userId, now), summaries -> {
+            // time until the first query result is published
+            if (awaitingFirstQuery[0]) {
+                awaitingFirstQuery[0] = false;
+                metrics.record(RepositoryMetrics.Operation.USER_EVENTS, start);
+            }
+            metrics.recordListenerFire(summaries.size(), false);
+            // the query returns every repeating event, and single events from
+            // the time the list was created, so drop the ones that have passed since
+            long listed = clock.now();
+            List<EventSummary> upcoming = new ArrayList<>(summaries);
+            upcoming.removeIf(summary -> !Occurrences.isUpcoming(summary, listed));
+            events.setValue(upcoming);
+            databaseExecutor.execute(() -> EventListSnapshot.write(snapshotFile, upcoming));
+        });
+        return events;
     }
 
     /**
@@ -105,12 +452,22 @@ public class EventRepository {
      * @param callback Action receiving the added event's id.
      */
     public void add(Event event, OnEventAdded callback) {
+        long start = metrics.start();
         databaseExecutor.execute(() -> {
-            long eventId = db.eventDao().insert(event);
+            long eventId;
+            Trace.beginSection("EventDao.insert");
+            try {
+                eventId = db.eventDao().insert(event);
+            } finally {
+                Trace.endSection();
+            }
             if (eventId > 0) {
+                metrics.recordWrite(1);
+                indexEvent(eventId, event);
                 // schedule a reminder after event successfully added
                 scheduleReminder(event);
             }
+            metrics.record(RepositoryMetrics.Operation.ADD, start);
             mainLooper.post(() -> callback.onResult(eventId));
         });
     }
@@ -122,9 +479,19 @@ public class EventRepository {
      * @param callback Action receiving the row value of the updated event.
      */
     public void update(Event event, OnEventUpdated callback) {
+        long start = metrics.start();
         databaseExecutor.execute(() -> {
-            int rows = db.eventDao().update(event);
+            int rows;
+            Trace.beginSection("EventDao.update");
+            try {
+                rows = db.eventDao().update(event);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(rows);
+            metrics.record(RepositoryMetrics.Operation.UPDATE, start);
             if (rows > 0) {
+                indexEvent(event.id, event);
                 // cancel any existing event and reschedule in case the time changed.
                 EventReminderManager.cancel(application, event.id);
                 scheduleReminder(event);
@@ -136,28 +503,489 @@ public class EventRepository {
     /**
      * Deletes an event and cancel any associated scheduled reminder.
      *
+     * @param userId The id of the user the event belongs to.
      * @param eventId The id of the event to delete.
      * @param callback Action receiving the row value of the deleted event.
      */
-    public void delete(long eventId, onEventDeleted callback) {
+    public void delete(long userId, long eventId, onEventDeleted callback) {
+        long start = metrics.start();
         databaseExecutor.execute(() -> {
-            db.eventDao().deleteEvent(eventId);
+            Trace.beginSection("EventDao.deleteEvent");
+            try {
+                db.eventDao().deleteEvent(eventId);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(1);
+            metrics.record(RepositoryMetrics.Operation.DELETE, start);
+            unindexEvents(userId, Collections.singletonList(eventId));
             EventReminderManager.cancel(application, eventId);
             mainLooper.post(() -> callback.onResult(1));
         });
     }
 
     /**
-     * Schedules an event reminder to be sent two hours before the event time.
+     * Removes one occurrence of a repeating event, keeping the rest of the
+     * series, and reschedules the series' reminder. Removed occurrences that
+     * have already passed are dropped, so the list doesn't grow for as long
+     * as the series runs.
+     *
+     * @param eventId The id of the repeating event.
+     * @param occurrenceTime The start time of the occurrence, in milliseconds.
+     * @param callback Action receiving the row value of the updated event.
+     */
+    public void removeOccurrence(long eventId, long occurrenceTime, OnEventUpdated callback) {
+        long now = clock.now();
+        databaseExecutor.execute(() -> {
+            int rows = 0;
+            Trace.beginSection("EventDao.update");
+            try {
+                Event event = db.eventDao().getEvent(eventId);
+                if (event != null) {
+                    List<Long> exceptions = new ArrayList<>();
+                    if (event.exceptions != null) {
+                        for (Long time : event.exceptions) {
+                            if (time >= now) {
+                                exceptions.add(time);
+                            }
+                        }
+                    }
+                    if (!exceptions.contains(occurrenceTime)) {
+                        exceptions.add(occurrenceTime);
+                    }
+                    event.exceptions = exceptions;
+                    rows = db.eventDao().update(event);
+                    if (rows > 0) {
+                        EventReminderManager.cancel(application, eventId);
+                        scheduleReminder(event);
+                    }
+                }
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(rows);
+            int updated = rows;
+            mainLooper.post(() -> callback.onResult(updated));
+        });
+    }
+
+    /**
+     * Schedules the reminder for a repeating event's next occurrence, after
+     * the reminder for the previous occurrence has been sent.
+     *
+     * @param eventId The id of the repeating event.
+     * @param done Action run once the reminder has been scheduled, or the
+     *             event was not found.
+     */
+    public void scheduleNextReminder(long eventId, Runnable done) {
+        databaseExecutor.execute(() -> {
+            Event event;
+            Trace.beginSection("EventDao.getEvent");
+            try {
+                event = db.eventDao().getEvent(eventId);
+            } finally {
+                Trace.endSection();
+            }
+            if (event != null && event.recurrence != null) {
+                scheduleReminder(event);
+            }
+            mainLooper.post(done);
+        });
+    }
+
+    /**
+     * Adds a batch of events in chunked transactions and schedules their
+     * reminders together once the whole batch is stored.
+     *
+     * @param events The events to add.
+     * @param callback Action receiving the ids of the added events.
+     */
+    public void addAll(List<Event> events, OnEventsAdded callback) {
+        databaseExecutor.execute(() -> {
+            List<Long> eventIds;
+            Trace.beginSection("EventDao.insertAll");
+            try {
+                eventIds = db.eventDao().insertAll(events);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(eventIds.size());
+            for (int i = 0; i < events.size(); i++) {
+                events.get(i).id = eventIds.get(i);
+                indexEvent(eventIds.get(i), events.get(i));
+            }
+            scheduleReminders(events);
+            mainLooper.post(() -> callback.onResult(eventIds));
+        });
+    }
+
+    /**
+     * Updates a batch of events in chunked transactions. Cancels and
+     * reschedules the reminders for the whole batch.
+     *
+     * @param events The events to update.
+     * @param callback Action receiving the total number of updated rows.
+     */
+    public void updateAll(List<Event> events, OnEventsChanged callback) {
+        databaseExecutor.execute(() -> {
+            int rows;
+            Trace.beginSection("EventDao.updateAll");
+            try {
+                rows = db.eventDao().updateAll(events);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(rows);
+            if (rows > 0) {
+                List<Long> eventIds = new ArrayList<>(events.size());
+                for (Event event : events) {
+                    eventIds.add(event.id);
+                    indexEvent(event.id, event);
+                }
+                EventReminderManager.cancelAll(application, eventIds);
+                scheduleReminders(events);
+            }
+            mainLooper.post(() -> callback.onResult(rows));
+        });
+    }
+
+    /**
+     * Deletes a batch of events and cancels their reminders.
+     *
+     * @param userId The id of the user the events belong to.
+     * @param eventIds The ids of the events to delete.
+     * @param callback Action receiving the total number of deleted rows.
+     */
+    public void deleteAll(long userId, List<Long> eventIds, OnEventsChanged callback) {
+        databaseExecutor.execute(() -> {
+            int rows;
+            Trace.beginSection("EventDao.deleteByIds");
+            try {
+                rows = db.eventDao().deleteByIds(eventIds);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(rows);
+            unindexEvents(userId, eventIds);
+            EventReminderManager.cancelAll(application, eventIds);
+            mainLooper.post(() -> callback.onResult(rows));
+        });
+    }
+
+    /**
+     * Deletes all of a user's events scheduled before the cutoff time and
+     * cancels their reminders.
+     *
+     * @param userId The id of the user whose events are deleted.
+     * @param cutoff The cutoff time, in milliseconds.
+     * @param callback Action receiving the number of deleted rows.
+     */
+    public void deleteBefore(long userId, long cutoff, OnEventsChanged callback) {
+        databaseExecutor.execute(() -> {
+            List<Long> eventIds = new ArrayList<>();
+            int[] rows = new int[1];
+            Trace.beginSection("EventDao.deleteBefore");
+            try {
+                db.runInTransaction(() -> {
+                    eventIds.addAll(db.eventDao().getEventIdsBefore(userId, cutoff));
+                    rows[0] = db.eventDao().deleteBefore(userId, cutoff);
+                });
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordRead(eventIds.size(), false);
+            metrics.recordWrite(rows[0]);
+            unindexEvents(userId, eventIds);
+            EventReminderManager.cancelAll(application, eventIds);
+            mainLooper.post(() -> callback.onResult(rows[0]));
+        });
+    }
+
+    /**
+     * Imports the events of a calendar file for a user.
+     *
+     * <p>The file is streamed on a background thread and its events are
+     * inserted in chunks of {@link EventDao#BATCH_SIZE}, one transaction per
+     * chunk, with the chunk's reminders scheduled together. Only one chunk is
+     * held in memory however large the file is.</p>
+     *
+     * <p>An {@link ImportCheckpoint} is saved in each chunk's transaction.
+     * Importing the same file again after a failure, even if the app was
+     * killed, skips the saved events and resumes after the last saved chunk,
+     * so no event is imported twice.</p>
+     *
+     * @param userId The id of the user the events are added for.
+     * @param file The file to import. Closed when the import stops.
+     * @param source Identifies the file, such as its content URI, so a
+     *               checkpoint is only used for the same file.
+     * @param format The file's format.
+     * @param progress Action receiving the number of events saved so far, on
+     *                 the main thread.
+     * @param finished Action receiving the result on the main thread, or
+     *                 {@code null} if the file couldn't be read.
+     */
+    public void importEvents(long userId, ParcelFileDescriptor file, String source, EventFormat format,
+                             OnImportProgress progress, OnImportFinished finished) {
+        // a different user, file or file size starts a new import
+        String importSource = userId + "|" + source + "|" + file.getStatSize();
+
+        transferExecutor.execute(() -> {
+            ImportResult result = null;
+            Trace.beginSection("EventRepository.importEvents");
+            try (Reader text = Channels.newReader(new ParcelFileDescriptor.AutoCloseInputStream(file).getChannel(),
+                    StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE),
+                    TRANSFER_BUFFER_SIZE);
+                 EventReader reader = format.reader(text)) {
+                ImportCheckpoint checkpoint = databaseExecutor.submit(
+                        () -> db.eventDao().getImportCheckpoint(userId)).get();
+                long position = checkpoint != null && importSource.equals(checkpoint.source)
+                        ? checkpoint.position : 0;
+                result = importChunks(reader, userId, importSource, position,
+                        saved -> mainLooper.post(() -> progress.onProgress(saved)));
+            } catch (IOException | ExecutionException exception) {
+                Log.d("EventRepository", "Failed to import events", exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                Trace.endSection();
+            }
+
+            if (result != null && result.complete) {
+                databaseExecutor.execute(() -> db.eventDao().deleteImportCheckpoint(userId));
+            }
+            ImportResult finalResult = result;
+            mainLooper.post(() -> finished.onResult(finalResult));
+        });
+    }
+
+    /**
+     * Exports all of a user's events, past events included, to a calendar file.
+     *
+     * <p>Events are read a page at a time, each page on the database
+     * executor, and written to the file's channel before the next page is
+     * read, so the export never holds all of the events.</p>
+     *
+     * @param userId The id of the user whose events are exported.
+     * @param file The file to write. Closed when the export finishes.
+     * @param format The file's format.
+     * @param finished Action receiving the number of events exported on the
+     *                 main thread, or {@code null} if the export failed.
+     */
+    public void exportEvents(long userId, ParcelFileDescriptor file, EventFormat format,
+                             OnExportFinished finished) {
+        transferExecutor.execute(() -> {
+            Long exported = null;
+            Trace.beginSection("EventRepository.exportEvents");
+            try (Writer text = new BufferedWriter(Channels.newWriter(
+                    new ParcelFileDescriptor.AutoCloseOutputStream(file).getChannel(),
+                    StandardCharsets.UTF_8.newEncoder(), TRANSFER_BUFFER_SIZE), TRANSFER_BUFFER_SIZE);
+                 EventWriter writer = format.writer(text, clock.now())) {
+                long written = 0;
+                long afterId = 0;
+                while (true) {
+                    long from = afterId;
+                    List<Event> page = databaseExecutor.submit(
+                            () -> db.eventDao().getEventsPage(userId, from, EXPORT_PAGE_SIZE)).get();
+                    metrics.recordRead(page.size(), false);
+                    for (Event event : page) {
+                        writer.write(event.toCalendarEvent());
+                        written++;
+                    }
+                    if (page.size() < EXPORT_PAGE_SIZE) {
+                        break;
+                    }
+                    afterId = page.get(page.size() - 1).id;
+                }
+                exported = written;
+            } catch (IOException | ExecutionException exception) {
+                Log.d("EventRepository", "Failed to export events", exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                Trace.endSection();
+            }
+
+            Long finalExported = exported;
+            mainLooper.post(() -> finished.onResult(finalExported));
+        });
+    }
+
+    /**
+     * Reads a file's events and inserts them a chunk at a time, starting
+     * after the events a checkpoint has already saved. Must be called on the
+     * transfer executor.
+     *
+     * @param reader The file's events.
+     * @param userId The id of the user the events are added for.
+     * @param source Identifies the file, saved with each chunk's checkpoint.
+     * @param checkpoint The number of events saved by earlier runs.
+     * @param saved Action receiving the number of events saved after each chunk.
+     * @return The outcome of the import.
+     * @throws IOException if the file can't be read.
+     */
+    private ImportResult importChunks(EventReader reader, long userId, String source, long checkpoint,
+                                      OnImportProgress saved) throws IOException {
+        long position = 0;
+        while (position < checkpoint && reader.read() != null) {
+            position++;
+        }
+
+        List<Event> chunk = new ArrayList<>(EventDao.BATCH_SIZE);
+        long imported = 0;
+        while (true) {
+            CalendarEvent entry = reader.read();
+            Event event = entry != null ? Event.from(entry, userId) : null;
+            if (event != null) {
+                chunk.add(event);
+            }
+
+            if (chunk.size() == EventDao.BATCH_SIZE || (event == null && !chunk.isEmpty())) {
+                if (!insertChunk(chunk, new ImportCheckpoint(userId, source, position + chunk.size()))) {
+                    return new ImportResult(position, imported, reader.getSkipped(), false);
+                }
+                position += chunk.size();
+                imported += chunk.size();
+                chunk = new ArrayList<>(EventDao.BATCH_SIZE);
+                saved.onProgress(position);
+            }
+
+            if (event == null) {
+                return new ImportResult(position, imported, reader.getSkipped(), true);
+            }
+        }
+    }
+
+    /**
+     * Inserts a chunk of imported events and the import's checkpoint in one
+     * transaction on the database executor, indexes them and schedules their
+     * reminders, and waits for it to finish.
+     *
+     * @param events The events to insert. Should not exceed {@link EventDao#BATCH_SIZE}.
+     * @param checkpoint The import's checkpoint after the chunk.
+     * @return Whether the chunk was saved.
+     */
+    private boolean insertChunk(List<Event> events, ImportCheckpoint checkpoint) {
+        Future<?> inserted = databaseExecutor.submit(() -> {
+            List<Long> eventIds;
+            Trace.beginSection("EventDao.importChunk");
+            try {
+                eventIds = db.eventDao().importChunk(events, checkpoint);
+            } finally {
+                Trace.endSection();
+            }
+            metrics.recordWrite(eventIds.size());
+            for (int i = 0; i < events.size(); i++) {
+                events.get(i).id = eventIds.get(i);
+                indexEvent(eventIds.get(i), events.get(i));
+            }
+            scheduleReminders(events);
+        });
+
+        try {
+            inserted.get();
+            return true;
+        } catch (ExecutionException exception) {
+            Log.d("EventRepository", "Failed to import events", exception);
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Adds or replaces a saved event in the title suggestions and interval
+     * index, if they are loaded for the event's user.
+     *
+     * @param eventId The id of the saved event.
+     * @param event The saved event.
+     */
+    private void indexEvent(long eventId, Event event) {
+        TitleSuggestions<Long> suggestions = app.getLoadedTitleSuggestions(event.userId);
+        if (suggestions != null) {
+            suggestions.put(eventId, event.title);
+        }
+
+        EventIntervalTree<Long> intervals = app.getLoadedEventIntervals(event.userId);
+        if (intervals != null) {
+            // repeating events are expanded when queried instead
+            if (event.recurrence != null) {
+                intervals.remove(eventId);
+            } else {
+                intervals.put(eventId, event.eventTime, event.endTime);
+            }
+        }
+    }
+
+    /**
+     * Removes deleted events from the title suggestions and interval index,
+     * if they are loaded for the events' user.
+     *
+     * @param userId The id of the user the events belonged to.
+     * @param eventIds The ids of the deleted events.
+     */
+    private void unindexEvents(long userId, List<Long> eventIds) {
+        TitleSuggestions<Long> suggestions = app.getLoadedTitleSuggestions(userId);
+        EventIntervalTree<Long> intervals = app.getLoadedEventIntervals(userId);
+        for (Long eventId : eventIds) {
+            if (suggestions != null) {
+                suggestions.remove(eventId);
+            }
+            if (intervals != null) {
+                intervals.remove(eventId);
+            }
+        }
+    }
+
+    /**
+     * Schedules an event reminder to be sent two hours before the event time,
+     * or before the next occurrence of a repeating event.
      *
      * @param event The event to schedule a reminder for.
      */
     private void scheduleReminder(Event event) {
-        long twoHoursBeforeEventTime = event.eventTime - 2 * 60 * 60 * 100L;
+        EventReminderManager.Reminder reminder = buildReminder(event, new EventFormatter());
+        EventReminderManager.schedule(application, clock, reminder.eventId, reminder.reminderTime, reminder.message,
+                reminder.repeating);
+    }
+
+    /**
+     * Schedules reminders for a batch of events, sharing one formatter and
+     * one permission check across the batch.
+     *
+     * @param events The events to schedule reminders for.
+     */
+    private void scheduleReminders(List<Event> events) {
+        EventFormatter formatter = new EventFormatter();
+        List<EventReminderManager.Reminder> reminders = new ArrayList<>(events.size());
+        for (Event event : events) {
+            reminders.add(buildReminder(event, formatter));
+        }
+        EventReminderManager.scheduleAll(application, clock, reminders);
+    }
+
+    /**
+     * Builds the reminder for an event, sent two hours before the event time.
+     * A repeating event is reminded of its first occurrence whose reminder
+     * time hasn't passed.
+     *
+     * @param event The event to build a reminder for.
+     * @param formatter The formatter used for the reminder message.
+     * @return The reminder for the event.
+     */
+    private EventReminderManager.Reminder buildReminder(Event event, EventFormatter formatter) {
+        long reminderOffset = 2 * 60 * 60 * 100L;
+        long eventTime = event.eventTime;
+        boolean repeating = event.recurrence != null;
+        if (repeating) {
+            Long next = Occurrences.next(event, clock.now() + reminderOffset + 1);
+            if (next != null) {
+                eventTime = next;
+            }
+        }
 
-        String startTimeMessage = new SimpleDateFormat("MMM d, h:mm a", Locale.getDefault())
-                .format(new Date(event.eventTime));
-        String reminderMessage = "Friendly Reminder: " + event.title + " is starting at " + startTimeMessage;
-        EventReminderManager.schedule(application, event.id, twoHoursBeforeEventTime, reminderMessage);
+        long twoHoursBeforeEventTime = eventTime - reminderOffset;
+        String reminderMessage = formatter.reminderMessage(event.title, eventTime);
+        return new EventReminderManager.Reminder(event.id, twoHoursBeforeEventTime, reminderMessage, repeating);
     }
 }
@@ -11,17 +11,20 @@ package com.jeffblagg.eventtracker.ui;
 
 import android.app.DatePickerDialog;
 import android.app.TimePickerDialog;
+import android.content.DialogInterface;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
+import android.widget.AutoCompleteTextView;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.Toolbar;
 import androidx.constraintlayout.widget.ConstraintLayout;
@@ -30,14 +33,21 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.lifecycle.ViewModelProvider;
 
+import com.jeffblagg.eventtracker.EventTrackerApp;
 import com.jeffblagg.eventtracker.R;
 import com.jeffblagg.eventtracker.UserSessionManager;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.metrics.JankMonitor;
 import com.jeffblagg.eventtracker.viewmodel.AddEditEventViewModel;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Activity for creating a new {@link Event} or editing an existing one.
@@ -48,6 +58,32 @@ public class AddEditEventActivity extends AppCompatActivity {
      */
     public static final String EDIT_EVENT_ID = "EVENT_ID";
 
+    /**
+     * Intent extra key for the start time of the occurrence to edit, when the
+     * event to edit repeats.
+     */
+    public static final String EDIT_OCCURRENCE_TIME = "OCCURRENCE_TIME";
+
+    /**
+     * Repeat options shown in the repeat picker, with their recurrence rules.
+     */
+    private static final String[] REPEAT_LABELS = new String[]{
+            "Does not repeat",
+            "Daily",
+            "Weekly",
+            "Every weekday",
+            "Monthly",
+            "Yearly"
+    };
+    private static final String[] REPEAT_RULES = new String[]{
+            null,
+            "FREQ=DAILY",
+            "FREQ=WEEKLY",
+            "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR",
+            "FREQ=MONTHLY",
+            "FREQ=YEARLY"
+    };
+
     /**
      * Palette of possible card colors.
      */
@@ -60,16 +96,25 @@ public class AddEditEventActivity extends AppCompatActivity {
     };
 
     private AddEditEventViewModel viewModel;
+    private JankMonitor jankMonitor;
 
     // use default value of -1L for a new event
     private long eventId = -1L;
 
+    // the start time of the occurrence being edited, null unless editing a repeating event
+    private Long occurrenceTime = null;
+
+    // the event's recurrence rule, null if the event doesn't repeat
+    private String recurrence = null;
+
     private Toolbar toolbar;
     private ConstraintLayout eventCardLayout;
+    private AutoCompleteTextView nameEditText;
     private EditText
-            nameEditText,
             dateEditText,
             timeEditText,
+            endTimeEditText,
+            repeatEditText,
             descriptionEditText;
 
     private ImageButton colorsButton;
@@ -78,6 +123,9 @@ public class AddEditEventActivity extends AppCompatActivity {
 
     private final Calendar calendar = Calendar.getInstance();
 
+    // the end time as minutes into the event's day, null for no end time
+    private Integer endMinuteOfDay = null;
+
     // set a default card background color
     private Integer selectedColor = 0xFF475D92;
     private int colorIndex = 0;
@@ -87,18 +135,25 @@ public class AddEditEventActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_add_edit_event);
+        jankMonitor = new JankMonitor(this, ((EventTrackerApp) getApplication()).getJankReport());
 
         viewModel = new ViewModelProvider(this).get(AddEditEventViewModel.class);
         eventId = getIntent().getLongExtra(EDIT_EVENT_ID, -1L);
+        if (getIntent().hasExtra(EDIT_OCCURRENCE_TIME)) {
+            occurrenceTime = getIntent().getLongExtra(EDIT_OCCURRENCE_TIME, 0);
+        }
 
         // activity initializations
         findViews();
         setupToolbar();
         setupTextListeners();
+        setupTitleSuggestions();
 
         // add button and date/time listeners
         dateEditText.setOnClickListener(v -> showDatePicker());
         timeEditText.setOnClickListener(v -> showTimePicker());
+        endTimeEditText.setOnClickListener(v -> showEndTimePicker());
+        repeatEditText.setOnClickListener(v -> showRepeatPicker());
 
         colorsButton.setOnClickListener(v -> cycleColor());
         addEditButton.setEnabled(false);
@@ -112,6 +167,7 @@ public class AddEditEventActivity extends AppCompatActivity {
             addEditButton.setText(R.string.edit_event);
         } else {
             updateDateTimeFields();
+            updateRepeatField();
             addEditButton.setText(R.string.add_event);
         }
 
@@ -133,6 +189,8 @@ public class AddEditEventActivity extends AppCompatActivity {
         nameEditText = findViewById(R.id.nameEditText);
         dateEditText = findViewById(R.id.dateEditText);
         timeEditText = findViewById(R.id.timeEditText);
+        endTimeEditText = findViewById(R.id.endTimeEditText);
+        repeatEditText = findViewById(R.id.repeatEditText);
         descriptionEditText = findViewById(R.id.descriptionEditText);
         colorsButton = findViewById(R.id.colorsButton);
         addEditButton = findViewById(R.id.addEditButton);
@@ -165,6 +223,14 @@ public class AddEditEventActivity extends AppCompatActivity {
         nameEditText.addTextChangedListener(textWatcher);
     }
 
+    /**
+     * Suggests titles of the user's existing events as the event name is typed.
+     */
+    private void setupTitleSuggestions() {
+        viewModel.loadTitleSuggestions(new UserSessionManager(this).getUserId());
+        nameEditText.setAdapter(new TitleSuggestionAdapter(this, viewModel::suggestTitles));
+    }
+
     /**
      * Setup the toolbar with the correct title for adding or editing an event.
      */
@@ -179,7 +245,8 @@ public class AddEditEventActivity extends AppCompatActivity {
     }
 
     /**
-     * Populates the UI with info from an existing event.
+     * Populates the UI with info from an existing event. For a repeating
+     * event, the occurrence that was opened is shown.
      *
      * @param event The event to display.
      */
@@ -190,16 +257,54 @@ public class AddEditEventActivity extends AppCompatActivity {
             return;
         }
 
-        nameEditText.setText(event.title);
+        // don't suggest titles for the loaded event's own title
+        nameEditText.setText(event.title, false);
         descriptionEditText.setText(event.description != null ? event.description : "");
 
-        calendar.setTimeInMillis(event.eventTime);
+        long offset = occurrenceTime != null && event.recurrence != null ? occurrenceTime - event.eventTime : 0;
+        calendar.setTimeInMillis(event.eventTime + offset);
+        endMinuteOfDay = null;
+        if (event.endTime != null) {
+            Calendar end = Calendar.getInstance();
+            end.setTimeInMillis(event.endTime + offset);
+            endMinuteOfDay = end.get(Calendar.HOUR_OF_DAY) * 60 + end.get(Calendar.MINUTE);
+        }
         updateDateTimeFields();
 
+        recurrence = event.recurrence;
+        updateRepeatField();
+
         selectedColor = event.cardColor;
         applyColorPreview();
     }
 
+    /**
+     * Shows the chosen repeat option, or a generic label for a rule set
+     * outside the app.
+     */
+    private void updateRepeatField() {
+        for (int i = 0; i < REPEAT_RULES.length; i++) {
+            if (Objects.equals(REPEAT_RULES[i], recurrence)) {
+                repeatEditText.setText(REPEAT_LABELS[i]);
+                return;
+            }
+        }
+        repeatEditText.setText("Custom repeat");
+    }
+
+    /**
+     * Shows the repeat options and saves the chosen rule for the event.
+     */
+    private void showRepeatPicker() {
+        new AlertDialog.Builder(this)
+                .setTitle(R.string.repeat)
+                .setItems(REPEAT_LABELS, (dialog, which) -> {
+                    recurrence = REPEAT_RULES[which];
+                    updateRepeatField();
+                })
+                .show();
+    }
+
     /**
      * Updates the date and time fields with properly formatted text.
      */
@@ -208,6 +313,27 @@ public class AddEditEventActivity extends AppCompatActivity {
         SimpleDateFormat timeFormat = new SimpleDateFormat("h:mm a", Locale.getDefault());
         dateEditText.setText(dateFormat.format(calendar.getTime()));
         timeEditText.setText(timeFormat.format(calendar.getTime()));
+
+        Long endTime = endTime();
+        endTimeEditText.setText(endTime != null ? timeFormat.format(new Date(endTime)) : "");
+    }
+
+    /**
+     * Gets the event's end time, on the same day as the event.
+     *
+     * @return The end time in milliseconds, or null if none was chosen.
+     */
+    private Long endTime() {
+        if (endMinuteOfDay == null) {
+            return null;
+        }
+
+        Calendar end = (Calendar) calendar.clone();
+        end.set(Calendar.HOUR_OF_DAY, endMinuteOfDay / 60);
+        end.set(Calendar.MINUTE, endMinuteOfDay % 60);
+        end.set(Calendar.SECOND, 0);
+        end.set(Calendar.MILLISECOND, 0);
+        return end.getTimeInMillis();
     }
 
     /**
@@ -239,6 +365,26 @@ public class AddEditEventActivity extends AppCompatActivity {
         }, hour, minute, false).show();
     }
 
+    /**
+     * Shows a time picker for the optional end time, starting an hour after
+     * the event if none was chosen yet, with a button to clear it.
+     */
+    private void showEndTimePicker() {
+        Long endTime = endTime();
+        Calendar end = Calendar.getInstance();
+        end.setTimeInMillis(endTime != null ? endTime : calendar.getTimeInMillis() + 60 * 60 * 1000L);
+
+        TimePickerDialog dialog = new TimePickerDialog(this, (view, chosenHour, chosenMinute) -> {
+            endMinuteOfDay = chosenHour * 60 + chosenMinute;
+            updateDateTimeFields();
+        }, end.get(Calendar.HOUR_OF_DAY), end.get(Calendar.MINUTE), false);
+        dialog.setButton(DialogInterface.BUTTON_NEUTRAL, "No end time", (d, which) -> {
+            endMinuteOfDay = null;
+            updateDateTimeFields();
+        });
+        dialog.show();
+    }
+
     /**
      * Applies the selected color to the event card preview background.
      */
@@ -260,7 +406,8 @@ public class AddEditEventActivity extends AppCompatActivity {
     }
 
     /**
-     * Validates input and either creates a new event or updates an existing one (if provided).
+     * Validates input, warns about events the new time overlaps, then either
+     * creates a new event or updates an existing one (if provided).
      */
     private void saveEvent() {
         UserSessionManager sessionManager = new UserSessionManager(this);
@@ -275,9 +422,10 @@ public class AddEditEventActivity extends AppCompatActivity {
         String title = nameEditText.getText().toString();
         String description = descriptionEditText.getText().toString();
         long eventTime = calendar.getTimeInMillis();
+        Long endTime = endTime();
 
         // require time to be in the future
-        if (eventTime < System.currentTimeMillis()) {
+        if (!viewModel.isInFuture(eventTime)) {
             Toast.makeText(this, "Event must be in the future.", Toast.LENGTH_SHORT).show();
             return;
         }
@@ -288,27 +436,93 @@ public class AddEditEventActivity extends AppCompatActivity {
             return;
         }
 
+        // require the end time to come after the start
+        if (endTime != null && endTime <= eventTime) {
+            Toast.makeText(this, "End time must be after the start time.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        viewModel.findOverlapping(userId, eventId, eventTime, endTime, overlapping -> {
+            if (overlapping.isEmpty()) {
+                persistEvent(userId, title, description, eventTime, endTime);
+            } else {
+                confirmOverlap(overlapping, () -> persistEvent(userId, title, description, eventTime, endTime));
+            }
+        });
+    }
+
+    /**
+     * Asks whether to save an event that overlaps other events.
+     *
+     * @param overlapping The overlapping events, in time order.
+     * @param save Saves the event if the user chooses to.
+     */
+    private void confirmOverlap(List<EventSummary> overlapping, Runnable save) {
+        SimpleDateFormat format = new SimpleDateFormat("MMM d, h:mm a", Locale.getDefault());
+        StringBuilder message = new StringBuilder("This event overlaps:");
+        for (EventSummary event : overlapping) {
+            message.append("\n").append(event.title)
+                    .append(" (").append(format.format(new Date(event.eventTime))).append(")");
+        }
+
+        new AlertDialog.Builder(this)
+                .setTitle("Time conflict")
+                .setMessage(message)
+                .setPositiveButton("Save anyway", (dialog, which) -> save.run())
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Creates a new event or updates an existing one (if provided).
+     *
+     * @param userId The id of the logged in user.
+     * @param title The event title.
+     * @param description The event description.
+     * @param eventTime The start time of the event.
+     * @param endTime The end time of the event, or null if it has none.
+     */
+    private void persistEvent(long userId, String title, String description, long eventTime, Long endTime) {
         // if an eventId exists, edit the existing event, otherwise add a new event
         if (eventId > 0) {
+            jankMonitor.setSaving(true);
             viewModel.loadEvent(eventId, event -> {
                 if (event == null) {
+                    jankMonitor.setSaving(false);
                     Toast.makeText(this, "Event not found.", Toast.LENGTH_SHORT).show();
                     return;
                 }
 
+                // with the repeat unchanged, an occurrence's edits may apply to it alone
+                boolean occurrence = occurrenceTime != null && event.recurrence != null;
+                if (occurrence && recurrence != null && recurrence.equals(event.recurrence)) {
+                    jankMonitor.setSaving(false);
+                    chooseOccurrenceEdit(userId, event, title, description, eventTime, endTime);
+                    return;
+                }
+
                 event.title = title;
                 event.description = description;
-                event.eventTime = eventTime;
                 event.cardColor = selectedColor;
+                if (occurrence && recurrence != null) {
+                    // a changed repeat applies to the whole series
+                    moveSeries(event, eventTime, endTime);
+                } else {
+                    event.eventTime = eventTime;
+                    event.endTime = endTime;
+                }
+                event.recurrence = recurrence;
+                if (recurrence == null) {
+                    // turning the repeat off keeps only the edited occurrence
+                    event.exceptions = null;
+                }
 
-                viewModel.updateEvent(event, rows -> {
-                    Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
-                    setResult(RESULT_OK);
-                    finish();
-                });
+                updateEvent(event);
             });
         } else {
-            viewModel.createNewEvent(userId, title, description, eventTime, selectedColor, id -> {
+            jankMonitor.setSaving(true);
+            viewModel.createNewEvent(userId, title, description, eventTime, endTime, selectedColor, recurrence, id -> {
+                jankMonitor.setSaving(false);
                 if (id > 0) {
                     Toast.makeText(this, "Event added.", Toast.LENGTH_SHORT).show();
                     setResult(RESULT_OK);
@@ -316,10 +530,90 @@ public class AddEditEventActivity extends AppCompatActivity {
                 } else {
                     Toast.makeText(this, "Add event failed.", Toast.LENGTH_SHORT).show();
                 }
-            }, errorMessage -> Toast.makeText(this, errorMessage, Toast.LENGTH_SHORT).show());
+            }, errorMessage -> {
+                jankMonitor.setSaving(false);
+                Toast.makeText(this, errorMessage, Toast.LENGTH_SHORT).show();
+            });
+        }
+    }
+
+    /**
+     * Asks whether the edits to an occurrence of a repeating event apply to
+     * that occurrence only, saved as its own event, or to the whole series.
+     *
+     * @param userId The id of the logged in user.
+     * @param series The repeating event, as stored.
+     * @param title The event title.
+     * @param description The event description.
+     * @param eventTime The start time of the edited occurrence.
+     * @param endTime The end time of the edited occurrence, or null if it has none.
+     */
+    private void chooseOccurrenceEdit(long userId, Event series, String title, String description,
+                                      long eventTime, Long endTime) {
+        new AlertDialog.Builder(this)
+                .setTitle("Edit repeating event")
+                .setItems(new String[] {"This event", "All events"}, (dialog, which) -> {
+                    jankMonitor.setSaving(true);
+                    if (which == 0) {
+                        Event single = new Event(userId, eventTime, title, description, selectedColor);
+                        single.endTime = endTime;
+                        viewModel.detachOccurrence(series.id, occurrenceTime, single, id -> {
+                            jankMonitor.setSaving(false);
+                            if (id > 0) {
+                                Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
+                                setResult(RESULT_OK);
+                                finish();
+                            } else {
+                                Toast.makeText(this, "Update event failed.", Toast.LENGTH_SHORT).show();
+                            }
+                        });
+                    } else {
+                        series.title = title;
+                        series.description = description;
+                        series.cardColor = selectedColor;
+                        moveSeries(series, eventTime, endTime);
+                        updateEvent(series);
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Applies a moved occurrence to its whole series, moving the series'
+     * start and removed occurrences by as much.
+     *
+     * @param series The repeating event to edit.
+     * @param eventTime The new start time of the edited occurrence.
+     * @param endTime The new end time of the edited occurrence, or null if it has none.
+     */
+    private void moveSeries(Event series, long eventTime, Long endTime) {
+        long shift = eventTime - occurrenceTime;
+        series.eventTime += shift;
+        series.endTime = endTime != null ? series.eventTime + (endTime - eventTime) : null;
+        if (shift != 0 && series.exceptions != null) {
+            List<Long> exceptions = new ArrayList<>();
+            for (Long time : series.exceptions) {
+                exceptions.add(time + shift);
+            }
+            series.exceptions = exceptions;
         }
     }
 
+    /**
+     * Saves the edits to an existing event.
+     *
+     * @param event The edited event.
+     */
+    private void updateEvent(Event event) {
+        viewModel.updateEvent(event, rows -> {
+            jankMonitor.setSaving(false);
+            Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
+            setResult(RESULT_OK);
+            finish();
+        });
+    }
+
     /**
      * Cancels adding or editing the event and returns to the previous screen.
      */
@@ -10,6 +10,7 @@
 package com.jeffblagg.eventtracker.viewmodel;
 
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
 import com.jeffblagg.eventtracker.repo.EventRepository;
 
 import android.app.Application;
@@ -17,14 +18,26 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 
+import java.util.List;
+
 /**
  * The view model for the AddEditEventActivity. Connects to the
  * {@link EventRepository} to add new events or save changes to existing
  * ones.
  */
 public class AddEditEventViewModel extends AndroidViewModel {
+   /**
+    * Maximum number of title suggestions shown.
+    */
+   private static final int TITLE_SUGGESTION_LIMIT = 5;
+
    private final EventRepository repo;
 
+   /**
+    * The id of the user whose title suggestions are suggested from.
+    */
+   private volatile long suggestionsUserId = -1L;
+
    /**
     * Interface for a callback after an event has been loaded.
     */
@@ -40,6 +53,11 @@ public class AddEditEventViewModel extends AndroidViewModel {
     */
    public interface ErrorCallback { void onError(String errorMessage); }
 
+   /**
+    * Interface for a callback after overlapping events have been found.
+    */
+   public interface OverlapCallback { void onOverlaps(List<EventSummary> overlapping); }
+
    /**
     * AddEditEventViewModel constructor. Initializes the event repository.
     *
@@ -50,6 +68,50 @@ public class AddEditEventViewModel extends AndroidViewModel {
       repo = new EventRepository(application);
    }
 
+   /**
+    * Loads the title suggestions for the user's events in the background.
+    *
+    * @param userId The id of the user.
+    */
+   public void loadTitleSuggestions(long userId) {
+      suggestionsUserId = userId;
+      repo.loadTitleSuggestions(userId);
+   }
+
+   /**
+    * Suggests titles of the user's events starting with the typed text. Safe
+    * to call from any thread.
+    *
+    * @param prefix The typed text.
+    * @return The suggested titles, the most used first.
+    */
+   public List<String> suggestTitles(String prefix) {
+      return repo.suggestTitles(suggestionsUserId, prefix, TITLE_SUGGESTION_LIMIT);
+   }
+
+   /**
+    * Checks if an event time has not passed yet, using the repository's clock.
+    *
+    * @param eventTime The time of the event, in milliseconds.
+    * @return {@code true} if the event time is now or in the future.
+    */
+   public boolean isInFuture(long eventTime) {
+      return eventTime >= repo.getClock().now();
+   }
+
+   /**
+    * Finds the user's other events that overlap an event's time.
+    *
+    * @param userId The id of the user.
+    * @param eventId The id of the event being saved, or -1 for a new event.
+    * @param eventTime The time of the event, in milliseconds.
+    * @param endTime The end time of the event, in milliseconds, or {@code null}.
+    * @param callback The callback receiving the overlapping events, ordered by time.
+    */
+   public void findOverlapping(long userId, long eventId, long eventTime, Long endTime, OverlapCallback callback) {
+      repo.findOverlapping(userId, eventId, eventTime, endTime, callback::onOverlaps);
+   }
+
    /**
     * Fetches an existing event matching the provided id.
     *
@@ -67,7 +129,10 @@ public class AddEditEventViewModel extends AndroidViewModel {
     * @param title The title of the event.
     * @param description The description of the event.
     * @param eventTime The time of the event, in milliseconds.
+    * @param endTime The end time of the event, in milliseconds, or {@code null}.
     * @param cardColor The color for the event card.
+    * @param recurrence The event's recurrence rule, or {@code null} if the
+    *                   event doesn't repeat.
     * @param callback The callback triggered on successful save.
     * @param errorCallback The callback triggered if an error is encountered.
     */
@@ -75,7 +140,9 @@ public class AddEditEventViewModel extends AndroidViewModel {
                               String title,
                               String description,
                               long eventTime,
+                              Long endTime,
                               Integer cardColor,
+                              String recurrence,
                               SaveEventCallback callback,
                               ErrorCallback errorCallback) {
       if (title.isBlank()) {
@@ -84,6 +151,8 @@ public class AddEditEventViewModel extends AndroidViewModel {
       }
 
       Event event = new Event(userId, eventTime, title, description, cardColor);
+      event.endTime = endTime;
+      event.recurrence = recurrence;
       repo.add(event, callback::onEventSaved);
    }
 
@@ -96,4 +165,19 @@ public class AddEditEventViewModel extends AndroidViewModel {
    public void updateEvent(Event event, SaveEventCallback callback) {
       repo.update(event, callback::onEventSaved);
    }
+
+   /**
+    * Saves an edit to one occurrence of a repeating event. The occurrence is
+    * removed from the series and the edited occurrence is added as its own
+    * event, so the rest of the series is unchanged.
+    *
+    * @param seriesId The id of the repeating event.
+    * @param occurrenceTime The start time of the edited occurrence, in milliseconds.
+    * @param occurrence The edited occurrence, as a new event.
+    * @param callback Callback triggered with the new event's id once both
+    *                 changes have been saved.
+    */
+   public void detachOccurrence(long seriesId, long occurrenceTime, Event occurrence, SaveEventCallback callback) {
+      repo.removeOccurrence(seriesId, occurrenceTime, rows -> repo.add(occurrence, callback::onEventSaved));
+   }
 }
@@ -0,0 +1,213 @@
+/*
+ * MigrationTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+/**
+ * Checks the {@link EventTrackerDatabase} migrations against the exported
+ * schema of each version, so a database created by any earlier version of
+ * the app opens with its events intact.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MigrationTest {
+    private static final String TEST_DATABASE = "migration-test.db";
+
+    @Rule
+    public final MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(), EventTrackerDatabase.class);
+
+    @Test
+    public void migratesFromVersionOneToFive() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 1)) {
+            insertUser(db);
+            db.execSQL("INSERT INTO events (id, userId, eventTime, title, description, cardColor) "
+                    + "VALUES (1, 1, 1800000000000, 'Dentist', 'Cleaning appointment', NULL)");
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 5, true,
+                EventTrackerDatabase.MIGRATION_1_2, EventTrackerDatabase.MIGRATION_2_3,
+                EventTrackerDatabase.MIGRATION_3_4, EventTrackerDatabase.MIGRATION_4_5);
+
+        // existing events keep their values and get no end time or recurrence
+        try (Cursor cursor = db.query("SELECT title, endTime, recurrence, exceptions FROM events WHERE id = 1")) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals("Dentist", cursor.getString(0));
+            assertTrue(cursor.isNull(1));
+            assertTrue(cursor.isNull(2));
+            assertTrue(cursor.isNull(3));
+        }
+        assertEquals(1, matchCount(db, "cleaning"));
+        db.close();
+    }
+
+    @Test
+    public void migrationOneToTwoIndexesExistingEvents() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 1)) {
+            insertUser(db);
+            db.execSQL("INSERT INTO events (id, userId, eventTime, title, description, cardColor) "
+                    + "VALUES (1, 1, 1800000000000, 'Dentist', 'Cleaning appointment', NULL)");
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 2, true,
+                EventTrackerDatabase.MIGRATION_1_2);
+
+        assertEquals(1, matchCount(db, "dentist"));
+        assertEquals(1, matchCount(db, "appointment"));
+        db.close();
+    }
+
+    @Test
+    public void migratedSearchIndexFollowsChanges() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 1)) {
+            insertUser(db);
+            db.execSQL("INSERT INTO events (id, userId, eventTime, title, description, cardColor) "
+                    + "VALUES (1, 1, 1800000000000, 'Dentist', NULL, NULL)");
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 5, true,
+                EventTrackerDatabase.MIGRATION_1_2, EventTrackerDatabase.MIGRATION_2_3,
+                EventTrackerDatabase.MIGRATION_3_4, EventTrackerDatabase.MIGRATION_4_5);
+
+        // the sync triggers added by the migration keep the index current
+        db.execSQL("UPDATE events SET title = 'Orthodontist' WHERE id = 1");
+        assertEquals(0, matchCount(db, "dentist"));
+        assertEquals(1, matchCount(db, "orthodontist"));
+
+        db.execSQL("INSERT INTO events (id, userId, eventTime, title, description, cardColor) "
+                + "VALUES (2, 1, 1800000000000, 'Dinner', NULL, NULL)");
+        assertEquals(1, matchCount(db, "dinner"));
+
+        db.execSQL("DELETE FROM events WHERE id = 1");
+        assertEquals(0, matchCount(db, "orthodontist"));
+        db.close();
+    }
+
+    @Test
+    public void migrationTwoToThreeAddsEndTime() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 2)) {
+            insertUser(db);
+            db.execSQL("INSERT INTO events (id, userId, eventTime, title, description, cardColor) "
+                    + "VALUES (1, 1, 1800000000000, 'Dentist', NULL, NULL)");
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 3, true,
+                EventTrackerDatabase.MIGRATION_2_3);
+
+        try (Cursor cursor = db.query("SELECT endTime FROM events WHERE id = 1")) {
+            assertTrue(cursor.moveToFirst());
+            assertTrue(cursor.isNull(0));
+        }
+        db.close();
+    }
+
+    @Test
+    public void migrationThreeToFourAddsRecurrence() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 3)) {
+            insertUser(db);
+            db.execSQL("INSERT INTO events (id, userId, eventTime, endTime, title, description, cardColor) "
+                    + "VALUES (1, 1, 1800000000000, 1800003600000, 'Dentist', NULL, NULL)");
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 4, true,
+                EventTrackerDatabase.MIGRATION_3_4);
+
+        try (Cursor cursor = db.query("SELECT endTime, recurrence, exceptions FROM events WHERE id = 1")) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals(1800003600000L, cursor.getLong(0));
+            assertTrue(cursor.isNull(1));
+            assertTrue(cursor.isNull(2));
+        }
+        db.close();
+    }
+
+    @Test
+    public void migrationFourToFiveAddsImportCheckpoints() throws IOException {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DATABASE, 4)) {
+            insertUser(db);
+        }
+
+        SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DATABASE, 5, true,
+                EventTrackerDatabase.MIGRATION_4_5);
+
+        db.execSQL("INSERT INTO import_checkpoints (userId, source, position) VALUES (1, 'events.ics', 500)");
+        try (Cursor cursor = db.query("SELECT position FROM import_checkpoints WHERE userId = 1")) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals(500, cursor.getLong(0));
+        }
+
+        // a deleted user's checkpoint goes with them
+        db.execSQL("PRAGMA foreign_keys = ON");
+        db.execSQL("DELETE FROM users WHERE id = 1");
+        try (Cursor cursor = db.query("SELECT COUNT(*) FROM import_checkpoints")) {
+            cursor.moveToFirst();
+            assertEquals(0, cursor.getInt(0));
+        }
+        db.close();
+    }
+
+    @Test
+    public void migratedDatabaseOpensWithRoom() throws IOException {
+        helper.createDatabase(TEST_DATABASE, 1).close();
+
+        // Room checks the migrated schema against the one its code was generated for
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        EventTrackerDatabase database = Room.databaseBuilder(context, EventTrackerDatabase.class, TEST_DATABASE)
+                .addMigrations(EventTrackerDatabase.MIGRATION_1_2, EventTrackerDatabase.MIGRATION_2_3,
+                        EventTrackerDatabase.MIGRATION_3_4, EventTrackerDatabase.MIGRATION_4_5)
+                .build();
+        try {
+            assertFalse(database.getOpenHelper().getWritableDatabase().isReadOnly());
+        } finally {
+            database.close();
+        }
+    }
+
+    /**
+     * Inserts the user the test events belong to.
+     *
+     * @param db The database.
+     */
+    private static void insertUser(SupportSQLiteDatabase db) {
+        db.execSQL("INSERT INTO users (id, username, password) VALUES (1, 'user', 'password')");
+    }
+
+    /**
+     * Counts the events whose title or description match a search term.
+     *
+     * @param db The database.
+     * @param term The search term.
+     * @return The number of matching events.
+     */
+    private static int matchCount(SupportSQLiteDatabase db, String term) {
+        try (Cursor cursor = db.query("SELECT COUNT(*) FROM events_fts WHERE events_fts MATCH ?",
+                new Object[] {term})) {
+            cursor.moveToFirst();
+            return cursor.getInt(0);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * EventDao.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.database;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventInterval;
+import com.jeffblagg.eventtracker.entities.EventMatch;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.entities.EventTitle;
+import com.jeffblagg.eventtracker.entities.ImportCheckpoint;
+import com.jeffblagg.eventtracker.search.EventSearch;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object (DAO) interface used by Room to handle
+ * database operations on the {@link Event} table.
+ */
+@Dao
+public interface EventDao {
+    /**
+     * Maximum number of rows written or bound per statement batch. Kept below
+     * SQLite's default limit of 999 bound variables per statement.
+     */
+    int BATCH_SIZE = 500;
+
+    /**
+     * Inserts a new {@link Event} into the database, or replaces an existing
+     * event with the same id.
+     *
+     * @param event The event to insert.
+     * @return The id of the inserted event.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    long insert(Event event);
+
+    /**
+     * Updates an existing {@link Event} in the database.
+     *
+     * @param event The event to update.
+     * @return The number of rows updated.
+     */
+    @Update
+    int update(Event event);
+
+    /**
+     * Fetches all future events for a given user, ordered chronologically.
+     * <p>NOTE: Only events scheduled at or after {@code from}, and repeating
+     * events, are returned. The time is bound when the query is created, so
+     * callers pass the current time from their {@link com.jeffblagg.eventtracker.Clock}.
+     * Repeating events whose last occurrence has passed are filtered out by
+     * the caller.</p>
+     *
+     * @param userId The id of the user whose events are to be fetched.
+     * @param from The earliest event time to include, in milliseconds.
+     * @return A {@link LiveData} list of event objects for the specified user.
+     */
+    @Query("SELECT * FROM events WHERE userId = :userId AND (eventTime >= :from OR recurrence IS NOT NULL) "
+            + "ORDER BY eventTime ASC")
+    LiveData<List<Event>> getEventsForUser(long userId, long from);
+
+    /**
+     * Fetches list summaries of a user's events at or after a given time, ordered chronologically.
+     * Only the columns shown on an event card are read, and the description is truncated
+     * to {@link EventSummary#PREVIEW_LENGTH} characters. Repeating events are returned
+     * whatever their first occurrence's time, to be expanded by
+     * {@link com.jeffblagg.eventtracker.schedule.Occurrences}.
+     *
+     * @param userId The id of the user whose events are to be fetched.
+     * @param from The earliest event time to include, in milliseconds.
+     * @return A {@link LiveData} list of event summaries for the specified user.
+     */
+    @Query("SELECT id, eventTime, endTime, title, cardColor, recurrence, exceptions, "
+            + "substr(description, 1, " + EventSummary.PREVIEW_LENGTH + ") AS descriptionPreview "
+            + "FROM events WHERE userId = :userId AND (eventTime >= :from OR recurrence IS NOT NULL) "
+            + "ORDER BY eventTime ASC")
+    LiveData<List<EventSummary>> getEventSummariesForUser(long userId, long from);
+
+    /**
+     * Fetches list summaries of a user's events at or after a given time, ordered
+     * chronologically. Synchronous version of {@link #getEventSummariesForUser(long, long)}
+     * for callers already on a background thread.
+     *
+     * @param userId The id of the user whose events are to be fetched.
+     * @param from The earliest event time to include, in milliseconds.
+     * @return The event summaries for the specified user.
+     */
+    @Query("SELECT id, eventTime, endTime, title, cardColor, recurrence, exceptions, "
+            + "substr(description, 1, " + EventSummary.PREVIEW_LENGTH + ") AS descriptionPreview "
+            + "FROM events WHERE userId = :userId AND (eventTime >= :from OR recurrence IS NOT NULL) "
+            + "ORDER BY eventTime ASC")
+    List<EventSummary> getEventSummariesFrom(long userId, long from);
+
+    /**
+     * Finds a user's events at or after a given time, and repeating events,
+     * whose title or description matches a full-text query. Only the ids and
+     * match statistics are read, so every match can be ranked without loading
+     * event text.
+     *
+     * @param userId The id of the user whose events are searched.
+     * @param from The earliest event time to include, in milliseconds.
+     * @param match The FTS match expression, see {@link EventSearch#matchExpression(String)}.
+     * @return The matching events, ordered chronologically.
+     */
+    @Query("SELECT events.id AS id, "
+            + "matchinfo(events_fts, '" + EventSearch.MATCH_INFO_FORMAT + "') AS matchInfo "
+            + "FROM events_fts JOIN events ON events.id = events_fts.rowid "
+            + "WHERE events_fts MATCH :match AND events.userId = :userId "
+            + "AND (events.eventTime >= :from OR events.recurrence IS NOT NULL) "
+            + "ORDER BY events.eventTime ASC")
+    List<EventMatch> searchEvents(long userId, long from, String match);
+
+    /**
+     * Fetches list summaries of a user's events with the provided ids. Ids
+     * of other users' events are left out.
+     *
+     * @param userId The id of the user the events belong to.
+     * @param eventIds The ids of the events. Should not exceed {@link #BATCH_SIZE}.
+     * @return The event summaries, in no particular order.
+     */
+    @Query("SELECT id, eventTime, endTime, title, cardColor, recurrence, exceptions, "
+            + "substr(description, 1, " + EventSummary.PREVIEW_LENGTH + ") AS descriptionPreview "
+            + "FROM events WHERE userId = :userId AND id IN (:eventIds)")
+    List<EventSummary> getEventSummaries(long userId, List<Long> eventIds);
+
+    /**
+     * Fetches the id and title of every event of a user, past events included.
+     *
+     * @param userId The id of the user.
+     * @return The user's event titles.
+     */
+    @Query("SELECT id, title FROM events WHERE userId = :userId")
+    List<EventTitle> getEventTitles(long userId);
+
+    /**
+     * Fetches the id and times of every event of a user, past events included.
+     *
+     * @param userId The id of the user.
+     * @return The user's event times.
+     */
+    @Query("SELECT id, eventTime, endTime, recurrence FROM events WHERE userId = :userId")
+    List<EventInterval> getEventIntervals(long userId);
+
+    /**
+     * Fetches list summaries of every repeating event of a user, used to
+     * find the occurrences in a time range.
+     *
+     * @param userId The id of the user.
+     * @return The user's repeating events.
+     */
+    @Query("SELECT id, eventTime, endTime, title, cardColor, recurrence, exceptions, "
+            + "substr(description, 1, " + EventSummary.PREVIEW_LENGTH + ") AS descriptionPreview "
+            + "FROM events WHERE userId = :userId AND recurrence IS NOT NULL")
+    List<EventSummary> getRepeatingEvents(long userId);
+
+    /**
+     * Fetches a page of a user's events, past events included, ordered by id.
+     * Pages continue from the last id of the previous page rather than an
+     * offset, so each page is an index range scan.
+     *
+     * @param userId The id of the user.
+     * @param afterId The last id of the previous page, or 0 for the first page.
+     * @param limit The maximum number of events in the page.
+     * @return The page of events.
+     */
+    @Query("SELECT * FROM events WHERE userId = :userId AND id > :afterId ORDER BY id ASC LIMIT :limit")
+    List<Event> getEventsPage(long userId, long afterId, int limit);
+
+    /**
+     * Fetches a specific event by id.
+     *
+     * @param eventId The id of the event to fetch.
+     * @return The event with the specified id.
+     * Returns {@code null} if no event is found.
+     */
+    @Query("SELECT * FROM events WHERE id = :eventId LIMIT 1")
+    Event getEvent(long eventId);
+
+    /**
+     * Deletes an event with the specified id.
+     *
+     * @param eventId The id of the event to delete.
+     */
+    @Query("DELETE FROM events WHERE id = :eventId")
+    void deleteEvent(long eventId);
+
+    /**
+     * Inserts a single chunk of events in one transaction.
+     *
+     * @param events The events to insert. Should not exceed {@link #BATCH_SIZE}.
+     * @return The ids of the inserted events, in the same order.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    List<Long> insertChunk(List<Event> events);
+
+    /**
+     * Inserts a single chunk of imported events and saves the import's
+     * checkpoint in the same transaction, so the checkpoint can't fall
+     * behind the saved events.
+     *
+     * @param events The events to insert. Should not exceed {@link #BATCH_SIZE}.
+     * @param checkpoint The import's checkpoint after the chunk.
+     * @return The ids of the inserted events, in the same order.
+     */
+    @Transaction
+    default List<Long> importChunk(List<Event> events, ImportCheckpoint checkpoint) {
+        List<Long> eventIds = insertChunk(events);
+        saveImportCheckpoint(checkpoint);
+        return eventIds;
+    }
+
+    /**
+     * Fetches a user's unfinished import checkpoint.
+     *
+     * @param userId The id of the user.
+     * @return The checkpoint, or {@code null} if the user has no unfinished import.
+     */
+    @Query("SELECT * FROM import_checkpoints WHERE userId = :userId")
+    ImportCheckpoint getImportCheckpoint(long userId);
+
+    /**
+     * Saves a user's import checkpoint, replacing their previous one.
+     *
+     * @param checkpoint The checkpoint.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void saveImportCheckpoint(ImportCheckpoint checkpoint);
+
+    /**
+     * Removes a user's import checkpoint once the import finishes.
+     *
+     * @param userId The id of the user.
+     */
+    @Query("DELETE FROM import_checkpoints WHERE userId = :userId")
+    void deleteImportCheckpoint(long userId);
+
+    /**
+     * Updates a single chunk of events in one transaction.
+     *
+     * @param events The events to update. Should not exceed {@link #BATCH_SIZE}.
+     * @return The number of rows updated.
+     */
+    @Update
+    int updateChunk(List<Event> events);
+
+    /**
+     * Deletes a single chunk of events by id.
+     *
+     * @param eventIds The ids of the events to delete. Should not exceed {@link #BATCH_SIZE}.
+     * @return The number of rows deleted.
+     */
+    @Query("DELETE FROM events WHERE id IN (:eventIds)")
+    int deleteChunk(List<Long> eventIds);
+
+    /**
+     * Inserts a list of events, committing one transaction per {@link #BATCH_SIZE}
+     * rows instead of one per event.
+     *
+     * @param events The events to insert.
+     * @return The ids of the inserted events, in the same order.
+     */
+    default List<Long> insertAll(List<Event> events) {
+        List<Long> eventIds = new ArrayList<>(events.size());
+        for (int start = 0; start < events.size(); start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, events.size());
+            eventIds.addAll(insertChunk(events.subList(start, end)));
+        }
+        return eventIds;
+    }
+
+    /**
+     * Updates a list of events, committing one transaction per {@link #BATCH_SIZE} rows.
+     *
+     * @param events The events to update.
+     * @return The total number of rows updated.
+     */
+    default int updateAll(List<Event> events) {
+        int rows = 0;
+        for (int start = 0; start < events.size(); start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, events.size());
+            rows += updateChunk(events.subList(start, end));
+        }
+        return rows;
+    }
+
+    /**
+     * Deletes all events with the provided ids. The ids are bound in chunks of
+     * {@link #BATCH_SIZE} to stay within the SQLite variable limit.
+     *
+     * @param eventIds The ids of the events to delete.
+     * @return The total number of rows deleted.
+     */
+    default int deleteByIds(List<Long> eventIds) {
+        int rows = 0;
+        for (int start = 0; start < eventIds.size(); start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, eventIds.size());
+            rows += deleteChunk(eventIds.subList(start, end));
+        }
+        return rows;
+    }
+
+    /**
+     * Fetches the ids of a user's events scheduled before the cutoff time.
+     * Repeating events are kept.
+     *
+     * @param userId The id of the user whose events are checked.
+     * @param cutoff The cutoff time, in milliseconds.
+     * @return The ids of the matching events.
+     */
+    @Query("SELECT id FROM events WHERE userId = :userId AND eventTime < :cutoff AND recurrence IS NULL")
+    List<Long> getEventIdsBefore(long userId, long cutoff);
+
+    /**
+     * Deletes all of a user's events scheduled before the cutoff time in a
+     * single statement. Repeating events are kept.
+     *
+     * @param userId The id of the user whose events are deleted.
+     * @param cutoff The cutoff time, in milliseconds.
+     * @return The number of rows deleted.
+     */
+    @Query("DELETE FROM events WHERE userId = :userId AND eventTime < :cutoff AND recurrence IS NULL")
+    int deleteBefore(long userId, long cutoff);
+}
@@ -0,0 +1,122 @@
+/*
+ * EventTrackerDatabase.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.database;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventFts;
+import com.jeffblagg.eventtracker.entities.ImportCheckpoint;
+import com.jeffblagg.eventtracker.entities.User;
+import com.jeffblagg.eventtracker.store.TimeListConverter;
+
+import androidx.annotation.NonNull;
+import androidx.room.Database;
+import androidx.room.RoomDatabase;
+import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+/**
+ * The abstract Room database class for the app, defining the SQLite database
+ * configuration.
+ *
+ * <p>Entities:</p>
+ * <ul>
+ *     <li>{@link User} - The created user accounts for the app.</li>
+ *     <li>{@link Event} - The created user events.</li>
+ *     <li>{@link EventFts} - Full-text search index over event titles and descriptions.</li>
+ *     <li>{@link ImportCheckpoint} - How far each user's unfinished file import got.</li>
+ * </ul>
+ *
+ * <p>Data Access Objects (DAOs):</p>
+ * <ul>
+ *     <li>{@link UserDao} - CRUD operation handler for users.</li>
+ *     <li>{@link EventDao} - CRUD operation handler for events.</li>
+ * </ul>
+ *
+ * <p>The schema of every version is exported to {@code data/schemas}, and
+ * the migrations are tested against them by {@code MigrationTest}.</p>
+ */
+@Database(entities = {User.class, Event.class, EventFts.class, ImportCheckpoint.class}, version = 5,
+        exportSchema = true)
+@TypeConverters(TimeListConverter.class)
+public abstract class EventTrackerDatabase extends RoomDatabase {
+   /**
+    * Adds the {@link EventFts} search index, its sync triggers, and indexes
+    * the existing events. The statements match the ones Room generates for
+    * new databases.
+    */
+   public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+      @Override
+      public void migrate(@NonNull SupportSQLiteDatabase db) {
+         db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `events_fts` USING FTS4("
+                 + "`title` TEXT, `description` TEXT, tokenize=unicode61, content=`events`)");
+         db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_events_fts_BEFORE_UPDATE "
+                 + "BEFORE UPDATE ON `events` BEGIN DELETE FROM `events_fts` WHERE `docid`=OLD.`rowid`; END");
+         db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_events_fts_BEFORE_DELETE "
+                 + "BEFORE DELETE ON `events` BEGIN DELETE FROM `events_fts` WHERE `docid`=OLD.`rowid`; END");
+         db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_events_fts_AFTER_UPDATE "
+                 + "AFTER UPDATE ON `events` BEGIN INSERT INTO `events_fts`(`docid`, `title`, `description`) "
+                 + "VALUES (NEW.`rowid`, NEW.`title`, NEW.`description`); END");
+         db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_events_fts_AFTER_INSERT "
+                 + "AFTER INSERT ON `events` BEGIN INSERT INTO `events_fts`(`docid`, `title`, `description`) "
+                 + "VALUES (NEW.`rowid`, NEW.`title`, NEW.`description`); END");
+         db.execSQL("INSERT INTO `events_fts`(`events_fts`) VALUES ('rebuild')");
+      }
+   };
+
+   /**
+    * Adds the optional end time column to {@link Event}. Existing events
+    * keep no end time.
+    */
+   public static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+      @Override
+      public void migrate(@NonNull SupportSQLiteDatabase db) {
+         db.execSQL("ALTER TABLE `events` ADD COLUMN `endTime` INTEGER");
+      }
+   };
+
+   /**
+    * Adds the recurrence rule and removed occurrences columns to
+    * {@link Event}. Existing events don't repeat.
+    */
+   public static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+      @Override
+      public void migrate(@NonNull SupportSQLiteDatabase db) {
+         db.execSQL("ALTER TABLE `events` ADD COLUMN `recurrence` TEXT");
+         db.execSQL("ALTER TABLE `events` ADD COLUMN `exceptions` TEXT");
+      }
+   };
+
+   /**
+    * Adds the {@link ImportCheckpoint} table. The statement matches the one
+    * Room generates for new databases.
+    */
+   public static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+      @Override
+      public void migrate(@NonNull SupportSQLiteDatabase db) {
+         db.execSQL("CREATE TABLE IF NOT EXISTS `import_checkpoints` (`userId` INTEGER NOT NULL, "
+                 + "`source` TEXT NOT NULL, `position` INTEGER NOT NULL, PRIMARY KEY(`userId`), "
+                 + "FOREIGN KEY(`userId`) REFERENCES `users`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+      }
+   };
+
+   /**
+    * Provides access to user database operations.
+    *
+    * @return The DAO for user operations.
+    */
+   public abstract UserDao userDao();
+
+   /**
+    * Provides access to event database operations.
+    * @return The DAO for event operations.
+    */
+   public abstract EventDao eventDao();
+}
@@ -0,0 +1,171 @@
+/*
+ * Event.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import com.jeffblagg.eventtracker.schedule.Schedulable;
+import com.jeffblagg.eventtracker.transfer.CalendarEvent;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Represents and defines the data model for a user's scheduled event.
+ *
+ * <p>Each event is stored in the Room database and linked to a specific user.
+ * Events must include a title and event time, and may optionally include an end time,
+ * a description, a color for the event card and a recurrence rule.</p>
+ */
+@Entity(
+        tableName = "events",
+        foreignKeys = @ForeignKey(
+                entity = User.class,
+                parentColumns = "id",
+                childColumns = "userId",
+                onDelete = ForeignKey.CASCADE),
+        indices = @Index("userId")
+)
+public class Event implements Schedulable<Event> {
+   /**
+    * Autogenerated id for the event.
+    */
+   @PrimaryKey(autoGenerate = true)
+   public long id;
+
+   /**
+    * The id of the user associated with the event.
+    */
+   public long userId;
+
+   /**
+    * The time of the event, stored in milliseconds.
+    */
+   public long eventTime;
+
+   /**
+    * The end time of the event, stored in milliseconds, or {@code null} if
+    * the event has no end time.
+    */
+   public Long endTime;
+
+   /**
+    * The title or name for the event. Cannot be {@code null}.
+    */
+   @NonNull
+   public String title;
+
+   /**
+    * The description for the event.
+    */
+   public String description;
+
+   /**
+    * The color for the event's card background.
+    */
+   public Integer cardColor;
+
+   /**
+    * The recurrence rule of a repeating event, such as
+    * {@code FREQ=WEEKLY;BYDAY=MO,WE}, or {@code null} if the event doesn't
+    * repeat. The event time is the start of the first occurrence.
+    */
+   public String recurrence;
+
+   /**
+    * The start times of occurrences removed from a repeating event, in
+    * milliseconds, or {@code null} if none were removed.
+    */
+   public List<Long> exceptions;
+
+   /**
+    * Constructor for an event object.
+    *
+    * @param userId The id of the associated user.
+    * @param eventTime The time of the event, in milliseconds.
+    * @param title The {@code NonNull} title of the event.
+    * @param description The description of the event.
+    * @param cardColor The background color for the event's card.
+    */
+   public Event(long userId, long eventTime,
+                @NonNull String title, String description, Integer cardColor) {
+      this.userId = userId;
+      this.eventTime = eventTime;
+      this.title = title;
+      this.description = description;
+      this.cardColor = cardColor;
+   }
+
+   /**
+    * Creates an event from one read from a calendar file. The event has no
+    * id yet.
+    *
+    * @param entry The event read from the file.
+    * @param userId The id of the user the event is added for.
+    * @return The event.
+    */
+   public static Event from(CalendarEvent entry, long userId) {
+      Event event = new Event(userId, entry.eventTime, entry.title, entry.description, entry.cardColor);
+      event.endTime = entry.endTime;
+      event.recurrence = entry.recurrence;
+      event.exceptions = entry.exceptions;
+      return event;
+   }
+
+   /**
+    * Converts the event to be written to a calendar file.
+    *
+    * @return The calendar event, exported with the event's id once it is saved.
+    */
+   public CalendarEvent toCalendarEvent() {
+      CalendarEvent entry = new CalendarEvent(id > 0 ? String.valueOf(id) : null, eventTime, title,
+              description, cardColor);
+      entry.endTime = endTime;
+      entry.recurrence = recurrence;
+      entry.exceptions = exceptions;
+      return entry;
+   }
+
+   @Override
+   public long eventTime() {
+      return eventTime;
+   }
+
+   @Override
+   public Long endTime() {
+      return endTime;
+   }
+
+   @Override
+   public String recurrence() {
+      return recurrence;
+   }
+
+   @Override
+   public List<Long> exceptions() {
+      return exceptions;
+   }
+
+   @Override
+   public Event occurrence(long eventTime, Long endTime) {
+      Event occurrence = new Event(userId, eventTime, title, description, cardColor);
+      occurrence.id = id;
+      occurrence.endTime = endTime;
+      occurrence.recurrence = recurrence;
+      occurrence.exceptions = exceptions;
+      return occurrence;
+   }
+}
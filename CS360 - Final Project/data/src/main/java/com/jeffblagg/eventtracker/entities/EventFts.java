@@ -0,0 +1,47 @@
+/*
+ * EventFts.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text search index over the titles and descriptions of the
+ * {@link Event} table.
+ *
+ * <p>The FTS4 table uses the events table as its external content, so the
+ * text is not stored twice. Room creates triggers on the events table that
+ * keep the index in sync with every insert, update and delete. The
+ * unicode61 tokenizer lowercases terms and removes accents, so "cafe" finds
+ * "Caf&eacute;".</p>
+ */
+@Fts4(contentEntity = Event.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+@Entity(tableName = "events_fts")
+public class EventFts {
+   /**
+    * The row id, equal to the id of the indexed event.
+    */
+   @PrimaryKey
+   @ColumnInfo(name = "rowid")
+   public long rowid;
+
+   /**
+    * The indexed event title.
+    */
+   public String title;
+
+   /**
+    * The indexed event description.
+    */
+   public String description;
+}
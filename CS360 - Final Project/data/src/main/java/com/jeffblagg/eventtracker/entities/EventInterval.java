@@ -0,0 +1,37 @@
+/*
+ * EventInterval.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+/**
+ * The id and times of an event, loaded to build the interval index
+ * without reading the rest of the event.
+ */
+public class EventInterval {
+   /**
+    * The id of the event.
+    */
+   public long id;
+
+   /**
+    * The start time of the event, in milliseconds.
+    */
+   public long eventTime;
+
+   /**
+    * The end time of the event, in milliseconds, or {@code null} if it has none.
+    */
+   public Long endTime;
+
+   /**
+    * The recurrence rule of a repeating event, or {@code null}. Repeating
+    * events are kept out of the interval index.
+    */
+   public String recurrence;
+}
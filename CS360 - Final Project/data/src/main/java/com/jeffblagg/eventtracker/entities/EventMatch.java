@@ -0,0 +1,29 @@
+/*
+ * EventMatch.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+/**
+ * An event matched by a full-text search, before it is ranked.
+ *
+ * <p>Only the event id and the FTS4 {@code matchinfo} statistics are loaded,
+ * so ranking every match never reads event text. The summaries of the best
+ * matches are loaded afterwards.</p>
+ */
+public class EventMatch {
+   /**
+    * The id of the matched event.
+    */
+   public long id;
+
+   /**
+    * The FTS4 {@code matchinfo(events_fts, 'pcnalx')} blob of the match.
+    */
+   public byte[] matchInfo;
+}
@@ -0,0 +1,105 @@
+/*
+ * EventSummary.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import com.jeffblagg.eventtracker.schedule.Schedulable;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * A lightweight, read-only projection of an {@link Event} used by the events list.
+ *
+ * <p>Only the columns shown on an event card are loaded. The description is
+ * truncated to {@link #PREVIEW_LENGTH} characters by the query, so long notes
+ * are never read into memory for the list.</p>
+ */
+public class EventSummary implements Schedulable<EventSummary> {
+   /**
+    * Maximum number of description characters loaded for the list.
+    */
+   public static final int PREVIEW_LENGTH = 120;
+
+   /**
+    * The id of the event.
+    */
+   public long id;
+
+   /**
+    * The time of the event, stored in milliseconds.
+    */
+   public long eventTime;
+
+   /**
+    * The end time of the event, stored in milliseconds, or {@code null}.
+    */
+   public Long endTime;
+
+   /**
+    * The title or name for the event.
+    */
+   @NonNull
+   public String title = "";
+
+   /**
+    * The color for the event's card background.
+    */
+   public Integer cardColor;
+
+   /**
+    * The first {@link #PREVIEW_LENGTH} characters of the event description.
+    */
+   public String descriptionPreview;
+
+   /**
+    * The recurrence rule of a repeating event, or {@code null}.
+    */
+   public String recurrence;
+
+   /**
+    * The start times of occurrences removed from a repeating event, or {@code null}.
+    */
+   public List<Long> exceptions;
+
+   @Override
+   public long eventTime() {
+      return eventTime;
+   }
+
+   @Override
+   public Long endTime() {
+      return endTime;
+   }
+
+   @Override
+   public String recurrence() {
+      return recurrence;
+   }
+
+   @Override
+   public List<Long> exceptions() {
+      return exceptions;
+   }
+
+   @Override
+   public EventSummary occurrence(long eventTime, Long endTime) {
+      EventSummary occurrence = new EventSummary();
+      occurrence.id = id;
+      occurrence.eventTime = eventTime;
+      occurrence.endTime = endTime;
+      occurrence.title = title;
+      occurrence.cardColor = cardColor;
+      occurrence.descriptionPreview = descriptionPreview;
+      occurrence.recurrence = recurrence;
+      occurrence.exceptions = exceptions;
+      return occurrence;
+   }
+}
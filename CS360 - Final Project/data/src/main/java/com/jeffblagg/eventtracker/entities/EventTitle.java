@@ -0,0 +1,26 @@
+/*
+ * EventTitle.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+/**
+ * The id and title of an event, loaded to build the title suggestions
+ * without reading the rest of the event.
+ */
+public class EventTitle {
+   /**
+    * The id of the event.
+    */
+   public long id;
+
+   /**
+    * The title of the event.
+    */
+   public String title;
+}
@@ -0,0 +1,64 @@
+/*
+ * ImportCheckpoint.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.PrimaryKey;
+
+/**
+ * How far a user's unfinished calendar file import got.
+ *
+ * <p>The checkpoint is saved in the same transaction as each imported chunk
+ * of events, so it always matches the events that were saved. A user has at
+ * most one unfinished import, and the checkpoint is removed when the import
+ * finishes.</p>
+ */
+@Entity(
+        tableName = "import_checkpoints",
+        foreignKeys = @ForeignKey(
+                entity = User.class,
+                parentColumns = "id",
+                childColumns = "userId",
+                onDelete = ForeignKey.CASCADE)
+)
+public class ImportCheckpoint {
+   /**
+    * The id of the user importing the file.
+    */
+   @PrimaryKey
+   public long userId;
+
+   /**
+    * Identifies the file being imported, so the checkpoint is only used for
+    * the same file.
+    */
+   @NonNull
+   public String source;
+
+   /**
+    * The number of the file's events saved so far.
+    */
+   public long position;
+
+   /**
+    * Constructor for an import checkpoint.
+    *
+    * @param userId The id of the user importing the file.
+    * @param source Identifies the file being imported.
+    * @param position The number of the file's events saved so far.
+    */
+   public ImportCheckpoint(long userId, @NonNull String source, long position) {
+      this.userId = userId;
+      this.source = source;
+      this.position = position;
+   }
+}
@@ -0,0 +1,194 @@
+/*
+ * EventSearch.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import com.jeffblagg.eventtracker.entities.EventMatch;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Builds full-text search queries for the {@code events_fts} table and ranks
+ * their matches.
+ *
+ * <p>Every query term must be the start of a term in the event's title or
+ * description. Matches are ranked with BM25F computed from the FTS4
+ * {@code matchinfo} statistics, with title terms weighted above description
+ * terms.</p>
+ */
+public final class EventSearch {
+    /**
+     * Weight of a term in the title relative to the description.
+     */
+    static final double TITLE_WEIGHT = 2.0;
+
+    /**
+     * Weight of a term in the description.
+     */
+    static final double DESCRIPTION_WEIGHT = 1.0;
+
+    /**
+     * BM25 term frequency saturation.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 document length normalization.
+     */
+    private static final double B = 0.75;
+
+    /**
+     * The {@code matchinfo} format the ranking reads: phrase and column
+     * counts, row count, average and row column lengths, and hit counts.
+     */
+    public static final String MATCH_INFO_FORMAT = "pcnalx";
+
+    private EventSearch() {}
+
+    /**
+     * Splits a query into lowercase, accent free terms, the way the unicode61
+     * tokenizer splits the indexed text.
+     *
+     * @param query The search query, may be {@code null}.
+     * @return The distinct query terms, in order.
+     */
+    public static List<String> tokenize(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null || query.isEmpty()) {
+            return new ArrayList<>(terms);
+        }
+
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFD);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString().toLowerCase(Locale.ROOT));
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * Builds the FTS {@code MATCH} expression for a query. Each term becomes
+     * a prefix query, and all of them must match.
+     *
+     * @param query The search query.
+     * @return The match expression, or {@code null} if the query has no terms.
+     */
+    public static String matchExpression(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder expression = new StringBuilder();
+        for (String term : terms) {
+            if (expression.length() > 0) {
+                expression.append(' ');
+            }
+            // terms only hold letters and digits, so they need no quoting
+            expression.append(term).append('*');
+        }
+        return expression.toString();
+    }
+
+    /**
+     * Scores a match with BM25F.
+     *
+     * @param matchInfo The {@link #MATCH_INFO_FORMAT} matchinfo blob of the match.
+     * @return The match score, higher is better.
+     */
+    public static double score(byte[] matchInfo) {
+        // matchinfo is an array of 32-bit unsigned integers in native byte order
+        IntBuffer info = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer();
+        int phrases = info.get(0);
+        int columns = info.get(1);
+        int rows = Math.max(1, info.get(2));
+
+        int averages = 3;
+        int lengths = averages + columns;
+        int hits = lengths + columns;
+
+        double score = 0;
+        for (int phrase = 0; phrase < phrases; phrase++) {
+            double weighted = 0;
+            int documents = 0;
+            for (int column = 0; column < columns; column++) {
+                int offset = hits + 3 * (phrase * columns + column);
+                int frequency = info.get(offset);
+                documents = Math.max(documents, info.get(offset + 2));
+                if (frequency == 0) {
+                    continue;
+                }
+
+                double average = Math.max(1, info.get(averages + column));
+                double normalization = 1 - B + B * info.get(lengths + column) / average;
+                weighted += columnWeight(column) * frequency / normalization;
+            }
+
+            double idf = Math.log(1 + (rows - documents + 0.5) / (documents + 0.5));
+            score += idf * weighted * (K1 + 1) / (weighted + K1);
+        }
+        return score;
+    }
+
+    /**
+     * Ranks matched events by score and keeps the best ones. Equal scores
+     * keep the query's order.
+     *
+     * @param matches The matched events.
+     * @param limit The maximum number of results.
+     * @return The ids of the best matches, best first.
+     */
+    public static List<Long> rank(List<EventMatch> matches, int limit) {
+        int count = matches.size();
+        double[] scores = new double[count];
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            scores[i] = score(matches.get(i).matchInfo);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<Long> eventIds = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && i < limit; i++) {
+            eventIds.add(matches.get(order[i]).id);
+        }
+        return eventIds;
+    }
+
+    /**
+     * Gets the weight of an indexed column.
+     *
+     * @param column The column index in the {@code events_fts} table.
+     * @return The title or description weight.
+     */
+    private static double columnWeight(int column) {
+        return column == 0 ? TITLE_WEIGHT : DESCRIPTION_WEIGHT;
+    }
+}
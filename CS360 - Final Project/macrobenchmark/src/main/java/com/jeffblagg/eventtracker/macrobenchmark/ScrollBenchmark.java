@@ -0,0 +1,79 @@
+/*
+ * ScrollBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.macrobenchmark;
+
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.EVENT_COUNT;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.ITERATIONS;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.PACKAGE_NAME;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiObject2;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import kotlin.Unit;
+
+/**
+ * Measures frame timing while flinging through the events list with
+ * {@link BenchmarkData#EVENT_COUNT} seeded events.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class ScrollBenchmark {
+    private static final int FLINGS = 10;
+
+    @Rule
+    public final MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    @Before
+    public void seedEvents() throws IOException {
+        BenchmarkData.seedEvents(EVENT_COUNT);
+    }
+
+    @Test
+    public void scrollEvents() {
+        benchmarkRule.measureRepeated(
+                PACKAGE_NAME,
+                Collections.singletonList(new FrameTimingMetric()),
+                new CompilationMode.Partial(),
+                StartupMode.WARM,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    scope.startActivityAndWait();
+                    BenchmarkData.waitForEvents(scope);
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    UiObject2 list = scope.getDevice().findObject(By.res(PACKAGE_NAME, "eventsRecyclerView"));
+                    // keep flings away from the system gesture areas
+                    list.setGestureMargin(scope.getDevice().getDisplayWidth() / 5);
+
+                    for (int i = 0; i < FLINGS; i++) {
+                        list.fling(Direction.DOWN);
+                        scope.getDevice().waitForIdle();
+                    }
+                    return Unit.INSTANCE;
+                });
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * StartupBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.macrobenchmark;
+
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.EVENT_COUNT;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.ITERATIONS;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.PACKAGE_NAME;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.StartupTimingMetric;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import kotlin.Unit;
+
+/**
+ * Measures cold, warm and hot startup into the events list, with and without
+ * the app's Baseline Profile.
+ */
+@LargeTest
+@RunWith(Parameterized.class)
+public class StartupBenchmark {
+    @Rule
+    public final MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    private final StartupMode startupMode;
+    private final CompilationMode compilationMode;
+
+    public StartupBenchmark(StartupMode startupMode, CompilationMode compilationMode) {
+        this.startupMode = startupMode;
+        this.compilationMode = compilationMode;
+    }
+
+    @Parameterized.Parameters(name = "{0}-{1}")
+    public static List<Object[]> parameters() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (StartupMode startupMode : StartupMode.values()) {
+            parameters.add(new Object[]{startupMode, new CompilationMode.None()});
+            parameters.add(new Object[]{startupMode, new CompilationMode.Partial()});
+        }
+        return parameters;
+    }
+
+    @Before
+    public void seedEvents() throws IOException {
+        BenchmarkData.seedEvents(EVENT_COUNT);
+    }
+
+    @Test
+    public void startup() {
+        benchmarkRule.measureRepeated(
+                PACKAGE_NAME,
+                Collections.singletonList(new StartupTimingMetric()),
+                compilationMode,
+                startupMode,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    scope.startActivityAndWait();
+                    BenchmarkData.waitForEvents(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * BenchmarkEvents.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.entities.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the events measured by the microbenchmarks.
+ */
+final class BenchmarkEvents {
+    /** Start time of the first event. */
+    static final long FIRST_EVENT_TIME = 1_800_000_000_000L;
+
+    /** Time between consecutive events. */
+    static final long EVENT_INTERVAL = 60 * 60 * 1000L;
+
+    /** Long enough that every description is truncated to a preview. */
+    private static final String DESCRIPTION =
+            "Bring the quarterly numbers, the updated roadmap and the notes from last week's "
+            + "planning session. Parking is on the north side of the building, and the meeting "
+            + "room is on the third floor next to the kitchen.";
+
+    private static final Integer[] CARD_COLORS = {null, 0xFFE57373, 0xFF64B5F6, 0xFF81C784};
+
+    private BenchmarkEvents() {
+    }
+
+    /**
+     * Builds an event one {@link #EVENT_INTERVAL} after the previous index.
+     *
+     * @param userId The id of the user the event belongs to.
+     * @param index The index of the event.
+     * @return The event.
+     */
+    static Event event(long userId, int index) {
+        return new Event(
+                userId,
+                FIRST_EVENT_TIME + index * EVENT_INTERVAL,
+                "Planning meeting " + index,
+                DESCRIPTION,
+                CARD_COLORS[index % CARD_COLORS.length]);
+    }
+
+    /**
+     * Builds a number of events for a user.
+     *
+     * @param userId The id of the user the events belong to.
+     * @param count The number of events.
+     * @return The events, in time order.
+     */
+    static List<Event> events(long userId, int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(event(userId, i));
+        }
+        return events;
+    }
+}
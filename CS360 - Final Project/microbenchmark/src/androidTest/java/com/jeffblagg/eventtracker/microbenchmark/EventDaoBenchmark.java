@@ -0,0 +1,102 @@
+/*
+ * EventDaoBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.database.EventDao;
+import com.jeffblagg.eventtracker.database.EventTrackerDatabase;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.User;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the event queries against an in-memory database holding 1k, 10k
+ * and 100k events for one user.
+ */
+@LargeTest
+@RunWith(Parameterized.class)
+public class EventDaoBenchmark {
+    @Parameterized.Parameters(name = "rows={0}")
+    public static List<Object[]> rows() {
+        return Arrays.asList(new Object[][] {{1_000}, {10_000}, {100_000}});
+    }
+
+    @Parameterized.Parameter
+    public int rows;
+
+    @Rule
+    public final BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private EventTrackerDatabase db;
+    private EventDao eventDao;
+    private long userId;
+    private List<Long> eventIds;
+
+    /** Time of the middle event, so range queries match half of the rows. */
+    private long middleTime;
+
+    @Before
+    public void createDatabase() {
+        db = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), EventTrackerDatabase.class)
+                .build();
+        eventDao = db.eventDao();
+        userId = db.userDao().insert(new User("benchmark", "password"));
+
+        List<Event> events = BenchmarkEvents.events(userId, rows);
+        db.runInTransaction(() -> {
+            eventIds = eventDao.insertAll(events);
+        });
+        middleTime = events.get(rows / 2).eventTime;
+    }
+
+    @After
+    public void closeDatabase() {
+        db.close();
+    }
+
+    @Test
+    public void getEventSummariesFrom() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            eventDao.getEventSummariesFrom(userId, middleTime);
+        }
+    }
+
+    @Test
+    public void getEvent() {
+        long eventId = eventIds.get(rows / 2);
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            eventDao.getEvent(eventId);
+        }
+    }
+
+    @Test
+    public void getEventIdsBefore() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            eventDao.getEventIdsBefore(userId, middleTime);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * ReminderMessageBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures formatting the SMS reminder message scheduled for each saved event.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class ReminderMessageBenchmark {
+    @Rule
+    public final BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private final Event event = BenchmarkEvents.event(0, 0);
+
+    /**
+     * A new formatter for every message, as done when a single reminder is scheduled.
+     */
+    @Test
+    public void reminderMessage() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            new EventFormatter().reminderMessage(event.title, event.eventTime);
+        }
+    }
+
+    /**
+     * One formatter shared across messages, as in a batch of reminders.
+     */
+    @Test
+    public void reminderMessageSharedFormatter() {
+        EventFormatter formatter = new EventFormatter();
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            formatter.reminderMessage(event.title, event.eventTime);
+        }
+    }
+}
@@ -18,4 +18,11 @@
 
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+#-renamesourcefileattribute SourceFile
+
+# Firestore maps event documents to the entity classes by reflection
+-keepclassmembers class com.jeffblagg.eventtracker.entities.** {
+    public <init>();
+    public <fields>;
+    public <methods>;
+}
@@ -0,0 +1,291 @@
+/*
+ * MutationQueueTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.jeffblagg.eventtracker.entities.Event;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checks how the {@link MutationQueue} coalesces mutations, keeps their
+ * idempotency keys and replays them in order after the app is killed.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MutationQueueTest {
+    private static final String USER = "user";
+    private static final String OTHER_USER = "other-user";
+    private static final long TIME = 1_800_000_000_000L;
+
+    private File file;
+    private MutationQueue queue;
+
+    @Before
+    public void createQueue() {
+        File directory = InstrumentationRegistry.getInstrumentation().getTargetContext().getCacheDir();
+        file = new File(directory, "mutations-" + UUID.randomUUID() + ".json");
+        queue = new MutationQueue(file);
+    }
+
+    @After
+    public void deleteFiles() throws InterruptedException {
+        queue.awaitWrites();
+        file.delete();
+        new File(file.getPath() + ".tmp").delete();
+    }
+
+    @Test
+    public void addThenUpdateStaysOneAdd() {
+        MutationQueue.Mutation add = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        queue.enqueue(add, null);
+        queue.enqueue(MutationQueue.Mutation.update(USER, event("a", "First", 1), event("a", "Second", 2)), null);
+
+        List<MutationQueue.Mutation> pending = queue.pending(USER);
+        assertEquals(1, pending.size());
+        assertEquals(MutationQueue.Type.ADD, pending.get(0).type);
+        assertEquals(add.key, pending.get(0).key);
+        assertEquals("Second", pending.get(0).event.title);
+        assertEquals(1, pending.get(0).event.version);
+    }
+
+    @Test
+    public void updateThenUpdateStaysOneUpdateOfTheOriginal() {
+        Event original = event("a", "First", 3);
+        MutationQueue.Mutation update = MutationQueue.Mutation.update(USER, original, event("a", "Second", 4));
+        queue.enqueue(update, null);
+        queue.enqueue(MutationQueue.Mutation.update(USER, event("a", "Second", 4), event("a", "Third", 5)), null);
+
+        List<MutationQueue.Mutation> pending = queue.pending(USER);
+        assertEquals(1, pending.size());
+        assertEquals(MutationQueue.Type.UPDATE, pending.get(0).type);
+        assertEquals(update.key, pending.get(0).key);
+        assertEquals("Third", pending.get(0).event.title);
+        assertEquals("First", pending.get(0).original.title);
+        // one write based on the stored version
+        assertEquals(4, pending.get(0).event.version);
+    }
+
+    @Test
+    public void updateThenDeleteBecomesDelete() {
+        queue.enqueue(MutationQueue.Mutation.update(USER, event("a", "First", 1), event("a", "Second", 2)), null);
+        MutationQueue.Mutation delete = MutationQueue.Mutation.delete(USER, "a");
+        queue.enqueue(delete, null);
+
+        List<MutationQueue.Mutation> pending = queue.pending(USER);
+        assertEquals(1, pending.size());
+        assertEquals(MutationQueue.Type.DELETE, pending.get(0).type);
+        assertEquals(delete.key, pending.get(0).key);
+    }
+
+    @Test
+    public void addThenDeleteCancelsOut() {
+        queue.enqueue(MutationQueue.Mutation.add(USER, event("a", "First", 1)), null);
+        queue.enqueue(MutationQueue.Mutation.delete(USER, "a"), null);
+
+        assertTrue(queue.pending(USER).isEmpty());
+        assertNull(queue.latest("a"));
+    }
+
+    @Test
+    public void deleteThenAddIsKeptInOrder() {
+        queue.enqueue(MutationQueue.Mutation.delete(USER, "a"), null);
+        queue.enqueue(MutationQueue.Mutation.add(USER, event("a", "Again", 1)), null);
+
+        assertEquals(List.of(MutationQueue.Type.DELETE, MutationQueue.Type.ADD), types(queue.pending(USER)));
+    }
+
+    @Test
+    public void inFlightMutationIsNeverChanged() {
+        MutationQueue.Mutation add = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        queue.enqueue(add, null);
+        queue.enqueue(MutationQueue.Mutation.update(USER, event("a", "First", 1), event("a", "Second", 2)), add.key);
+        queue.enqueue(MutationQueue.Mutation.delete(USER, "a"), add.key);
+
+        List<MutationQueue.Mutation> pending = queue.pending(USER);
+        assertEquals(List.of(MutationQueue.Type.ADD, MutationQueue.Type.DELETE), types(pending));
+        // the write being sent keeps the key and event it was sent with
+        assertEquals(add.key, pending.get(0).key);
+        assertEquals("First", pending.get(0).event.title);
+    }
+
+    @Test
+    public void mutationsOfOtherEventsAreNotCoalesced() {
+        queue.enqueue(MutationQueue.Mutation.add(USER, event("a", "First", 1)), null);
+        queue.enqueue(MutationQueue.Mutation.delete(USER, "b"), null);
+
+        assertEquals(List.of("a", "b"), eventIds(queue.pending(USER)));
+    }
+
+    @Test
+    public void replayAfterReloadKeepsIdempotencyKeys() throws InterruptedException {
+        MutationQueue.Mutation add = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        MutationQueue.Mutation update = MutationQueue.Mutation.update(USER, event("b", "Old", 2),
+                event("b", "New", 3));
+        queue.enqueue(add, null);
+        queue.enqueue(update, null);
+
+        MutationQueue reloaded = reload();
+
+        // a replayed write carries the key already stored as lastMutationId
+        // if the first attempt was applied, so it's recognized as a retry
+        List<MutationQueue.Mutation> pending = reloaded.pending(USER);
+        assertEquals(List.of(add.key, update.key), keys(pending));
+        assertEquals(add.key, reloaded.peek(USER).key);
+    }
+
+    @Test
+    public void reloadedMutationIsNeverChanged() throws InterruptedException {
+        MutationQueue.Mutation add = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        queue.enqueue(add, null);
+
+        MutationQueue reloaded = reload();
+        // the add may have landed before the app was killed, so an edit
+        // folded into it would be dropped when its key is acknowledged
+        reloaded.enqueue(MutationQueue.Mutation.update(USER, event("a", "First", 1), event("a", "Second", 2)), null);
+        reloaded.enqueue(MutationQueue.Mutation.delete(USER, "a"), null);
+
+        List<MutationQueue.Mutation> pending = reloaded.pending(USER);
+        assertEquals(List.of(MutationQueue.Type.ADD, MutationQueue.Type.DELETE), types(pending));
+        assertEquals(add.key, pending.get(0).key);
+        assertEquals("First", pending.get(0).event.title);
+    }
+
+    @Test
+    public void reloadRestoresEveryEventField() throws InterruptedException {
+        Event original = event("a", "Old", 2);
+        Event edited = event("a", "New", 3);
+        edited.endTime = TIME + 60_000;
+        edited.recurrence = "FREQ=WEEKLY";
+        edited.exceptions = new ArrayList<>(List.of(TIME + 7 * 86_400_000L));
+        edited.description = "Notes";
+        edited.cardColor = 0xFF00FF00;
+        queue.enqueue(MutationQueue.Mutation.update(USER, original, edited), null);
+
+        MutationQueue.Mutation restored = reload().peek(USER);
+
+        assertEquals(MutationQueue.Type.UPDATE, restored.type);
+        assertEquals("New", restored.event.title);
+        assertEquals(edited.endTime, restored.event.endTime);
+        assertEquals("FREQ=WEEKLY", restored.event.recurrence);
+        assertEquals(edited.exceptions, restored.event.exceptions);
+        assertEquals("Notes", restored.event.description);
+        assertEquals(edited.cardColor, restored.event.cardColor);
+        assertEquals(3, restored.event.version);
+        assertEquals("Old", restored.original.title);
+        assertEquals(2, restored.original.version);
+        assertNull(restored.original.description);
+    }
+
+    @Test
+    public void snapshotReplacesQueueFileThroughRename() throws InterruptedException {
+        queue.enqueue(MutationQueue.Mutation.add(USER, event("a", "First", 1)), null);
+        queue.awaitWrites();
+
+        assertTrue(file.exists());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    public void crashWhileWritingKeepsLastSnapshot() throws InterruptedException, IOException {
+        MutationQueue.Mutation add = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        queue.enqueue(add, null);
+        queue.awaitWrites();
+
+        // a snapshot cut off before it replaced the queue file
+        try (FileOutputStream output = new FileOutputStream(file.getPath() + ".tmp")) {
+            output.write("[{\"key\":".getBytes(StandardCharsets.UTF_8));
+        }
+
+        MutationQueue reloaded = new MutationQueue(file);
+        assertEquals(List.of(add.key), keys(reloaded.pending(USER)));
+    }
+
+    @Test
+    public void replayAfterCrashKeepsOrderAcrossUsers() throws InterruptedException {
+        MutationQueue.Mutation first = MutationQueue.Mutation.add(USER, event("a", "First", 1));
+        MutationQueue.Mutation other = MutationQueue.Mutation.add(OTHER_USER, event("b", "Theirs", 1));
+        MutationQueue.Mutation second = MutationQueue.Mutation.delete(USER, "c");
+        MutationQueue.Mutation third = MutationQueue.Mutation.update(USER, event("d", "Old", 1),
+                event("d", "New", 2));
+        queue.enqueue(first, null);
+        queue.enqueue(other, null);
+        queue.enqueue(second, null);
+        queue.enqueue(third, null);
+
+        // the first write was acknowledged before the app was killed
+        queue.remove(first.key);
+        MutationQueue reloaded = reload();
+
+        assertEquals(List.of(second.key, third.key), keys(reloaded.pending(USER)));
+        assertEquals(List.of(other.key), keys(reloaded.pending(OTHER_USER)));
+        assertEquals(second.key, reloaded.peek(USER).key);
+
+        reloaded.remove(second.key);
+        assertEquals(third.key, reloaded.peek(USER).key);
+    }
+
+    /**
+     * Waits for the queue's writes and loads it again, as on the next start.
+     *
+     * @return The reloaded queue.
+     */
+    private MutationQueue reload() throws InterruptedException {
+        queue.awaitWrites();
+        queue = new MutationQueue(file);
+        return queue;
+    }
+
+    private static Event event(String id, String title, long version) {
+        Event event = new Event(id, USER, TIME, title, null, null);
+        event.version = version;
+        return event;
+    }
+
+    private static List<MutationQueue.Type> types(List<MutationQueue.Mutation> mutations) {
+        List<MutationQueue.Type> types = new ArrayList<>();
+        for (MutationQueue.Mutation mutation : mutations) {
+            types.add(mutation.type);
+        }
+        return types;
+    }
+
+    private static List<String> keys(List<MutationQueue.Mutation> mutations) {
+        List<String> keys = new ArrayList<>();
+        for (MutationQueue.Mutation mutation : mutations) {
+            keys.add(mutation.key);
+        }
+        return keys;
+    }
+
+    private static List<String> eventIds(List<MutationQueue.Mutation> mutations) {
+        List<String> eventIds = new ArrayList<>();
+        for (MutationQueue.Mutation mutation : mutations) {
+            eventIds.add(mutation.eventId);
+        }
+        return eventIds;
+    }
+}
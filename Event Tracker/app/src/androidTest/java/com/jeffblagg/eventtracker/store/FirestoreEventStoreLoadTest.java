@@ -0,0 +1,43 @@
+/*
+ * FirestoreEventStoreLoadTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.repo.FirestoreEventStore;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the shared load suite against {@link FirestoreEventStore}.
+ * Requires the Firestore emulator to be running on the development machine.
+ */
+@RunWith(AndroidJUnit4.class)
+public class FirestoreEventStoreLoadTest extends EventStoreLoadTest {
+    @Override
+    protected EventStore createStore() {
+        return TestStores.firestore();
+    }
+
+    /**
+     * Signs in a new test user, so the security rules check every request.
+     */
+    @Override
+    protected String createUserId() {
+        return TestStores.signInTestUser();
+    }
+
+    /**
+     * Every operation is a round trip to the emulator, so fewer events are used.
+     */
+    @Override
+    protected int eventCount() {
+        return 200;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * RoomEventStoreConformanceTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the shared conformance suite against {@link RoomEventStore} with an
+ * in-memory database.
+ */
+@RunWith(AndroidJUnit4.class)
+public class RoomEventStoreConformanceTest extends EventStoreConformanceTest {
+    @Override
+    protected EventStore createStore() {
+        return TestStores.room();
+    }
+
+    @Override
+    protected void closeStore(EventStore store) {
+        ((RoomEventStore) store).close();
+    }
+}
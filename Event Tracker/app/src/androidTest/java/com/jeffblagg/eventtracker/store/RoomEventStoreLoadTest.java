@@ -0,0 +1,30 @@
+/*
+ * RoomEventStoreLoadTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the shared load suite against {@link RoomEventStore} with an
+ * in-memory database.
+ */
+@RunWith(AndroidJUnit4.class)
+public class RoomEventStoreLoadTest extends EventStoreLoadTest {
+    @Override
+    protected EventStore createStore() {
+        return TestStores.room();
+    }
+
+    @Override
+    protected void closeStore(EventStore store) {
+        ((RoomEventStore) store).close();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * TestStores.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.auth.AuthResult;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.MemoryCacheSettings;
+import com.jeffblagg.eventtracker.repo.FirestoreEventStore;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+/**
+ * Creates the Android {@link EventStore} backends for the shared suites.
+ */
+final class TestStores {
+    /**
+     * Host address of the development machine from the Android emulator.
+     */
+    private static final String EMULATOR_HOST = "10.0.2.2";
+    private static final int FIRESTORE_EMULATOR_PORT = 8080;
+    private static final int AUTH_EMULATOR_PORT = 9099;
+
+    private static FirebaseFirestore firestore;
+    private static FirebaseAuth auth;
+
+    private TestStores() {}
+
+    /**
+     * Creates a Room store backed by an in-memory database.
+     *
+     * @return The store. Close it with {@link RoomEventStore#close()}.
+     */
+    static RoomEventStore room() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        EventStoreDatabase database = Room.inMemoryDatabaseBuilder(context, EventStoreDatabase.class).build();
+        return new RoomEventStore(database);
+    }
+
+    /**
+     * Creates a Firestore store connected to the local Firestore emulator,
+     * started from the project root with
+     * {@code firebase emulators:start --only firestore,auth} so that
+     * {@code firestore.rules} is enforced.
+     *
+     * @return The store.
+     */
+    static synchronized FirestoreEventStore firestore() {
+        if (firestore == null) {
+            // the emulator must be set before the instance is first used
+            firestore = FirebaseFirestore.getInstance();
+            firestore.useEmulator(EMULATOR_HOST, FIRESTORE_EMULATOR_PORT);
+            firestore.setFirestoreSettings(new FirebaseFirestoreSettings.Builder()
+                    .setLocalCacheSettings(MemoryCacheSettings.newBuilder().build())
+                    .build());
+        }
+        return new FirestoreEventStore(firestore);
+    }
+
+    /**
+     * Signs a new anonymous user in to the Auth emulator, so Firestore
+     * requests are checked by the security rules as that user.
+     *
+     * @return The signed in user's id, to own the test events.
+     */
+    static synchronized String signInTestUser() {
+        if (auth == null) {
+            auth = FirebaseAuth.getInstance();
+            auth.useEmulator(EMULATOR_HOST, AUTH_EMULATOR_PORT);
+        }
+
+        try {
+            auth.signOut();
+            AuthResult result = Tasks.await(auth.signInAnonymously());
+            return result.getUser().getUid();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to sign in to the Auth emulator", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SeedEventsReceiver.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.benchmark;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.WriteBatch;
+import com.jeffblagg.eventtracker.authentication.AuthManager;
+import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
+import com.jeffblagg.eventtracker.reminder.SMSPermissionManager;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signs in a benchmark account and tops it up with upcoming events. Only part
+ * of the benchmark build, where :macrobenchmark sends it with
+ * {@code am broadcast} before measuring.
+ *
+ * <p>Events already in the account are kept, so repeated runs don't rewrite
+ * thousands of Firestore documents.</p>
+ */
+public class SeedEventsReceiver extends BroadcastReceiver {
+    /**
+     * Intent extras for the benchmark account and the number of events to seed.
+     */
+    public static final String EXTRA_EMAIL = "email";
+    public static final String EXTRA_PASSWORD = "password";
+    public static final String EXTRA_COUNT = "count";
+
+    /**
+     * Maximum number of writes in a single Firestore batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final int[] COLOR_PALETTE = new int[]{
+            0xFF475D92,
+            0xFF7B1FA2,
+            0xFF2E7D32,
+            0xFFEF6C00,
+            0xFF00695C
+    };
+
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        String email = intent.getStringExtra(EXTRA_EMAIL);
+        String password = intent.getStringExtra(EXTRA_PASSWORD);
+        int count = intent.getIntExtra(EXTRA_COUNT, 2000);
+        Context appContext = context.getApplicationContext();
+        PendingResult result = goAsync();
+
+        FirebaseAuthManager.getInstance().signIn(email, password, new AuthManager.AuthCallback() {
+            @Override
+            public void onSuccess(String userId) {
+                new SMSPermissionManager(appContext).setSMSDecisionMade(userId, true);
+                seed(userId, count).addOnCompleteListener(task -> {
+                    if (!task.isSuccessful()) {
+                        Log.d("SeedEventsReceiver", "Failed to seed events", task.getException());
+                    }
+                    result.finish();
+                });
+            }
+
+            @Override
+            public void onFailure(AuthManager.AuthError error) {
+                Log.d("SeedEventsReceiver", "Benchmark sign in failed: " + error.message);
+                result.finish();
+            }
+        });
+    }
+
+    /**
+     * Adds upcoming events, one hour apart, until the user has {@code count}.
+     *
+     * @param userId The id of the benchmark user.
+     * @param count The number of upcoming events the user should have.
+     * @return Task completing once all events are written.
+     */
+    private static Task<Void> seed(String userId, int count) {
+        FirebaseFirestore firestore = FirebaseFirestore.getInstance();
+        CollectionReference events = firestore.collection("users").document(userId).collection("events");
+        long now = System.currentTimeMillis();
+
+        return events.whereGreaterThanOrEqualTo("eventTime", now)
+                .count()
+                .get(AggregateSource.SERVER)
+                .onSuccessTask(snapshot -> {
+                    List<Task<Void>> batches = new ArrayList<>();
+                    WriteBatch batch = firestore.batch();
+                    int batchWrites = 0;
+
+                    for (long i = snapshot.getCount(); i < count; i++) {
+                        DocumentReference document = events.document();
+                        batch.set(document, eventFields(document.getId(), userId, now, (int) i));
+
+                        if (++batchWrites == BATCH_SIZE) {
+                            batches.add(batch.commit());
+                            batch = firestore.batch();
+                            batchWrites = 0;
+                        }
+                    }
+                    batches.add(batch.commit());
+                    return Tasks.whenAll(batches);
+                });
+    }
+
+    /**
+     * Builds the fields of a seeded event document, matching the documents
+     * the repository writes.
+     *
+     * @param eventId The id of the event document.
+     * @param userId The id of the benchmark user.
+     * @param now The current time, in milliseconds.
+     * @param index The position of the event in the seeded list.
+     * @return The event document fields.
+     */
+    private static Map<String, Object> eventFields(String eventId, String userId, long now, int index) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("id", eventId);
+        fields.put("userId", userId);
+        fields.put("eventTime", now + (index + 1) * 60 * 60 * 1000L);
+        fields.put("title", "Benchmark event " + index);
+        fields.put("cardColor", COLOR_PALETTE[index % COLOR_PALETTE.length]);
+        fields.put("descriptionPreview", "Seeded event " + index + " for measuring the events list.");
+        fields.put("version", 1L);
+        fields.put("updatedAt", FieldValue.serverTimestamp());
+        return fields;
+    }
+}
@@ -9,24 +9,73 @@
 
 package com.jeffblagg.eventtracker;
 
-import android.app.Application;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
+import com.jeffblagg.eventtracker.metrics.JankReport;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+import com.jeffblagg.eventtracker.repo.EventRepository;
 
-import static androidx.room.Room.databaseBuilder;
+import android.app.Application;
 
 /**
- * Custom {@link Application} class for initializing the Event
- * Tracker database.
+ * Custom {@link Application} class for starting up the Event Tracker app.
  *
- * <p>The database is created using Room on app start.</p>
+ * <p>Firebase Authentication, Firestore and the event repository are warmed
+ * up on background threads on app start, so the first screen does no disk
+ * I/O on the main thread.</p>
  */
-public class EventTrackerApp extends Application {
+public class EventTrackerApp extends Application implements RepositoryMetrics.Provider {
+
+    /**
+     * Background startup work, shared with the first screen.
+     */
+    private final StartupOrchestrator startup = new StartupOrchestrator();
 
+    /**
+     * Frame statistics of the monitored screens, saved to app storage as
+     * the screens pause.
+     */
+    private final JankReport jankReport = new JankReport(System.currentTimeMillis());
 
     /**
-     * Initializes the Room database on app start.
+     * Starts warming up Firebase and the event repository on app start. The
+     * repository loads its mutation queue from app storage and needs the
+     * signed in user, so it starts after both Firebase tasks.
      */
     @Override
     public void onCreate() {
         super.onCreate();
+        startup.add("auth", FirebaseAuthManager::getInstance)
+                .add("firestore", FirebaseFirestore::getInstance)
+                .add("repository", () -> EventRepository.getInstance(this), "auth", "firestore")
+                .start();
+    }
+
+    /**
+     * Getter for the app's startup work.
+     *
+     * @return The startup orchestrator.
+     */
+    public StartupOrchestrator getStartup() {
+        return startup;
+    }
+
+    /**
+     * Getter for the app's frame statistics.
+     *
+     * @return The jank report shared by every monitored screen.
+     */
+    public JankReport getJankReport() {
+        return jankReport;
+    }
+
+    /**
+     * Getter for the app's repository metrics.
+     *
+     * @return The metrics of the event repository.
+     */
+    @Override
+    public RepositoryMetrics getMetrics() {
+        return EventRepository.getInstance(this).getMetrics();
     }
 }
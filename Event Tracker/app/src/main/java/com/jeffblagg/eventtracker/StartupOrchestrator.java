@@ -0,0 +1,148 @@
+/*
+ * StartupOrchestrator.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the app's startup work on background threads, in dependency order.
+ *
+ * <p>Tasks are added with the names of the tasks they depend on, then
+ * {@link #start()} runs every task as soon as its dependencies finish.
+ * Independent tasks run in parallel. A task that fails is logged and does
+ * not stop the tasks that depend on it, so the app always finishes starting.</p>
+ */
+public final class StartupOrchestrator {
+    /**
+     * Interface for a callback after all startup tasks have finished.
+     */
+    public interface OnComplete { void onComplete(); }
+
+    /**
+     * A named unit of startup work and the tasks it depends on.
+     */
+    private static final class Task {
+        final String name;
+        final Runnable work;
+        final String[] dependencies;
+
+        Task(String name, Runnable work, String[] dependencies) {
+            this.name = name;
+            this.work = work;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final Map<String, CompletableFuture<Void>> running = new LinkedHashMap<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private CompletableFuture<Void> completion;
+    private volatile boolean complete = false;
+
+    /**
+     * Adds a task. Dependencies must be added before the tasks that need them.
+     *
+     * @param name The name of the task.
+     * @param work The work to run on a background thread.
+     * @param dependencies The names of the tasks that must finish first.
+     * @return This orchestrator, for chaining.
+     */
+    public StartupOrchestrator add(String name, Runnable work, String... dependencies) {
+        if (completion != null) {
+            throw new IllegalStateException("Startup has already started.");
+        }
+
+        tasks.add(new Task(name, work, dependencies));
+        return this;
+    }
+
+    /**
+     * Starts running the added tasks.
+     */
+    public void start() {
+        for (Task task : tasks) {
+            List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+            for (String dependency : task.dependencies) {
+                CompletableFuture<Void> future = running.get(dependency);
+                if (future == null) {
+                    throw new IllegalArgumentException(
+                            "Startup task " + task.name + " depends on unknown task " + dependency);
+                }
+                dependencies.add(future);
+            }
+
+            CompletableFuture<Void> future = CompletableFuture
+                    .allOf(dependencies.toArray(new CompletableFuture[0]))
+                    .thenRunAsync(() -> run(task), executor);
+            running.put(task.name, future);
+        }
+
+        completion = CompletableFuture
+                .allOf(running.values().toArray(new CompletableFuture[0]))
+                .whenComplete((result, error) -> {
+                    complete = true;
+                    executor.shutdown();
+                });
+    }
+
+    /**
+     * Checks if every startup task has finished.
+     *
+     * @return {@code true} once startup is complete.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Runs a callback on the main thread once startup is complete. If startup
+     * is already complete, the callback runs right away.
+     *
+     * @param callback The callback to run.
+     */
+    public void whenComplete(OnComplete callback) {
+        if (complete) {
+            callback.onComplete();
+            return;
+        }
+
+        completion.whenComplete((result, error) -> mainHandler.post(callback::onComplete));
+    }
+
+    /**
+     * Runs a task and logs how long it took. Failures are logged instead of
+     * stopping startup.
+     *
+     * @param task The task to run.
+     */
+    private static void run(Task task) {
+        long start = SystemClock.uptimeMillis();
+        try {
+            task.work.run();
+        } catch (RuntimeException exception) {
+            Log.d("StartupOrchestrator", "Startup task " + task.name + " failed", exception);
+            return;
+        }
+        Log.d("StartupOrchestrator", "Startup task " + task.name + " took "
+                + (SystemClock.uptimeMillis() - start) + " ms");
+    }
+}
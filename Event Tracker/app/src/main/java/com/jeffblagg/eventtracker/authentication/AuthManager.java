@@ -10,8 +10,8 @@ package com.jeffblagg.eventtracker.authentication;
 
 /**
  * Interface for handling authentication processes. Provides methods for
- * creating accounts, signing in and out, and getting the id of the currently
- * logged in user.
+ * creating accounts, signing in and out, getting the id of the currently
+ * logged in user, and listening for sign in and sign out.
  */
 public interface AuthManager {
 
@@ -47,6 +47,13 @@ public interface AuthManager {
         void onFailure(AuthError error);
     }
 
+    /**
+     * Interface for listening to changes of the logged in user
+     */
+    public interface AuthStateListener {
+        void onAuthStateChanged(String userId);
+    }
+
     /**
      * Get the user ID for the currently logged in user.
      *
@@ -54,6 +61,22 @@ public interface AuthManager {
      */
     String getCurrentUserId();
 
+    /**
+     * Adds a listener that is called on the main thread whenever a user signs
+     * in or out. The listener is called right away with the current user id.
+     *
+     * @param listener the listener receiving the logged in user id, or null
+     *                 after signing out
+     */
+    void addAuthStateListener(AuthStateListener listener);
+
+    /**
+     * Removes a listener added with {@link #addAuthStateListener}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeAuthStateListener(AuthStateListener listener);
+
     /**
      * Attempts to sign a user in with the provided email and password.
      *
@@ -10,36 +10,86 @@ package com.jeffblagg.eventtracker.authentication;
 
 import com.google.firebase.auth.*;
 
+import androidx.tracing.Trace;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A manager class to handle all authentication actions with Firebase
  * Authentication. Implements the AuthManager interface.
+ *
+ * <p>A single shared instance listens to Firebase auth state changes and
+ * caches the logged in user's id, so reading it doesn't go through
+ * FirebaseAuth each time.</p>
  */
 public class FirebaseAuthManager implements AuthManager {
+    private static FirebaseAuthManager instance;
+
+    // cookies for the async trace sections of sign in and account creation calls
+    private static final AtomicInteger traceCookies = new AtomicInteger();
+
     private final FirebaseAuth firebaseAuth;
+    private final List<AuthStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    // the logged in user's id, updated from the auth state listener
+    private volatile String currentUserId;
+
+    private FirebaseAuthManager() {
+        Trace.beginSection("FirebaseAuthManager.init");
+        try {
+            firebaseAuth = FirebaseAuth.getInstance();
+            currentUserId = uid(firebaseAuth.getCurrentUser());
+            firebaseAuth.addAuthStateListener(auth -> setCurrentUserId(uid(auth.getCurrentUser())));
+        } finally {
+            Trace.endSection();
+        }
+    }
 
-    public FirebaseAuthManager() {
-        firebaseAuth = FirebaseAuth.getInstance();
+    /**
+     * Gets the shared auth manager.
+     *
+     * @return the Firebase auth manager
+     */
+    public static synchronized FirebaseAuthManager getInstance() {
+        if (instance == null) {
+            instance = new FirebaseAuthManager();
+        }
+        return instance;
     }
 
     @Override
     public String getCurrentUserId() {
-        FirebaseUser user = firebaseAuth.getCurrentUser();
+        return currentUserId;
+    }
 
-        if (user != null) {
-            return user.getUid();
-        }
+    @Override
+    public void addAuthStateListener(AuthStateListener listener) {
+        listeners.add(listener);
+        listener.onAuthStateChanged(currentUserId);
+    }
 
-        return null;
+    @Override
+    public void removeAuthStateListener(AuthStateListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
     public void signIn(String email, String password, AuthCallback callback) {
+        int cookie = traceCookies.incrementAndGet();
+        Trace.beginAsyncSection("FirebaseAuthManager.signIn", cookie);
+
         firebaseAuth.signInWithEmailAndPassword(email, password)
                 .addOnCompleteListener(task -> {
+                    Trace.endAsyncSection("FirebaseAuthManager.signIn", cookie);
+
                     if (task.isSuccessful()) {
                         FirebaseUser user = firebaseAuth.getCurrentUser();
 
                         if (user != null) {
+                            setCurrentUserId(user.getUid());
                             callback.onSuccess(user.getUid());
                         } else {
                             // This should never happen, but in case sign in is
@@ -54,12 +104,18 @@ public class FirebaseAuthManager implements AuthManager {
 
     @Override
     public void createAccount(String email, String password, AuthCallback callback) {
+        int cookie = traceCookies.incrementAndGet();
+        Trace.beginAsyncSection("FirebaseAuthManager.createAccount", cookie);
+
         firebaseAuth.createUserWithEmailAndPassword(email, password)
                 .addOnCompleteListener(task -> {
+                    Trace.endAsyncSection("FirebaseAuthManager.createAccount", cookie);
+
                     if (task.isSuccessful()) {
                         FirebaseUser user = firebaseAuth.getCurrentUser();
 
                         if (user != null) {
+                            setCurrentUserId(user.getUid());
                             callback.onSuccess(user.getUid());
                         } else {
                             // This should never happen, but in case account creation
@@ -74,7 +130,41 @@ public class FirebaseAuthManager implements AuthManager {
 
     @Override
     public void signOut() {
-        firebaseAuth.signOut();
+        Trace.beginSection("FirebaseAuthManager.signOut");
+        try {
+            firebaseAuth.signOut();
+            setCurrentUserId(null);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Updates the cached user id and notifies listeners if it changed. The
+     * sign in callbacks and the Firebase auth state listener can both report
+     * the same change, so only the first one is passed on.
+     *
+     * @param userId the logged in user id, or null if no user is logged in
+     */
+    private void setCurrentUserId(String userId) {
+        if (Objects.equals(currentUserId, userId)) {
+            return;
+        }
+
+        currentUserId = userId;
+        for (AuthStateListener listener : listeners) {
+            listener.onAuthStateChanged(userId);
+        }
+    }
+
+    /**
+     * Gets the id of a Firebase user.
+     *
+     * @param user the Firebase user, or null
+     * @return the user's id or null if there is no user
+     */
+    private static String uid(FirebaseUser user) {
+        return user != null ? user.getUid() : null;
     }
 
     /**
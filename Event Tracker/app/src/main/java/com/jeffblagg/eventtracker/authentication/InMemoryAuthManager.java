@@ -0,0 +1,135 @@
+/*
+ * InMemoryAuthManager.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.authentication;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * An AuthManager that keeps accounts in memory instead of using Firebase
+ * Authentication. Used to run and benchmark the repository layer without a
+ * network connection or Google Play services.
+ *
+ * <p>Callbacks and listeners are posted to the main thread, as the
+ * {@link AuthManager} contract requires, unless another executor is
+ * provided.</p>
+ */
+public class InMemoryAuthManager implements AuthManager {
+    /**
+     * An account's password and user id.
+     */
+    private static final class Account {
+        final String password;
+        final String userId;
+
+        Account(String password, String userId) {
+            this.password = password;
+            this.userId = userId;
+        }
+    }
+
+    private final Map<String, Account> accounts = new HashMap<>();
+    private final List<AuthStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Executor callbackExecutor;
+
+    private volatile String currentUserId;
+
+    /**
+     * InMemoryAuthManager constructor calling callbacks and listeners on the
+     * main thread.
+     */
+    public InMemoryAuthManager() {
+        this(new Handler(Looper.getMainLooper())::post);
+    }
+
+    /**
+     * InMemoryAuthManager constructor with the executor callbacks and
+     * listeners are called on provided, such as a test's own executor.
+     *
+     * @param callbackExecutor the executor callbacks and listeners are called on
+     */
+    public InMemoryAuthManager(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    @Override
+    public String getCurrentUserId() {
+        return currentUserId;
+    }
+
+    @Override
+    public void addAuthStateListener(AuthStateListener listener) {
+        listeners.add(listener);
+        String userId = currentUserId;
+        callbackExecutor.execute(() -> listener.onAuthStateChanged(userId));
+    }
+
+    @Override
+    public void removeAuthStateListener(AuthStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized void signIn(String email, String password, AuthCallback callback) {
+        Account account = accounts.get(email);
+
+        if (account == null) {
+            callbackExecutor.execute(() -> callback.onFailure(AuthError.USER_NOT_FOUND));
+        } else if (!account.password.equals(password)) {
+            callbackExecutor.execute(() -> callback.onFailure(AuthError.INVALID_PASSWORD));
+        } else {
+            setCurrentUserId(account.userId);
+            callbackExecutor.execute(() -> callback.onSuccess(account.userId));
+        }
+    }
+
+    @Override
+    public synchronized void createAccount(String email, String password, AuthCallback callback) {
+        if (accounts.containsKey(email)) {
+            callbackExecutor.execute(() -> callback.onFailure(AuthError.OTHER));
+            return;
+        }
+
+        Account account = new Account(password, UUID.randomUUID().toString());
+        accounts.put(email, account);
+        setCurrentUserId(account.userId);
+        callbackExecutor.execute(() -> callback.onSuccess(account.userId));
+    }
+
+    @Override
+    public void signOut() {
+        setCurrentUserId(null);
+    }
+
+    /**
+     * Updates the current user id and notifies listeners if it changed. The
+     * listeners are notified in order, after the id is updated.
+     *
+     * @param userId the logged in user id, or null if no user is logged in
+     */
+    private void setCurrentUserId(String userId) {
+        if (Objects.equals(currentUserId, userId)) {
+            return;
+        }
+
+        currentUserId = userId;
+        for (AuthStateListener listener : listeners) {
+            callbackExecutor.execute(() -> listener.onAuthStateChanged(userId));
+        }
+    }
+}
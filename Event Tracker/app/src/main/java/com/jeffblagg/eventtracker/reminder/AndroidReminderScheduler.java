@@ -0,0 +1,53 @@
+/*
+ * AndroidReminderScheduler.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.reminder;
+
+import com.jeffblagg.eventtracker.Clock;
+
+import android.content.Context;
+
+/**
+ * A {@link ReminderScheduler} that schedules reminders as SMS alarms with
+ * {@link EventReminderManager}.
+ */
+public class AndroidReminderScheduler implements ReminderScheduler {
+    private final Context context;
+    private final Clock clock;
+
+    /**
+     * AndroidReminderScheduler constructor using the system clock.
+     *
+     * @param context Context used to schedule alarms.
+     */
+    public AndroidReminderScheduler(Context context) {
+        this(context, Clock.SYSTEM);
+    }
+
+    /**
+     * AndroidReminderScheduler constructor.
+     *
+     * @param context Context used to schedule alarms.
+     * @param clock The clock used to skip reminders whose time has passed.
+     */
+    public AndroidReminderScheduler(Context context, Clock clock) {
+        this.context = context.getApplicationContext();
+        this.clock = clock;
+    }
+
+    @Override
+    public void schedule(ReminderPlanner.Reminder reminder) {
+        EventReminderManager.schedule(
+                context, clock, reminder.eventId, reminder.reminderTime, reminder.message, reminder.series);
+    }
+
+    @Override
+    public void cancel(String eventId) {
+        EventReminderManager.cancel(context, eventId);
+    }
+}
@@ -9,6 +9,9 @@
 
 package com.jeffblagg.eventtracker.reminder;
 
+import com.jeffblagg.eventtracker.Clock;
+import com.jeffblagg.eventtracker.entities.Event;
+
 import android.app.AlarmManager;
 import android.app.PendingIntent;
 import android.content.Context;
@@ -19,6 +22,10 @@ import android.content.Intent;
  *
  * <p>Reminders are only scheduled for future events and if the
  * {@link android.Manifest.permission#SEND_SMS} permission has been granted.</p>
+ *
+ * <p>A repeating event has one alarm, for its next occurrence. The alarm
+ * carries the series so {@link EventReminderReceiver} can schedule the
+ * following occurrence's reminder when it fires.</p>
  */
 public final class EventReminderManager {
    /**
@@ -27,14 +34,29 @@ public final class EventReminderManager {
     * @param context The application context.
     * @param eventId The id of the scheduled event.
     * @param message The message for the scheduled SMS.
+    * @param series The repeating event the reminder is for, or {@code null}.
     * @param flags Flags for the PendingIntent
     * @return The configured PendingIntent for the scheduled event.
     */
-   private static PendingIntent buildPendingIntent(Context context, String eventId, String message, int flags) {
+   private static PendingIntent buildPendingIntent(Context context, String eventId, String message,
+                                                   Event series, int flags) {
       Intent intent = new Intent(context, EventReminderReceiver.class);
       // hard code the phone number to "5554" to only send to the emulator
       intent.putExtra(EventReminderReceiver.PHONE_NUMBER, "5554");
       intent.putExtra(EventReminderReceiver.SMS_MESSAGE, message);
+      if (series != null) {
+         intent.putExtra(EventReminderReceiver.EVENT_ID, series.id);
+         intent.putExtra(EventReminderReceiver.EVENT_TITLE, series.title);
+         intent.putExtra(EventReminderReceiver.EVENT_TIME, series.eventTime);
+         intent.putExtra(EventReminderReceiver.RECURRENCE, series.recurrence);
+         if (series.exceptions != null) {
+            long[] exceptions = new long[series.exceptions.size()];
+            for (int i = 0; i < exceptions.length; i++) {
+               exceptions[i] = series.exceptions.get(i);
+            }
+            intent.putExtra(EventReminderReceiver.EXCEPTIONS, exceptions);
+         }
+      }
       return PendingIntent.getBroadcast(context, eventId.hashCode(), intent, flags);
    }
 
@@ -44,15 +66,32 @@ public final class EventReminderManager {
     * through {@link android.Manifest.permission#SEND_SMS}.
     *
     * @param context The context for the scheduled message.
+    * @param clock The clock used to skip reminders whose time has passed.
     * @param eventId The id of the event.
     * @param reminderTime The time for the reminder to be sent, in milliseconds.
     * @param message The message used as the SMS body
     */
-   public static void schedule(Context context, String eventId, long reminderTime, String message) {
+   public static void schedule(Context context, Clock clock, String eventId, long reminderTime, String message) {
+      schedule(context, clock, eventId, reminderTime, message, null);
+   }
+
+   /**
+    * Schedules a new SMS reminder for an event, which for a repeating event
+    * schedules the next occurrence's reminder once it's sent.
+    *
+    * @param context The context for the scheduled message.
+    * @param clock The clock used to skip reminders whose time has passed.
+    * @param eventId The id of the event.
+    * @param reminderTime The time for the reminder to be sent, in milliseconds.
+    * @param message The message used as the SMS body
+    * @param series The repeating event, or {@code null} for a single event.
+    */
+   public static void schedule(Context context, Clock clock, String eventId, long reminderTime, String message,
+                               Event series) {
       SMSPermissionManager smsPermissionManager = new SMSPermissionManager(context);
 
       // block scheduling if reminder time is in the past or permission hasn't been granted
-      if (reminderTime <= System.currentTimeMillis() || !smsPermissionManager.smsPermissionGranted(context)) {
+      if (reminderTime <= clock.now() || !smsPermissionManager.smsPermissionGranted(context)) {
          return;
       }
 
@@ -61,6 +100,7 @@ public final class EventReminderManager {
               context,
               eventId,
               message,
+              series,
               PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
 
       if (alarmManager != null && pendingIntent != null) {
@@ -80,6 +120,7 @@ public final class EventReminderManager {
               context,
               eventId,
               null,
+              null,
               PendingIntent.FLAG_NO_CREATE | PendingIntent.FLAG_IMMUTABLE);
 
       if (alarmManager != null && pendingIntent != null) {
@@ -9,14 +9,21 @@
 
 package com.jeffblagg.eventtracker.reminder;
 
+import com.jeffblagg.eventtracker.Clock;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.telephony.SmsManager;
 import android.util.Log;
 
+import java.util.ArrayList;
+
 /**
- * Receiver that handles sending SMS event reminders at a scheduled time.
+ * Receiver that handles sending SMS event reminders at a scheduled time, and
+ * scheduling the next reminder of a repeating event.
  */
 public class EventReminderReceiver extends BroadcastReceiver {
     /**
@@ -29,6 +36,16 @@ public class EventReminderReceiver extends BroadcastReceiver {
      */
     public static final String SMS_MESSAGE = "sms_message";
 
+    /**
+     * Intent extra keys for the repeating event a reminder was sent for,
+     * used to schedule the reminder for its next occurrence.
+     */
+    public static final String EVENT_ID = "event_id";
+    public static final String EVENT_TITLE = "event_title";
+    public static final String EVENT_TIME = "event_time";
+    public static final String RECURRENCE = "recurrence";
+    public static final String EXCEPTIONS = "exceptions";
+
     /**
      * Called when the scheduled broadcast intent is received at the scheduled time.
      *
@@ -48,5 +65,39 @@ public class EventReminderReceiver extends BroadcastReceiver {
                 Log.d("EventReminderReceiver", "Failed to send SMS" ,exception);
             }
         }
+
+        if (intent.hasExtra(RECURRENCE)) {
+            scheduleNextOccurrence(context, intent);
+        }
+    }
+
+    /**
+     * Schedules the reminder for a repeating event's next occurrence.
+     *
+     * @param context The context for the receiver.
+     * @param intent The intent containing the repeating event.
+     */
+    private void scheduleNextOccurrence(Context context, Intent intent) {
+        String eventId = intent.getStringExtra(EVENT_ID);
+        String title = intent.getStringExtra(EVENT_TITLE);
+        if (eventId == null || title == null) {
+            return;
+        }
+
+        Event series = new Event(eventId, null, intent.getLongExtra(EVENT_TIME, 0), title, null, null);
+        series.recurrence = intent.getStringExtra(RECURRENCE);
+        long[] exceptions = intent.getLongArrayExtra(EXCEPTIONS);
+        if (exceptions != null) {
+            series.exceptions = new ArrayList<>(exceptions.length);
+            for (long exception : exceptions) {
+                series.exceptions.add(exception);
+            }
+        }
+
+        ReminderPlanner.Reminder reminder = new ReminderPlanner(Clock.SYSTEM, new EventFormatter()).plan(series);
+        if (reminder != null) {
+            EventReminderManager.schedule(context, Clock.SYSTEM, reminder.eventId, reminder.reminderTime,
+                    reminder.message, reminder.series);
+        }
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * EventListSnapshot.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.repo;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import android.util.Log;
+
+import androidx.tracing.Trace;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshot of the last upcoming events list shown to a user.
+ *
+ * <p>The snapshot is read on the main thread when the events list opens, so
+ * the list can be shown before the first frame instead of waiting for the
+ * {@link LocalEventStore} to load or Firestore to respond. It is replaced
+ * after every change to the list, including events still being saved.</p>
+ *
+ * <p>Layout, big-endian: magic, format version and event count as ints,
+ * followed by each event's id, time, end time, title, card color,
+ * description preview, pending flag, recurrence rule and removed
+ * occurrences. The end time and card color are a flag byte followed by the
+ * value when it is set. Strings are a byte length, or -1 for {@code null},
+ * followed by UTF-8 bytes, and removed occurrences are a count, or -1 for
+ * {@code null}, followed by the times. A snapshot with another magic or
+ * version is ignored.</p>
+ */
+final class EventListSnapshot {
+    private static final int MAGIC = 0x45564C53;
+    private static final int VERSION = 3;
+
+    private EventListSnapshot() {
+    }
+
+    /**
+     * Reads a snapshot through a memory mapped buffer. Events that have
+     * already started are skipped, as are repeating events that have ended.
+     *
+     * @param file The snapshot file.
+     * @param now The current time, in milliseconds.
+     * @return The snapshot's upcoming events, or {@code null} if there is no
+     * readable snapshot.
+     */
+    static List<EventSummary> read(File file, long now) {
+        Trace.beginSection("EventListSnapshot.read");
+        try {
+            return readMapped(file, now);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Decodes a snapshot from a memory mapped buffer.
+     *
+     * @param file The snapshot file.
+     * @param now The current time, in milliseconds.
+     * @return The snapshot's upcoming events, or {@code null} if there is no
+     * readable snapshot.
+     */
+    private static List<EventSummary> readMapped(File file, long now) {
+        if (!file.exists()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+
+            int count = buffer.getInt();
+            List<EventSummary> events = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                EventSummary event = new EventSummary();
+                event.id = readString(buffer);
+                event.eventTime = buffer.getLong();
+                event.endTime = buffer.get() == 1 ? buffer.getLong() : null;
+                String title = readString(buffer);
+                event.title = title != null ? title : "";
+                event.cardColor = buffer.get() == 1 ? buffer.getInt() : null;
+                event.descriptionPreview = readString(buffer);
+                event.pending = buffer.get() == 1;
+                event.recurrence = readString(buffer);
+                int exceptions = buffer.getInt();
+                if (exceptions >= 0) {
+                    if (exceptions > buffer.remaining() / Long.BYTES) {
+                        throw new BufferUnderflowException();
+                    }
+                    event.exceptions = new ArrayList<>(exceptions);
+                    for (int e = 0; e < exceptions; e++) {
+                        event.exceptions.add(buffer.getLong());
+                    }
+                }
+
+                if (Occurrences.isUpcoming(event, now)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } catch (IOException | BufferUnderflowException exception) {
+            Log.d("EventListSnapshot", "Failed to read snapshot", exception);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot to a temporary file that atomically replaces the
+     * snapshot file. Must be called off the main thread.
+     *
+     * @param file The snapshot file.
+     * @param events The upcoming events, in display order.
+     */
+    static void write(File file, List<EventSummary> events) {
+        Trace.beginSection("EventListSnapshot.write");
+        try {
+            writeReplacing(file, events);
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Encodes a snapshot and atomically replaces the snapshot file with it.
+     *
+     * @param file The snapshot file.
+     * @param events The upcoming events, in display order.
+     */
+    private static void writeReplacing(File file, List<EventSummary> events) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(events.size());
+            for (EventSummary event : events) {
+                writeString(output, event.id);
+                output.writeLong(event.eventTime);
+                output.writeByte(event.endTime != null ? 1 : 0);
+                if (event.endTime != null) {
+                    output.writeLong(event.endTime);
+                }
+                writeString(output, event.title);
+                output.writeByte(event.cardColor != null ? 1 : 0);
+                if (event.cardColor != null) {
+                    output.writeInt(event.cardColor);
+                }
+                writeString(output, event.descriptionPreview);
+                output.writeByte(event.pending ? 1 : 0);
+                writeString(output, event.recurrence);
+                output.writeInt(event.exceptions != null ? event.exceptions.size() : -1);
+                if (event.exceptions != null) {
+                    for (long exception : event.exceptions) {
+                        output.writeLong(exception);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            Log.d("EventListSnapshot", "Failed to encode snapshot", exception);
+            return;
+        }
+
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream output = new FileOutputStream(temp)) {
+            bytes.writeTo(output);
+            output.getFD().sync();
+        } catch (IOException exception) {
+            Log.d("EventListSnapshot", "Failed to write snapshot", exception);
+            return;
+        }
+
+        if (!temp.renameTo(file)) {
+            Log.d("EventListSnapshot", "Failed to replace snapshot file");
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -9,40 +9,295 @@
 
 package com.jeffblagg.eventtracker.repo;
 
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
 import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
+import com.jeffblagg.eventtracker.Clock;
 import com.jeffblagg.eventtracker.authentication.AuthManager;
 import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
 import com.jeffblagg.eventtracker.entities.Event;
-import com.jeffblagg.eventtracker.reminder.EventReminderManager;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+import com.jeffblagg.eventtracker.reminder.AndroidReminderScheduler;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+import com.jeffblagg.eventtracker.reminder.ReminderScheduler;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+import com.jeffblagg.eventtracker.search.TitleSuggestions;
+import com.jeffblagg.eventtracker.store.EventStore;
+import com.jeffblagg.eventtracker.store.RemindingEventStore;
+import com.jeffblagg.eventtracker.transfer.EventFormat;
+import com.jeffblagg.eventtracker.transfer.EventImporter;
+import com.jeffblagg.eventtracker.transfer.EventReader;
+import com.jeffblagg.eventtracker.transfer.EventWriter;
 
 import android.app.Application;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+import android.util.Log;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.tracing.Trace;
 
-import java.text.SimpleDateFormat;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * {@link Event} Repository class that facilitates Firestore Event operations
  * for the rest of the app.
+ *
+ * <p>Mutations are applied optimistically: {@link #add}, {@link #update} and
+ * {@link #delete} record the change in a durable {@link MutationQueue}, update
+ * the local event list and return right away. The queue is then written to
+ * Firestore in order, in the background. Until a write is acknowledged its
+ * event is marked {@link EventSummary#pending pending}. A failed write is
+ * rolled back from the local list and reported through
+ * {@link #mutationFailures()}.</p>
+ *
+ * <p>Reminders are scheduled and cancelled only when Firestore acknowledges
+ * a queued mutation, including mutations replayed after a restart.</p>
+ *
+ * <p>The repository follows the {@link AuthManager} auth state. Signing in
+ * starts syncing the new user's events and signing out stops the listener
+ * and clears the list.</p>
  */
 public class EventRepository {
+    /**
+     * Subcollection and document holding an event's full description.
+     */
+    private static final String DETAILS_COLLECTION = "details";
+    private static final String DETAILS_DOCUMENT = "body";
+
+    /**
+     * Event document field holding the idempotency key of the last applied mutation.
+     */
+    private static final String MUTATION_KEY_FIELD = "lastMutationId";
+
+    /**
+     * Event document fields holding the server time of the last change and
+     * whether the event was deleted. Deleted events are kept as tombstones so
+     * delta syncs see the deletion.
+     */
+    static final String UPDATED_AT_FIELD = "updatedAt";
+    static final String DELETED_FIELD = "deleted";
+    static final String VERSION_FIELD = "version";
+
+    /**
+     * How long deletion tombstones are kept before full syncs delete them.
+     * A store whose watermark is older than this, less a day for device clock
+     * skew, may have missed deletions and is fully synced again.
+     */
+    private static final long TOMBSTONE_RETENTION_SECONDS = TimeUnit.DAYS.toSeconds(30);
+    private static final long CLOCK_SKEW_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * Maximum number of expired tombstones deleted after one full sync.
+     */
+    private static final int TOMBSTONE_BATCH_SIZE = 500;
+
+    /**
+     * Subcollection, document and field a full sync writes the server time
+     * to, so the sync watermark comes from the server clock.
+     */
+    private static final String SYNC_COLLECTION = "sync";
+    private static final String SYNC_DOCUMENT = "marker";
+    private static final String SYNCED_AT_FIELD = "syncedAt";
+
+    /**
+     * Event document field holding a repeating event's recurrence rule.
+     */
+    static final String RECURRENCE_FIELD = "recurrence";
+
+    /**
+     * File in app storage holding the durable mutation queue.
+     */
+    private static final String MUTATION_QUEUE_FILE = "event_mutations.json";
+
+    /**
+     * File name prefix in app storage for each user's synced event store.
+     */
+    private static final String EVENT_STORE_FILE_PREFIX = "event_store_";
+
+    /**
+     * File name prefix in app storage for each user's events list snapshot.
+     */
+    private static final String SNAPSHOT_FILE_PREFIX = "event_snapshot_";
+
+    /**
+     * Preferences holding the checkpoint of an import that didn't finish.
+     */
+    private static final String IMPORT_PREFERENCES = "event_import";
+    private static final String IMPORT_SOURCE_KEY = "source";
+    private static final String IMPORT_ID_KEY = "importId";
+    private static final String IMPORT_POSITION_KEY = "position";
+
+    /**
+     * Number of event documents read per query while exporting.
+     */
+    private static final int EXPORT_PAGE_SIZE = 200;
+
+    /**
+     * How long to wait for a page of events while exporting.
+     */
+    private static final long EXPORT_READ_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Size of the character buffers between calendar files and their channels.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Shared repository instance, so all screens observe the same local model.
+     */
+    private static EventRepository instance;
+
     private final Application application;
     private final FirebaseFirestore firestore;
     private final AuthManager authManager;
+    private final Clock clock;
+
+    /**
+     * Plans reminders for acknowledged mutations. Only used on the main thread.
+     */
+    private final ReminderPlanner reminderPlanner;
+
+    /**
+     * Schedules and cancels the SMS reminders of acknowledged mutations.
+     */
+    private final ReminderScheduler reminderScheduler;
+
+    /**
+     * Operation latencies and Firestore read/write counts for this process.
+     */
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * The current user's upcoming events, with pending local mutations applied.
+     */
+    private final MutableLiveData<List<EventSummary>> eventsList = new MutableLiveData<>();
+
+    /**
+     * Mutations that could not be saved and were rolled back.
+     */
+    private final MutableLiveData<MutationFailure> mutationFailures = new MutableLiveData<>();
+
+    /**
+     * The current user's upcoming events as last synced from Firestore.
+     */
+    private final List<EventSummary> serverEvents = new ArrayList<>();
+
+    /**
+     * Local store of the current user's synced events, or {@code null} if no user is listening.
+     */
+    private LocalEventStore eventStore;
+
+    /**
+     * Title suggestions of the current user's {@link #eventStore}, or
+     * {@code null} if no store is loaded. Read from any thread.
+     */
+    private volatile TitleSuggestions<String> titleSuggestions;
+
+    /**
+     * Durable queue of local mutations not yet acknowledged by Firestore.
+     */
+    private final MutationQueue mutationQueue;
+
+    /**
+     * The queued mutation currently being written, or {@code null} if the queue is idle.
+     */
+    private MutationQueue.Mutation inFlight;
+
+    /**
+     * When the in-flight mutation started writing, from {@link RepositoryMetrics#start()}.
+     */
+    private long inFlightStart;
+
+    /**
+     * Main thread handler used to replay the queue from network callbacks.
+     */
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Single thread executor for loading event stores and writing list snapshots.
+     */
+    private final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * Single thread executor for imports and exports, which may run for minutes.
+     */
+    private final ExecutorService transferExecutor = Executors.newSingleThreadExecutor();
+
+    private String listeningUserId;
+
+    /**
+     * When the current user's events started loading, until the first sync is published.
+     */
+    private long userEventsStart;
+    private boolean awaitingFirstSync;
+    private ListenerRegistration eventsListener;
+
+    /**
+     * Where a one-time read gets its data from.
+     */
+    public enum ReadPolicy {
+        /** Only read Firestore's local cache. Nothing is returned for uncached data. */
+        CACHE_ONLY,
+        /** Return the cached data right away, then refresh it from the server. */
+        CACHE_THEN_SERVER,
+        /** Always read from the server. Fails while offline. */
+        SERVER_ONLY
+    }
 
     /**
      * Interface for a callback after an event has been loaded.
      */
     public interface OnEventLoaded { void onResult(Event event); }
 
+    /**
+     * Interface for a callback after a list of events has been loaded.
+     */
+    public interface OnEventsLoaded { void onResult(List<EventSummary> events); }
+
     /**
      * Interface for a callback after an event has been added.
      */
@@ -53,6 +308,56 @@ public class EventRepository {
      */
     public interface OnEventUpdated { void onResult(String eventId); }
 
+    /**
+     * Interface for a callback with the number of events an import has saved.
+     */
+    public interface OnImportProgress { void onProgress(long imported); }
+
+    /**
+     * Interface for a callback after an import has stopped.
+     */
+    public interface OnImportFinished { void onResult(EventImporter.Result result); }
+
+    /**
+     * Interface for a callback after an export has finished.
+     */
+    public interface OnExportFinished { void onResult(Long exported); }
+
+    /**
+     * A local mutation that failed to save and was rolled back.
+     */
+    public static final class MutationFailure {
+        /**
+         * Message describing the failure for the user.
+         */
+        public final String message;
+
+        /**
+         * The locally edited event, or {@code null} if this was not an update conflict.
+         */
+        public final Event local;
+
+        /**
+         * The newer remote event, or {@code null} if this was not an update conflict.
+         */
+        public final Event remote;
+
+        MutationFailure(String message, Event local, Event remote) {
+            this.message = message;
+            this.local = local;
+            this.remote = remote;
+        }
+
+        /**
+         * Checks if the failure was caused by the event being changed elsewhere.
+         *
+         * @return {@code true} if both versions of the event are available.
+         */
+        public boolean isConflict() {
+            return local != null && remote != null;
+        }
+    }
+
     /**
      * Interface for a callback after an event has been deleted.
      */
@@ -63,19 +368,118 @@ public class EventRepository {
      *
      * @param application The application object used to access the database.
      */
-    public EventRepository(Application application) {
+    private EventRepository(Application application) {
+        this(application, FirebaseFirestore.getInstance(), FirebaseAuthManager.getInstance(), Clock.SYSTEM);
+    }
+
+    /**
+     * EventRepository constructor with the Firestore instance, auth manager and
+     * clock provided, so the repository can run against an emulator, an
+     * {@link com.jeffblagg.eventtracker.authentication.InMemoryAuthManager} and
+     * a fixed time.
+     * May be called on a background thread. The mutation queue is loaded on the
+     * calling thread, then replay and the auth state subscription start on the
+     * main thread.
+     *
+     * @param application The application object used to access app storage.
+     * @param firestore The Firestore instance to read and write events with.
+     * @param authManager The auth manager providing the signed in user.
+     * @param clock The clock used to decide which events are upcoming and
+     *              which reminders are still due.
+     */
+    @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
+    public EventRepository(Application application, FirebaseFirestore firestore, AuthManager authManager,
+                           Clock clock) {
         this.application = application;
-        this.firestore = FirebaseFirestore.getInstance();
-        this.authManager = new FirebaseAuthManager();
+        this.firestore = firestore;
+        this.authManager = authManager;
+        this.clock = clock;
+        this.reminderPlanner = new ReminderPlanner(clock, new EventFormatter());
+        this.reminderScheduler = new AndroidReminderScheduler(application, clock);
+        this.mutationQueue = new MutationQueue(new File(application.getFilesDir(), MUTATION_QUEUE_FILE));
+
+        // replay mutations left over from a previous run
+        registerNetworkCallback();
+        mainHandler.post(() -> {
+            replayQueue();
+            authManager.addAuthStateListener(this::onAuthStateChanged);
+        });
+    }
+
+    /**
+     * Gets the shared repository instance.
+     *
+     * @param application The application object used to access the database.
+     * @return The event repository.
+     */
+    public static synchronized EventRepository getInstance(Application application) {
+        if (instance == null) {
+            instance = new EventRepository(application);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the clock the repository decides upcoming events and reminders with.
+     *
+     * @return The repository's clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the repository's operation latencies and Firestore read/write counts.
+     *
+     * @return The repository metrics.
+     */
+    public RepositoryMetrics getMetrics() {
+        return metrics;
     }
 
     /**
      * Fetches a single event with the provided id.
      *
+     * <p>With {@link ReadPolicy#CACHE_THEN_SERVER}, a cached event is returned
+     * through the callback right away and the server copy is returned through
+     * the refresh callback once it arrives. If the event isn't cached, the
+     * callback receives the server copy instead and no refresh follows.</p>
+     *
+     * <p>Events with unsaved local changes are always returned from the
+     * mutation queue, without a refresh.</p>
+     *
+     * @param eventId The id of the event to fetch.
+     * @param policy Where to read the event from.
+     * @param callback Action receiving the fetched event.
+     * @param refreshCallback Action receiving the refreshed server copy, or
+     *                        {@code null} if the refresh isn't needed.
+     */
+    public void getEvent(String eventId,
+                         ReadPolicy policy,
+                         OnEventLoaded callback,
+                         OnEventLoaded refreshCallback) {
+        long start = metrics.start();
+        OnEventLoaded timedCallback = event -> {
+            metrics.record(RepositoryMetrics.Operation.GET_EVENT, start);
+            callback.onResult(event);
+        };
+        loadEvent(eventId, policy, timedCallback, refreshCallback);
+    }
+
+    /**
+     * Fetches a single event. See
+     * {@link #getEvent(String, ReadPolicy, OnEventLoaded, OnEventLoaded)}.
+     *
      * @param eventId The id of the event to fetch.
+     * @param policy Where to read the event from.
      * @param callback Action receiving the fetched event.
+     * @param refreshCallback Action receiving the refreshed server copy, or
+     *                        {@code null} if the refresh isn't needed.
      */
-    public void getEvent(String eventId, OnEventLoaded callback) {
+    private void loadEvent(String eventId,
+                           ReadPolicy policy,
+                           OnEventLoaded callback,
+                           OnEventLoaded refreshCallback) {
         String userId = authManager.getCurrentUserId();
 
         if (userId == null || eventId == null) {
@@ -83,169 +487,1566 @@ public class EventRepository {
             return;
         }
 
-        // Fetch the event from Firestore
-        firestore.collection("users").document(userId)
-                .collection("events").document(eventId)
-                .get()
-                .addOnCompleteListener(task -> {
-                    if (task.isSuccessful()) {
-                        DocumentSnapshot document = task.getResult();
-                        if (document.exists()) {
-                            Event event = document.toObject(Event.class);
+        // return the locally queued version if the event has unsaved changes
+        MutationQueue.Mutation queued = mutationQueue.latest(eventId);
+        if (queued != null) {
+            callback.onResult(queued.event != null ? new Event(queued.event) : null);
+            return;
+        }
+
+        DocumentReference eventDocument = eventsCollection(userId).document(eventId);
+
+        switch (policy) {
+            case CACHE_ONLY:
+                readEvent(eventDocument, Source.CACHE, metrics, callback);
+                break;
+            case SERVER_ONLY:
+                readEvent(eventDocument, Source.SERVER, metrics, callback);
+                break;
+            case CACHE_THEN_SERVER:
+                readEvent(eventDocument, Source.CACHE, metrics, cached -> {
+                    if (cached != null) {
+                        callback.onResult(cached);
+                    }
+
+                    // fall back to the cache if the server can't be reached
+                    // and nothing was returned yet
+                    Source source = cached != null ? Source.SERVER : Source.DEFAULT;
+                    readEvent(eventDocument, source, metrics, event -> {
+                        if (cached == null) {
                             callback.onResult(event);
-                        } else {
-                            callback.onResult(null);
+                        } else if (event != null && refreshCallback != null) {
+                            refreshCallback.onResult(event);
                         }
-                    } else {
-                        callback.onResult(null);
-                    }
+                    });
                 });
+                break;
+        }
     }
 
     /**
-     * Creates a {@link LiveData} list of a user's upcoming events.
+     * Reads an event and its detail document in parallel. The event is only
+     * returned if both reads succeed, so an event is never returned without
+     * its description because the detail document wasn't cached or couldn't
+     * be read. A cache read of an uncached detail document counts as a miss.
      *
-     * @param userId The id of the user whose events are fetched.
-     * @return LiveData list of the specified user's future events.
+     * @param eventDocument The event document.
+     * @param source Where to read the documents from.
+     * @param metrics The metrics the read is counted in.
+     * @param callback Action receiving the event, or {@code null} if it
+     *                 couldn't be read or was deleted.
      */
-    public LiveData<List<Event>> userEvents(String userId) {
-        MutableLiveData<List<Event>> eventsList = new MutableLiveData<>();
+    static void readEvent(DocumentReference eventDocument, Source source, RepositoryMetrics metrics,
+                          OnEventLoaded callback) {
+        Task<DocumentSnapshot> eventTask = eventDocument.get(source);
+        Task<DocumentSnapshot> detailTask = detailDocument(eventDocument).get(source);
 
-        // if no user is logged in, return an empty list
-        if (userId == null) {
-            eventsList.setValue(new ArrayList<>());
-            return eventsList;
-        }
+        Tasks.whenAllComplete(eventTask, detailTask)
+                .addOnCompleteListener(task -> {
+                    // a cache read of an uncached event or detail document fails
+                    // and counts as a miss
+                    boolean fromCache = eventTask.isSuccessful() && detailTask.isSuccessful()
+                            && eventTask.getResult().getMetadata().isFromCache();
+                    metrics.recordRead(documentCount(eventTask) + documentCount(detailTask), fromCache);
 
-        // Get future events from Firestore, ordered by time
-        firestore.collection("users").document(userId)
-                .collection("events")
-                .whereGreaterThanOrEqualTo("eventTime", System.currentTimeMillis())
-                .orderBy("eventTime", Query.Direction.ASCENDING)
-                .addSnapshotListener((snapshots, error) -> {
-                    List<Event> events = new ArrayList<>();
-
-                    // if there is no error and there are event snapshots, add them
-                    // to the list
-                    if (error == null && snapshots != null) {
-                        for (DocumentSnapshot document : snapshots.getDocuments()) {
-                            Event event = document.toObject(Event.class);
-                            if (event != null) {
-                                events.add(event);
-                            }
-                        }
+                    if (!eventTask.isSuccessful() || !eventTask.getResult().exists()
+                            || Boolean.TRUE.equals(eventTask.getResult().getBoolean(DELETED_FIELD))) {
+                        callback.onResult(null);
+                        return;
                     }
 
-                    eventsList.setValue(events);
-                });
+                    // the description is unknown, not empty, so read it again
+                    // from the server rather than return the event without it
+                    if (!detailTask.isSuccessful()) {
+                        callback.onResult(null);
+                        return;
+                    }
 
-        return eventsList;
+                    Event event;
+                    Trace.beginSection("EventRepository.decodeEvent");
+                    try {
+                        event = toEvent(eventTask.getResult());
+
+                        // events saved before descriptions moved to the detail document
+                        // still carry the description on the event document itself
+                        if (event != null && detailTask.getResult().exists()) {
+                            event.description = detailTask.getResult().getString("description");
+                        }
+                    } finally {
+                        Trace.endSection();
+                    }
+                    callback.onResult(event);
+                });
     }
 
     /**
-     * Adds a new event and schedules the SMS event reminder.
+     * Counts the document returned by a finished document read.
      *
-     * @param event The event to add.
-     * @param callback Action receiving the added event's id.
+     * @param task The finished read.
+     * @return 1 if the document was read, 0 if the read failed or it doesn't exist.
      */
-    public void add(Event event, OnEventAdded callback) {
-        String userId = authManager.getCurrentUserId();
+    private static int documentCount(Task<DocumentSnapshot> task) {
+        return task.isSuccessful() && task.getResult().exists() ? 1 : 0;
+    }
 
+    /**
+     * Fetches a user's upcoming events once, without listening for changes.
+     * The list includes local mutations that are still being saved.
+     *
+     * <p>With {@link ReadPolicy#CACHE_THEN_SERVER}, the cached list is
+     * returned through the callback right away and the server list through the
+     * refresh callback once it arrives.</p>
+     *
+     * @param userId The id of the user whose events are fetched.
+     * @param policy Where to read the events from.
+     * @param callback Action receiving the event summaries.
+     * @param refreshCallback Action receiving the refreshed server list, or
+     *                        {@code null} if the refresh isn't needed.
+     */
+    public void getUpcomingEvents(String userId,
+                                  ReadPolicy policy,
+                                  OnEventsLoaded callback,
+                                  OnEventsLoaded refreshCallback) {
         if (userId == null) {
-            callback.onResult(null);
+            callback.onResult(new ArrayList<>());
             return;
         }
 
-        // Get a reference to the user's events collection
-        CollectionReference eventsCollection = firestore.collection("users")
-                .document(userId)
-                .collection("events");
+        long start = metrics.start();
+        OnEventsLoaded timedCallback = events -> {
+            metrics.record(RepositoryMetrics.Operation.GET_UPCOMING_EVENTS, start);
+            callback.onResult(events);
+        };
 
-        // Have Firestore generate an event id and set it for the event
-        String eventId = eventsCollection.document().getId();
-        event.id = eventId;
+        switch (policy) {
+            case CACHE_ONLY:
+                readUpcomingEvents(userId, Source.CACHE, timedCallback);
+                break;
+            case SERVER_ONLY:
+                readUpcomingEvents(userId, Source.SERVER, timedCallback);
+                break;
+            case CACHE_THEN_SERVER:
+                readUpcomingEvents(userId, Source.CACHE, cached -> {
+                    timedCallback.onResult(cached);
+                    if (refreshCallback != null) {
+                        readUpcomingEvents(userId, Source.SERVER, refreshCallback);
+                    }
+                });
+                break;
+        }
+    }
 
-        // Add the new event
-        eventsCollection.document(eventId).set(event)
+    /**
+     * Reads a user's upcoming events and applies their queued mutations.
+     *
+     * @param userId The id of the user.
+     * @param source Where to read the events from.
+     * @param callback Action receiving the event summaries. An empty list is
+     *                 returned if the events couldn't be read.
+     */
+    private void readUpcomingEvents(String userId, Source source, OnEventsLoaded callback) {
+        upcomingDocuments(userId, source)
                 .addOnCompleteListener(task -> {
+                    List<EventSummary> events = new ArrayList<>();
                     if (task.isSuccessful()) {
-                        scheduleReminder(event);
-                        callback.onResult(eventId);
+                        for (QuerySnapshot snapshot : task.getResult()) {
+                            metrics.recordRead(snapshot.size(), snapshot.getMetadata().isFromCache());
+                        }
+                        Trace.beginSection("EventRepository.decodeUpcomingEvents");
+                        try {
+                            for (QuerySnapshot snapshot : task.getResult()) {
+                                for (DocumentSnapshot document : snapshot.getDocuments()) {
+                                    EventSummary event = toSummary(document);
+                                    if (event != null) {
+                                        events.add(event);
+                                    }
+                                }
+                            }
+                        } finally {
+                            Trace.endSection();
+                        }
                     } else {
-                        // return a null id on failure
-                        callback.onResult(null);
+                        metrics.recordRead(0, false);
                     }
+                    callback.onResult(withPendingMutations(events, userId));
                 });
     }
 
     /**
-     * Updates an existing event. Cancels and reschedules the event reminder.
+     * Gets the {@link LiveData} list of summaries for a user's upcoming events.
+     * Full descriptions are not part of the event documents and are only read
+     * through {@link #getEvent(String, ReadPolicy, OnEventLoaded, OnEventLoaded)}.
      *
-     * @param event The event to update.
-     * @param callback Action receiving the updated event's id.
+     * <p>Events are served from a {@link LocalEventStore}. The first sync reads
+     * the user's upcoming events in full. After that, only documents with an
+     * {@code updatedAt} newer than the store's watermark are read, including
+     * deletion tombstones, and merged into the store. Tombstones are kept for
+     * 30 days, so a store that hasn't synced for that long is read in full
+     * again.</p>
+     *
+     * <p>The list includes local mutations that are still being saved.</p>
+     *
+     * <p>Until the store has loaded, the list holds the
+     * {@link EventListSnapshot} saved the last time the list changed, or
+     * {@code null} if there is none, so it can be shown right away.</p>
+     *
+     * @param userId The id of the user whose events are fetched.
+     * @return LiveData list of the specified user's future event summaries.
      */
-    public void update(Event event, OnEventUpdated callback) {
-        String userId = authManager.getCurrentUserId();
+    public LiveData<List<EventSummary>> userEvents(String userId) {
+        // keep the existing listener if it already belongs to this user
+        if (userId != null && userId.equals(listeningUserId)) {
+            return eventsList;
+        }
 
-        if (userId == null || event.id == null) {
-            callback.onResult(null);
+        if (eventsListener != null) {
+            eventsListener.remove();
+            eventsListener = null;
+        }
+        listeningUserId = userId;
+        serverEvents.clear();
+        eventStore = null;
+        titleSuggestions = null;
+        awaitingFirstSync = false;
+
+        // if no user is logged in, return an empty list
+        if (userId == null) {
+            eventsList.setValue(new ArrayList<>());
+            return eventsList;
+        }
+
+        // time until the first list synced with Firestore is published
+        userEventsStart = metrics.start();
+        awaitingFirstSync = true;
+
+        // show the last list snapshot right away
+        eventsList.setValue(EventListSnapshot.read(snapshotFile(userId), clock.now()));
+
+        // load the full store in the background, then start syncing
+        File storeFile = new File(application.getFilesDir(), EVENT_STORE_FILE_PREFIX + userId + ".json");
+        diskExecutor.execute(() -> {
+            LocalEventStore store = new LocalEventStore(storeFile);
+            mainHandler.post(() -> onStoreLoaded(userId, store));
+        });
+
+        return eventsList;
+    }
+
+    /**
+     * Publishes a user's loaded event store and starts syncing it with Firestore.
+     *
+     * @param userId The id of the user the store belongs to.
+     * @param store The loaded event store.
+     */
+    private void onStoreLoaded(String userId, LocalEventStore store) {
+        // stop if the user changed while the store was loading
+        if (!userId.equals(listeningUserId) || eventStore != null) {
             return;
         }
 
-        firestore.collection("users").document(userId)
-                .collection("events").document(event.id)
-                .set(event)
-                .addOnCompleteListener(task -> {
-                    if (task.isSuccessful()) {
-                        // Cancel and reschedule reminder in case the event changed
-                        EventReminderManager.cancel(application, event.id);
-                        scheduleReminder(event);
-                        callback.onResult(event.id);
-                    } else {
-                        // return a null id if the update failed
-                        callback.onResult(null);
-                    }
-                });
+        eventStore = store;
+        titleSuggestions = store.getTitleSuggestions();
+        onStoreChanged(store);
+
+        if (store.getWatermark() != null && !isExpired(store.getWatermark())) {
+            listenForChanges(userId, store);
+        } else {
+            fullSync(userId, store);
+        }
     }
 
     /**
-     * Deletes an event and cancel any associated scheduled reminder.
+     * Checks if a watermark is old enough that tombstones changed after it may
+     * have been deleted already.
      *
-     * @param eventId The id of the event to delete.
-     * @param callback Action triggered after deletion.
+     * @param watermark The store's watermark.
+     * @return {@code true} if the store must be fully synced again.
      */
-    public void delete(String eventId, onEventDeleted callback) {
-        String userId = authManager.getCurrentUserId();
+    private boolean isExpired(Timestamp watermark) {
+        long now = TimeUnit.MILLISECONDS.toSeconds(clock.now());
+        return watermark.getSeconds() < now - TOMBSTONE_RETENTION_SECONDS + CLOCK_SKEW_SECONDS;
+    }
 
-        if (userId == null || eventId == null) {
-            callback.onResult();
+    /**
+     * Swaps the synced events to the newly signed in user, or tears down the
+     * listener and store after signing out, then replays the new user's
+     * queued mutations.
+     *
+     * @param userId The id of the signed in user, or {@code null} after signing out.
+     */
+    private void onAuthStateChanged(String userId) {
+        if (Objects.equals(userId, listeningUserId)) {
             return;
         }
 
-        // Delete the document from Firestore
-        firestore.collection("users").document(userId)
-                .collection("events").document(eventId)
-                .delete()
-                .addOnCompleteListener(task -> {
-                   if (task.isSuccessful()) {
-                       // Cancel the reminder after successful deletion
-                       EventReminderManager.cancel(application, eventId);
-                   }
-                   callback.onResult();
-                });
+        userEvents(userId);
+        replayQueue();
     }
 
     /**
-     * Schedules an event reminder to be sent two hours before the event time.
+     * Starts loading and syncing a user's events before any screen observes
+     * them. Called as soon as the user signs in, so the store loads and the
+     * Firestore listener connects while the events screen is still opening.
      *
-     * @param event The event to schedule a reminder for.
+     * @param userId The id of the signed in user.
      */
-    private void scheduleReminder(Event event) {
-        long twoHoursBeforeEventTime = event.eventTime - 2 * 60 * 60 * 1000L;
+    public void prefetch(String userId) {
+        userEvents(userId);
+    }
+
+    /**
+     * Searches the signed in user's upcoming events by title and description
+     * preview. Results come from the search index of the {@link LocalEventStore},
+     * so nothing is read from Firestore and no events are scanned.
+     *
+     * @param query The search query.
+     * @param limit The maximum number of results.
+     * @param callback Action receiving the matching event summaries, best
+     *                 match first. Empty until the user's store has loaded.
+     */
+    public void searchEvents(String query, int limit, OnEventsLoaded callback) {
+        if (eventStore == null) {
+            callback.onResult(new ArrayList<>());
+            return;
+        }
+
+        long start = metrics.start();
+        List<EventSummary> results;
+        Trace.beginSection("EventRepository.searchEvents");
+        try {
+            results = eventStore.search(query, clock.now(), limit);
+        } finally {
+            Trace.endSection();
+        }
+        metrics.record(RepositoryMetrics.Operation.SEARCH, start);
+        callback.onResult(results);
+    }
+
+    /**
+     * Suggests titles of the signed in user's events starting with the typed
+     * text, the titles used by the most events first. Nothing is read from
+     * Firestore, so it can run for every keystroke. Safe to call from any thread.
+     *
+     * @param prefix The typed text.
+     * @param limit The maximum number of suggestions.
+     * @return The suggested titles. Empty until the user's store has loaded.
+     */
+    public List<String> suggestTitles(String prefix, int limit) {
+        TitleSuggestions<String> suggestions = titleSuggestions;
+        return suggestions != null ? suggestions.suggest(prefix, limit) : new ArrayList<>();
+    }
+
+    /**
+     * Finds the signed in user's events whose time overlaps a time range,
+     * from the interval index of the {@link LocalEventStore}.
+     *
+     * @param eventId The id of the event being saved, left out of the
+     *                results, or {@code null} for a new event.
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds, or {@code null} for
+     *            the instant at {@code start}.
+     * @return The overlapping event summaries, ordered by start time. Empty
+     * until the user's store has loaded.
+     */
+    public List<EventSummary> findOverlapping(String eventId, long start, Long end) {
+        List<EventSummary> overlapping = new ArrayList<>();
+        if (eventStore == null) {
+            return overlapping;
+        }
+
+        for (EventSummary event : eventStore.overlapping(start, end)) {
+            if (!event.id.equals(eventId)) {
+                overlapping.add(event);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Finds the signed in user's free time between events in a time range.
+     *
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds.
+     * @param minDuration The shortest free time to include, in milliseconds.
+     * @return The free time ranges, in order. Empty until the user's store
+     * has loaded.
+     */
+    public List<EventIntervalTree.TimeRange> freeTime(long start, long end, long minDuration) {
+        if (eventStore == null) {
+            return new ArrayList<>();
+        }
+        return eventStore.freeTime(start, end, minDuration);
+    }
+
+    /**
+     * Reads all of a user's upcoming events into the store, replacing what it
+     * held, then starts listening for changes.
+     *
+     * <p>The server time is read first and becomes the watermark, so
+     * documents changed while the events are read are picked up again by the
+     * listener. The update times of the returned events can't be used
+     * instead: the two queries read at different times, so one can return a
+     * newer change than a change the other missed. The sync waits for the server while offline. If the server time or the
+     * events can't be read from the server, the store is filled without a
+     * watermark and the next start syncs in full again.</p>
+     *
+     * @param userId The id of the user.
+     * @param store The user's event store.
+     */
+    private void fullSync(String userId, LocalEventStore store) {
+        serverTime(userId).addOnCompleteListener(timeTask -> {
+            if (store != eventStore) {
+                return;
+            }
+
+            Timestamp syncTime = timeTask.isSuccessful() ? timeTask.getResult() : null;
+            if (syncTime == null) {
+                Log.d("EventRepository", "Failed to read the server time", timeTask.getException());
+            }
+            readAllEvents(userId, store, syncTime);
+        });
+    }
+
+    /**
+     * Reads all of a user's upcoming events into the store for a full sync,
+     * then starts listening for changes.
+     *
+     * @param userId The id of the user.
+     * @param store The user's event store.
+     * @param syncTime The server time read before the events, or {@code null}
+     *                 if it couldn't be read.
+     */
+    private void readAllEvents(String userId, LocalEventStore store, Timestamp syncTime) {
+        upcomingDocuments(userId, Source.DEFAULT)
+                .addOnCompleteListener(task -> {
+                    // stop if the user changed while the sync was running
+                    if (store != eventStore) {
+                        return;
+                    }
+
+                    if (task.isSuccessful()) {
+                        boolean fromCache = false;
+                        for (QuerySnapshot snapshot : task.getResult()) {
+                            metrics.recordRead(snapshot.size(), snapshot.getMetadata().isFromCache());
+                            fromCache |= snapshot.getMetadata().isFromCache();
+                        }
+                        Trace.beginSection("EventRepository.decodeFullSync");
+                        try {
+                            store.clear();
+                            for (QuerySnapshot snapshot : task.getResult()) {
+                                for (DocumentSnapshot document : snapshot.getDocuments()) {
+                                    mergeDocument(store, document);
+                                }
+                            }
+                        } finally {
+                            Trace.endSection();
+                        }
+                        // merged update times don't bound what the two queries
+                        // missed, so the watermark is only the server time, and
+                        // only when the events came from the server
+                        if (syncTime != null && !fromCache) {
+                            store.completeFullSync(syncTime);
+                            deleteExpiredTombstones(userId, syncTime);
+                        } else {
+                            store.completeFullSync(null);
+                        }
+                        store.save(clock.now());
+                        onStoreChanged(store);
+                        recordFirstSync();
+                    } else {
+                        metrics.recordRead(0, false);
+                    }
+
+                    listenForChanges(userId, store);
+                });
+    }
+
+    /**
+     * Reads the current server time, by writing a server timestamp to the
+     * user's sync document and reading it back from the server.
+     *
+     * @param userId The id of the user.
+     * @return Task with the server time.
+     */
+    private Task<Timestamp> serverTime(String userId) {
+        DocumentReference syncDocument = firestore.collection("users").document(userId)
+                .collection(SYNC_COLLECTION).document(SYNC_DOCUMENT);
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(SYNCED_AT_FIELD, FieldValue.serverTimestamp());
+
+        return syncDocument.set(fields)
+                .onSuccessTask(unused -> {
+                    metrics.recordWrite(1);
+                    return syncDocument.get(Source.SERVER);
+                })
+                .onSuccessTask(snapshot -> {
+                    metrics.recordRead(1, false);
+                    return Tasks.forResult(snapshot.getTimestamp(SYNCED_AT_FIELD));
+                });
+    }
+
+    /**
+     * Deletes a batch of a user's tombstones older than the retention time.
+     * Stores that synced before then are fully synced again instead of
+     * relying on them. More are deleted after the next full sync.
+     *
+     * @param userId The id of the user.
+     * @param syncTime The server time of the full sync.
+     */
+    private void deleteExpiredTombstones(String userId, Timestamp syncTime) {
+        Timestamp cutoff = new Timestamp(syncTime.getSeconds() - TOMBSTONE_RETENTION_SECONDS,
+                syncTime.getNanoseconds());
+        eventsCollection(userId)
+                .whereEqualTo(DELETED_FIELD, true)
+                .whereLessThan(UPDATED_AT_FIELD, cutoff)
+                .limit(TOMBSTONE_BATCH_SIZE)
+                .get(Source.SERVER)
+                .addOnSuccessListener(snapshot -> {
+                    metrics.recordRead(snapshot.size(), false);
+                    if (snapshot.isEmpty()) {
+                        return;
+                    }
+
+                    WriteBatch batch = firestore.batch();
+                    for (DocumentSnapshot document : snapshot.getDocuments()) {
+                        batch.delete(document.getReference());
+                    }
+                    int deleted = snapshot.size();
+                    batch.commit().addOnSuccessListener(unused -> metrics.recordWrite(deleted));
+                })
+                .addOnFailureListener(exception ->
+                        Log.d("EventRepository", "Failed to delete expired tombstones", exception));
+    }
+
+    /**
+     * Listens for documents changed after the store's watermark and merges
+     * them into the store. Without a watermark, all documents with an update
+     * time are read.
+     *
+     * @param userId The id of the user.
+     * @param store The user's event store.
+     */
+    private void listenForChanges(String userId, LocalEventStore store) {
+        Query query = eventsCollection(userId).orderBy(UPDATED_AT_FIELD);
+        if (store.getWatermark() != null) {
+            query = query.whereGreaterThan(UPDATED_AT_FIELD, store.getWatermark());
+        }
+
+        eventsListener = query.addSnapshotListener((snapshots, error) -> {
+            // keep the last known list if the listener reports an error
+            if (error != null || snapshots == null || store != eventStore) {
+                return;
+            }
+
+            List<DocumentChange> changes = snapshots.getDocumentChanges();
+            metrics.recordListenerFire(changes.size(), snapshots.getMetadata().isFromCache());
+            Trace.beginSection("EventRepository.decodeChanges");
+            try {
+                for (DocumentChange change : changes) {
+                    if (change.getType() != DocumentChange.Type.REMOVED) {
+                        mergeDocument(store, change.getDocument());
+                    }
+                }
+            } finally {
+                Trace.endSection();
+            }
+            store.save(clock.now());
+            onStoreChanged(store);
+            recordFirstSync();
+        });
+    }
+
+    /**
+     * Records how long the current user's events took to sync, the first time
+     * a list synced with Firestore is published.
+     */
+    private void recordFirstSync() {
+        if (awaitingFirstSync) {
+            awaitingFirstSync = false;
+            metrics.record(RepositoryMetrics.Operation.USER_EVENTS, userEventsStart);
+        }
+    }
+
+    /**
+     * Merges a changed event document into the store. Tombstones remove the event.
+     *
+     * @param store The event store.
+     * @param document The changed event document.
+     */
+    private static void mergeDocument(LocalEventStore store, DocumentSnapshot document) {
+        // only acknowledged server times may move the watermark
+        Timestamp updatedAt = document.getMetadata().hasPendingWrites()
+                ? null
+                : document.getTimestamp(UPDATED_AT_FIELD);
+
+        if (Boolean.TRUE.equals(document.getBoolean(DELETED_FIELD))) {
+            store.remove(document.getId(), updatedAt);
+            return;
+        }
+
+        EventSummary event = toSummary(document);
+        if (event != null) {
+            store.put(event, updatedAt);
+        }
+    }
+
+    /**
+     * Converts an event document to an event summary.
+     *
+     * @param document The event document.
+     * @return The event summary, or {@code null} for a deletion tombstone or
+     * a document that doesn't exist.
+     */
+    static EventSummary toSummary(DocumentSnapshot document) {
+        Map<String, Object> fields = document.getData();
+        if (fields == null || Boolean.TRUE.equals(document.getBoolean(DELETED_FIELD))) {
+            return null;
+        }
+
+        EventSummary event = toSummary(document.getId(), fields);
+        event.pending = document.getMetadata().hasPendingWrites();
+        return event;
+    }
+
+    /**
+     * Converts event document fields to an event summary. Fields are read by
+     * name, so document fields the summary doesn't have are skipped without
+     * the class mapper's warnings.
+     *
+     * @param eventId The id of the event document.
+     * @param fields The event document fields.
+     * @return The event summary.
+     */
+    private static EventSummary toSummary(String eventId, Map<String, Object> fields) {
+        EventSummary event = new EventSummary();
+        event.id = eventId;
+        event.eventTime = longValue(fields.get("eventTime"), 0L);
+        event.endTime = longValue(fields.get("endTime"), null);
+        event.recurrence = (String) fields.get(RECURRENCE_FIELD);
+        event.exceptions = longList(fields.get("exceptions"));
+        String title = (String) fields.get("title");
+        event.title = title != null ? title : "";
+        Long cardColor = longValue(fields.get("cardColor"), null);
+        event.cardColor = cardColor != null ? cardColor.intValue() : null;
+        event.descriptionPreview = (String) fields.get("descriptionPreview");
+        if (event.descriptionPreview == null) {
+            // fall back to the description of older event documents
+            event.descriptionPreview = EventSummary.preview((String) fields.get("description"));
+        }
+        return event;
+    }
+
+    /**
+     * Converts an event document to an event. The description is read from
+     * the detail document separately.
+     *
+     * @param document The event document.
+     * @return The event, or {@code null} if the document doesn't exist.
+     */
+    static Event toEvent(DocumentSnapshot document) {
+        Map<String, Object> fields = document.getData();
+        return fields != null ? toEvent(document.getId(), fields) : null;
+    }
+
+    /**
+     * Converts event document fields to an event. Fields are read by name,
+     * so document fields the event doesn't have, like the mutation key and
+     * tombstone flag, are skipped without the class mapper's warnings.
+     *
+     * @param eventId The id of the event document.
+     * @param fields The event document fields.
+     * @return The event.
+     */
+    private static Event toEvent(String eventId, Map<String, Object> fields) {
+        String title = (String) fields.get("title");
+        Long cardColor = longValue(fields.get("cardColor"), null);
+        // older event documents hold the description themselves
+        Event event = new Event(eventId, (String) fields.get("userId"), longValue(fields.get("eventTime"), 0L),
+                title != null ? title : "", (String) fields.get("description"),
+                cardColor != null ? cardColor.intValue() : null);
+        event.endTime = longValue(fields.get("endTime"), null);
+        event.recurrence = (String) fields.get(RECURRENCE_FIELD);
+        event.exceptions = longList(fields.get("exceptions"));
+        event.version = longValue(fields.get(VERSION_FIELD), 0L);
+        Object updatedAt = fields.get(UPDATED_AT_FIELD);
+        event.updatedAt = updatedAt instanceof Timestamp ? ((Timestamp) updatedAt).toDate() : null;
+        return event;
+    }
+
+    /**
+     * Reads a whole number document field.
+     *
+     * @param value The field value.
+     * @param missing The value to use if the field is missing or not a number.
+     * @return The field value as a {@code Long}.
+     */
+    private static Long longValue(Object value, Long missing) {
+        return value instanceof Number ? ((Number) value).longValue() : missing;
+    }
+
+    /**
+     * Reads a list of whole numbers document field.
+     *
+     * @param value The field value.
+     * @return The numbers, or {@code null} if the field is missing.
+     */
+    private static List<Long> longList(Object value) {
+        if (!(value instanceof List)) {
+            return null;
+        }
+
+        List<Long> numbers = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            if (item instanceof Number) {
+                numbers.add(((Number) item).longValue());
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Publishes the store's upcoming events after a sync.
+     *
+     * @param store The event store that changed.
+     */
+    private void onStoreChanged(LocalEventStore store) {
+        serverEvents.clear();
+        serverEvents.addAll(store.upcoming(clock.now()));
+        publishEvents();
+    }
+
+    /**
+     * Gets the stream of local mutations that failed to save and were rolled back.
+     *
+     * @return LiveData holding the latest failure, or {@code null} once consumed.
+     */
+    public LiveData<MutationFailure> mutationFailures() {
+        return mutationFailures;
+    }
+
+    /**
+     * Clears the latest mutation failure after it has been shown.
+     */
+    public void consumeMutationFailure() {
+        mutationFailures.setValue(null);
+    }
+
+    /**
+     * Adds a new event. The event is added to the local list immediately and
+     * the callback receives its id without waiting for Firestore. The SMS event
+     * reminder is scheduled once Firestore acknowledges the write.
+     *
+     * @param event The event to add.
+     * @param callback Action receiving the added event's id.
+     */
+    public void add(Event event, OnEventAdded callback) {
+        String userId = authManager.getCurrentUserId();
+
+        if (userId == null) {
+            callback.onResult(null);
+            return;
+        }
+
+        // Have Firestore generate an event id and set it for the event
+        event.id = eventsCollection(userId).document().getId();
+        event.version = 1;
+
+        enqueue(MutationQueue.Mutation.add(userId, event));
+        callback.onResult(event.id);
+    }
+
+    /**
+     * Updates an existing event. Only the fields that differ from the original
+     * event are written, and the reminder is only rescheduled when the event
+     * time or title changed. The edit is applied to the local list immediately
+     * and the callback receives the event id without waiting for Firestore.
+     *
+     * <p>The write is a compare-and-set on the event version: the security rules
+     * only accept an update whose version is one more than the stored version.
+     * Without contention this is a single write. If the write is rejected, a
+     * transaction re-reads the event and either applies the edit or rolls it
+     * back and reports a conflict with the newer remote event.</p>
+     *
+     * @param original The event as it was loaded, before any edits.
+     * @param event The edited event to save.
+     * @param callback Action receiving the updated event's id.
+     */
+    public void update(Event original, Event event, OnEventUpdated callback) {
+        String userId = authManager.getCurrentUserId();
+
+        if (userId == null || event.id == null) {
+            callback.onResult(null);
+            return;
+        }
+
+        // nothing to write if no fields were edited
+        if (changedFields(original, event).isEmpty()
+                && Objects.equals(original.description, event.description)) {
+            callback.onResult(event.id);
+            return;
+        }
+
+        event.version = original.version + 1;
+        enqueue(MutationQueue.Mutation.update(userId, original, event));
+        callback.onResult(event.id);
+    }
+
+    /**
+     * Deletes an event. The event is removed from the local list immediately
+     * and the callback is triggered without waiting for Firestore. Any
+     * scheduled reminder is cancelled once Firestore acknowledges the delete.
+     *
+     * @param eventId The id of the event to delete.
+     * @param callback Action triggered after deletion.
+     */
+    public void delete(String eventId, onEventDeleted callback) {
+        String userId = authManager.getCurrentUserId();
+
+        if (userId == null || eventId == null) {
+            callback.onResult();
+            return;
+        }
+
+        enqueue(MutationQueue.Mutation.delete(userId, eventId));
+        callback.onResult();
+    }
+
+    /**
+     * Removes one occurrence of a repeating event, keeping the rest of the
+     * series. The series is updated with the occurrence added to its removed
+     * occurrences, as {@link #update(Event, Event, OnEventUpdated)} does.
+     *
+     * @param eventId The id of the repeating event.
+     * @param occurrenceTime The start time of the occurrence, in milliseconds.
+     * @param callback Action receiving the updated event's id, or {@code null}
+     *                 if the event couldn't be loaded.
+     */
+    public void removeOccurrence(String eventId, long occurrenceTime, OnEventUpdated callback) {
+        loadEvent(eventId, ReadPolicy.CACHE_THEN_SERVER, series -> {
+            if (series == null) {
+                callback.onResult(null);
+                return;
+            }
+            update(series, withoutOccurrence(series, occurrenceTime), callback);
+        }, null);
+    }
+
+    /**
+     * Copies a repeating event with one occurrence removed. Removed
+     * occurrences that have already passed are dropped, so the list doesn't
+     * grow for as long as the series runs.
+     *
+     * @param series The repeating event.
+     * @param occurrenceTime The start time of the occurrence, in milliseconds.
+     * @return The edited copy of the event.
+     */
+    public Event withoutOccurrence(Event series, long occurrenceTime) {
+        long now = clock.now();
+        Event edited = new Event(series);
+        List<Long> exceptions = new ArrayList<>();
+        if (series.exceptions != null) {
+            for (Long time : series.exceptions) {
+                if (time >= now) {
+                    exceptions.add(time);
+                }
+            }
+        }
+        if (!exceptions.contains(occurrenceTime)) {
+            exceptions.add(occurrenceTime);
+        }
+        edited.exceptions = exceptions;
+        return edited;
+    }
+
+    /**
+     * Imports the events of a calendar file for the signed in user.
+     *
+     * <p>The file is streamed on a background thread and its events are saved
+     * straight to Firestore in batches of {@link EventStore#MAX_BATCH_SIZE},
+     * each one batch write, rather than through the mutation queue. Reminders
+     * are scheduled as each batch is saved, and the events list picks the
+     * events up through the changes listener.</p>
+     *
+     * <p>A checkpoint is saved after each batch. Importing the same file
+     * again after a failure resumes after the last saved batch.</p>
+     *
+     * @param file The file to import. Closed when the import stops.
+     * @param source Identifies the file, such as its content URI, so a
+     *               checkpoint is only used for the same file.
+     * @param format The file's format.
+     * @param progress Action receiving the number of events saved so far, on
+     *                 the main thread.
+     * @param finished Action receiving the result on the main thread, or
+     *                 {@code null} if nobody is signed in or the file couldn't
+     *                 be read.
+     */
+    public void importEvents(ParcelFileDescriptor file, String source, EventFormat format,
+                             OnImportProgress progress, OnImportFinished finished) {
+        String userId = authManager.getCurrentUserId();
+
+        if (userId == null) {
+            closeQuietly(file);
+            finished.onResult(null);
+            return;
+        }
+
+        // a different user, file or file size starts a new import
+        String importSource = userId + "|" + source + "|" + file.getStatSize();
+        EventStore store = new RemindingEventStore(new FirestoreEventStore(firestore), reminderPlanner,
+                reminderScheduler);
+
+        transferExecutor.execute(() -> {
+            SharedPreferences preferences = application.getSharedPreferences(IMPORT_PREFERENCES,
+                    Context.MODE_PRIVATE);
+            EventImporter.Checkpoint checkpoint = EventImporter.Checkpoint.start();
+            if (importSource.equals(preferences.getString(IMPORT_SOURCE_KEY, null))) {
+                checkpoint = new EventImporter.Checkpoint(preferences.getString(IMPORT_ID_KEY, checkpoint.importId),
+                        preferences.getLong(IMPORT_POSITION_KEY, 0));
+            }
+
+            EventImporter.Result result = null;
+            Trace.beginSection("EventRepository.importEvents");
+            try (Reader text = Channels.newReader(new ParcelFileDescriptor.AutoCloseInputStream(file).getChannel(),
+                    StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE),
+                    TRANSFER_BUFFER_SIZE);
+                 EventReader reader = format.reader(text)) {
+                result = new EventImporter(store).run(reader, userId, checkpoint, saved -> {
+                    preferences.edit()
+                            .putString(IMPORT_SOURCE_KEY, importSource)
+                            .putString(IMPORT_ID_KEY, saved.importId)
+                            .putLong(IMPORT_POSITION_KEY, saved.position)
+                            .apply();
+                    mainHandler.post(() -> progress.onProgress(saved.position));
+                });
+            } catch (IOException exception) {
+                Log.d("EventRepository", "Failed to import events", exception);
+            } finally {
+                Trace.endSection();
+            }
+
+            if (result != null && result.complete) {
+                preferences.edit().clear().apply();
+            }
+            EventImporter.Result finalResult = result;
+            mainHandler.post(() -> finished.onResult(finalResult));
+        });
+    }
+
+    /**
+     * Exports all of the signed in user's events to a calendar file.
+     *
+     * <p>Events are read from Firestore a page at a time, ordered by time,
+     * and each page is written to the file's channel before the next is read,
+     * so the export never holds all of the events. Full descriptions are read
+     * from the detail documents only for events whose preview is truncated.</p>
+     *
+     * @param file The file to write. Closed when the export finishes.
+     * @param format The file's format.
+     * @param finished Action receiving the number of events exported on the
+     *                 main thread, or {@code null} if the export failed.
+     */
+    public void exportEvents(ParcelFileDescriptor file, EventFormat format, OnExportFinished finished) {
+        String userId = authManager.getCurrentUserId();
+
+        if (userId == null) {
+            closeQuietly(file);
+            finished.onResult(null);
+            return;
+        }
+
+        transferExecutor.execute(() -> {
+            Long exported = null;
+            Trace.beginSection("EventRepository.exportEvents");
+            try {
+                exported = writeEvents(userId, file, format);
+            } catch (IOException | ExecutionException | TimeoutException exception) {
+                Log.d("EventRepository", "Failed to export events", exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                Trace.endSection();
+            }
+
+            Long finalExported = exported;
+            mainHandler.post(() -> finished.onResult(finalExported));
+        });
+    }
+
+    /**
+     * Writes a user's events to a file, reading them page by page. Must be
+     * called on a background thread.
+     *
+     * @param userId The id of the user.
+     * @param file The file to write. Closed before returning.
+     * @param format The file's format.
+     * @return The number of events written.
+     * @throws IOException if the file can't be written.
+     * @throws ExecutionException if reading events failed.
+     * @throws InterruptedException if interrupted while reading events.
+     * @throws TimeoutException if a page of events took too long to read.
+     */
+    private long writeEvents(String userId, ParcelFileDescriptor file, EventFormat format)
+            throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        try (Writer text = new BufferedWriter(Channels.newWriter(
+                new ParcelFileDescriptor.AutoCloseOutputStream(file).getChannel(),
+                StandardCharsets.UTF_8.newEncoder(), TRANSFER_BUFFER_SIZE), TRANSFER_BUFFER_SIZE);
+             EventWriter writer = format.writer(text, clock.now())) {
+            long written = 0;
+            DocumentSnapshot last = null;
+            while (true) {
+                Query page = eventsCollection(userId).orderBy("eventTime").limit(EXPORT_PAGE_SIZE);
+                if (last != null) {
+                    page = page.startAfter(last);
+                }
+                QuerySnapshot snapshot = Tasks.await(page.get(), EXPORT_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                boolean fromCache = snapshot.getMetadata().isFromCache();
+                metrics.recordRead(snapshot.size(), fromCache);
+
+                // read the page's truncated descriptions in parallel
+                List<DocumentSnapshot> documents = snapshot.getDocuments();
+                List<Task<DocumentSnapshot>> details = new ArrayList<>(documents.size());
+                for (DocumentSnapshot document : documents) {
+                    String preview = document.getString("descriptionPreview");
+                    details.add(preview != null && preview.length() >= EventSummary.PREVIEW_LENGTH
+                            ? detailDocument(document.getReference()).get()
+                            : Tasks.forResult(null));
+                }
+                Tasks.await(Tasks.whenAllComplete(details), EXPORT_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+                for (int i = 0; i < documents.size(); i++) {
+                    DocumentSnapshot document = documents.get(i);
+                    if (Boolean.TRUE.equals(document.getBoolean(DELETED_FIELD))) {
+                        continue;
+                    }
+                    Event event = toEvent(document);
+                    if (event == null) {
+                        continue;
+                    }
+
+                    Task<DocumentSnapshot> detail = details.get(i);
+                    if (!detail.isSuccessful()) {
+                        throw new ExecutionException(detail.getException());
+                    }
+                    DocumentSnapshot detailSnapshot = detail.getResult();
+                    if (detailSnapshot != null && detailSnapshot.exists()) {
+                        metrics.recordRead(1, fromCache);
+                        event.description = detailSnapshot.getString("description");
+                    } else if (event.description == null) {
+                        // short descriptions are stored whole as the preview
+                        event.description = document.getString("descriptionPreview");
+                    }
+                    writer.write(event.toCalendarEvent());
+                    written++;
+                }
+
+                if (documents.size() < EXPORT_PAGE_SIZE) {
+                    return written;
+                }
+                last = documents.get(documents.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Closes a file that won't be read or written.
+     *
+     * @param file The file.
+     */
+    private static void closeQuietly(ParcelFileDescriptor file) {
+        try {
+            file.close();
+        } catch (IOException exception) {
+            Log.d("EventRepository", "Failed to close file", exception);
+        }
+    }
+
+    /**
+     * Records a mutation in the durable queue, publishes it to the local list
+     * and starts writing the queue if it is idle.
+     *
+     * @param mutation The mutation to record.
+     */
+    private void enqueue(MutationQueue.Mutation mutation) {
+        mutationQueue.enqueue(mutation, inFlight != null ? inFlight.key : null);
+        publishEvents();
+        replayQueue();
+    }
+
+    /**
+     * Writes the signed in user's queued mutations to Firestore one at a time,
+     * in the order they were made. Called after each mutation, on start, and
+     * whenever connectivity returns.
+     */
+    private void replayQueue() {
+        String userId = authManager.getCurrentUserId();
+        if (inFlight != null || userId == null) {
+            return;
+        }
+
+        MutationQueue.Mutation mutation = mutationQueue.peek(userId);
+        if (mutation == null) {
+            return;
+        }
+
+        inFlight = mutation;
+        inFlightStart = metrics.start();
+        writeMutation(mutation)
+                .addOnCompleteListener(task -> {
+                    if (task.isSuccessful()) {
+                        onAcknowledged(mutation);
+                    } else if (mutation.type != MutationQueue.Type.DELETE
+                            && isRejectedWrite(task.getException())) {
+                        // either this write was already applied before a restart, or
+                        // the stored version moved on; resolve in a transaction
+                        resolveRejectedWrite(mutation);
+                    } else {
+                        onFailed(mutation, new MutationFailure(failureMessage(mutation), null, null));
+                    }
+                });
+    }
+
+    /**
+     * Resolves a mutation whose compare-and-set write was rejected. Reads the
+     * stored event and checks whether the mutation was already applied by an
+     * earlier attempt. Otherwise, an update is applied if the stored version
+     * still matches the original, and a conflict is reported if it does not.
+     *
+     * @param mutation The rejected mutation.
+     */
+    private void resolveRejectedWrite(MutationQueue.Mutation mutation) {
+        DocumentReference eventDocument = eventsCollection(mutation.userId).document(mutation.eventId);
+
+        firestore.runTransaction(transaction -> {
+                    DocumentSnapshot snapshot = transaction.get(eventDocument);
+                    DocumentSnapshot detailSnapshot = transaction.get(detailDocument(eventDocument));
+                    Event remote = toEvent(snapshot);
+
+                    if (remote == null || Boolean.TRUE.equals(snapshot.getBoolean(DELETED_FIELD))) {
+                        throw new FirebaseFirestoreException("Event not found.",
+                                FirebaseFirestoreException.Code.NOT_FOUND);
+                    }
+
+                    // the idempotency key shows this mutation was already written
+                    if (mutation.key.equals(snapshot.getString(MUTATION_KEY_FIELD))) {
+                        return null;
+                    }
+
+                    if (mutation.type == MutationQueue.Type.ADD
+                            || remote.version != mutation.original.version) {
+                        // return the newer remote event to report the conflict
+                        if (detailSnapshot.exists()) {
+                            remote.description = detailSnapshot.getString("description");
+                        }
+                        return remote;
+                    }
+
+                    transaction.update(eventDocument, updateFields(mutation));
+                    if (!Objects.equals(mutation.original.description, mutation.event.description)) {
+                        transaction.set(detailDocument(eventDocument),
+                                detailFields(mutation.event), SetOptions.merge());
+                    }
+                    return null;
+                })
+                .addOnCompleteListener(task -> {
+                    // transactions always read the event and detail documents from the server
+                    metrics.recordRead(2, false);
+
+                    if (!task.isSuccessful()) {
+                        onFailed(mutation, new MutationFailure(failureMessage(mutation), null, null));
+                    } else if (task.getResult() != null) {
+                        Event local = new Event(mutation.event);
+                        local.version = mutation.type == MutationQueue.Type.ADD
+                                ? 0 : mutation.original.version;
+                        onFailed(mutation, new MutationFailure(
+                                "\"" + local.title + "\" was changed on another device.",
+                                local, task.getResult()));
+                    } else {
+                        onAcknowledged(mutation);
+                    }
+                });
+    }
+
+    /**
+     * Removes an acknowledged mutation from the queue and applies its reminder
+     * side effects, then continues with the next queued mutation.
+     *
+     * @param mutation The acknowledged mutation.
+     */
+    private void onAcknowledged(MutationQueue.Mutation mutation) {
+        mutationQueue.remove(mutation.key);
+        inFlight = null;
+        metrics.record(operation(mutation), inFlightStart);
+
+        switch (mutation.type) {
+            case ADD:
+                scheduleReminder(mutation.event);
+                break;
+            case UPDATE:
+                // Only reschedule the reminder if its time, message or repeats changed
+                if (mutation.original.eventTime != mutation.event.eventTime
+                        || !mutation.original.title.equals(mutation.event.title)
+                        || !Objects.equals(mutation.original.recurrence, mutation.event.recurrence)
+                        || !Objects.equals(mutation.original.exceptions, mutation.event.exceptions)) {
+                    reminderScheduler.cancel(mutation.eventId);
+                    scheduleReminder(mutation.event);
+                }
+                break;
+            case DELETE:
+                reminderScheduler.cancel(mutation.eventId);
+                break;
+        }
+
+        publishEvents();
+        replayQueue();
+    }
+
+    /**
+     * Drops a failed mutation from the queue, restoring the last state
+     * received from Firestore, and reports the failure. Then continues with the
+     * next queued mutation.
+     *
+     * @param mutation The failed mutation.
+     * @param failure The failure to report.
+     */
+    private void onFailed(MutationQueue.Mutation mutation, MutationFailure failure) {
+        mutationQueue.remove(mutation.key);
+        inFlight = null;
+        metrics.record(operation(mutation), inFlightStart);
+        publishEvents();
+        mutationFailures.setValue(failure);
+        replayQueue();
+    }
+
+    /**
+     * Gets the metrics operation a mutation is timed as.
+     *
+     * @param mutation The mutation.
+     * @return The repository operation.
+     */
+    private static RepositoryMetrics.Operation operation(MutationQueue.Mutation mutation) {
+        switch (mutation.type) {
+            case ADD:
+                return RepositoryMetrics.Operation.ADD;
+            case UPDATE:
+                return RepositoryMetrics.Operation.UPDATE;
+            default:
+                return RepositoryMetrics.Operation.DELETE;
+        }
+    }
+
+    /**
+     * Builds the message shown when a mutation could not be saved.
+     *
+     * @param mutation The failed mutation.
+     * @return The failure message.
+     */
+    private static String failureMessage(MutationQueue.Mutation mutation) {
+        switch (mutation.type) {
+            case ADD:
+                return "Couldn't add \"" + mutation.event.title + "\".";
+            case UPDATE:
+                return "Couldn't save changes to \"" + mutation.event.title + "\".";
+            default:
+                return "Couldn't delete event.";
+        }
+    }
+
+    /**
+     * Checks if a failed write was rejected by the version precondition.
+     *
+     * @param exception The exception from the failed write.
+     * @return {@code true} if the write was rejected, {@code false} otherwise.
+     */
+    private static boolean isRejectedWrite(Exception exception) {
+        if (!(exception instanceof FirebaseFirestoreException)) {
+            return false;
+        }
+
+        FirebaseFirestoreException.Code code = ((FirebaseFirestoreException) exception).getCode();
+        return code == FirebaseFirestoreException.Code.PERMISSION_DENIED
+                || code == FirebaseFirestoreException.Code.FAILED_PRECONDITION;
+    }
+
+    /**
+     * Publishes the events received from Firestore with the signed in user's
+     * queued mutations applied on top, in order.
+     */
+    private void publishEvents() {
+        // the store's first publish replaces the list snapshot
+        if (listeningUserId != null && eventStore == null) {
+            return;
+        }
+
+        List<EventSummary> events = withPendingMutations(serverEvents, listeningUserId);
+        eventsList.setValue(events);
+
+        if (listeningUserId != null) {
+            File file = snapshotFile(listeningUserId);
+            diskExecutor.execute(() -> EventListSnapshot.write(file, events));
+        }
+    }
+
+    /**
+     * Applies a user's queued mutations, in order, on top of events read from Firestore.
+     *
+     * @param events The events read from Firestore.
+     * @param userId The id of the user, or {@code null} if no user is signed in.
+     * @return The upcoming events with local changes applied, ordered by time.
+     */
+    private List<EventSummary> withPendingMutations(List<EventSummary> events, String userId) {
+        Map<String, EventSummary> merged = new LinkedHashMap<>();
+        for (EventSummary event : events) {
+            merged.put(event.id, event);
+        }
+
+        if (userId != null) {
+            for (MutationQueue.Mutation mutation : mutationQueue.pending(userId)) {
+                if (mutation.type == MutationQueue.Type.DELETE) {
+                    merged.remove(mutation.eventId);
+                } else {
+                    EventSummary event = EventSummary.from(mutation.event);
+                    event.pending = true;
+                    merged.put(mutation.eventId, event);
+                }
+            }
+        }
+
+        // local edits may have moved an event into the past or ended a series
+        long now = clock.now();
+        List<EventSummary> upcoming = new ArrayList<>(merged.values());
+        upcoming.removeIf(event -> !Occurrences.isUpcoming(event, now));
+        upcoming.sort(Comparator.comparingLong(event -> event.eventTime));
+        return upcoming;
+    }
+
+    /**
+     * Starts replaying the mutation queue whenever a network becomes available.
+     */
+    private void registerNetworkCallback() {
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) application.getSystemService(Context.CONNECTIVITY_SERVICE);
+
+        if (connectivityManager == null) {
+            return;
+        }
+
+        connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onAvailable(@NonNull Network network) {
+                mainHandler.post(EventRepository.this::replayQueue);
+            }
+        });
+    }
+
+    /**
+     * Gets a reference to a user's events collection.
+     *
+     * @param userId The id of the user.
+     * @return The user's events collection.
+     */
+    private CollectionReference eventsCollection(String userId) {
+        return firestore.collection("users").document(userId).collection("events");
+    }
+
+    /**
+     * Gets the file holding a user's events list snapshot.
+     *
+     * @param userId The id of the user.
+     * @return The snapshot file.
+     */
+    private File snapshotFile(String userId) {
+        return new File(application.getFilesDir(), SNAPSHOT_FILE_PREFIX + userId + ".bin");
+    }
+
+    /**
+     * Gets the query for a user's events that have not started yet, ordered by time.
+     *
+     * @param userId The id of the user.
+     * @return The upcoming events query.
+     */
+    private Query upcomingEventsQuery(String userId) {
+        return eventsCollection(userId)
+                .whereGreaterThanOrEqualTo("eventTime", clock.now())
+                .orderBy("eventTime", Query.Direction.ASCENDING);
+    }
+
+    /**
+     * Gets the query for a user's repeating events. A series is stored once
+     * with its first occurrence's time, which may have passed, so it's read
+     * by rule rather than by time.
+     *
+     * @param userId The id of the user.
+     * @return The repeating events query.
+     */
+    private Query recurringEventsQuery(String userId) {
+        return eventsCollection(userId).whereNotEqualTo(RECURRENCE_FIELD, null);
+    }
 
-        String startTimeMessage = new SimpleDateFormat("MMM d, h:mm a", Locale.getDefault())
-                .format(new Date(event.eventTime));
-        String reminderMessage = "Friendly Reminder: " + event.title + " is starting at " + startTimeMessage;
-        EventReminderManager.schedule(application, event.id, twoHoursBeforeEventTime, reminderMessage);
+    /**
+     * Reads a user's upcoming events and repeating events. A repeating event
+     * that hasn't started yet is in both results.
+     *
+     * @param userId The id of the user.
+     * @param source Where to read the events from.
+     * @return Task with the upcoming and repeating event documents.
+     */
+    private Task<List<QuerySnapshot>> upcomingDocuments(String userId, Source source) {
+        return Tasks.whenAllSuccess(
+                upcomingEventsQuery(userId).get(source),
+                recurringEventsQuery(userId).get(source));
+    }
+
+    /**
+     * Gets a reference to the detail document holding an event's full description.
+     *
+     * @param eventDocument The event document.
+     * @return The event's detail document.
+     */
+    static DocumentReference detailDocument(DocumentReference eventDocument) {
+        return eventDocument.collection(DETAILS_COLLECTION).document(DETAILS_DOCUMENT);
+    }
+
+    /**
+     * Writes a queued mutation to Firestore. Adds and updates write the event
+     * document and, if needed, the detail document in one batch, tagged with
+     * the mutation's idempotency key.
+     *
+     * @param mutation The mutation to write.
+     * @return The task for the batch commit.
+     */
+    private Task<Void> writeMutation(MutationQueue.Mutation mutation) {
+        DocumentReference eventDocument = eventsCollection(mutation.userId).document(mutation.eventId);
+        WriteBatch batch = firestore.batch();
+        int documents = 2;
+
+        switch (mutation.type) {
+            case ADD:
+                Map<String, Object> fields = summaryFields(mutation.event);
+                fields.put(MUTATION_KEY_FIELD, mutation.key);
+                batch.set(eventDocument, fields);
+                batch.set(detailDocument(eventDocument), detailFields(mutation.event));
+                break;
+            case UPDATE:
+                batch.update(eventDocument, updateFields(mutation));
+                if (!Objects.equals(mutation.original.description, mutation.event.description)) {
+                    batch.set(detailDocument(eventDocument), detailFields(mutation.event), SetOptions.merge());
+                } else {
+                    documents = 1;
+                }
+                break;
+            case DELETE:
+                // keep a tombstone so delta syncs on other devices see the deletion.
+                // Bumping the version makes any write based on the deleted event
+                // fail the compare-and-set and go through the conflict path
+                Map<String, Object> tombstone = new HashMap<>();
+                tombstone.put(DELETED_FIELD, true);
+                tombstone.put(VERSION_FIELD, FieldValue.increment(1));
+                tombstone.put(UPDATED_AT_FIELD, FieldValue.serverTimestamp());
+                tombstone.put(MUTATION_KEY_FIELD, mutation.key);
+                batch.set(eventDocument, tombstone, SetOptions.merge());
+                batch.delete(detailDocument(eventDocument));
+                break;
+        }
+
+        int written = documents;
+        return batch.commit().addOnSuccessListener(unused -> metrics.recordWrite(written));
+    }
+
+    /**
+     * Builds the event document fields written by a queued update: the changed
+     * fields, the new version and the mutation's idempotency key.
+     *
+     * @param mutation The update mutation.
+     * @return The event document fields to update.
+     */
+    private static Map<String, Object> updateFields(MutationQueue.Mutation mutation) {
+        Map<String, Object> changes = changedFields(mutation.original, mutation.event);
+        changes.put(VERSION_FIELD, mutation.event.version);
+        changes.put(UPDATED_AT_FIELD, FieldValue.serverTimestamp());
+        changes.put(MUTATION_KEY_FIELD, mutation.key);
+        return changes;
+    }
+
+    /**
+     * Builds the fields stored on an event's detail document.
+     *
+     * @param event The event to convert.
+     * @return The detail document fields.
+     */
+    static Map<String, Object> detailFields(Event event) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("description", event.description);
+        return detail;
+    }
+
+    /**
+     * Builds the fields stored on an event document. The full description is
+     * replaced with a short preview.
+     *
+     * @param event The event to convert.
+     * @return The event document fields.
+     */
+    static Map<String, Object> summaryFields(Event event) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("id", event.id);
+        fields.put("userId", event.userId);
+        fields.put("eventTime", event.eventTime);
+        fields.put("endTime", event.endTime);
+        fields.put(RECURRENCE_FIELD, event.recurrence);
+        fields.put("exceptions", event.exceptions);
+        fields.put("title", event.title);
+        fields.put("cardColor", event.cardColor);
+        fields.put("descriptionPreview", EventSummary.preview(event.description));
+        fields.put(VERSION_FIELD, event.version);
+        fields.put(UPDATED_AT_FIELD, FieldValue.serverTimestamp());
+        return fields;
+    }
+
+    /**
+     * Builds the event document fields that differ between the original and
+     * edited event.
+     *
+     * @param original The event before editing.
+     * @param event The edited event.
+     * @return The changed event document fields, empty if nothing changed.
+     */
+    private static Map<String, Object> changedFields(Event original, Event event) {
+        Map<String, Object> changes = new HashMap<>();
+        if (original.eventTime != event.eventTime) {
+            changes.put("eventTime", event.eventTime);
+        }
+        if (!Objects.equals(original.endTime, event.endTime)) {
+            changes.put("endTime", event.endTime);
+        }
+        if (!Objects.equals(original.recurrence, event.recurrence)) {
+            changes.put(RECURRENCE_FIELD, event.recurrence);
+        }
+        if (!Objects.equals(original.exceptions, event.exceptions)) {
+            changes.put("exceptions", event.exceptions);
+        }
+        if (!original.title.equals(event.title)) {
+            changes.put("title", event.title);
+        }
+        if (!Objects.equals(original.cardColor, event.cardColor)) {
+            changes.put("cardColor", event.cardColor);
+        }
+
+        String preview = EventSummary.preview(event.description);
+        if (!Objects.equals(EventSummary.preview(original.description), preview)) {
+            changes.put("descriptionPreview", preview);
+        }
+        return changes;
+    }
+
+    /**
+     * Schedules an event reminder to be sent two hours before the event time.
+     *
+     * @param event The event to schedule a reminder for.
+     */
+    private void scheduleReminder(Event event) {
+        ReminderPlanner.Reminder reminder = reminderPlanner.plan(event);
+        if (reminder != null) {
+            reminderScheduler.schedule(reminder);
+        }
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * FirestoreEventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.repo;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+import com.jeffblagg.eventtracker.store.EventStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link EventStore} backed directly by Firestore, using the same document
+ * layout as {@link EventRepository}: an event document with a description
+ * preview, a detail document with the full description, and tombstones for
+ * deleted events.
+ *
+ * <p>Unlike the repository, changes are written straight to Firestore with
+ * no local mutation queue. Callbacks are called on the main thread.</p>
+ */
+public class FirestoreEventStore implements EventStore {
+    private final FirebaseFirestore firestore;
+
+    /**
+     * Document reads and writes made by this store.
+     */
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+
+    /**
+     * FirestoreEventStore constructor.
+     *
+     * @param firestore The Firestore instance to read and write events with.
+     */
+    public FirestoreEventStore(FirebaseFirestore firestore) {
+        this.firestore = firestore;
+    }
+
+    /**
+     * Gets the store's Firestore read and write counts.
+     *
+     * @return The store metrics.
+     */
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void getEvent(String userId, String eventId, OnEventLoaded callback) {
+        EventRepository.readEvent(eventsCollection(userId).document(eventId), Source.DEFAULT, metrics,
+                callback::onResult);
+    }
+
+    @Override
+    public void getUpcomingEvents(String userId, long from, OnEventsLoaded callback) {
+        Task<QuerySnapshot> upcoming = eventsCollection(userId)
+                .whereGreaterThanOrEqualTo("eventTime", from)
+                .orderBy("eventTime", Query.Direction.ASCENDING)
+                .get();
+        // repeating events that started earlier are read by rule
+        Task<QuerySnapshot> recurring = eventsCollection(userId)
+                .whereNotEqualTo(EventRepository.RECURRENCE_FIELD, null)
+                .get();
+
+        Tasks.<QuerySnapshot>whenAllSuccess(upcoming, recurring).addOnCompleteListener(task -> {
+            if (!task.isSuccessful()) {
+                metrics.recordRead(0, false);
+                callback.onResult(null);
+                return;
+            }
+
+            Map<String, EventSummary> events = new LinkedHashMap<>();
+            for (QuerySnapshot snapshot : task.getResult()) {
+                metrics.recordRead(snapshot.size(), snapshot.getMetadata().isFromCache());
+                for (DocumentSnapshot document : snapshot.getDocuments()) {
+                    EventSummary event = EventRepository.toSummary(document);
+                    if (event != null && Occurrences.isUpcoming(event, from)) {
+                        events.put(event.id, event);
+                    }
+                }
+            }
+
+            List<EventSummary> sorted = new ArrayList<>(events.values());
+            sorted.sort(Comparator.comparingLong(event -> event.eventTime));
+            callback.onResult(sorted);
+        });
+    }
+
+    @Override
+    public void add(Event event, OnEventSaved callback) {
+        CollectionReference events = eventsCollection(event.userId);
+        DocumentReference eventDocument = event.id != null ? events.document(event.id) : events.document();
+
+        // the security rules only accept new event documents at version 1
+        Event saved = new Event(event);
+        saved.id = eventDocument.getId();
+        saved.version = 1;
+
+        WriteBatch batch = firestore.batch();
+        batch.set(eventDocument, EventRepository.summaryFields(saved));
+        batch.set(EventRepository.detailDocument(eventDocument), EventRepository.detailFields(saved));
+        batch.commit().addOnCompleteListener(task -> {
+            if (task.isSuccessful()) {
+                metrics.recordWrite(2);
+            }
+            callback.onResult(task.isSuccessful() ? saved.id : null);
+        });
+    }
+
+    @Override
+    public void addAll(List<Event> events, OnEventsSaved callback) {
+        if (events.size() > MAX_BATCH_SIZE) {
+            callback.onResult(null);
+            return;
+        }
+
+        // one batch, so the events are committed together or not at all
+        WriteBatch batch = firestore.batch();
+        List<String> eventIds = new ArrayList<>(events.size());
+        for (Event event : events) {
+            CollectionReference collection = eventsCollection(event.userId);
+            DocumentReference eventDocument = event.id != null ? collection.document(event.id) : collection.document();
+
+            Event saved = new Event(event);
+            saved.id = eventDocument.getId();
+            saved.version = 1;
+            batch.set(eventDocument, EventRepository.summaryFields(saved));
+            batch.set(EventRepository.detailDocument(eventDocument), EventRepository.detailFields(saved));
+            eventIds.add(saved.id);
+        }
+
+        batch.commit().addOnCompleteListener(task -> {
+            if (task.isSuccessful()) {
+                metrics.recordWrite(2 * events.size());
+            }
+            callback.onResult(task.isSuccessful() ? eventIds : null);
+        });
+    }
+
+    @Override
+    public void update(Event event, OnEventSaved callback) {
+        if (event.id == null) {
+            callback.onResult(null);
+            return;
+        }
+
+        DocumentReference eventDocument = eventsCollection(event.userId).document(event.id);
+
+        // read and write in a transaction so a missing or deleted event is never
+        // recreated, and the write is based on the stored version as the
+        // security rules require
+        firestore.runTransaction(transaction -> {
+            DocumentSnapshot snapshot = transaction.get(eventDocument);
+            if (!snapshot.exists() || Boolean.TRUE.equals(snapshot.getBoolean(EventRepository.DELETED_FIELD))) {
+                return false;
+            }
+
+            Long storedVersion = snapshot.getLong(EventRepository.VERSION_FIELD);
+            Event saved = new Event(event);
+            saved.version = (storedVersion != null ? storedVersion : 0) + 1;
+            transaction.set(eventDocument, EventRepository.summaryFields(saved));
+            transaction.set(EventRepository.detailDocument(eventDocument), EventRepository.detailFields(saved));
+            return true;
+        }).addOnCompleteListener(task -> {
+            boolean updated = task.isSuccessful() && Boolean.TRUE.equals(task.getResult());
+            metrics.recordRead(1, false);
+            if (updated) {
+                metrics.recordWrite(2);
+            }
+            callback.onResult(updated ? event.id : null);
+        });
+    }
+
+    @Override
+    public void delete(String userId, String eventId, OnEventDeleted callback) {
+        DocumentReference eventDocument = eventsCollection(userId).document(eventId);
+
+        // keep a tombstone so delta syncs see the deletion, bumping the version
+        // as the rules require
+        Map<String, Object> tombstone = new HashMap<>();
+        tombstone.put(EventRepository.DELETED_FIELD, true);
+        tombstone.put(EventRepository.VERSION_FIELD, FieldValue.increment(1));
+        tombstone.put(EventRepository.UPDATED_AT_FIELD, FieldValue.serverTimestamp());
+
+        WriteBatch batch = firestore.batch();
+        batch.set(eventDocument, tombstone, SetOptions.merge());
+        batch.delete(EventRepository.detailDocument(eventDocument));
+        batch.commit().addOnCompleteListener(task -> {
+            if (task.isSuccessful()) {
+                metrics.recordWrite(2);
+            }
+            callback.onResult(task.isSuccessful());
+        });
+    }
+
+    /**
+     * Gets a reference to a user's events collection.
+     *
+     * @param userId The id of the user.
+     * @return The user's events collection.
+     */
+    private CollectionReference eventsCollection(String userId) {
+        return firestore.collection("users").document(userId).collection("events");
+    }
+}
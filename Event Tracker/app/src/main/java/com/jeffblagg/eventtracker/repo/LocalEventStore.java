@@ -0,0 +1,389 @@
+/*
+ * LocalEventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.repo;
+
+import com.google.firebase.Timestamp;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+import com.jeffblagg.eventtracker.search.EventSearchIndex;
+import com.jeffblagg.eventtracker.search.TitleSuggestions;
+
+import android.util.Log;
+
+import androidx.tracing.Trace;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local copy of a user's synced event summaries and the sync watermark.
+ *
+ * <p>The watermark is the newest server {@code updatedAt} time merged into
+ * the store. After the first full sync, only documents changed after the
+ * watermark are read from Firestore and merged in, including deletion
+ * tombstones. The store is persisted to app storage so cold starts and
+ * reconnects also only read what changed.</p>
+ *
+ * <p>An {@link EventSearchIndex} over the stored events is updated with each
+ * merged change, so searching never scans the events. The stored events'
+ * titles also feed the {@link TitleSuggestions} used to autocomplete new
+ * event titles, and an {@link EventIntervalTree} of the events' times finds
+ * overlapping events and free time. Repeating events are kept out of the
+ * tree and their occurrences are expanded only for the range queried.</p>
+ *
+ * <p>The store is loaded on a background thread and only accessed from the
+ * main thread after that. Writes to disk happen in order on a background
+ * thread.</p>
+ */
+final class LocalEventStore {
+    private final File file;
+    private final Map<String, EventSummary> events = new HashMap<>();
+    private final EventSearchIndex searchIndex = new EventSearchIndex();
+    private final TitleSuggestions<String> titleSuggestions = new TitleSuggestions<>();
+    private final EventIntervalTree<String> intervals = new EventIntervalTree<>();
+    private final Map<String, EventSummary> recurring = new HashMap<>();
+    private Timestamp watermark;
+
+    /**
+     * Single thread executor so store snapshots are written in order.
+     */
+    private final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * LocalEventStore constructor. Loads the store persisted by a previous run.
+     *
+     * @param file The file the store is persisted to.
+     */
+    LocalEventStore(File file) {
+        this.file = file;
+
+        Trace.beginSection("LocalEventStore.load");
+        try {
+            load();
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Gets the sync watermark.
+     *
+     * @return The newest server update time merged into the store, or
+     * {@code null} if no full sync has completed yet.
+     */
+    Timestamp getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Gets the title suggestions drawn from the stored events. Unlike the
+     * rest of the store, they may be read from any thread.
+     *
+     * @return The title suggestions, updated as the store changes.
+     */
+    TitleSuggestions<String> getTitleSuggestions() {
+        return titleSuggestions;
+    }
+
+    /**
+     * Adds or replaces an event in the store.
+     *
+     * @param event The event summary.
+     * @param updatedAt The server update time of the event, or {@code null} if
+     *                  the change has not been acknowledged by the server yet.
+     */
+    void put(EventSummary event, Timestamp updatedAt) {
+        index(event);
+        advanceWatermark(updatedAt);
+    }
+
+    /**
+     * Removes a deleted event from the store.
+     *
+     * @param eventId The id of the deleted event.
+     * @param updatedAt The server time of the deletion, or {@code null} if unknown.
+     */
+    void remove(String eventId, Timestamp updatedAt) {
+        events.remove(eventId);
+        searchIndex.remove(eventId);
+        titleSuggestions.remove(eventId);
+        intervals.remove(eventId);
+        recurring.remove(eventId);
+        advanceWatermark(updatedAt);
+    }
+
+    /**
+     * Marks a full sync as complete. Later syncs only read documents changed
+     * after the watermark.
+     *
+     * @param syncTime The server time taken before the full sync read the
+     *                 events. It replaces the watermark, even if merged events
+     *                 carried newer update times, so nothing changed while
+     *                 the sync was reading is skipped.
+     */
+    void completeFullSync(Timestamp syncTime) {
+        watermark = syncTime;
+    }
+
+    /**
+     * Removes every event and the watermark, before a full sync.
+     */
+    void clear() {
+        events.clear();
+        searchIndex.clear();
+        titleSuggestions.clear();
+        intervals.clear();
+        recurring.clear();
+        watermark = null;
+    }
+
+    /**
+     * Gets the stored events that have not started yet, and the repeating
+     * events with occurrences that haven't, ordered by time.
+     *
+     * @param now The current time, in milliseconds.
+     * @return The upcoming event summaries.
+     */
+    List<EventSummary> upcoming(long now) {
+        List<EventSummary> upcoming = new ArrayList<>();
+        for (EventSummary event : events.values()) {
+            if (Occurrences.isUpcoming(event, now)) {
+                upcoming.add(event);
+            }
+        }
+        upcoming.sort(Comparator.comparingLong(event -> event.eventTime));
+        return upcoming;
+    }
+
+    /**
+     * Searches the titles and description previews of the stored events that
+     * have not started yet.
+     *
+     * @param query The search query.
+     * @param now The current time, in milliseconds.
+     * @param limit The maximum number of results.
+     * @return The matching event summaries, best match first.
+     */
+    List<EventSummary> search(String query, long now, int limit) {
+        return searchIndex.search(query, now, limit);
+    }
+
+    /**
+     * Finds the stored events whose time overlaps a time range.
+     *
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds, or {@code null} for
+     *            the instant at {@code start}.
+     * @return The overlapping event summaries, ordered by start time.
+     *         Repeating events are included as their overlapping occurrences.
+     */
+    List<EventSummary> overlapping(long start, Long end) {
+        List<EventSummary> overlapping = new ArrayList<>();
+        for (String eventId : intervals.overlapping(start, end)) {
+            overlapping.add(events.get(eventId));
+        }
+        if (!recurring.isEmpty()) {
+            for (EventSummary series : recurring.values()) {
+                overlapping.addAll(Occurrences.overlapping(series, start, end));
+            }
+            overlapping.sort(Comparator.comparingLong(event -> event.eventTime));
+        }
+        return overlapping;
+    }
+
+    /**
+     * Finds the free time between the stored events in a time range.
+     *
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds.
+     * @param minDuration The shortest free time to include, in milliseconds.
+     * @return The free time ranges, in order.
+     */
+    List<EventIntervalTree.TimeRange> freeTime(long start, long end, long minDuration) {
+        if (recurring.isEmpty()) {
+            return intervals.freeTime(start, end, minDuration);
+        }
+
+        // index the range's events and occurrences on their own, a range holds few of them
+        EventIntervalTree<Integer> busy = new EventIntervalTree<>();
+        for (EventSummary event : overlapping(start, end)) {
+            busy.put(busy.size(), event.eventTime, event.endTime);
+        }
+        return busy.freeTime(start, end, minDuration);
+    }
+
+    /**
+     * Persists the store, dropping events that are already over.
+     *
+     * @param now The current time, in milliseconds.
+     */
+    void save(long now) {
+        Iterator<EventSummary> iterator = events.values().iterator();
+        while (iterator.hasNext()) {
+            EventSummary event = iterator.next();
+            // keep events in progress, they still take up time
+            long duration = event.endTime != null ? Math.max(0, event.endTime - event.eventTime) : 0;
+            if (Occurrences.next(event, now - duration) == null) {
+                iterator.remove();
+                searchIndex.remove(event.id);
+                titleSuggestions.remove(event.id);
+                intervals.remove(event.id);
+                recurring.remove(event.id);
+            }
+        }
+
+        String json;
+        try {
+            JSONObject store = new JSONObject();
+            if (watermark != null) {
+                store.put("watermarkSeconds", watermark.getSeconds());
+                store.put("watermarkNanos", watermark.getNanoseconds());
+            }
+
+            JSONArray array = new JSONArray();
+            for (EventSummary event : events.values()) {
+                JSONObject item = new JSONObject();
+                item.put("id", event.id);
+                item.put("eventTime", event.eventTime);
+                item.put("endTime", event.endTime);
+                item.put("recurrence", event.recurrence);
+                if (event.exceptions != null) {
+                    item.put("exceptions", new JSONArray(event.exceptions));
+                }
+                item.put("title", event.title);
+                item.put("cardColor", event.cardColor);
+                item.put("descriptionPreview", event.descriptionPreview);
+                array.put(item);
+            }
+            store.put("events", array);
+            json = store.toString();
+        } catch (JSONException exception) {
+            Log.d("LocalEventStore", "JSON Exception " + exception);
+            return;
+        }
+
+        diskExecutor.execute(() -> {
+            File temp = new File(file.getPath() + ".tmp");
+            try (FileOutputStream output = new FileOutputStream(temp)) {
+                output.write(json.getBytes(StandardCharsets.UTF_8));
+                output.getFD().sync();
+            } catch (IOException exception) {
+                Log.d("LocalEventStore", "Failed to write store", exception);
+                return;
+            }
+
+            if (!temp.renameTo(file)) {
+                Log.d("LocalEventStore", "Failed to replace store file");
+            }
+        });
+    }
+
+    /**
+     * Adds or replaces an event in the store and its indexes.
+     *
+     * @param event The event summary.
+     */
+    private void index(EventSummary event) {
+        indexSchedule(event);
+        titleSuggestions.put(event.id, event.title);
+    }
+
+    /**
+     * Adds or replaces an event in the store and every index except the
+     * title suggestions.
+     *
+     * @param event The event summary.
+     */
+    private void indexSchedule(EventSummary event) {
+        events.put(event.id, event);
+        searchIndex.put(event);
+        if (Occurrences.isRecurring(event.recurrence)) {
+            intervals.remove(event.id);
+            recurring.put(event.id, event);
+        } else {
+            recurring.remove(event.id);
+            intervals.put(event.id, event.eventTime, event.endTime);
+        }
+    }
+
+    /**
+     * Moves the watermark forward to a newer server update time.
+     *
+     * @param updatedAt The server update time.
+     */
+    private void advanceWatermark(Timestamp updatedAt) {
+        if (updatedAt != null && (watermark == null || updatedAt.compareTo(watermark) > 0)) {
+            watermark = updatedAt;
+        }
+    }
+
+    /**
+     * Loads the persisted store, if one exists.
+     */
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            JSONObject store = new JSONObject(json);
+
+            if (store.has("watermarkSeconds")) {
+                watermark = new Timestamp(store.getLong("watermarkSeconds"), store.getInt("watermarkNanos"));
+            }
+
+            JSONArray array = store.getJSONArray("events");
+            Map<String, String> titles = new HashMap<>(array.length() * 2);
+            for (int i = 0; i < array.length(); i++) {
+                JSONObject item = array.getJSONObject(i);
+                EventSummary event = new EventSummary();
+                event.id = item.getString("id");
+                event.eventTime = item.getLong("eventTime");
+                event.endTime = item.has("endTime") ? item.getLong("endTime") : null;
+                event.recurrence = item.has("recurrence") ? item.getString("recurrence") : null;
+                if (item.has("exceptions")) {
+                    JSONArray exceptions = item.getJSONArray("exceptions");
+                    event.exceptions = new ArrayList<>(exceptions.length());
+                    for (int e = 0; e < exceptions.length(); e++) {
+                        event.exceptions.add(exceptions.getLong(e));
+                    }
+                }
+                event.title = item.getString("title");
+                event.cardColor = item.has("cardColor") ? item.getInt("cardColor") : null;
+                event.descriptionPreview = item.has("descriptionPreview")
+                        ? item.getString("descriptionPreview") : null;
+                indexSchedule(event);
+                titles.put(event.id, event.title);
+            }
+            // built in one pass rather than once per event
+            titleSuggestions.putAll(titles);
+        } catch (IOException | JSONException exception) {
+            // start over with a full sync if the store can't be read
+            Log.d("LocalEventStore", "Failed to load store", exception);
+            clear();
+        }
+    }
+}
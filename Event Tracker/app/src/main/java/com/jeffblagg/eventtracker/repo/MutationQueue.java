@@ -0,0 +1,335 @@
+/*
+ * MutationQueue.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.repo;
+
+import com.jeffblagg.eventtracker.entities.Event;
+
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Durable, ordered queue of event mutations waiting to be written to Firestore.
+ *
+ * <p>Every add, update and delete is recorded here with an idempotency key
+ * before it is sent, and only removed once Firestore acknowledges it. The
+ * queue is persisted to app storage, so mutations made offline survive the
+ * app being killed and are replayed in order on the next start.</p>
+ *
+ * <p>Mutations to the same event that have not been sent yet are coalesced,
+ * so several offline edits result in a single write. Mutations loaded from a
+ * previous run are never coalesced into, since their write may have landed
+ * before the app was killed.</p>
+ *
+ * <p>The queue is only accessed from the main thread. Writes to disk happen in
+ * order on a background thread.</p>
+ */
+final class MutationQueue {
+    /**
+     * Kind of change a mutation makes to an event.
+     */
+    enum Type { ADD, UPDATE, DELETE }
+
+    /**
+     * A single queued change to an event.
+     */
+    static final class Mutation {
+        /** Idempotency key, stored on the event document when the write is applied. */
+        final String key;
+        final Type type;
+        final String userId;
+        final String eventId;
+        /** The event after the change, {@code null} for a deletion. */
+        Event event;
+        /** The event the update is based on, only set for updates. */
+        final Event original;
+        /**
+         * Whether the mutation was loaded from a previous run. Its write may
+         * already have been applied, so replaying it is acknowledged by its
+         * key and any change folded into it would be lost.
+         */
+        boolean replayed;
+
+        private Mutation(String key, Type type, String userId, String eventId, Event event, Event original) {
+            this.key = key;
+            this.type = type;
+            this.userId = userId;
+            this.eventId = eventId;
+            this.event = event;
+            this.original = original;
+        }
+
+        static Mutation add(String userId, Event event) {
+            return new Mutation(UUID.randomUUID().toString(), Type.ADD, userId, event.id, event, null);
+        }
+
+        static Mutation update(String userId, Event original, Event event) {
+            return new Mutation(UUID.randomUUID().toString(), Type.UPDATE, userId, event.id, event, original);
+        }
+
+        static Mutation delete(String userId, String eventId) {
+            return new Mutation(UUID.randomUUID().toString(), Type.DELETE, userId, eventId, null, null);
+        }
+    }
+
+    private final File file;
+    private final List<Mutation> mutations = new ArrayList<>();
+
+    /**
+     * Single thread executor so queue snapshots are written in order.
+     */
+    private final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * MutationQueue constructor. Loads any mutations persisted by a previous run.
+     *
+     * @param file The file the queue is persisted to.
+     */
+    MutationQueue(File file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Adds a mutation to the end of the queue, coalescing it with an earlier
+     * mutation of the same event if that one has not been sent yet, in this
+     * run or a previous one.
+     *
+     * @param mutation The mutation to add.
+     * @param inFlightKey The key of the mutation currently being written, which
+     *                    must not be changed, or {@code null}.
+     */
+    void enqueue(Mutation mutation, String inFlightKey) {
+        Mutation previous = latest(mutation.eventId);
+
+        if (previous == null || previous.key.equals(inFlightKey) || previous.replayed
+                || previous.type == Type.DELETE) {
+            mutations.add(mutation);
+        } else if (mutation.type == Type.UPDATE) {
+            // fold the edit into the queued add or update
+            Event event = new Event(mutation.event);
+            event.version = previous.type == Type.ADD ? 1 : previous.original.version + 1;
+            previous.event = event;
+        } else if (mutation.type == Type.DELETE && previous.type == Type.ADD) {
+            // the event was never written, so nothing needs to be sent
+            mutations.remove(previous);
+        } else {
+            mutations.set(mutations.indexOf(previous), mutation);
+        }
+
+        persist();
+    }
+
+    /**
+     * Gets the next mutation to write for a user.
+     *
+     * @param userId The id of the signed in user.
+     * @return The oldest queued mutation for the user, or {@code null} if there is none.
+     */
+    Mutation peek(String userId) {
+        for (Mutation mutation : mutations) {
+            if (mutation.userId.equals(userId)) {
+                return mutation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets all queued mutations for a user, in order.
+     *
+     * @param userId The id of the user.
+     * @return The user's queued mutations.
+     */
+    List<Mutation> pending(String userId) {
+        List<Mutation> userMutations = new ArrayList<>();
+        for (Mutation mutation : mutations) {
+            if (mutation.userId.equals(userId)) {
+                userMutations.add(mutation);
+            }
+        }
+        return userMutations;
+    }
+
+    /**
+     * Gets the latest queued mutation for an event.
+     *
+     * @param eventId The id of the event.
+     * @return The latest mutation, or {@code null} if the event has no queued changes.
+     */
+    Mutation latest(String eventId) {
+        for (int i = mutations.size() - 1; i >= 0; i--) {
+            if (mutations.get(i).eventId.equals(eventId)) {
+                return mutations.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes an acknowledged or failed mutation from the queue.
+     *
+     * @param key The idempotency key of the mutation.
+     */
+    void remove(String key) {
+        for (int i = 0; i < mutations.size(); i++) {
+            if (mutations.get(i).key.equals(key)) {
+                mutations.remove(i);
+                persist();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits until every snapshot persisted so far has been written to disk.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    @VisibleForTesting
+    void awaitWrites() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        diskExecutor.execute(written::countDown);
+        written.await();
+    }
+
+    /**
+     * Writes a snapshot of the queue to disk. The snapshot is built on the
+     * calling thread and written to a temporary file that atomically replaces
+     * the queue file.
+     */
+    private void persist() {
+        String json;
+        try {
+            JSONArray array = new JSONArray();
+            for (Mutation mutation : mutations) {
+                array.put(toJson(mutation));
+            }
+            json = array.toString();
+        } catch (JSONException exception) {
+            Log.d("MutationQueue", "JSON Exception " + exception);
+            return;
+        }
+
+        diskExecutor.execute(() -> {
+            File temp = new File(file.getPath() + ".tmp");
+            try (FileOutputStream output = new FileOutputStream(temp)) {
+                output.write(json.getBytes(StandardCharsets.UTF_8));
+                output.getFD().sync();
+            } catch (IOException exception) {
+                Log.d("MutationQueue", "Failed to write queue", exception);
+                return;
+            }
+
+            if (!temp.renameTo(file)) {
+                Log.d("MutationQueue", "Failed to replace queue file");
+            }
+        });
+    }
+
+    /**
+     * Loads the persisted queue, if one exists.
+     */
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            JSONArray array = new JSONArray(json);
+            for (int i = 0; i < array.length(); i++) {
+                Mutation mutation = fromJson(array.getJSONObject(i));
+                mutation.replayed = true;
+                mutations.add(mutation);
+            }
+        } catch (IOException | JSONException exception) {
+            Log.d("MutationQueue", "Failed to load queue", exception);
+        }
+    }
+
+    private static JSONObject toJson(Mutation mutation) throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("key", mutation.key);
+        json.put("type", mutation.type.name());
+        json.put("userId", mutation.userId);
+        json.put("eventId", mutation.eventId);
+        if (mutation.event != null) {
+            json.put("event", toJson(mutation.event));
+        }
+        if (mutation.original != null) {
+            json.put("original", toJson(mutation.original));
+        }
+        return json;
+    }
+
+    private static Mutation fromJson(JSONObject json) throws JSONException {
+        return new Mutation(
+                json.getString("key"),
+                Type.valueOf(json.getString("type")),
+                json.getString("userId"),
+                json.getString("eventId"),
+                json.has("event") ? eventFromJson(json.getJSONObject("event")) : null,
+                json.has("original") ? eventFromJson(json.getJSONObject("original")) : null);
+    }
+
+    private static JSONObject toJson(Event event) throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("id", event.id);
+        json.put("userId", event.userId);
+        json.put("eventTime", event.eventTime);
+        json.put("endTime", event.endTime);
+        json.put("recurrence", event.recurrence);
+        if (event.exceptions != null) {
+            json.put("exceptions", new JSONArray(event.exceptions));
+        }
+        json.put("title", event.title);
+        json.put("description", event.description);
+        json.put("cardColor", event.cardColor);
+        json.put("version", event.version);
+        return json;
+    }
+
+    private static Event eventFromJson(JSONObject json) throws JSONException {
+        Event event = new Event(
+                json.getString("id"),
+                json.optString("userId", null),
+                json.getLong("eventTime"),
+                json.getString("title"),
+                json.has("description") ? json.getString("description") : null,
+                json.has("cardColor") ? json.getInt("cardColor") : null);
+        event.endTime = json.has("endTime") ? json.getLong("endTime") : null;
+        event.recurrence = json.has("recurrence") ? json.getString("recurrence") : null;
+        if (json.has("exceptions")) {
+            JSONArray exceptions = json.getJSONArray("exceptions");
+            event.exceptions = new ArrayList<>(exceptions.length());
+            for (int i = 0; i < exceptions.length(); i++) {
+                event.exceptions.add(exceptions.getLong(i));
+            }
+        }
+        event.version = json.getLong("version");
+        return event;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * EventRecord.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.util.List;
+
+/**
+ * Room row for an event stored by {@link RoomEventStore}.
+ *
+ * <p>{@link Event} lives in the domain module without Room annotations, so it is
+ * copied to and from this row. The indexes cover the upcoming events query,
+ * one for events by time and one for repeating events, which are read
+ * whenever they started.</p>
+ */
+@Entity(tableName = "events", indices = {@Index({"userId", "eventTime"}), @Index({"userId", "recurrence"})})
+public class EventRecord {
+    @PrimaryKey
+    @NonNull
+    public String id = "";
+
+    public String userId;
+
+    public long eventTime;
+
+    public Long endTime;
+
+    public String recurrence;
+
+    public List<Long> exceptions;
+
+    @NonNull
+    public String title = "";
+
+    public String description;
+
+    public Integer cardColor;
+
+    public long version;
+
+    /**
+     * Creates the row for an event.
+     *
+     * @param event The event to store. Must have an id.
+     * @return The event row.
+     */
+    static EventRecord from(Event event) {
+        EventRecord record = new EventRecord();
+        record.id = event.id;
+        record.userId = event.userId;
+        record.eventTime = event.eventTime;
+        record.endTime = event.endTime;
+        record.recurrence = event.recurrence;
+        record.exceptions = event.exceptions;
+        record.title = event.title;
+        record.description = event.description;
+        record.cardColor = event.cardColor;
+        record.version = event.version;
+        return record;
+    }
+
+    /**
+     * Converts the row back to an event.
+     *
+     * @return The stored event.
+     */
+    Event toEvent() {
+        Event event = new Event(id, userId, eventTime, title, description, cardColor);
+        event.endTime = endTime;
+        event.recurrence = recurrence;
+        event.exceptions = exceptions;
+        event.version = version;
+        return event;
+    }
+}
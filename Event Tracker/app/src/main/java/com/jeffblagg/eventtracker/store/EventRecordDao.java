@@ -0,0 +1,92 @@
+/*
+ * EventRecordDao.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.RoomWarnings;
+import androidx.room.Update;
+
+import java.util.List;
+
+/**
+ * Data Access Object (DAO) interface used by Room to handle
+ * database operations on the {@link EventRecord} table.
+ */
+@Dao
+public interface EventRecordDao {
+    /**
+     * Fetches a user's event by id.
+     *
+     * @param userId The id of the user the event belongs to.
+     * @param eventId The id of the event.
+     * @return The event row, or {@code null} if it doesn't exist.
+     */
+    @Query("SELECT * FROM events WHERE id = :eventId AND userId = :userId LIMIT 1")
+    EventRecord getEvent(String userId, String eventId);
+
+    /**
+     * Fetches list summaries of a user's events at or after a time, and of
+     * all of their repeating events, ordered chronologically. Repeating
+     * events that have ended are left for the caller to filter out. The
+     * description is truncated to {@link EventSummary#PREVIEW_LENGTH}
+     * characters.
+     *
+     * @param userId The id of the user.
+     * @param from The earliest event time to include, in milliseconds.
+     * @return The event summaries.
+     */
+    // EventSummary#pending is only set locally and has no column
+    @SuppressWarnings(RoomWarnings.QUERY_MISMATCH)
+    @Query("SELECT id, eventTime, endTime, recurrence, exceptions, title, cardColor, "
+            + "substr(description, 1, " + EventSummary.PREVIEW_LENGTH + ") AS descriptionPreview "
+            + "FROM events WHERE userId = :userId AND (eventTime >= :from OR recurrence IS NOT NULL) "
+            + "ORDER BY eventTime ASC")
+    List<EventSummary> getUpcomingEvents(String userId, long from);
+
+    /**
+     * Inserts an event row, replacing any row with the same id.
+     *
+     * @param record The event row.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(EventRecord record);
+
+    /**
+     * Inserts event rows in one transaction, replacing any rows with the
+     * same ids.
+     *
+     * @param records The event rows.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<EventRecord> records);
+
+    /**
+     * Updates an existing event row.
+     *
+     * @param record The event row.
+     * @return The number of rows updated.
+     */
+    @Update
+    int update(EventRecord record);
+
+    /**
+     * Deletes a user's event.
+     *
+     * @param userId The id of the user the event belongs to.
+     * @param eventId The id of the event.
+     * @return The number of rows deleted.
+     */
+    @Query("DELETE FROM events WHERE id = :eventId AND userId = :userId")
+    int delete(String userId, String eventId);
+}
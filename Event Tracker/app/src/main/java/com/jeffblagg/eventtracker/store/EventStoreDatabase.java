@@ -0,0 +1,54 @@
+/*
+ * EventStoreDatabase.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import androidx.annotation.NonNull;
+import androidx.room.Database;
+import androidx.room.RoomDatabase;
+import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+/**
+ * Room database holding the events of a {@link RoomEventStore}.
+ */
+@Database(entities = {EventRecord.class}, version = 3, exportSchema = false)
+@TypeConverters(TimeListConverter.class)
+public abstract class EventStoreDatabase extends RoomDatabase {
+    /**
+     * Adds the optional event end time column.
+     */
+    public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `events` ADD COLUMN `endTime` INTEGER");
+        }
+    };
+
+    /**
+     * Adds the recurrence rule and removed occurrence columns, and the index
+     * used to read repeating events.
+     */
+    public static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `events` ADD COLUMN `recurrence` TEXT");
+            db.execSQL("ALTER TABLE `events` ADD COLUMN `exceptions` TEXT");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_events_userId_recurrence` "
+                    + "ON `events` (`userId`, `recurrence`)");
+        }
+    };
+
+    /**
+     * Provides access to event row operations.
+     *
+     * @return The DAO for event rows.
+     */
+    public abstract EventRecordDao eventRecordDao();
+}
@@ -0,0 +1,193 @@
+/*
+ * RoomEventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.tracing.Trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An {@link EventStore} backed by a local Room database.
+ *
+ * <p>Operations run in order on a single background thread, and callbacks
+ * are called on that thread.</p>
+ */
+public class RoomEventStore implements EventStore {
+    /**
+     * Name of the database file in app storage.
+     */
+    private static final String DATABASE_NAME = "event_store.db";
+
+    private final EventStoreDatabase database;
+    private final EventRecordDao dao;
+
+    /**
+     * Single thread executor so operations are applied in the order they are called.
+     */
+    private final ExecutorService databaseExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * RoomEventStore constructor using the app's event store database.
+     *
+     * @param context Context used to open the database.
+     */
+    public RoomEventStore(Context context) {
+        this(Room.databaseBuilder(context.getApplicationContext(), EventStoreDatabase.class, DATABASE_NAME)
+                .addMigrations(EventStoreDatabase.MIGRATION_1_2, EventStoreDatabase.MIGRATION_2_3)
+                .build());
+    }
+
+    /**
+     * RoomEventStore constructor with the database provided, such as an
+     * in-memory database.
+     *
+     * @param database The database to store events in.
+     */
+    public RoomEventStore(EventStoreDatabase database) {
+        this.database = database;
+        this.dao = database.eventRecordDao();
+    }
+
+    @Override
+    public void getEvent(String userId, String eventId, OnEventLoaded callback) {
+        databaseExecutor.execute(() -> {
+            EventRecord record;
+            Trace.beginSection("EventRecordDao.getEvent");
+            try {
+                record = dao.getEvent(userId, eventId);
+            } finally {
+                Trace.endSection();
+            }
+            callback.onResult(record != null ? record.toEvent() : null);
+        });
+    }
+
+    @Override
+    public void getUpcomingEvents(String userId, long from, OnEventsLoaded callback) {
+        databaseExecutor.execute(() -> {
+            List<EventSummary> events;
+            Trace.beginSection("EventRecordDao.getUpcomingEvents");
+            try {
+                events = dao.getUpcomingEvents(userId, from);
+            } finally {
+                Trace.endSection();
+            }
+            events.removeIf(event -> !Occurrences.isUpcoming(event, from));
+            callback.onResult(events);
+        });
+    }
+
+    @Override
+    public void add(Event event, OnEventSaved callback) {
+        EventRecord record = EventRecord.from(event);
+        if (event.id == null) {
+            record.id = UUID.randomUUID().toString();
+        }
+        record.version = 1;
+
+        databaseExecutor.execute(() -> {
+            Trace.beginSection("EventRecordDao.insert");
+            try {
+                dao.insert(record);
+            } finally {
+                Trace.endSection();
+            }
+            callback.onResult(record.id);
+        });
+    }
+
+    @Override
+    public void addAll(List<Event> events, OnEventsSaved callback) {
+        if (events.size() > MAX_BATCH_SIZE) {
+            callback.onResult(null);
+            return;
+        }
+
+        List<EventRecord> records = new ArrayList<>(events.size());
+        List<String> eventIds = new ArrayList<>(events.size());
+        for (Event event : events) {
+            EventRecord record = EventRecord.from(event);
+            if (event.id == null) {
+                record.id = UUID.randomUUID().toString();
+            }
+            record.version = 1;
+            records.add(record);
+            eventIds.add(record.id);
+        }
+
+        databaseExecutor.execute(() -> {
+            Trace.beginSection("EventRecordDao.insertAll");
+            try {
+                dao.insertAll(records);
+            } finally {
+                Trace.endSection();
+            }
+            callback.onResult(eventIds);
+        });
+    }
+
+    @Override
+    public void update(Event event, OnEventSaved callback) {
+        if (event.id == null) {
+            callback.onResult(null);
+            return;
+        }
+
+        EventRecord record = EventRecord.from(event);
+        databaseExecutor.execute(() -> {
+            int[] rows = new int[1];
+            Trace.beginSection("EventRecordDao.update");
+            try {
+                // only the owner's row is replaced, based on its stored version
+                database.runInTransaction(() -> {
+                    EventRecord stored = dao.getEvent(record.userId, record.id);
+                    if (stored != null) {
+                        record.version = stored.version + 1;
+                        rows[0] = dao.update(record);
+                    }
+                });
+            } finally {
+                Trace.endSection();
+            }
+            callback.onResult(rows[0] > 0 ? record.id : null);
+        });
+    }
+
+    @Override
+    public void delete(String userId, String eventId, OnEventDeleted callback) {
+        databaseExecutor.execute(() -> {
+            Trace.beginSection("EventRecordDao.delete");
+            try {
+                dao.delete(userId, eventId);
+            } finally {
+                Trace.endSection();
+            }
+            callback.onResult(true);
+        });
+    }
+
+    /**
+     * Closes the database once queued operations have finished.
+     */
+    public void close() {
+        databaseExecutor.execute(database::close);
+        databaseExecutor.shutdown();
+    }
+}
@@ -11,17 +11,20 @@ package com.jeffblagg.eventtracker.ui;
 
 import android.app.DatePickerDialog;
 import android.app.TimePickerDialog;
+import android.content.DialogInterface;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
+import android.widget.AutoCompleteTextView;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.Toolbar;
 import androidx.constraintlayout.widget.ConstraintLayout;
@@ -30,14 +33,19 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.lifecycle.ViewModelProvider;
 
+import com.jeffblagg.eventtracker.EventTrackerApp;
 import com.jeffblagg.eventtracker.R;
 import com.jeffblagg.eventtracker.reminder.SMSPermissionManager;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.metrics.JankMonitor;
 import com.jeffblagg.eventtracker.viewmodel.AddEditEventViewModel;
 
-import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Locale;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Activity for creating a new {@link Event} or editing an existing one.
@@ -48,6 +56,32 @@ public class AddEditEventActivity extends AppCompatActivity {
      */
     public static final String EDIT_EVENT_ID = "EVENT_ID";
 
+    /**
+     * Intent extra key for the start time of the occurrence to edit, when the
+     * event to edit repeats.
+     */
+    public static final String EDIT_OCCURRENCE_TIME = "OCCURRENCE_TIME";
+
+    /**
+     * Repeat options shown in the repeat picker, with their recurrence rules.
+     */
+    private static final String[] REPEAT_LABELS = new String[]{
+            "Does not repeat",
+            "Daily",
+            "Weekly",
+            "Every weekday",
+            "Monthly",
+            "Yearly"
+    };
+    private static final String[] REPEAT_RULES = new String[]{
+            null,
+            "FREQ=DAILY",
+            "FREQ=WEEKLY",
+            "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR",
+            "FREQ=MONTHLY",
+            "FREQ=YEARLY"
+    };
+
     /**
      * Palette of possible card colors.
      */
@@ -60,16 +94,28 @@ public class AddEditEventActivity extends AppCompatActivity {
     };
 
     private AddEditEventViewModel viewModel;
+    private JankMonitor jankMonitor;
 
     // use null for a new event. Firestore will autogenerate an id.
     private String eventId = null;
 
+    // the event as loaded, used to detect which fields were edited
+    private Event loadedEvent = null;
+
+    // the start time of the occurrence being edited, null unless editing a repeating event
+    private Long occurrenceTime = null;
+
+    // the event's recurrence rule, null if the event doesn't repeat
+    private String recurrence = null;
+
     private Toolbar toolbar;
     private ConstraintLayout eventCardLayout;
+    private AutoCompleteTextView nameEditText;
     private EditText
-            nameEditText,
             dateEditText,
             timeEditText,
+            endTimeEditText,
+            repeatEditText,
             descriptionEditText;
 
     private ImageButton colorsButton;
@@ -78,6 +124,10 @@ public class AddEditEventActivity extends AppCompatActivity {
 
     private final Calendar calendar = Calendar.getInstance();
 
+    // the end time as minutes into the event's day, null for no end time
+    private Integer endMinuteOfDay = null;
+    private final EventFormatter formatter = new EventFormatter();
+
     // set a default card background color
     private Integer selectedColor = 0xFF475D92;
     private int colorIndex = 0;
@@ -87,18 +137,25 @@ public class AddEditEventActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_add_edit_event);
+        jankMonitor = new JankMonitor(this, ((EventTrackerApp) getApplication()).getJankReport());
 
         viewModel = new ViewModelProvider(this).get(AddEditEventViewModel.class);
         eventId = getIntent().getStringExtra(EDIT_EVENT_ID);
+        if (getIntent().hasExtra(EDIT_OCCURRENCE_TIME)) {
+            occurrenceTime = getIntent().getLongExtra(EDIT_OCCURRENCE_TIME, 0);
+        }
 
         // activity initializations
         findViews();
         setupToolbar();
         setupTextListeners();
+        setupTitleSuggestions();
 
         // add button and date/time listeners
         dateEditText.setOnClickListener(v -> showDatePicker());
         timeEditText.setOnClickListener(v -> showTimePicker());
+        endTimeEditText.setOnClickListener(v -> showEndTimePicker());
+        repeatEditText.setOnClickListener(v -> showRepeatPicker());
 
         colorsButton.setOnClickListener(v -> cycleColor());
         addEditButton.setEnabled(false);
@@ -108,10 +165,11 @@ public class AddEditEventActivity extends AppCompatActivity {
         // if an event id is provided load it, otherwise update UI
         // to add a new event
         if (eventId != null) {
-            viewModel.loadEvent(eventId, this::populateEventInfo);
+            viewModel.loadEvent(eventId, this::populateEventInfo, this::refreshEventInfo);
             addEditButton.setText(R.string.edit_event);
         } else {
             updateDateTimeFields();
+            updateRepeatField();
             addEditButton.setText(R.string.add_event);
         }
 
@@ -133,6 +191,8 @@ public class AddEditEventActivity extends AppCompatActivity {
         nameEditText = findViewById(R.id.nameEditText);
         dateEditText = findViewById(R.id.dateEditText);
         timeEditText = findViewById(R.id.timeEditText);
+        endTimeEditText = findViewById(R.id.endTimeEditText);
+        repeatEditText = findViewById(R.id.repeatEditText);
         descriptionEditText = findViewById(R.id.descriptionEditText);
         colorsButton = findViewById(R.id.colorsButton);
         addEditButton = findViewById(R.id.addEditButton);
@@ -165,6 +225,13 @@ public class AddEditEventActivity extends AppCompatActivity {
         nameEditText.addTextChangedListener(textWatcher);
     }
 
+    /**
+     * Suggests titles of the user's existing events as the event name is typed.
+     */
+    private void setupTitleSuggestions() {
+        nameEditText.setAdapter(new TitleSuggestionAdapter(this, viewModel::suggestTitles));
+    }
+
     /**
      * Setup the toolbar with the correct title for adding or editing an event.
      */
@@ -179,7 +246,8 @@ public class AddEditEventActivity extends AppCompatActivity {
     }
 
     /**
-     * Populates the UI with info from an existing event.
+     * Populates the UI with info from an existing event. For a repeating
+     * event, the occurrence that was opened is shown.
      *
      * @param event The event to display.
      */
@@ -190,24 +258,133 @@ public class AddEditEventActivity extends AppCompatActivity {
             return;
         }
 
-        nameEditText.setText(event.title);
+        loadedEvent = event;
+        // don't suggest titles for the loaded event's own title
+        nameEditText.setText(event.title, false);
         descriptionEditText.setText(event.description != null ? event.description : "");
 
-        calendar.setTimeInMillis(event.eventTime);
+        long offset = shownTime() - event.eventTime;
+        calendar.setTimeInMillis(event.eventTime + offset);
+        endMinuteOfDay = null;
+        if (event.endTime != null) {
+            Calendar end = Calendar.getInstance();
+            end.setTimeInMillis(event.endTime + offset);
+            endMinuteOfDay = end.get(Calendar.HOUR_OF_DAY) * 60 + end.get(Calendar.MINUTE);
+        }
         updateDateTimeFields();
 
+        recurrence = event.recurrence;
+        updateRepeatField();
+
         selectedColor = event.cardColor;
         applyColorPreview();
     }
 
+    /**
+     * Shows the server copy of the event once it arrives, unless the user has
+     * already started editing the cached copy. Conflicting edits are caught
+     * when the update is saved.
+     *
+     * @param event The event as read from the server.
+     */
+    private void refreshEventInfo(Event event) {
+        if (loadedEvent == null || hasEdits()) {
+            return;
+        }
+
+        populateEventInfo(event);
+    }
+
+    /**
+     * Checks whether any field differs from the loaded event.
+     *
+     * @return true if the user has edited the event.
+     */
+    private boolean hasEdits() {
+        String description = loadedEvent.description != null ? loadedEvent.description : "";
+        long offset = shownTime() - loadedEvent.eventTime;
+        Long endTime = loadedEvent.endTime != null ? loadedEvent.endTime + offset : null;
+        return !nameEditText.getText().toString().equals(loadedEvent.title)
+                || !descriptionEditText.getText().toString().equals(description)
+                || calendar.getTimeInMillis() != loadedEvent.eventTime + offset
+                || !Objects.equals(endTime(), endTime)
+                || !Objects.equals(recurrence, loadedEvent.recurrence)
+                || !Objects.equals(selectedColor, loadedEvent.cardColor);
+    }
+
+    /**
+     * Checks whether one occurrence of a repeating event is being edited.
+     *
+     * @return true if the loaded event repeats and was opened at an occurrence.
+     */
+    private boolean isOccurrence() {
+        return occurrenceTime != null && loadedEvent != null && loadedEvent.recurrence != null;
+    }
+
+    /**
+     * Gets the start time shown for the loaded event: the occurrence that was
+     * opened for a repeating event, otherwise the event's own time.
+     *
+     * @return The shown start time in milliseconds.
+     */
+    private long shownTime() {
+        return isOccurrence() ? occurrenceTime : loadedEvent.eventTime;
+    }
+
+    /**
+     * Shows the chosen repeat option, or a generic label for a rule set
+     * outside the app.
+     */
+    private void updateRepeatField() {
+        for (int i = 0; i < REPEAT_RULES.length; i++) {
+            if (Objects.equals(REPEAT_RULES[i], recurrence)) {
+                repeatEditText.setText(REPEAT_LABELS[i]);
+                return;
+            }
+        }
+        repeatEditText.setText("Custom repeat");
+    }
+
+    /**
+     * Shows the repeat options and saves the chosen rule for the event.
+     */
+    private void showRepeatPicker() {
+        new AlertDialog.Builder(this)
+                .setTitle(R.string.repeat)
+                .setItems(REPEAT_LABELS, (dialog, which) -> {
+                    recurrence = REPEAT_RULES[which];
+                    updateRepeatField();
+                })
+                .show();
+    }
+
     /**
      * Updates the date and time fields with properly formatted text.
      */
     private void updateDateTimeFields() {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, yyyy", Locale.getDefault());
-        SimpleDateFormat timeFormat = new SimpleDateFormat("h:mm a", Locale.getDefault());
-        dateEditText.setText(dateFormat.format(calendar.getTime()));
-        timeEditText.setText(timeFormat.format(calendar.getTime()));
+        dateEditText.setText(formatter.date(calendar.getTimeInMillis()));
+        timeEditText.setText(formatter.time(calendar.getTimeInMillis()));
+
+        Long endTime = endTime();
+        endTimeEditText.setText(endTime != null ? formatter.time(endTime) : "");
+    }
+
+    /**
+     * Gets the event's end time, on the same day as the event.
+     *
+     * @return The end time in milliseconds, or null if none was chosen.
+     */
+    private Long endTime() {
+        if (endMinuteOfDay == null) {
+            return null;
+        }
+
+        Calendar end = (Calendar) calendar.clone();
+        end.set(Calendar.HOUR_OF_DAY, endMinuteOfDay / 60);
+        end.set(Calendar.MINUTE, endMinuteOfDay % 60);
+        end.set(Calendar.SECOND, 0);
+        end.set(Calendar.MILLISECOND, 0);
+        return end.getTimeInMillis();
     }
 
     /**
@@ -239,6 +416,26 @@ public class AddEditEventActivity extends AppCompatActivity {
         }, hour, minute, false).show();
     }
 
+    /**
+     * Shows a time picker for the optional end time, starting an hour after
+     * the event if none was chosen yet, with a button to clear it.
+     */
+    private void showEndTimePicker() {
+        Long endTime = endTime();
+        Calendar end = Calendar.getInstance();
+        end.setTimeInMillis(endTime != null ? endTime : calendar.getTimeInMillis() + 60 * 60 * 1000L);
+
+        TimePickerDialog dialog = new TimePickerDialog(this, (view, chosenHour, chosenMinute) -> {
+            endMinuteOfDay = chosenHour * 60 + chosenMinute;
+            updateDateTimeFields();
+        }, end.get(Calendar.HOUR_OF_DAY), end.get(Calendar.MINUTE), false);
+        dialog.setButton(DialogInterface.BUTTON_NEUTRAL, "No end time", (d, which) -> {
+            endMinuteOfDay = null;
+            updateDateTimeFields();
+        });
+        dialog.show();
+    }
+
     /**
      * Applies the selected color to the event card preview background.
      */
@@ -260,15 +457,17 @@ public class AddEditEventActivity extends AppCompatActivity {
     }
 
     /**
-     * Validates input and either creates a new event or updates an existing one (if provided).
+     * Validates input, warns about events the new time overlaps, then either
+     * creates a new event or updates an existing one (if provided).
      */
     private void saveEvent() {
         String title = nameEditText.getText().toString();
         String description = descriptionEditText.getText().toString();
         long eventTime = calendar.getTimeInMillis();
+        Long endTime = endTime();
 
         // require time to be in the future
-        if (eventTime < System.currentTimeMillis()) {
+        if (!viewModel.isInFuture(eventTime)) {
             Toast.makeText(this, "Event must be in the future.", Toast.LENGTH_SHORT).show();
             return;
         }
@@ -279,27 +478,81 @@ public class AddEditEventActivity extends AppCompatActivity {
             return;
         }
 
+        // require the end time to come after the start
+        if (endTime != null && endTime <= eventTime) {
+            Toast.makeText(this, "End time must be after the start time.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        if (eventId != null && loadedEvent == null) {
+            Toast.makeText(this, "Event is still loading.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        viewModel.findOverlapping(eventId, eventTime, endTime, overlapping -> {
+            if (overlapping.isEmpty()) {
+                persistEvent(title, description, eventTime, endTime);
+            } else {
+                confirmOverlap(overlapping, () -> persistEvent(title, description, eventTime, endTime));
+            }
+        });
+    }
+
+    /**
+     * Asks whether to save an event that overlaps other events.
+     *
+     * @param overlapping The overlapping events, in time order.
+     * @param save Saves the event if the user chooses to.
+     */
+    private void confirmOverlap(List<EventSummary> overlapping, Runnable save) {
+        StringBuilder message = new StringBuilder("This event overlaps:");
+        for (EventSummary event : overlapping) {
+            message.append("\n").append(event.title)
+                    .append(" (").append(formatter.dateTime(event.eventTime)).append(")");
+        }
+
+        new AlertDialog.Builder(this)
+                .setTitle("Time conflict")
+                .setMessage(message)
+                .setPositiveButton("Save anyway", (dialog, which) -> save.run())
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Creates a new event or updates an existing one (if provided).
+     *
+     * @param title The event title.
+     * @param description The event description.
+     * @param eventTime The start time of the event.
+     * @param endTime The end time of the event, or null if it has none.
+     */
+    private void persistEvent(String title, String description, long eventTime, Long endTime) {
         // if an eventId exists, edit the existing event, otherwise add a new event
         if (eventId != null) {
-            viewModel.loadEvent(eventId, event -> {
-                if (event == null) {
-                    Toast.makeText(this, "Event not found.", Toast.LENGTH_SHORT).show();
-                    return;
-                }
-
-                event.title = title;
+            Event event = new Event(loadedEvent);
+            event.title = title;
+            // an empty field for a missing description is not an edit
+            if (!description.isEmpty() || loadedEvent.description != null) {
                 event.description = description;
-                event.eventTime = eventTime;
-                event.cardColor = selectedColor;
-
-                viewModel.updateEvent(event, rows -> {
-                    Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
-                    setResult(RESULT_OK);
-                    finish();
-                });
-            });
+            }
+            event.eventTime = eventTime;
+            event.endTime = endTime;
+            event.cardColor = selectedColor;
+            event.recurrence = recurrence;
+
+            if (isOccurrence()) {
+                saveOccurrence(event);
+            } else {
+                if (recurrence == null) {
+                    event.exceptions = null;
+                }
+                updateEvent(loadedEvent, event);
+            }
         } else {
-            viewModel.createNewEvent(title, description, eventTime, selectedColor, id -> {
+            jankMonitor.setSaving(true);
+            viewModel.createNewEvent(title, description, eventTime, endTime, selectedColor, recurrence, id -> {
+                jankMonitor.setSaving(false);
                 if (id != null) {
                     Toast.makeText(this, "Event added.", Toast.LENGTH_SHORT).show();
                     setResult(RESULT_OK);
@@ -307,10 +560,109 @@ public class AddEditEventActivity extends AppCompatActivity {
                 } else {
                     Toast.makeText(this, "Add event failed.", Toast.LENGTH_SHORT).show();
                 }
-            }, errorMessage -> Toast.makeText(this, errorMessage, Toast.LENGTH_SHORT).show());
+            }, errorMessage -> {
+                jankMonitor.setSaving(false);
+                Toast.makeText(this, errorMessage, Toast.LENGTH_SHORT).show();
+            });
         }
     }
 
+    /**
+     * Saves the edits to an occurrence of a repeating event. With the repeat
+     * unchanged, asks whether the edits apply to this occurrence only or to
+     * the whole series. A changed repeat always applies to the whole series,
+     * and turning the repeat off keeps only the edited occurrence.
+     *
+     * @param event The edited occurrence.
+     */
+    private void saveOccurrence(Event event) {
+        if (event.recurrence == null) {
+            event.exceptions = null;
+            updateEvent(loadedEvent, event);
+            return;
+        }
+
+        if (!event.recurrence.equals(loadedEvent.recurrence)) {
+            updateEvent(loadedEvent, seriesEdit(event));
+            return;
+        }
+
+        new AlertDialog.Builder(this)
+                .setTitle("Edit repeating event")
+                .setItems(new String[] {"This event", "All events"}, (dialog, which) -> {
+                    if (which == 0) {
+                        detachOccurrence(event);
+                    } else {
+                        updateEvent(loadedEvent, seriesEdit(event));
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Applies the edits to an occurrence to its whole series. A moved
+     * occurrence moves the series' start and removed occurrences by as much.
+     *
+     * @param event The edited occurrence.
+     * @return The edited series.
+     */
+    private Event seriesEdit(Event event) {
+        long shift = event.eventTime - occurrenceTime;
+
+        Event series = new Event(event);
+        series.eventTime = loadedEvent.eventTime + shift;
+        series.endTime = event.endTime != null ? series.eventTime + (event.endTime - event.eventTime) : null;
+        if (shift != 0 && series.exceptions != null) {
+            List<Long> exceptions = new ArrayList<>();
+            for (Long time : series.exceptions) {
+                exceptions.add(time + shift);
+            }
+            series.exceptions = exceptions;
+        }
+        return series;
+    }
+
+    /**
+     * Saves the edits to one occurrence as its own event, removing the
+     * occurrence from its series.
+     *
+     * @param event The edited occurrence.
+     */
+    private void detachOccurrence(Event event) {
+        jankMonitor.setSaving(true);
+        viewModel.detachOccurrence(loadedEvent, occurrenceTime, event, id -> {
+            jankMonitor.setSaving(false);
+            if (id != null) {
+                Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
+                setResult(RESULT_OK);
+                finish();
+            } else {
+                Toast.makeText(this, "Update event failed.", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    /**
+     * Saves the edits to an existing event.
+     *
+     * @param original The event the edits are based on.
+     * @param event The edited event.
+     */
+    private void updateEvent(Event original, Event event) {
+        jankMonitor.setSaving(true);
+        viewModel.updateEvent(original, event, id -> {
+            jankMonitor.setSaving(false);
+            if (id != null) {
+                Toast.makeText(this, "Event updated.", Toast.LENGTH_SHORT).show();
+                setResult(RESULT_OK);
+                finish();
+            } else {
+                Toast.makeText(this, "Update event failed.", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
     /**
      * Cancels adding or editing the event and returns to the previous screen.
      */
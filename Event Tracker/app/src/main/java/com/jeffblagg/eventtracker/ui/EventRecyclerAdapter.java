@@ -11,6 +11,8 @@ package com.jeffblagg.eventtracker.ui;
 
 import com.jeffblagg.eventtracker.R;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.format.EventFormatter;
 
 import android.view.LayoutInflater;
 import android.view.View;
@@ -21,32 +23,38 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.cardview.widget.CardView;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 /**
- * Adapter for binding {@link Event} objects to card views in a RecyclerView.
+ * Adapter for binding {@link Event} list summaries to card views in a RecyclerView.
+ *
+ * <p>Cards are bound from {@link EventSummary} projections so the list never
+ * holds full event descriptions in memory.</p>
  */
 public class EventRecyclerAdapter extends RecyclerView.Adapter<EventRecyclerAdapter.EventsHolder> {
     /**
      * Interface for a callback after the delete event button has been clicked.
      */
-    public interface OnDeleteClicked { void onDelete(Event event); }
+    public interface OnDeleteClicked { void onDelete(EventSummary event); }
     /**
      * Interface for a callback after an event card has been clicked.
      */
-    public interface OnEventClicked { void onClick(Event event); }
+    public interface OnEventClicked { void onClick(EventSummary event); }
+
+    /**
+     * Card alpha for events with unsaved changes.
+     */
+    private static final float PENDING_ALPHA = 0.6f;
 
-    private final List<Event> events = new ArrayList<>();
+    private final List<EventSummary> events = new ArrayList<>();
     private final OnDeleteClicked onDeleteClicked;
     private final OnEventClicked onEventClicked;
 
-    // date and time formatters
-    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, yyyy", Locale.getDefault());
-    private final SimpleDateFormat timeFormat = new SimpleDateFormat("h:mm a", Locale.getDefault());
+    // date and time formatter
+    private final EventFormatter formatter = new EventFormatter();
 
     /**
      * EventRecyclerAdapter constructor created with required callbacks.
@@ -64,12 +72,17 @@ public class EventRecyclerAdapter extends RecyclerView.Adapter<EventRecyclerAdap
      *
      * @param eventList The updated list of events to display.
      */
-    public void submit(List<Event> eventList) {
-        events.clear();
-        if (eventList != null) {
-            events.addAll(eventList);
+    public void submit(List<EventSummary> eventList) {
+        Trace.beginSection("EventRecyclerAdapter.submit");
+        try {
+            events.clear();
+            if (eventList != null) {
+                events.addAll(eventList);
+            }
+            notifyDataSetChanged();
+        } finally {
+            Trace.endSection();
         }
-        notifyDataSetChanged();
     }
 
     /**
@@ -82,8 +95,13 @@ public class EventRecyclerAdapter extends RecyclerView.Adapter<EventRecyclerAdap
      */
     @NonNull @Override
     public EventsHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_event_card, parent, false);
-        return new EventsHolder(view);
+        Trace.beginSection("EventRecyclerAdapter.onCreateViewHolder");
+        try {
+            View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_event_card, parent, false);
+            return new EventsHolder(view);
+        } finally {
+            Trace.endSection();
+        }
     }
 
     /**
@@ -95,22 +113,27 @@ public class EventRecyclerAdapter extends RecyclerView.Adapter<EventRecyclerAdap
      */
     @Override
     public void onBindViewHolder(@NonNull EventsHolder eventsHolder, int position) {
-        Event event = events.get(position);
+        Trace.beginSection("EventRecyclerAdapter.onBindViewHolder");
+        try {
+            EventSummary event = events.get(position);
 
-        eventsHolder.titleTextView.setText(event.title);
-        String eventDate = dateFormat.format(new java.util.Date(event.eventTime));
-        String eventTime = timeFormat.format(new java.util.Date(event.eventTime));
-        String dateTimeString = eventDate + " - " + eventTime;
-        eventsHolder.dateTextView.setText(dateTimeString);
+            eventsHolder.titleTextView.setText(event.title);
+            eventsHolder.dateTextView.setText(formatter.dateTime(event.eventTime));
 
-        eventsHolder.descriptionTextView.setText(event.description == null ? "" : event.description);
+            eventsHolder.descriptionTextView.setText(event.descriptionPreview == null ? "" : event.descriptionPreview);
 
-        if (event.cardColor != null) {
-            eventsHolder.eventCard.setCardBackgroundColor(event.cardColor);
-        }
+            if (event.cardColor != null) {
+                eventsHolder.eventCard.setCardBackgroundColor(event.cardColor);
+            }
 
-        eventsHolder.itemView.setOnClickListener(v -> onEventClicked.onClick(event));
-        eventsHolder.deleteButton.setOnClickListener(v -> onDeleteClicked.onDelete(event));
+            // dim events whose changes are still being saved
+            eventsHolder.itemView.setAlpha(event.pending ? PENDING_ALPHA : 1f);
+
+            eventsHolder.itemView.setOnClickListener(v -> onEventClicked.onClick(event));
+            eventsHolder.deleteButton.setOnClickListener(v -> onDeleteClicked.onDelete(event));
+        } finally {
+            Trace.endSection();
+        }
     }
 
     /**
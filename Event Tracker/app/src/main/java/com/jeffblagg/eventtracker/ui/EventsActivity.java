@@ -9,11 +9,26 @@
 
 package com.jeffblagg.eventtracker.ui;
 
+import com.jeffblagg.eventtracker.EventTrackerApp;
 import com.jeffblagg.eventtracker.R;
+import com.jeffblagg.eventtracker.StartupOrchestrator;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.metrics.JankMonitor;
+import com.jeffblagg.eventtracker.repo.EventRepository;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.transfer.EventFormat;
 import com.jeffblagg.eventtracker.viewmodel.EventsViewModel;
 
 import android.content.Intent;
+import android.database.Cursor;
+import android.net.Uri;
 import android.os.Bundle;
+import android.os.ParcelFileDescriptor;
+import android.os.Process;
+import android.os.SystemClock;
+import android.provider.OpenableColumns;
+import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
@@ -21,41 +36,112 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.annotation.NonNull;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.graphics.Insets;
+import androidx.core.splashscreen.SplashScreen;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import androidx.appcompat.widget.SearchView;
 import androidx.appcompat.widget.Toolbar;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.tracing.Trace;
 
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
+import java.io.FileNotFoundException;
+import java.util.List;
+
 /**
- * Main activity for the app, displays the logged in user's upcoming events.
+ * Main activity and entry point for the app, displays the logged in user's
+ * upcoming events. Shows the splash screen while the app starts up and routes
+ * to the LoginActivity if no user is logged in.
  */
 public class EventsActivity extends AppCompatActivity {
+    /**
+     * Cookie of the async trace section from launch until the first events
+     * list is drawn. Only one events screen is shown at a time.
+     */
+    private static final int FIRST_CONTENT_TRACE_COOKIE = 1;
+
+    /**
+     * How close to the end of the list, in rows, scrolling shows more events.
+     */
+    private static final int SHOW_MORE_THRESHOLD = 10;
+
+    /**
+     * Types of file offered for import. Some file providers don't recognize
+     * calendar files, so plain text and unknown types are offered too.
+     */
+    private static final String[] IMPORT_MIME_TYPES = {EventFormat.ICS.mimeType, EventFormat.CSV.mimeType,
+            "text/comma-separated-values", "text/plain", "application/octet-stream"};
+
     private Toolbar eventsToolbar;
     private FloatingActionButton fab;
     private RecyclerView eventsRecyclerView;
     private TextView emptyStateTextView;
 
     private EventsViewModel viewModel;
+    private JankMonitor jankMonitor;
+
+    // the latest upcoming events, shown again when the search is cleared
+    private List<EventSummary> latestEvents;
+
+    // the active search query, or null while all upcoming events are shown
+    private String searchQuery;
+
+    // incremented on each search so results of an older query are dropped
+    private int searchGeneration = 0;
+
+    // whether the time to first content has been logged for this launch
+    private boolean firstContentLogged = false;
+
+    // when the activity was created, used to measure how long the list stays blank
+    private long createdAt;
+
+    // picks a calendar file to import
+    private final ActivityResultLauncher<String[]> importLauncher =
+            registerForActivityResult(new ActivityResultContracts.OpenDocument(), this::importEvents);
+
+    // creates the file events are exported to, one launcher per format
+    private final ActivityResultLauncher<String> icsExportLauncher =
+            registerForActivityResult(new ActivityResultContracts.CreateDocument(EventFormat.ICS.mimeType),
+                    uri -> exportEvents(uri, EventFormat.ICS));
+    private final ActivityResultLauncher<String> csvExportLauncher =
+            registerForActivityResult(new ActivityResultContracts.CreateDocument(EventFormat.CSV.mimeType),
+                    uri -> exportEvents(uri, EventFormat.CSV));
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        // keep the splash screen up until the background startup work is done
+        SplashScreen splashScreen = SplashScreen.installSplashScreen(this);
         super.onCreate(savedInstanceState);
+        Trace.beginAsyncSection("EventsActivity.firstContent", FIRST_CONTENT_TRACE_COOKIE);
+
+        // report fully drawn once the first events list is shown, not the blank list
+        getFullyDrawnReporter().addReporter();
+        createdAt = SystemClock.uptimeMillis();
+
+        StartupOrchestrator startup = ((EventTrackerApp) getApplication()).getStartup();
+        splashScreen.setKeepOnScreenCondition(() -> !startup.isComplete());
+
         EdgeToEdge.enable(this);
-        setContentView(R.layout.activity_events);
+        Trace.beginSection("EventsActivity.inflate");
+        try {
+            setContentView(R.layout.activity_events);
+        } finally {
+            Trace.endSection();
+        }
 
-        // initialize view model and views
-        viewModel = new ViewModelProvider(this).get(EventsViewModel.class);
+        // initialize views
         findViews();
+        jankMonitor = new JankMonitor(this, ((EventTrackerApp) getApplication()).getJankReport());
         setSupportActionBar(eventsToolbar);
-        setupRecyclerView();
-        loadEvents();
 
         // FAB navigates to Add/Edit Event activity
         fab.setOnClickListener(v -> {
@@ -68,14 +154,73 @@ public class EventsActivity extends AppCompatActivity {
             v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
             return insets;
         });
+
+        startup.whenComplete(this::onStartupComplete);
     }
 
     /**
-     * Inflates the overflow menu with the sign out option.
+     * Routes the user once startup is complete, unless the activity is
+     * already closing.
+     */
+    private void onStartupComplete() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+
+        Trace.beginSection("EventsActivity.route");
+        try {
+            route();
+        } finally {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Routes to the LoginActivity if no user is logged in. Otherwise,
+     * initializes the view model and starts loading the user's events.
+     */
+    private void route() {
+        viewModel = new ViewModelProvider(this).get(EventsViewModel.class);
+
+        if (viewModel.getCurrentUserId() == null) {
+            Intent loginIntent = new Intent(this, LoginActivity.class);
+            loginIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+            startActivity(loginIntent);
+            finish();
+            return;
+        }
+
+        setupRecyclerView();
+        loadEvents();
+        observeMutationFailures();
+    }
+
+    /**
+     * Inflates the menu with the search and sign out options. The list is
+     * searched as the query is typed.
      */
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
         getMenuInflater().inflate(R.menu.events_menu, menu);
+
+        SearchView searchView = (SearchView) menu.findItem(R.id.action_search).getActionView();
+        if (searchView != null) {
+            searchView.setQueryHint(getString(R.string.search_events));
+            searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
+                @Override
+                public boolean onQueryTextSubmit(String query) {
+                    search(query);
+                    searchView.clearFocus();
+                    return true;
+                }
+
+                @Override
+                public boolean onQueryTextChange(String newText) {
+                    search(newText);
+                    return true;
+                }
+            });
+        }
         return true;
     }
 
@@ -86,6 +231,18 @@ public class EventsActivity extends AppCompatActivity {
      */
     @Override
     public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        if (item.getItemId() == R.id.action_free_time) {
+            showFreeTime();
+            return true;
+        }
+        if (item.getItemId() == R.id.action_import) {
+            importLauncher.launch(IMPORT_MIME_TYPES);
+            return true;
+        }
+        if (item.getItemId() == R.id.action_export) {
+            chooseExportFormat();
+            return true;
+        }
         if (item.getItemId() == R.id.action_sign_out) {
             handleSignOut();
             return true;
@@ -93,6 +250,149 @@ public class EventsActivity extends AppCompatActivity {
         return super.onOptionsItemSelected(item);
     }
 
+    /**
+     * Shows the free time left today between the user's events.
+     */
+    private void showFreeTime() {
+        EventFormatter formatter = new EventFormatter();
+        viewModel.freeTimeToday(free -> {
+            StringBuilder message = new StringBuilder();
+            for (EventIntervalTree.TimeRange range : free) {
+                if (message.length() > 0) {
+                    message.append('\n');
+                }
+                message.append(formatter.time(range.start)).append(" - ").append(formatter.time(range.end));
+            }
+
+            new AlertDialog.Builder(this)
+                    .setTitle(R.string.free_time_today)
+                    .setMessage(message.length() > 0 ? message.toString() : "No free time left today.")
+                    .setPositiveButton("OK", null)
+                    .show();
+        });
+    }
+
+    /**
+     * Imports the events of the picked calendar file. Progress is shown in
+     * the toolbar while the events are saved.
+     *
+     * @param uri The picked file, or {@code null} if nothing was picked.
+     */
+    private void importEvents(Uri uri) {
+        if (uri == null) {
+            return;
+        }
+
+        EventFormat format = EventFormat.of(getContentResolver().getType(uri), fileName(uri));
+        if (format == null) {
+            Toast.makeText(this, "Choose an .ics or .csv file.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        ParcelFileDescriptor file = openFile(uri, "r");
+        if (file == null) {
+            Toast.makeText(this, "Couldn't open the file.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        eventsToolbar.setSubtitle("Importing events...");
+        viewModel.importEvents(file, uri.toString(), format,
+                imported -> eventsToolbar.setSubtitle("Imported " + imported + " events..."),
+                result -> {
+                    eventsToolbar.setSubtitle(null);
+                    String message;
+                    if (result == null) {
+                        message = "Couldn't read the file. Import it again to continue.";
+                    } else if (!result.complete) {
+                        message = "Import stopped after " + result.checkpoint.position
+                                + " events. Import the file again to continue.";
+                    } else {
+                        message = "Imported " + result.checkpoint.position + " events.";
+                        if (result.skipped > 0) {
+                            message += " Skipped " + result.skipped + " without a title or start time.";
+                        }
+                    }
+                    Toast.makeText(this, message, Toast.LENGTH_LONG).show();
+                });
+    }
+
+    /**
+     * Asks which format to export events in, then asks where to save the file.
+     */
+    private void chooseExportFormat() {
+        String[] formats = {"iCalendar (.ics)", "Spreadsheet (.csv)"};
+        new AlertDialog.Builder(this)
+                .setTitle(R.string.export_events)
+                .setItems(formats, (dialog, which) -> {
+                    if (which == 0) {
+                        icsExportLauncher.launch("events" + EventFormat.ICS.extension);
+                    } else {
+                        csvExportLauncher.launch("events" + EventFormat.CSV.extension);
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    /**
+     * Exports the user's events to the created file.
+     *
+     * @param uri The created file, or {@code null} if it wasn't created.
+     * @param format The format to write.
+     */
+    private void exportEvents(Uri uri, EventFormat format) {
+        if (uri == null) {
+            return;
+        }
+
+        // truncate, in case an existing file was picked
+        ParcelFileDescriptor file = openFile(uri, "wt");
+        if (file == null) {
+            Toast.makeText(this, "Couldn't create the file.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        eventsToolbar.setSubtitle("Exporting events...");
+        viewModel.exportEvents(file, format, exported -> {
+            eventsToolbar.setSubtitle(null);
+            Toast.makeText(this, exported != null ? "Exported " + exported + " events." : "Export failed.",
+                    Toast.LENGTH_SHORT).show();
+        });
+    }
+
+    /**
+     * Opens a picked or created file.
+     *
+     * @param uri The file.
+     * @param mode The mode to open the file in, such as {@code "r"}.
+     * @return The file, or {@code null} if it couldn't be opened.
+     */
+    private ParcelFileDescriptor openFile(Uri uri, String mode) {
+        try {
+            return getContentResolver().openFileDescriptor(uri, mode);
+        } catch (FileNotFoundException | SecurityException e) {
+            Log.d("EventsActivity", "Failed to open file " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the display name of a picked file, used to tell its format.
+     *
+     * @param uri The file.
+     * @return The file name, or the last segment of the URI if the provider
+     *         doesn't give one.
+     */
+    private String fileName(Uri uri) {
+        try (Cursor cursor = getContentResolver().query(uri, new String[] {OpenableColumns.DISPLAY_NAME},
+                null, null, null)) {
+            if (cursor != null && cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getString(0);
+            }
+        }
+        return uri.getLastPathSegment();
+    }
+
     /**
      * Logs the user out and returns to the LoginActivity as the root activity.
      */
@@ -120,19 +420,62 @@ public class EventsActivity extends AppCompatActivity {
      * Sets up the RecyclerView with a single-column Grid layout.
      */
     private void setupRecyclerView() {
-        eventsRecyclerView.setLayoutManager(new GridLayoutManager(this, 1));
+        GridLayoutManager layoutManager = new GridLayoutManager(this, 1);
+        eventsRecyclerView.setLayoutManager(layoutManager);
 
         EventRecyclerAdapter adapter = new EventRecyclerAdapter(
-                event ->
-                        viewModel.deleteEvent(event.id,
-                        () -> Toast.makeText(this, "Event deleted.", Toast.LENGTH_SHORT).show()),
+                this::deleteEvent,
                 event -> {
                     Intent intent = new Intent(this, AddEditEventActivity.class);
                     intent.putExtra(AddEditEventActivity.EDIT_EVENT_ID, event.id);
+                    if (event.recurrence != null) {
+                        intent.putExtra(AddEditEventActivity.EDIT_OCCURRENCE_TIME, event.eventTime);
+                    }
                     startActivity(intent);
                 });
 
         eventsRecyclerView.setAdapter(adapter);
+        jankMonitor.trackScrolling(eventsRecyclerView);
+
+        // repeating events are only expanded as far as the list is scrolled
+        eventsRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (searchQuery == null && dy > 0
+                        && layoutManager.findLastVisibleItemPosition()
+                        >= layoutManager.getItemCount() - SHOW_MORE_THRESHOLD) {
+                    viewModel.showMore();
+                }
+            }
+        });
+    }
+
+    /**
+     * Deletes an event from the list. For an occurrence of a repeating event,
+     * asks whether to delete only that occurrence or the whole series.
+     *
+     * @param event The event to delete.
+     */
+    private void deleteEvent(EventSummary event) {
+        if (event.recurrence == null) {
+            viewModel.deleteEvent(event.id,
+                    () -> Toast.makeText(this, "Event deleted.", Toast.LENGTH_SHORT).show());
+            return;
+        }
+
+        new AlertDialog.Builder(this)
+                .setTitle("Delete repeating event")
+                .setItems(new String[] {"This event", "All events"}, (dialog, which) -> {
+                    if (which == 0) {
+                        viewModel.deleteOccurrence(event.id, event.eventTime,
+                                () -> Toast.makeText(this, "Event deleted.", Toast.LENGTH_SHORT).show());
+                    } else {
+                        viewModel.deleteEvent(event.id,
+                                () -> Toast.makeText(this, "Events deleted.", Toast.LENGTH_SHORT).show());
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
     }
 
     /**
@@ -150,12 +493,124 @@ public class EventsActivity extends AppCompatActivity {
         EventRecyclerAdapter adapter = (EventRecyclerAdapter) eventsRecyclerView.getAdapter();
         if (adapter != null) {
             viewModel.userEvents(userId).observe(this, events -> {
-                adapter.submit(events);
-                emptyStateTextView.setVisibility(
-                        (events == null || events.isEmpty())
-                                ? View.VISIBLE
-                                : View.GONE);
+                // keep the empty state hidden while the first events load
+                if (events == null) {
+                    return;
+                }
+
+                latestEvents = events;
+                if (searchQuery != null) {
+                    // rerun the search so the results reflect the change
+                    search(searchQuery);
+                } else {
+                    showEvents(events, false);
+                }
+                logFirstContent();
             });
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Shows event changes that could not be saved and were undone. Conflicts
+     * with edits from another device let the user keep either version.
+     */
+    private void observeMutationFailures() {
+        viewModel.mutationFailures().observe(this, failure -> {
+            if (failure == null) {
+                return;
+            }
+            viewModel.consumeMutationFailure();
+
+            if (!failure.isConflict()) {
+                Toast.makeText(this, failure.message + " Changes were undone.", Toast.LENGTH_LONG).show();
+                return;
+            }
+
+            showConflict(failure);
+        });
+    }
+
+    /**
+     * Lets the user choose between keeping their edits or the newer version of
+     * an event that was changed on another device.
+     *
+     * @param failure The conflict holding both versions of the event.
+     */
+    private void showConflict(EventRepository.MutationFailure failure) {
+        new AlertDialog.Builder(this)
+                .setTitle("Event changed")
+                .setMessage(failure.message)
+                .setPositiveButton("Keep mine",
+                        (dialog, which) -> viewModel.keepLocalChanges(failure.local, failure.remote))
+                .setNegativeButton("Use theirs", null)
+                .show();
+    }
+
+    /**
+     * Shows the events matching a search query, best match first. A blank
+     * query shows all upcoming events again.
+     *
+     * @param query The search query.
+     */
+    private void search(String query) {
+        searchQuery = (query == null || query.trim().isEmpty()) ? null : query;
+        int generation = ++searchGeneration;
+
+        // the list isn't set up until startup completes, and searches once it loads
+        if (viewModel == null || latestEvents == null) {
+            return;
+        }
+
+        if (searchQuery == null) {
+            showEvents(latestEvents, false);
+            return;
+        }
+
+        viewModel.search(searchQuery, results -> {
+            if (generation == searchGeneration) {
+                showEvents(results, true);
+            }
+        });
+    }
+
+    /**
+     * Submits a list to the adapter and shows the matching empty state.
+     *
+     * @param events The events to show.
+     * @param searching Whether the events are search results.
+     */
+    private void showEvents(List<EventSummary> events, boolean searching) {
+        EventRecyclerAdapter adapter = (EventRecyclerAdapter) eventsRecyclerView.getAdapter();
+        if (adapter == null) {
+            return;
+        }
+
+        jankMonitor.markListUpdate();
+        adapter.submit(events);
+        emptyStateTextView.setText(searching ? R.string.no_search_results : R.string.events_empty_state);
+        emptyStateTextView.setVisibility(
+                (events == null || events.isEmpty())
+                        ? View.VISIBLE
+                        : View.GONE);
+    }
+
+    /**
+     * Logs the time from process start until the events list first has
+     * content to show, used to measure cold start rendering, and how long the
+     * list was blank after the activity was created, used to measure the
+     * wait after signing in. Reports the activity fully drawn once the list
+     * has been drawn.
+     */
+    private void logFirstContent() {
+        if (firstContentLogged) {
+            return;
+        }
+        firstContentLogged = true;
+        Trace.endAsyncSection("EventsActivity.firstContent", FIRST_CONTENT_TRACE_COOKIE);
+        getFullyDrawnReporter().removeReporter();
+
+        long now = SystemClock.uptimeMillis();
+        Log.d("EventsActivity", "Time to first content: " + (now - Process.getStartUptimeMillis()) + " ms");
+        Log.d("EventsActivity", "Blank list interval: " + (now - createdAt) + " ms");
+    }
+}
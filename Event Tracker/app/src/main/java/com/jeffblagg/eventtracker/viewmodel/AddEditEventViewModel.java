@@ -12,6 +12,7 @@ package com.jeffblagg.eventtracker.viewmodel;
 import com.jeffblagg.eventtracker.authentication.AuthManager;
 import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
 import com.jeffblagg.eventtracker.repo.EventRepository;
 
 import android.app.Application;
@@ -19,12 +20,19 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 
+import java.util.List;
+
 /**
  * The view model for the AddEditEventActivity. Connects to the
  * {@link EventRepository} to add new events or save changes to existing
  * ones.
  */
 public class AddEditEventViewModel extends AndroidViewModel {
+   /**
+    * Maximum number of title suggestions shown.
+    */
+   private static final int TITLE_SUGGESTION_LIMIT = 5;
+
    private final EventRepository repo;
    private final AuthManager authManager;
 
@@ -43,6 +51,11 @@ public class AddEditEventViewModel extends AndroidViewModel {
     */
    public interface ErrorCallback { void onError(String errorMessage); }
 
+   /**
+    * Interface for a callback after overlapping events have been found.
+    */
+   public interface OverlapCallback { void onOverlaps(List<EventSummary> overlapping); }
+
    /**
     * AddEditEventViewModel constructor. Initializes the event repository.
     *
@@ -50,18 +63,56 @@ public class AddEditEventViewModel extends AndroidViewModel {
     */
    public AddEditEventViewModel(@NonNull Application application) {
       super(application);
-      repo = new EventRepository(application);
-      authManager = new FirebaseAuthManager();
+      repo = EventRepository.getInstance(application);
+      authManager = FirebaseAuthManager.getInstance();
    }
 
    /**
-    * Fetches an existing event matching the provided id.
+    * Fetches an existing event matching the provided id. The cached event is
+    * returned right away, followed by the server copy once it arrives.
     *
     * @param eventId The id of the event to fetch.
     * @param callback The callback returning the fetched event.
+    * @param refreshCallback The callback returning the refreshed server copy.
     */
-   public void loadEvent(String eventId, LoadEventCallback callback) {
-      repo.getEvent(eventId, callback::onEventLoaded);
+   public void loadEvent(String eventId, LoadEventCallback callback, LoadEventCallback refreshCallback) {
+      repo.getEvent(eventId,
+              EventRepository.ReadPolicy.CACHE_THEN_SERVER,
+              callback::onEventLoaded,
+              refreshCallback::onEventLoaded);
+   }
+
+   /**
+    * Suggests titles of the user's events starting with the typed text. Safe
+    * to call from any thread.
+    *
+    * @param prefix The typed text.
+    * @return The suggested titles, the most used first.
+    */
+   public List<String> suggestTitles(String prefix) {
+      return repo.suggestTitles(prefix, TITLE_SUGGESTION_LIMIT);
+   }
+
+   /**
+    * Checks if an event time has not passed yet, using the repository's clock.
+    *
+    * @param eventTime The time of the event, in milliseconds.
+    * @return {@code true} if the event time is now or in the future.
+    */
+   public boolean isInFuture(long eventTime) {
+      return eventTime >= repo.getClock().now();
+   }
+
+   /**
+    * Finds the user's other events that overlap an event's time.
+    *
+    * @param eventId The id of the event being saved, or {@code null} for a new event.
+    * @param eventTime The time of the event, in milliseconds.
+    * @param endTime The end time of the event, in milliseconds, or {@code null}.
+    * @param callback The callback receiving the overlapping events, ordered by time.
+    */
+   public void findOverlapping(String eventId, long eventTime, Long endTime, OverlapCallback callback) {
+      callback.onOverlaps(repo.findOverlapping(eventId, eventTime, endTime));
    }
 
    /**
@@ -70,14 +121,19 @@ public class AddEditEventViewModel extends AndroidViewModel {
     * @param title The title of the event.
     * @param description The description of the event.
     * @param eventTime The time of the event, in milliseconds.
+    * @param endTime The end time of the event, in milliseconds, or {@code null}.
     * @param cardColor The color for the event card.
+    * @param recurrence The event's recurrence rule, or {@code null} if the
+    *                   event doesn't repeat.
     * @param callback The callback triggered on successful save.
     * @param errorCallback The callback triggered if an error is encountered.
     */
    public void createNewEvent(String title,
                               String description,
                               long eventTime,
+                              Long endTime,
                               Integer cardColor,
+                              String recurrence,
                               SaveEventCallback callback,
                               ErrorCallback errorCallback) {
       String userId = authManager.getCurrentUserId();
@@ -95,16 +151,42 @@ public class AddEditEventViewModel extends AndroidViewModel {
       // uses `null` for the event id because Firestore will provide an id
       // when adding the event
       Event event = new Event(null, userId, eventTime, title, description, cardColor);
+      event.endTime = endTime;
+      event.recurrence = recurrence;
       repo.add(event, callback::onEventSaved);
    }
 
    /**
-    * Updates an existing event.
+    * Updates an existing event, saving only the fields changed from the original.
+    * The callback is triggered as soon as the edit is applied locally. Conflicts
+    * with edits from another device are reported through
+    * {@link EventRepository#mutationFailures()}.
+    *
+    * @param original The event as it was loaded.
+    * @param event The edited event to save.
+    * @param callback Callback triggered once the update has been applied.
+    */
+   public void updateEvent(Event original, Event event, SaveEventCallback callback) {
+      repo.update(original, event, callback::onEventSaved);
+   }
+
+   /**
+    * Saves an edit to one occurrence of a repeating event. The occurrence is
+    * removed from the series and the edited occurrence is added as its own
+    * event, so the rest of the series is unchanged.
     *
-    * @param event The event to update.
-    * @param callback Callback triggered on successful update.
+    * @param series The repeating event as it was loaded.
+    * @param occurrenceTime The start time of the edited occurrence, in milliseconds.
+    * @param occurrence The edited occurrence.
+    * @param callback Callback triggered with the new event's id once both
+    *                 changes have been applied.
     */
-   public void updateEvent(Event event, SaveEventCallback callback) {
-      repo.update(event, callback::onEventSaved);
+   public void detachOccurrence(Event series, long occurrenceTime, Event occurrence, SaveEventCallback callback) {
+      Event single = new Event(occurrence);
+      single.id = null;
+      single.recurrence = null;
+      single.exceptions = null;
+      repo.update(series, repo.withoutOccurrence(series, occurrenceTime),
+              id -> repo.add(single, callback::onEventSaved));
    }
 }
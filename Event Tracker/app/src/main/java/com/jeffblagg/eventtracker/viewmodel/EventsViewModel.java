@@ -12,14 +12,23 @@ package com.jeffblagg.eventtracker.viewmodel;
 import com.jeffblagg.eventtracker.authentication.AuthManager;
 import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
 import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
 import com.jeffblagg.eventtracker.repo.EventRepository;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+import com.jeffblagg.eventtracker.transfer.EventFormat;
 
 import android.app.Application;
+import android.os.ParcelFileDescriptor;
 
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.MutableLiveData;
 
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.List;
 
 /**
@@ -28,13 +37,45 @@ import java.util.List;
  * or delete an existing event.
  */
 public class EventsViewModel extends AndroidViewModel {
+   /**
+    * Maximum number of search results shown.
+    */
+   private static final int SEARCH_RESULT_LIMIT = 50;
+
+   /**
+    * Shortest free time worth showing, in milliseconds.
+    */
+   private static final long MIN_FREE_TIME = 30 * 60 * 1000L;
+
+   /**
+    * Number of list rows shown at first, and added each time the list is
+    * scrolled to its end.
+    */
+   private static final int PAGE_SIZE = 50;
+
    private final EventRepository repo;
    private final AuthManager authManager;
 
+   // the number of list rows to expand, grown as the list is scrolled
+   private final MutableLiveData<Integer> listLimit = new MutableLiveData<>(PAGE_SIZE);
+   private MediatorLiveData<List<EventSummary>> listedEvents;
+   private String listedUserId;
+
+   // whether the list was cut off at the limit, so scrolling can show more
+   private boolean hasMoreEvents = false;
+
    /**
     * Interface for a callback after and event has been deleted.
     */
    public interface DeleteCallback { void onDelete(); }
+   /**
+    * Interface for a callback after a search has finished.
+    */
+   public interface SearchCallback { void onResults(List<EventSummary> results); }
+   /**
+    * Interface for a callback after free time has been found.
+    */
+   public interface FreeTimeCallback { void onFreeTime(List<EventIntervalTree.TimeRange> free); }
 
    /**
     * EventsViewModel constructor. Initializes the event repository.
@@ -43,18 +84,116 @@ public class EventsViewModel extends AndroidViewModel {
     */
    public EventsViewModel(@NonNull Application application) {
       super(application);
-      repo = new EventRepository(application);
-      authManager = new FirebaseAuthManager();
+      repo = EventRepository.getInstance(application);
+      authManager = FirebaseAuthManager.getInstance();
    }
 
    /**
-    * Fetches the {@link LiveData} list of the user's future events.
+    * Fetches the {@link LiveData} list of summaries for the user's future
+    * events. Repeating events are expanded into a row per occurrence, and
+    * only the rows up to the list limit are expanded; see {@link #showMore()}.
     *
     * @param userId The id for the user whose events should be fetched.
     * @return LiveData list of the specified user's future events.
     */
-   public LiveData<List<Event>> userEvents(String userId) {
-      return repo.userEvents(userId);
+   public LiveData<List<EventSummary>> userEvents(String userId) {
+      if (listedEvents == null || !userId.equals(listedUserId)) {
+         LiveData<List<EventSummary>> events = repo.userEvents(userId);
+         listedUserId = userId;
+         listedEvents = new MediatorLiveData<>();
+         listedEvents.addSource(events, list -> expand(list, listLimit.getValue()));
+         listedEvents.addSource(listLimit, limit -> expand(events.getValue(), limit));
+      }
+      return listedEvents;
+   }
+
+   /**
+    * Shows another page of the list, if the list was cut off at its limit.
+    * Called as the list is scrolled near its end.
+    */
+   public void showMore() {
+      Integer limit = listLimit.getValue();
+      if (hasMoreEvents && limit != null) {
+         hasMoreEvents = false;
+         listLimit.setValue(limit + PAGE_SIZE);
+      }
+   }
+
+   /**
+    * Expands the user's events into the rows of the list.
+    *
+    * @param events The user's upcoming events, or {@code null} while loading.
+    * @param limit The most rows to expand.
+    */
+   private void expand(List<EventSummary> events, Integer limit) {
+      if (events == null || limit == null) {
+         listedEvents.setValue(null);
+         return;
+      }
+
+      List<EventSummary> rows = Occurrences.upcoming(events, repo.getClock().now(), limit);
+      hasMoreEvents = rows.size() == limit;
+      listedEvents.setValue(rows);
+   }
+
+   /**
+    * Searches the user's upcoming events by title and description.
+    *
+    * @param query The search query.
+    * @param callback Callback receiving the matching events, best match first.
+    */
+   public void search(String query, @NonNull SearchCallback callback) {
+      repo.searchEvents(query, SEARCH_RESULT_LIMIT, results -> {
+         // show a repeating event at its next occurrence
+         long now = repo.getClock().now();
+         List<EventSummary> rows = new ArrayList<>(results.size());
+         for (EventSummary event : results) {
+            Long next = event.recurrence != null ? Occurrences.next(event, now) : null;
+            rows.add(next != null ? Occurrences.occurrence(event, next) : event);
+         }
+         callback.onResults(rows);
+      });
+   }
+
+   /**
+    * Finds the user's free time between events from now until the end of
+    * the day.
+    *
+    * @param callback Callback receiving the free time ranges, in order.
+    */
+   public void freeTimeToday(@NonNull FreeTimeCallback callback) {
+      long now = repo.getClock().now();
+      callback.onFreeTime(repo.freeTime(now, endOfDay(now), MIN_FREE_TIME));
+   }
+
+   /**
+    * Fetches the {@link LiveData} of event changes that failed to save and were undone.
+    *
+    * @return LiveData holding the latest failure, or {@code null} once consumed.
+    */
+   public LiveData<EventRepository.MutationFailure> mutationFailures() {
+      return repo.mutationFailures();
+   }
+
+   /**
+    * Marks the latest failure as shown.
+    */
+   public void consumeMutationFailure() {
+      repo.consumeMutationFailure();
+   }
+
+   /**
+    * Resolves an update conflict by reapplying the local edits on top of the
+    * newer remote version of the event.
+    *
+    * @param local The locally edited event.
+    * @param remote The newer remote event.
+    */
+   public void keepLocalChanges(Event local, Event remote) {
+      Event event = new Event(local);
+      event.version = remote.version;
+      event.updatedAt = remote.updatedAt;
+      repo.update(remote, event, id -> { });
    }
 
    /**
@@ -67,6 +206,47 @@ public class EventsViewModel extends AndroidViewModel {
       repo.delete(eventId, callback::onDelete);
    }
 
+   /**
+    * Deletes one occurrence of a repeating event, keeping the rest of the series.
+    *
+    * @param eventId The id of the repeating event.
+    * @param occurrenceTime The start time of the occurrence, in milliseconds.
+    * @param callback Callback triggered after the occurrence has been deleted.
+    */
+   public void deleteOccurrence(String eventId, long occurrenceTime, @NonNull DeleteCallback callback) {
+      repo.removeOccurrence(eventId, occurrenceTime, id -> callback.onDelete());
+   }
+
+   /**
+    * Imports the events of a calendar file for the current user. Events are
+    * saved in batches, and importing the same file after a failure resumes
+    * where it stopped.
+    *
+    * @param file The file to import. Closed when the import stops.
+    * @param source The file's URI, used to resume the import.
+    * @param format The file's format.
+    * @param progress Callback with the number of events saved so far.
+    * @param finished Callback with the import result, or {@code null} if it failed.
+    */
+   public void importEvents(ParcelFileDescriptor file, String source, EventFormat format,
+                            @NonNull EventRepository.OnImportProgress progress,
+                            @NonNull EventRepository.OnImportFinished finished) {
+      repo.importEvents(file, source, format, progress, finished);
+   }
+
+   /**
+    * Exports all of the current user's events to a calendar file.
+    *
+    * @param file The file to write. Closed when the export finishes.
+    * @param format The file's format.
+    * @param finished Callback with the number of events exported, or
+    *                 {@code null} if the export failed.
+    */
+   public void exportEvents(ParcelFileDescriptor file, EventFormat format,
+                            @NonNull EventRepository.OnExportFinished finished) {
+      repo.exportEvents(file, format, finished);
+   }
+
    /**
     * Gets the id for the current user.
     *
@@ -82,4 +262,21 @@ public class EventsViewModel extends AndroidViewModel {
    public void signOut() {
        authManager.signOut();
    }
+
+   /**
+    * Gets the end of the day a time falls on, in the device's time zone.
+    *
+    * @param time The time, in milliseconds.
+    * @return Midnight after the time, in milliseconds.
+    */
+   private static long endOfDay(long time) {
+      Calendar calendar = Calendar.getInstance();
+      calendar.setTimeInMillis(time);
+      calendar.set(Calendar.HOUR_OF_DAY, 0);
+      calendar.set(Calendar.MINUTE, 0);
+      calendar.set(Calendar.SECOND, 0);
+      calendar.set(Calendar.MILLISECOND, 0);
+      calendar.add(Calendar.DAY_OF_MONTH, 1);
+      return calendar.getTimeInMillis();
+   }
 }
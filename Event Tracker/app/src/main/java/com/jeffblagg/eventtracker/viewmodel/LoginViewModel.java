@@ -12,6 +12,7 @@ package com.jeffblagg.eventtracker.viewmodel;
 import com.jeffblagg.eventtracker.authentication.AuthManager;
 import com.jeffblagg.eventtracker.authentication.FirebaseAuthManager;
 import com.jeffblagg.eventtracker.reminder.SMSPermissionManager;
+import com.jeffblagg.eventtracker.repo.EventRepository;
 
 import android.app.Application;
 
@@ -25,6 +26,7 @@ import androidx.lifecycle.AndroidViewModel;
 public class LoginViewModel extends AndroidViewModel {
     private final AuthManager authManager;
     private final SMSPermissionManager smsPermissionManager;
+    private final EventRepository eventRepository;
 
     /**
      * LoginViewModel constructor. Initializes the user repository.
@@ -33,8 +35,9 @@ public class LoginViewModel extends AndroidViewModel {
      */
     public LoginViewModel(@NonNull Application application) {
         super(application);
-        authManager = new FirebaseAuthManager();
+        authManager = FirebaseAuthManager.getInstance();
         smsPermissionManager = new SMSPermissionManager(application);
+        eventRepository = EventRepository.getInstance(application);
     }
 
     /**
@@ -57,7 +60,9 @@ public class LoginViewModel extends AndroidViewModel {
     }
 
     /**
-     * Attempts to log the user in with the provided email and password.
+     * Attempts to log the user in with the provided email and password. On
+     * success, the user's events start loading in parallel with opening the
+     * events screen.
      *
      * @param email The email for the user.
      * @param password The password for the user.
@@ -67,6 +72,7 @@ public class LoginViewModel extends AndroidViewModel {
         authManager.signIn(email, password, new AuthManager.AuthCallback() {
             @Override
             public void onSuccess(String userId) {
+                eventRepository.prefetch(userId);
                 callback.onSuccess(userId);
             }
 
@@ -94,6 +100,7 @@ public class LoginViewModel extends AndroidViewModel {
         authManager.createAccount(email, password, new AuthManager.AuthCallback() {
             @Override
             public void onSuccess(String userId) {
+                eventRepository.prefetch(userId);
                 callback.onSuccess(userId);
             }
 
@@ -32,7 +32,7 @@ public class NotificationPermissionViewModel extends AndroidViewModel {
     public NotificationPermissionViewModel(@NonNull Application application) {
         super(application);
         smsPermissionManager = new SMSPermissionManager(application);
-        authManager = new FirebaseAuthManager();
+        authManager = FirebaseAuthManager.getInstance();
     }
 
     /**
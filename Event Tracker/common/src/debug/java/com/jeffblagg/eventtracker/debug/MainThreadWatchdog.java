@@ -0,0 +1,249 @@
+/*
+ * MainThreadWatchdog.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.debug;
+
+import com.jeffblagg.eventtracker.metrics.PerformanceReports;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.Printer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debug build watchdog that finds main thread messages that run longer than
+ * {@link #THRESHOLD_MS} and captures what the main thread was doing.
+ *
+ * <p>The main looper logs the start and end of every message it dispatches.
+ * A background thread checks the running message every half threshold and
+ * captures the main thread's stack once the message runs past the threshold.
+ * Stalls are grouped by stack and saved to app storage a few seconds after
+ * the last one, so the same slow call site is reported once with a count.</p>
+ */
+final class MainThreadWatchdog implements Printer {
+    /**
+     * Report type, used as the saved report's file name prefix.
+     */
+    static final String TYPE = "stalls";
+
+    /**
+     * Time a main thread message may run before it is reported, in milliseconds.
+     */
+    static final long THRESHOLD_MS = 100;
+
+    /**
+     * Time to wait after a stall before saving the report, in milliseconds.
+     */
+    private static final long SAVE_DELAY_MS = 5_000;
+
+    /**
+     * Number of stack frames kept for each stall.
+     */
+    private static final int MAX_STACK_FRAMES = 25;
+
+    /**
+     * Stalls with the same stack and message target.
+     */
+    private static final class Stall {
+        final String target;
+        final List<String> stack;
+        int count;
+        long totalMs;
+        long maxMs;
+
+        Stall(String target, List<String> stack) {
+            this.target = target;
+            this.stack = stack;
+        }
+    }
+
+    private static MainThreadWatchdog instance;
+
+    private final Context context;
+    private final Thread mainThread = Looper.getMainLooper().getThread();
+    private final Handler handler;
+    private final long startedAt = System.currentTimeMillis();
+
+    // stack signature -> stall, guarded by this
+    private final Map<String, Stall> stalls = new HashMap<>();
+
+    // the running message, written on the main thread
+    private volatile int generation;
+    private volatile long dispatchStart;
+    private volatile boolean dispatching;
+
+    // the stack captured for the running message, written on the watchdog thread
+    private volatile int capturedGeneration = -1;
+    private volatile StackTraceElement[] capturedStack;
+
+    private final Runnable checkTask = this::check;
+    private final Runnable saveTask = this::save;
+
+    /**
+     * MainThreadWatchdog constructor.
+     *
+     * @param context Context used to find app storage.
+     */
+    private MainThreadWatchdog(Context context) {
+        this.context = context.getApplicationContext();
+
+        HandlerThread thread = new HandlerThread("MainThreadWatchdog");
+        thread.start();
+        handler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Starts watching the main thread. Only the first call has an effect.
+     *
+     * @param context Context used to find app storage.
+     */
+    static synchronized void install(Context context) {
+        if (instance != null) {
+            return;
+        }
+
+        instance = new MainThreadWatchdog(context);
+        Looper.getMainLooper().setMessageLogging(instance);
+        instance.handler.postDelayed(instance.checkTask, THRESHOLD_MS / 2);
+    }
+
+    /**
+     * Called by the main looper before and after each message.
+     *
+     * @param line The looper's log line, starting with ">>>>> Dispatching"
+     *             or "<<<<< Finished".
+     */
+    @Override
+    public void println(String line) {
+        if (line.startsWith(">")) {
+            generation++;
+            dispatchStart = SystemClock.uptimeMillis();
+            dispatching = true;
+        } else if (line.startsWith("<") && dispatching) {
+            dispatching = false;
+            long duration = SystemClock.uptimeMillis() - dispatchStart;
+            if (duration >= THRESHOLD_MS) {
+                StackTraceElement[] stack = capturedGeneration == generation ? capturedStack : null;
+                onStall(target(line), stack, duration);
+            }
+        }
+    }
+
+    /**
+     * Captures the main thread's stack if the running message has passed the
+     * threshold, then schedules the next check. Runs on the watchdog thread.
+     */
+    private void check() {
+        int running = generation;
+        if (dispatching && capturedGeneration != running
+                && SystemClock.uptimeMillis() - dispatchStart >= THRESHOLD_MS) {
+            capturedStack = mainThread.getStackTrace();
+            capturedGeneration = running;
+        }
+        handler.postDelayed(checkTask, THRESHOLD_MS / 2);
+    }
+
+    /**
+     * Counts a stall and schedules the report to be saved.
+     *
+     * @param target The handler and callback of the slow message.
+     * @param stack The main thread stack captured during the message, or
+     *              {@code null} if the check didn't run in time.
+     * @param duration How long the message ran, in milliseconds.
+     */
+    private void onStall(String target, StackTraceElement[] stack, long duration) {
+        List<String> frames = new ArrayList<>();
+        if (stack != null) {
+            for (int i = 0; i < stack.length && i < MAX_STACK_FRAMES; i++) {
+                frames.add(stack[i].toString());
+            }
+        }
+        String signature = target + "\n" + String.join("\n", frames);
+
+        synchronized (this) {
+            Stall stall = stalls.get(signature);
+            if (stall == null) {
+                stall = new Stall(target, frames);
+                stalls.put(signature, stall);
+            }
+            stall.count++;
+            stall.totalMs += duration;
+            stall.maxMs = Math.max(stall.maxMs, duration);
+        }
+
+        Log.d("MainThreadWatchdog", "Main thread blocked for " + duration + " ms by " + target);
+        handler.removeCallbacks(saveTask);
+        handler.postDelayed(saveTask, SAVE_DELAY_MS);
+    }
+
+    /**
+     * Saves the stall report to app storage.
+     */
+    private void save() {
+        try {
+            PerformanceReports.saveInBackground(context, TYPE, startedAt, toJson(System.currentTimeMillis()));
+        } catch (JSONException e) {
+            Log.d("MainThreadWatchdog", "JSON Exception " + e);
+        }
+    }
+
+    /**
+     * Builds the JSON report of the recorded stalls, slowest in total first.
+     *
+     * @param generatedAt The time of the report, in milliseconds.
+     * @return The report.
+     * @throws JSONException If a value can't be written to the report.
+     */
+    private synchronized JSONObject toJson(long generatedAt) throws JSONException {
+        List<Stall> sorted = new ArrayList<>(stalls.values());
+        sorted.sort((a, b) -> Long.compare(b.totalMs, a.totalMs));
+
+        JSONArray stallsJson = new JSONArray();
+        for (Stall stall : sorted) {
+            JSONObject json = new JSONObject();
+            json.put("target", stall.target);
+            json.put("count", stall.count);
+            json.put("totalMs", stall.totalMs);
+            json.put("maxMs", stall.maxMs);
+            json.put("stack", new JSONArray(stall.stack));
+            stallsJson.put(json);
+        }
+
+        JSONObject report = new JSONObject();
+        report.put("startedAt", startedAt);
+        report.put("generatedAt", generatedAt);
+        report.put("thresholdMs", THRESHOLD_MS);
+        report.put("stalls", stallsJson);
+        return report;
+    }
+
+    /**
+     * Gets the handler and callback of a message from the looper's log line,
+     * without object hash codes, so the same call site always matches.
+     *
+     * @param line The looper's "<<<<< Finished to" log line.
+     * @return The message target.
+     */
+    private static String target(String line) {
+        int start = line.indexOf('(');
+        String target = start >= 0 ? line.substring(start) : line;
+        return target.replaceAll("\\{[0-9a-f]+\\}", "").replaceAll("@[0-9a-f]+", "").trim();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * MetricsActivity.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.debug;
+
+import com.jeffblagg.eventtracker.common.R;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Button;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import androidx.activity.EdgeToEdge;
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.graphics.Insets;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.WindowInsetsCompat;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.PrintWriter;
+
+/**
+ * Debug screen showing the event repository operation latencies and
+ * read/write counts for this process. The app's application provides the
+ * metrics as a {@link RepositoryMetrics.Provider}.
+ *
+ * <p>Only included in debug builds. Open it with
+ * {@code adb shell am start -n com.jeffblagg.eventtracker/.debug.MetricsActivity}.
+ * While it is open, {@code adb shell dumpsys activity
+ * com.jeffblagg.eventtracker/.debug.MetricsActivity} prints the JSON report.</p>
+ */
+public class MetricsActivity extends AppCompatActivity {
+    private RepositoryMetrics metrics;
+    private TextView reportTextView;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        EdgeToEdge.enable(this);
+        setContentView(R.layout.activity_metrics);
+
+        metrics = ((RepositoryMetrics.Provider) getApplication()).getMetrics();
+        reportTextView = findViewById(R.id.reportTextView);
+        Button refreshButton = findViewById(R.id.refreshButton);
+        Button saveButton = findViewById(R.id.saveButton);
+        Button resetButton = findViewById(R.id.resetButton);
+
+        refreshButton.setOnClickListener(v -> showReport());
+        saveButton.setOnClickListener(v -> saveReport());
+        resetButton.setOnClickListener(v -> {
+            metrics.reset();
+            showReport();
+        });
+
+        ViewCompat.setOnApplyWindowInsetsListener(findViewById(R.id.main), (v, insets) -> {
+            Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
+            return insets;
+        });
+
+        showReport();
+    }
+
+    @Override
+    public void dump(@NonNull String prefix, FileDescriptor fd, @NonNull PrintWriter writer, String[] args) {
+        super.dump(prefix, fd, writer, args);
+        JSONObject report = buildReport(System.currentTimeMillis());
+        if (report != null) {
+            writer.println(report);
+        }
+    }
+
+    /**
+     * Shows the current report.
+     */
+    private void showReport() {
+        JSONObject report = buildReport(System.currentTimeMillis());
+        if (report == null) {
+            return;
+        }
+
+        try {
+            reportTextView.setText(report.toString(2));
+        } catch (JSONException exception) {
+            Log.d("MetricsActivity", "JSON Exception " + exception);
+        }
+    }
+
+    /**
+     * Saves the current report to app storage and shows it.
+     */
+    private void saveReport() {
+        long generatedAt = System.currentTimeMillis();
+        JSONObject report = buildReport(generatedAt);
+        File file = report != null ? MetricsReport.save(this, report, generatedAt) : null;
+
+        if (file == null) {
+            Toast.makeText(this, "Couldn't save report.", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        Toast.makeText(this, "Saved " + file.getName(), Toast.LENGTH_SHORT).show();
+        showReport();
+    }
+
+    /**
+     * Builds the JSON report of the repository metrics.
+     *
+     * @param generatedAt The time of the report, in milliseconds.
+     * @return The report, or {@code null} if it couldn't be built.
+     */
+    private JSONObject buildReport(long generatedAt) {
+        try {
+            return MetricsReport.toJson(metrics, generatedAt);
+        } catch (JSONException exception) {
+            Log.d("MetricsActivity", "JSON Exception " + exception);
+            return null;
+        }
+    }
+}
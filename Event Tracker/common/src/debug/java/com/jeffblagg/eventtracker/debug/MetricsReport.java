@@ -0,0 +1,134 @@
+/*
+ * MetricsReport.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.debug;
+
+import com.jeffblagg.eventtracker.metrics.LatencyHistogram;
+import com.jeffblagg.eventtracker.metrics.RepositoryMetrics;
+
+import android.content.Context;
+import android.util.Log;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts {@link RepositoryMetrics} to a JSON report and saves reports to
+ * app storage. Latencies are reported in milliseconds.
+ */
+final class MetricsReport {
+    /**
+     * Directory in app storage holding saved reports.
+     */
+    private static final String REPORT_DIRECTORY = "metrics";
+
+    /**
+     * Percentiles included for each operation.
+     */
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private MetricsReport() {}
+
+    /**
+     * Builds the JSON report of a repository's metrics.
+     *
+     * @param metrics The repository metrics.
+     * @param generatedAt The time of the report, in milliseconds.
+     * @return The report.
+     * @throws JSONException If a value can't be written to the report.
+     */
+    static JSONObject toJson(RepositoryMetrics metrics, long generatedAt) throws JSONException {
+        JSONObject report = new JSONObject();
+        report.put("generatedAt", generatedAt);
+
+        JSONObject operations = new JSONObject();
+        for (RepositoryMetrics.Operation operation : RepositoryMetrics.Operation.values()) {
+            operations.put(operation.name(), latencyJson(metrics.latency(operation)));
+        }
+        report.put("operations", operations);
+
+        JSONObject reads = new JSONObject();
+        reads.put("requests", metrics.getReadRequests());
+        reads.put("cacheHits", metrics.getCacheHits());
+        reads.put("cacheHitRatio", metrics.getCacheHitRatio());
+        reads.put("documentsRead", metrics.getDocumentsRead());
+        reads.put("documentsFromCache", metrics.getDocumentsFromCache());
+        report.put("reads", reads);
+
+        JSONObject writes = new JSONObject();
+        writes.put("requests", metrics.getWriteRequests());
+        writes.put("documentsWritten", metrics.getDocumentsWritten());
+        report.put("writes", writes);
+
+        report.put("listenerFires", metrics.getListenerFires());
+        return report;
+    }
+
+    /**
+     * Saves a report to app storage.
+     *
+     * @param context Context used to find app storage.
+     * @param report The report to save.
+     * @param generatedAt The time of the report, used in the file name.
+     * @return The saved report file, or {@code null} if it couldn't be written.
+     */
+    static File save(Context context, JSONObject report, long generatedAt) {
+        File directory = new File(context.getFilesDir(), REPORT_DIRECTORY);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.d("MetricsReport", "Failed to create " + directory);
+            return null;
+        }
+
+        File file = new File(directory, "repository-" + generatedAt + ".json");
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(report.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            Log.d("MetricsReport", "Failed to write report", exception);
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * Converts an operation's latency histogram to JSON.
+     *
+     * @param histogram The latency histogram, in nanoseconds.
+     * @return The latency summary, in milliseconds.
+     * @throws JSONException If a value can't be written.
+     */
+    private static JSONObject latencyJson(LatencyHistogram histogram) throws JSONException {
+        JSONObject latency = new JSONObject();
+        latency.put("count", histogram.getCount());
+        latency.put("meanMs", histogram.getMean() / 1e6);
+        latency.put("minMs", histogram.getMin() / 1e6);
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + formatPercentile(percentile) + "Ms",
+                    histogram.getValueAtPercentile(percentile) / 1e6);
+        }
+        latency.put("maxMs", histogram.getMax() / 1e6);
+        return latency;
+    }
+
+    /**
+     * Formats a percentile for a JSON key, such as "99" or "99_9".
+     *
+     * @param percentile The percentile.
+     * @return The key part.
+     */
+    private static String formatPercentile(double percentile) {
+        if (percentile == Math.rint(percentile)) {
+            return String.valueOf((long) percentile);
+        }
+        return String.valueOf(percentile).replace('.', '_');
+    }
+}
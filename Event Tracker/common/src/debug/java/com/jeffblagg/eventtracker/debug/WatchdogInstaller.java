@@ -0,0 +1,59 @@
+/*
+ * WatchdogInstaller.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.debug;
+
+import android.content.ContentProvider;
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Starts the {@link MainThreadWatchdog} in debug builds. Content providers
+ * are created before {@link android.app.Application#onCreate()}, so the
+ * watchdog also sees startup, and release builds carry no watchdog code.
+ *
+ * <p>The provider holds no data; every query and change is a no-op.</p>
+ */
+public class WatchdogInstaller extends ContentProvider {
+    @Override
+    public boolean onCreate() {
+        MainThreadWatchdog.install(getContext());
+        return true;
+    }
+
+    @Nullable @Override
+    public Cursor query(@NonNull Uri uri, @Nullable String[] projection, @Nullable String selection,
+                        @Nullable String[] selectionArgs, @Nullable String sortOrder) {
+        return null;
+    }
+
+    @Nullable @Override
+    public String getType(@NonNull Uri uri) {
+        return null;
+    }
+
+    @Nullable @Override
+    public Uri insert(@NonNull Uri uri, @Nullable ContentValues values) {
+        return null;
+    }
+
+    @Override
+    public int delete(@NonNull Uri uri, @Nullable String selection, @Nullable String[] selectionArgs) {
+        return 0;
+    }
+
+    @Override
+    public int update(@NonNull Uri uri, @Nullable ContentValues values, @Nullable String selection,
+                      @Nullable String[] selectionArgs) {
+        return 0;
+    }
+}
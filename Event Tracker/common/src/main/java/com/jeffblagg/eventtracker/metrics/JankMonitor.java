@@ -0,0 +1,147 @@
+/*
+ * JankMonitor.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.metrics;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.metrics.performance.JankStats;
+import androidx.metrics.performance.PerformanceMetricsState;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.json.JSONException;
+
+/**
+ * Monitors an activity's frames with JankStats and tags them with what the
+ * screen is doing, so the {@link JankReport} can tell scrolling jank apart
+ * from jank while the list updates or an event is being saved.
+ *
+ * <p>Frames are only tracked while the activity is resumed. The process'
+ * report is saved to app storage each time a monitored activity pauses.</p>
+ */
+public class JankMonitor implements DefaultLifecycleObserver {
+    /**
+     * State set while a list is scrolling, with the value "dragging" or "settling".
+     */
+    public static final String STATE_SCROLLING = "Scrolling";
+
+    /**
+     * Single frame state set on the frame a new events list is submitted.
+     */
+    public static final String STATE_LIST_UPDATE = "ListUpdate";
+
+    /**
+     * State set while an event is being saved.
+     */
+    public static final String STATE_SAVE = "Save";
+
+    private final AppCompatActivity activity;
+    private final JankReport report;
+    private final JankStats jankStats;
+    private final PerformanceMetricsState.Holder stateHolder;
+
+    /**
+     * JankMonitor constructor. Starts monitoring the activity's window. Must
+     * be called after the activity's content view is set.
+     *
+     * @param activity The activity to monitor.
+     * @param report The report frames are recorded in.
+     */
+    public JankMonitor(AppCompatActivity activity, JankReport report) {
+        this.activity = activity;
+        this.report = report;
+
+        String screen = activity.getClass().getSimpleName();
+        stateHolder = PerformanceMetricsState.getHolderForHierarchy(activity.getWindow().getDecorView());
+        jankStats = JankStats.createAndTrack(activity.getWindow(), frame -> report.record(screen, frame));
+        jankStats.setTrackingEnabled(false);
+
+        activity.getLifecycle().addObserver(this);
+    }
+
+    /**
+     * Tags frames with the {@link #STATE_SCROLLING} state while a list scrolls.
+     *
+     * @param recyclerView The list to watch.
+     */
+    public void trackScrolling(RecyclerView recyclerView) {
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(@NonNull RecyclerView view, int newState) {
+                PerformanceMetricsState state = stateHolder.getState();
+                if (state == null) {
+                    return;
+                }
+
+                if (newState == RecyclerView.SCROLL_STATE_DRAGGING) {
+                    state.putState(STATE_SCROLLING, "dragging");
+                } else if (newState == RecyclerView.SCROLL_STATE_SETTLING) {
+                    state.putState(STATE_SCROLLING, "settling");
+                } else {
+                    state.removeState(STATE_SCROLLING);
+                }
+            }
+        });
+    }
+
+    /**
+     * Tags the next frame with the {@link #STATE_LIST_UPDATE} state. Called
+     * when a new list is submitted to an adapter.
+     */
+    public void markListUpdate() {
+        PerformanceMetricsState state = stateHolder.getState();
+        if (state != null) {
+            state.putSingleFrameState(STATE_LIST_UPDATE, "submit");
+        }
+    }
+
+    /**
+     * Tags frames with the {@link #STATE_SAVE} state while an event is saved.
+     *
+     * @param saving {@code true} when a save starts, {@code false} when it finishes.
+     */
+    public void setSaving(boolean saving) {
+        PerformanceMetricsState state = stateHolder.getState();
+        if (state == null) {
+            return;
+        }
+
+        if (saving) {
+            state.putState(STATE_SAVE, "inProgress");
+        } else {
+            state.removeState(STATE_SAVE);
+        }
+    }
+
+    /**
+     * Starts tracking frames when the activity resumes.
+     */
+    @Override
+    public void onResume(@NonNull LifecycleOwner owner) {
+        jankStats.setTrackingEnabled(true);
+    }
+
+    /**
+     * Stops tracking frames when the activity pauses and saves the report.
+     */
+    @Override
+    public void onPause(@NonNull LifecycleOwner owner) {
+        jankStats.setTrackingEnabled(false);
+
+        try {
+            PerformanceReports.saveInBackground(activity, JankReport.TYPE, report.getStartedAt(),
+                    report.toJson(System.currentTimeMillis()));
+        } catch (JSONException e) {
+            Log.d("JankMonitor", "JSON Exception " + e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * JankReport.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.metrics;
+
+import androidx.metrics.performance.FrameData;
+import androidx.metrics.performance.StateInfo;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Frame statistics collected by JankStats for the whole process, grouped by
+ * screen and by the UI state active during each frame.
+ *
+ * <p>Every frame counts toward its screen's totals and toward each state it
+ * was tagged with, such as scrolling or a save in progress, so janky frames
+ * can be traced back to what the screen was doing at the time.</p>
+ *
+ * <p>All methods are thread safe.</p>
+ */
+public class JankReport {
+    /**
+     * Report type, used as the saved report's file name prefix.
+     */
+    public static final String TYPE = "jank";
+
+    /**
+     * Group holding all of a screen's frames, whatever state they were in.
+     */
+    static final String ALL_FRAMES = "all";
+
+    /**
+     * Percentiles of frame durations included for each group.
+     */
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    /**
+     * Frame counts and durations of one group of frames.
+     */
+    private static final class FrameStats {
+        long frames;
+        long jankyFrames;
+        final LatencyHistogram durations = new LatencyHistogram();
+    }
+
+    private final long startedAt;
+
+    // screen name -> state group -> frame stats
+    private final Map<String, Map<String, FrameStats>> screens = new TreeMap<>();
+
+    /**
+     * JankReport constructor.
+     *
+     * @param startedAt The time the process started, in milliseconds.
+     */
+    public JankReport(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Gets the time the report started collecting frames.
+     *
+     * @return The time the process started, in milliseconds.
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Records a frame. The frame data is reused by JankStats, so it is read
+     * before this method returns and not kept.
+     *
+     * @param screen The screen the frame was drawn for.
+     * @param frame The frame data reported by JankStats.
+     */
+    public synchronized void record(String screen, FrameData frame) {
+        Map<String, FrameStats> groups = screens.get(screen);
+        if (groups == null) {
+            groups = new TreeMap<>();
+            screens.put(screen, groups);
+        }
+
+        long duration = frame.getFrameDurationUiNanos();
+        boolean jank = frame.isJank();
+        record(groups, ALL_FRAMES, duration, jank);
+        for (StateInfo state : frame.getStates()) {
+            record(groups, state.getKey() + "=" + state.getValue(), duration, jank);
+        }
+    }
+
+    /**
+     * Counts a frame in a state group.
+     *
+     * @param groups The screen's state groups.
+     * @param group The group name.
+     * @param duration The frame's UI thread duration, in nanoseconds.
+     * @param jank Whether the frame was janky.
+     */
+    private static void record(Map<String, FrameStats> groups, String group, long duration, boolean jank) {
+        FrameStats stats = groups.get(group);
+        if (stats == null) {
+            stats = new FrameStats();
+            groups.put(group, stats);
+        }
+
+        stats.frames++;
+        if (jank) {
+            stats.jankyFrames++;
+        }
+        stats.durations.record(duration);
+    }
+
+    /**
+     * Builds the JSON report of the recorded frames. Durations are reported
+     * in milliseconds.
+     *
+     * @param generatedAt The time of the report, in milliseconds.
+     * @return The report.
+     * @throws JSONException If a value can't be written to the report.
+     */
+    public synchronized JSONObject toJson(long generatedAt) throws JSONException {
+        JSONObject report = new JSONObject();
+        report.put("startedAt", startedAt);
+        report.put("generatedAt", generatedAt);
+
+        JSONObject screensJson = new JSONObject();
+        for (Map.Entry<String, Map<String, FrameStats>> screen : screens.entrySet()) {
+            JSONObject groupsJson = new JSONObject();
+            for (Map.Entry<String, FrameStats> group : screen.getValue().entrySet()) {
+                groupsJson.put(group.getKey(), statsJson(group.getValue()));
+            }
+            screensJson.put(screen.getKey(), groupsJson);
+        }
+        report.put("screens", screensJson);
+        return report;
+    }
+
+    /**
+     * Clears all recorded frames.
+     */
+    public synchronized void reset() {
+        screens.clear();
+    }
+
+    /**
+     * Converts a group's frame stats to JSON.
+     *
+     * @param stats The frame stats.
+     * @return The frame summary, with durations in milliseconds.
+     * @throws JSONException If a value can't be written.
+     */
+    private static JSONObject statsJson(FrameStats stats) throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("frames", stats.frames);
+        json.put("jankyFrames", stats.jankyFrames);
+        json.put("jankRatio", stats.frames == 0 ? 0 : (double) stats.jankyFrames / stats.frames);
+        for (double percentile : PERCENTILES) {
+            json.put("p" + (long) percentile + "Ms", stats.durations.getValueAtPercentile(percentile) / 1e6);
+        }
+        json.put("maxMs", stats.durations.getMax() / 1e6);
+        return json;
+    }
+}
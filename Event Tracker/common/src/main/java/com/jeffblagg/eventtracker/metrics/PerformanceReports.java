@@ -0,0 +1,117 @@
+/*
+ * PerformanceReports.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.metrics;
+
+import android.content.Context;
+import android.util.Log;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Saves performance reports, such as frame and main thread stall reports, to
+ * app storage so they can be pulled from field builds without an external
+ * service.
+ *
+ * <p>Each process writes one file per report type, named with the time the
+ * process started, and replaces it every time the report is saved. Only the
+ * newest {@link #MAX_REPORTS} files of each type are kept.</p>
+ */
+public final class PerformanceReports {
+    /**
+     * Directory in app storage holding the reports.
+     */
+    public static final String REPORT_DIRECTORY = "performance";
+
+    /**
+     * Number of reports of each type kept in app storage.
+     */
+    static final int MAX_REPORTS = 10;
+
+    /**
+     * Single thread executor so reports are written off the main thread, in order.
+     */
+    private static final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+
+    private PerformanceReports() {}
+
+    /**
+     * Saves a report in the background.
+     *
+     * @param context Context used to find app storage.
+     * @param type The report type, used as the file name prefix.
+     * @param startedAt The time the process started, in milliseconds.
+     * @param report The report to save.
+     */
+    public static void saveInBackground(Context context, String type, long startedAt, JSONObject report) {
+        File directory = new File(context.getFilesDir(), REPORT_DIRECTORY);
+        String json = report.toString();
+        diskExecutor.execute(() -> save(directory, type, startedAt, json));
+    }
+
+    /**
+     * Writes a report to a temporary file that atomically replaces the
+     * process' report file, then removes the oldest reports of its type.
+     *
+     * @param directory The report directory.
+     * @param type The report type.
+     * @param startedAt The time the process started, in milliseconds.
+     * @param json The report.
+     */
+    private static void save(File directory, String type, long startedAt, String json) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.d("PerformanceReports", "Failed to create " + directory);
+            return;
+        }
+
+        File file = new File(directory, type + "-" + startedAt + ".json");
+        File temp = new File(directory, file.getName() + ".tmp");
+        try (FileOutputStream output = new FileOutputStream(temp)) {
+            output.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            Log.d("PerformanceReports", "Failed to write " + type + " report", exception);
+            return;
+        }
+
+        if (!temp.renameTo(file)) {
+            Log.d("PerformanceReports", "Failed to replace " + file);
+            return;
+        }
+        prune(directory, type);
+    }
+
+    /**
+     * Deletes the oldest reports of a type beyond {@link #MAX_REPORTS}.
+     *
+     * @param directory The report directory.
+     * @param type The report type.
+     */
+    private static void prune(File directory, String type) {
+        File[] reports = directory.listFiles(
+                (dir, name) -> name.startsWith(type + "-") && name.endsWith(".json"));
+        if (reports == null || reports.length <= MAX_REPORTS) {
+            return;
+        }
+
+        Arrays.sort(reports, Comparator.comparingLong(File::lastModified).reversed());
+        for (int i = MAX_REPORTS; i < reports.length; i++) {
+            if (!reports[i].delete()) {
+                Log.d("PerformanceReports", "Failed to delete " + reports[i]);
+            }
+        }
+    }
+}
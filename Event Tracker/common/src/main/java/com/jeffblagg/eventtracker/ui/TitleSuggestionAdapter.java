@@ -0,0 +1,84 @@
+/*
+ * TitleSuggestionAdapter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.ui;
+
+import android.content.Context;
+import android.widget.ArrayAdapter;
+import android.widget.Filter;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dropdown adapter for an event title field's autocomplete suggestions.
+ *
+ * <p>Each keystroke asks the {@link SuggestionSource} for the titles starting
+ * with the typed text, instead of filtering a fixed list, so the suggestions
+ * always reflect the user's current events.</p>
+ */
+public class TitleSuggestionAdapter extends ArrayAdapter<String> {
+    /**
+     * Interface for the source of title suggestions. Called on a background thread.
+     */
+    public interface SuggestionSource { List<String> suggest(String prefix); }
+
+    private final SuggestionSource source;
+
+    /**
+     * Filter that replaces the adapter's items with the source's suggestions.
+     */
+    private final Filter filter = new Filter() {
+        @Override
+        protected FilterResults performFiltering(CharSequence constraint) {
+            List<String> suggestions = constraint != null
+                    ? source.suggest(constraint.toString())
+                    : new ArrayList<>();
+
+            FilterResults results = new FilterResults();
+            results.values = suggestions;
+            results.count = suggestions.size();
+            return results;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void publishResults(CharSequence constraint, FilterResults results) {
+            setNotifyOnChange(false);
+            clear();
+            if (results.values != null) {
+                addAll((List<String>) results.values);
+            }
+            notifyDataSetChanged();
+        }
+    };
+
+    /**
+     * TitleSuggestionAdapter constructor.
+     *
+     * @param context The context used to inflate the dropdown items.
+     * @param source The source of title suggestions.
+     */
+    public TitleSuggestionAdapter(@NonNull Context context, @NonNull SuggestionSource source) {
+        super(context, android.R.layout.simple_dropdown_item_1line, new ArrayList<>());
+        this.source = source;
+    }
+
+    /**
+     * Gets the filter that loads suggestions for the typed text.
+     *
+     * @return The suggestion filter.
+     */
+    @NonNull
+    @Override
+    public Filter getFilter() {
+        return filter;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Clock.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker;
+
+/**
+ * Source of the current time, in milliseconds.
+ *
+ * <p>Code that filters or schedules by time takes a Clock instead of calling
+ * {@link System#currentTimeMillis()}, so it can be run against a fixed or
+ * simulated time.</p>
+ */
+public interface Clock {
+    /**
+     * Clock backed by the system wall clock.
+     */
+    Clock SYSTEM = System::currentTimeMillis;
+
+    /**
+     * Gets the current time.
+     *
+     * @return The current time, in milliseconds since the epoch.
+     */
+    long now();
+}
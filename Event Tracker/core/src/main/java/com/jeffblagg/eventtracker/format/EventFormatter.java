@@ -0,0 +1,85 @@
+/*
+ * EventFormatter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.format;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Formats event times and reminder messages for display.
+ *
+ * <p>The date formatters are created once per instance, since building a
+ * {@link SimpleDateFormat} is far more expensive than using one. Formatters
+ * are not thread safe, so an instance should only be used from one thread.</p>
+ */
+public final class EventFormatter {
+    private final SimpleDateFormat dateFormat;
+    private final SimpleDateFormat timeFormat;
+    private final SimpleDateFormat reminderFormat;
+
+    /**
+     * EventFormatter constructor using the default locale.
+     */
+    public EventFormatter() {
+        this(Locale.getDefault());
+    }
+
+    /**
+     * EventFormatter constructor.
+     *
+     * @param locale The locale used for month names and time of day.
+     */
+    public EventFormatter(Locale locale) {
+        dateFormat = new SimpleDateFormat("MMM d, yyyy", locale);
+        timeFormat = new SimpleDateFormat("h:mm a", locale);
+        reminderFormat = new SimpleDateFormat("MMM d, h:mm a", locale);
+    }
+
+    /**
+     * Formats the date of an event, such as "Nov 5, 2025".
+     *
+     * @param time The time to format, in milliseconds.
+     * @return The formatted date.
+     */
+    public String date(long time) {
+        return dateFormat.format(new Date(time));
+    }
+
+    /**
+     * Formats the time of day of an event, such as "3:30 PM".
+     *
+     * @param time The time to format, in milliseconds.
+     * @return The formatted time of day.
+     */
+    public String time(long time) {
+        return timeFormat.format(new Date(time));
+    }
+
+    /**
+     * Formats the date and time shown on an event card.
+     *
+     * @param time The time to format, in milliseconds.
+     * @return The formatted date and time.
+     */
+    public String dateTime(long time) {
+        return date(time) + " - " + time(time);
+    }
+
+    /**
+     * Builds the SMS body for an event reminder.
+     *
+     * @param title The title of the event.
+     * @param eventTime The start time of the event, in milliseconds.
+     * @return The reminder message.
+     */
+    public String reminderMessage(String title, long eventTime) {
+        return "Friendly Reminder: " + title + " is starting at " + reminderFormat.format(new Date(eventTime));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * LatencyHistogram.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size latency histogram in the style of HdrHistogram.
+ *
+ * <p>Values are counted in log-linear buckets: every power of two range is
+ * split into 64 sub-buckets, so any recorded value is reported within about
+ * 1.6% of what was measured while the histogram stays a few kilobytes no
+ * matter how many values are recorded. Values are in nanoseconds and values
+ * above {@link #MAX_VALUE} are counted as {@link #MAX_VALUE}.</p>
+ *
+ * <p>All methods are thread safe.</p>
+ */
+public final class LatencyHistogram {
+    /**
+     * Largest value tracked, one hour in nanoseconds.
+     */
+    public static final long MAX_VALUE = 60L * 60 * 1_000_000_000L;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts = new long[indexOf(MAX_VALUE) + 1];
+    private long totalCount;
+    private long totalValue;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, in nanoseconds. Negative values are counted as zero.
+     */
+    public synchronized void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        counts[indexOf(clamped)]++;
+        totalCount++;
+        totalValue += clamped;
+        minValue = Math.min(minValue, clamped);
+        maxValue = Math.max(maxValue, clamped);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The number of values.
+     */
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return The smallest value, or 0 if nothing was recorded.
+     */
+    public synchronized long getMin() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The largest value, or 0 if nothing was recorded.
+     */
+    public synchronized long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean value, or 0 if nothing was recorded.
+     */
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Gets the value at a percentile, reported as the highest value in the
+     * bucket it falls in, like HdrHistogram does.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile, or 0 if nothing was recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= target) {
+                return Math.min(highestValueAt(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalValue = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+    }
+
+    /**
+     * Gets the bucket index of a value. Values below {@link #SUB_BUCKET_COUNT}
+     * get their own bucket. Larger values are shifted right until they fit
+     * the top half of the sub-buckets, and each shift adds another half set
+     * of buckets.
+     *
+     * @param value The value, at least 0.
+     * @return The bucket index.
+     */
+    private static int indexOf(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the highest value counted in a bucket.
+     *
+     * @param index The bucket index.
+     * @return The highest value of the bucket.
+     */
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * RepositoryMetrics.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Operation latencies and read/write accounting for an event repository.
+ *
+ * <p>Reads are counted per request and per document or row. Documents and
+ * rows read from the backend, such as Firestore or the Room database, are
+ * counted apart from those served by a local cache, such as Firestore's cache
+ * or a saved events list snapshot. A read request that is answered from the
+ * cache is a cache hit.</p>
+ *
+ * <p>All methods are thread safe.</p>
+ */
+public final class RepositoryMetrics {
+    /**
+     * Interface for the object holding an app's repository metrics, such as
+     * its application, so shared screens can show them.
+     */
+    public interface Provider { RepositoryMetrics getMetrics(); }
+
+    /**
+     * Repository operations with a recorded latency.
+     */
+    public enum Operation {
+        /** Loading a single event, until the first result is returned. */
+        GET_EVENT,
+        /** A one-time read of the upcoming events. */
+        GET_UPCOMING_EVENTS,
+        /** Subscribing to the events list, until the first list is published. */
+        USER_EVENTS,
+        /** Adding an event, until the write is saved. */
+        ADD,
+        /** Updating an event, until the write is saved. */
+        UPDATE,
+        /** Deleting an event, until the write is saved. */
+        DELETE,
+        /** Searching the events, until the ranked results are returned. */
+        SEARCH
+    }
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    private long readRequests;
+    private long cacheHits;
+    private long documentsRead;
+    private long documentsFromCache;
+    private long writeRequests;
+    private long documentsWritten;
+    private long listenerFires;
+
+    /**
+     * RepositoryMetrics constructor.
+     */
+    public RepositoryMetrics() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return The start time, passed to {@link #record(Operation, long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the latency of an operation.
+     *
+     * @param operation The operation.
+     * @param start The start time returned by {@link #start()}.
+     */
+    public void record(Operation operation, long start) {
+        latencies.get(operation).record(System.nanoTime() - start);
+    }
+
+    /**
+     * Records a read request.
+     *
+     * @param documents The number of documents or rows returned.
+     * @param fromCache {@code true} if the read was answered from the local cache.
+     */
+    public synchronized void recordRead(int documents, boolean fromCache) {
+        readRequests++;
+        if (fromCache) {
+            cacheHits++;
+            documentsFromCache += documents;
+        } else {
+            documentsRead += documents;
+        }
+    }
+
+    /**
+     * Records a listener or observer firing with changed documents.
+     *
+     * @param changedDocuments The number of documents or rows delivered.
+     * @param fromCache {@code true} if the change came from the local cache.
+     */
+    public synchronized void recordListenerFire(int changedDocuments, boolean fromCache) {
+        listenerFires++;
+        if (fromCache) {
+            documentsFromCache += changedDocuments;
+        } else {
+            documentsRead += changedDocuments;
+        }
+    }
+
+    /**
+     * Records a write request, such as a batch commit.
+     *
+     * @param documents The number of documents or rows written.
+     */
+    public synchronized void recordWrite(int documents) {
+        writeRequests++;
+        documentsWritten += documents;
+    }
+
+    /**
+     * Gets the latency histogram of an operation, in nanoseconds.
+     *
+     * @param operation The operation.
+     * @return The operation's histogram.
+     */
+    public LatencyHistogram latency(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Gets the number of read requests.
+     *
+     * @return The count.
+     */
+    public synchronized long getReadRequests() {
+        return readRequests;
+    }
+
+    /**
+     * Gets the number of read requests answered from the local cache.
+     *
+     * @return The count.
+     */
+    public synchronized long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Gets the share of read requests answered from the local cache.
+     *
+     * @return The cache hit ratio from 0 to 1, or 0 if nothing was read.
+     */
+    public synchronized double getCacheHitRatio() {
+        return readRequests == 0 ? 0 : (double) cacheHits / readRequests;
+    }
+
+    /**
+     * Gets the number of documents or rows read from the backend.
+     *
+     * @return The count.
+     */
+    public synchronized long getDocumentsRead() {
+        return documentsRead;
+    }
+
+    /**
+     * Gets the number of documents or rows served by the local cache.
+     *
+     * @return The count.
+     */
+    public synchronized long getDocumentsFromCache() {
+        return documentsFromCache;
+    }
+
+    /**
+     * Gets the number of write requests.
+     *
+     * @return The count.
+     */
+    public synchronized long getWriteRequests() {
+        return writeRequests;
+    }
+
+    /**
+     * Gets the number of documents or rows written.
+     *
+     * @return The count.
+     */
+    public synchronized long getDocumentsWritten() {
+        return documentsWritten;
+    }
+
+    /**
+     * Gets the number of times a listener or observer fired.
+     *
+     * @return The count.
+     */
+    public synchronized long getListenerFires() {
+        return listenerFires;
+    }
+
+    /**
+     * Clears all latencies and counts.
+     */
+    public synchronized void reset() {
+        for (LatencyHistogram histogram : latencies.values()) {
+            histogram.reset();
+        }
+        readRequests = 0;
+        cacheHits = 0;
+        documentsRead = 0;
+        documentsFromCache = 0;
+        writeRequests = 0;
+        documentsWritten = 0;
+        listenerFires = 0;
+    }
+}
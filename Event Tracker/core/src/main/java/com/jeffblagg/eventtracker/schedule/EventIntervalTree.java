@@ -0,0 +1,412 @@
+/*
+ * EventIntervalTree.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the times a user's events take up, for finding the events that
+ * overlap a time range and the free time between them.
+ *
+ * <p>Events are kept in a balanced (AVL) binary search tree ordered by start
+ * time. Each node also stores the latest end time in its subtree, so a query
+ * skips every subtree that ends before the range starts and every subtree
+ * that starts after it ends. Finding the {@code k} events overlapping a range
+ * takes {@code O(log n + k)} steps for typical calendars, and adding, moving
+ * or removing an event takes {@code O(log n)}.</p>
+ *
+ * <p>Times are half-open ranges in milliseconds: an event ending at 2 PM
+ * doesn't overlap one starting at 2 PM. An event without an end time takes
+ * up the instant it starts. Thread safe.</p>
+ *
+ * @param <K> The type of the event ids.
+ */
+public final class EventIntervalTree<K> {
+    /**
+     * A range of time.
+     */
+    public static final class TimeRange {
+        /**
+         * The start of the range, in milliseconds.
+         */
+        public final long start;
+
+        /**
+         * The end of the range, in milliseconds, exclusive.
+         */
+        public final long end;
+
+        /**
+         * TimeRange constructor.
+         *
+         * @param start The start of the range, in milliseconds.
+         * @param end The end of the range, in milliseconds, exclusive.
+         */
+        public TimeRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Gets the length of the range.
+         *
+         * @return The length, in milliseconds.
+         */
+        public long duration() {
+            return end - start;
+        }
+    }
+
+    /**
+     * An indexed event. Events starting at the same time are ordered by
+     * when they were added.
+     */
+    private static final class Node<K> {
+        final K eventId;
+        final long start;
+        final long end;
+        final long sequence;
+        long maxEnd;
+        int height = 1;
+        Node<K> left;
+        Node<K> right;
+
+        Node(K eventId, long start, long end, long sequence) {
+            this.eventId = eventId;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.maxEnd = end;
+        }
+    }
+
+    // event id -> the event's node in the tree
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> root;
+    private long nextSequence;
+
+    /**
+     * Gets the number of indexed events.
+     *
+     * @return The number of events.
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Adds an event, or moves an event added before.
+     *
+     * @param eventId The id of the event.
+     * @param start The start time of the event, in milliseconds.
+     * @param end The end time of the event, in milliseconds, or
+     *            {@code null} if the event has no end time.
+     */
+    public synchronized void put(K eventId, long start, Long end) {
+        Node<K> previous = nodes.get(eventId);
+        long stop = end(start, end);
+        if (previous != null) {
+            if (previous.start == start && previous.end == stop) {
+                return;
+            }
+            root = delete(root, previous);
+        }
+
+        Node<K> node = new Node<>(eventId, start, stop, nextSequence++);
+        nodes.put(eventId, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes an event.
+     *
+     * @param eventId The id of the event.
+     */
+    public synchronized void remove(K eventId) {
+        Node<K> node = nodes.remove(eventId);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Removes every event.
+     */
+    public synchronized void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Finds the events that overlap a time range.
+     *
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds, or {@code null} for
+     *            the instant at {@code start}.
+     * @return The ids of the overlapping events, ordered by start time.
+     */
+    public synchronized List<K> overlapping(long start, Long end) {
+        List<Node<K>> found = new ArrayList<>();
+        collect(root, start, end(start, end), found);
+
+        List<K> eventIds = new ArrayList<>(found.size());
+        for (Node<K> node : found) {
+            eventIds.add(node.eventId);
+        }
+        return eventIds;
+    }
+
+    /**
+     * Finds the free time in a time range, between the indexed events.
+     *
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds.
+     * @param minDuration The shortest free time to include, in milliseconds.
+     * @return The free time ranges, in order.
+     */
+    public synchronized List<TimeRange> freeTime(long start, long end, long minDuration) {
+        List<TimeRange> free = new ArrayList<>();
+        if (end <= start) {
+            return free;
+        }
+
+        List<Node<K>> busy = new ArrayList<>();
+        collect(root, start, end, busy);
+
+        // events come in start order, so the free time is every gap the events so far don't cover
+        long cursor = start;
+        for (Node<K> node : busy) {
+            if (node.start > cursor) {
+                addFreeTime(free, cursor, node.start, minDuration);
+            }
+            cursor = Math.max(cursor, node.end);
+        }
+        if (cursor < end) {
+            addFreeTime(free, cursor, end, minDuration);
+        }
+        return free;
+    }
+
+    /**
+     * Adds a free time range if it's long enough.
+     *
+     * @param free The free time ranges found so far.
+     * @param start The start of the free time, in milliseconds.
+     * @param end The end of the free time, in milliseconds.
+     * @param minDuration The shortest free time to include, in milliseconds.
+     */
+    private static void addFreeTime(List<TimeRange> free, long start, long end, long minDuration) {
+        if (end - start >= Math.max(1, minDuration)) {
+            free.add(new TimeRange(start, end));
+        }
+    }
+
+    /**
+     * Gets the exclusive end of an event's time.
+     *
+     * @param start The start time, in milliseconds.
+     * @param end The end time, or {@code null} if there is none.
+     * @return The end time, at least one millisecond after the start.
+     */
+    private static long end(long start, Long end) {
+        return end != null && end > start ? end : start + 1;
+    }
+
+    /**
+     * Collects the nodes of a subtree that overlap a range, in start order.
+     *
+     * @param node The root of the subtree.
+     * @param start The start of the range.
+     * @param end The exclusive end of the range.
+     * @param found The overlapping nodes found so far.
+     */
+    private void collect(Node<K> node, long start, long end, List<Node<K>> found) {
+        // nothing in the subtree ends after the range starts
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+
+        collect(node.left, start, end, found);
+        // this node and the right subtree start after the range ends
+        if (node.start >= end) {
+            return;
+        }
+        if (node.end > start) {
+            found.add(node);
+        }
+        collect(node.right, start, end, found);
+    }
+
+    /**
+     * Compares two nodes by start time, then by when they were added.
+     *
+     * @param a The first node.
+     * @param b The second node.
+     * @return A negative number if {@code a} comes first.
+     */
+    private static int compare(Node<?> a, Node<?> b) {
+        int byStart = Long.compare(a.start, b.start);
+        return byStart != 0 ? byStart : Long.compare(a.sequence, b.sequence);
+    }
+
+    /**
+     * Inserts a node into a subtree.
+     *
+     * @param node The root of the subtree.
+     * @param added The node to insert.
+     * @return The new root of the subtree.
+     */
+    private Node<K> insert(Node<K> node, Node<K> added) {
+        if (node == null) {
+            return added;
+        }
+
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes a node from a subtree.
+     *
+     * @param node The root of the subtree.
+     * @param deleted The node to delete.
+     * @return The new root of the subtree.
+     */
+    private Node<K> delete(Node<K> node, Node<K> deleted) {
+        if (node == null) {
+            return null;
+        }
+
+        int order = compare(deleted, node);
+        if (order < 0) {
+            node.left = delete(node.left, deleted);
+        } else if (order > 0) {
+            node.right = delete(node.right, deleted);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            // replace the node with the first node of its right subtree
+            Node<K> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes the first node of a subtree.
+     *
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private Node<K> deleteFirst(Node<K> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Updates a node's height and latest end time, rotating it if its
+     * subtrees' heights differ by more than one.
+     *
+     * @param node The node.
+     * @return The new root of the node's subtree.
+     */
+    private Node<K> balance(Node<K> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates a node's left child up into its place.
+     *
+     * @param node The node.
+     * @return The new root of the node's subtree.
+     */
+    private Node<K> rotateRight(Node<K> node) {
+        Node<K> child = node.left;
+        node.left = child.right;
+        child.right = node;
+        update(node);
+        update(child);
+        return child;
+    }
+
+    /**
+     * Rotates a node's right child up into its place.
+     *
+     * @param node The node.
+     * @return The new root of the node's subtree.
+     */
+    private Node<K> rotateLeft(Node<K> node) {
+        Node<K> child = node.right;
+        node.right = child.left;
+        child.left = node;
+        update(node);
+        update(child);
+        return child;
+    }
+
+    /**
+     * Recomputes a node's height and latest end time from its children.
+     *
+     * @param node The node.
+     */
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.end;
+        if (node.left != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.right.maxEnd);
+        }
+    }
+
+    /**
+     * Gets the height of a subtree.
+     *
+     * @param node The root of the subtree, may be {@code null}.
+     * @return The height, 0 for an empty subtree.
+     */
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Occurrences.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Expands repeating events into their occurrences.
+ *
+ * <p>A repeating event is stored once, with its {@link Recurrence} rule and
+ * the start times of any occurrences removed from it. Occurrences are only
+ * computed for what is shown: the next {@code limit} events in the list, the
+ * events overlapping a time range, or the next occurrence a reminder is due
+ * for. An event whose rule is missing or can't be parsed is a single event.</p>
+ *
+ * <p>Works on any {@link Schedulable} event. Each occurrence is a
+ * {@link Schedulable#occurrence(long, Long) copy} of its series, with the
+ * series id and rule and the occurrence's own start and end time.</p>
+ */
+public final class Occurrences {
+    private Occurrences() {
+        // Static helpers only.
+    }
+
+    /**
+     * The occurrences of one series, merged with the other events.
+     */
+    private static final class Series<T extends Schedulable<T>> {
+        final T event;
+        final PrimitiveIterator.OfLong times;
+        final Set<Long> exceptions;
+        long time;
+
+        Series(T event, Recurrence rule, long from) {
+            this.event = event;
+            this.times = rule.occurrences(event.eventTime(), from);
+            this.exceptions = exceptions(event.exceptions());
+        }
+
+        /**
+         * Moves to the series' next occurrence.
+         *
+         * @return Whether there is another occurrence.
+         */
+        boolean advance() {
+            while (times.hasNext()) {
+                long next = times.nextLong();
+                if (!exceptions.contains(next)) {
+                    time = next;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether an event repeats.
+     *
+     * @param recurrence The event's recurrence rule, may be {@code null}.
+     * @return Whether the rule is a supported recurrence rule.
+     */
+    public static boolean isRecurring(String recurrence) {
+        return recurrence != null && Recurrence.parse(recurrence) != null;
+    }
+
+    /**
+     * Finds an event's first occurrence at or after a time.
+     *
+     * @param eventTime The time of the event, or of a series' first occurrence.
+     * @param recurrence The event's recurrence rule, or {@code null}.
+     * @param exceptions Start times of occurrences removed from the series,
+     *                   or {@code null}.
+     * @param from The earliest time to find, in milliseconds.
+     * @return The occurrence time, or {@code null} if there are no more
+     *         occurrences.
+     */
+    public static Long next(long eventTime, String recurrence, List<Long> exceptions, long from) {
+        Recurrence rule = Recurrence.parse(recurrence);
+        if (rule == null) {
+            return eventTime >= from ? eventTime : null;
+        }
+
+        Set<Long> skipped = exceptions(exceptions);
+        PrimitiveIterator.OfLong times = rule.occurrences(eventTime, from);
+        while (times.hasNext()) {
+            long time = times.nextLong();
+            if (!skipped.contains(time)) {
+                return time;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds an event's first occurrence at or after a time.
+     *
+     * @param event The event.
+     * @param from The earliest time to find, in milliseconds.
+     * @return The occurrence time, or {@code null} if there are no more
+     *         occurrences.
+     */
+    public static Long next(Schedulable<?> event, long from) {
+        return next(event.eventTime(), event.recurrence(), event.exceptions(), from);
+    }
+
+    /**
+     * Checks whether an event, or any occurrence of a repeating event, is at
+     * or after a time.
+     *
+     * @param event The event.
+     * @param now The current time, in milliseconds.
+     * @return Whether the event is upcoming.
+     */
+    public static boolean isUpcoming(Schedulable<?> event, long now) {
+        if (event.recurrence() == null) {
+            return event.eventTime() >= now;
+        }
+        return next(event, now) != null;
+    }
+
+    /**
+     * Creates one occurrence of a repeating event.
+     *
+     * @param series The repeating event.
+     * @param time The start time of the occurrence, in milliseconds.
+     * @param <T> The event type.
+     * @return A copy of the event at the occurrence's time.
+     */
+    public static <T extends Schedulable<T>> T occurrence(T series, long time) {
+        Long endTime = series.endTime();
+        return series.occurrence(time, endTime != null ? endTime + (time - series.eventTime()) : null);
+    }
+
+    /**
+     * Lists the first events at or after a time, with each repeating event
+     * expanded into its occurrences.
+     *
+     * <p>Single events are sorted, and each series lists its occurrences in
+     * order, so the streams are merged with a priority queue holding the next
+     * occurrence of each series. Listing {@code limit} events takes
+     * {@code O(n log n + limit log r)} steps for {@code n} events of which
+     * {@code r} repeat, however long the series run.</p>
+     *
+     * @param events The events, in any order.
+     * @param from The earliest time to list, in milliseconds.
+     * @param limit The most events to list.
+     * @param <T> The event type.
+     * @return The events and occurrences, ordered by time.
+     */
+    public static <T extends Schedulable<T>> List<T> upcoming(Collection<? extends T> events, long from, int limit) {
+        List<T> singles = new ArrayList<>();
+        PriorityQueue<Series<T>> series = new PriorityQueue<>((a, b) -> Long.compare(a.time, b.time));
+        for (T event : events) {
+            Recurrence rule = event.recurrence() != null ? Recurrence.parse(event.recurrence()) : null;
+            if (rule == null) {
+                if (event.eventTime() >= from) {
+                    singles.add(event);
+                }
+            } else {
+                Series<T> occurrences = new Series<>(event, rule, from);
+                if (occurrences.advance()) {
+                    series.add(occurrences);
+                }
+            }
+        }
+        Collections.sort(singles, (a, b) -> Long.compare(a.eventTime(), b.eventTime()));
+
+        List<T> upcoming = new ArrayList<>(Math.min(limit, singles.size() + series.size()));
+        int nextSingle = 0;
+        while (upcoming.size() < limit) {
+            Series<T> nextSeries = series.peek();
+            boolean singleFirst = nextSingle < singles.size()
+                    && (nextSeries == null || singles.get(nextSingle).eventTime() <= nextSeries.time);
+            if (singleFirst) {
+                upcoming.add(singles.get(nextSingle++));
+            } else if (nextSeries != null) {
+                series.poll();
+                upcoming.add(occurrence(nextSeries.event, nextSeries.time));
+                if (nextSeries.advance()) {
+                    series.add(nextSeries);
+                }
+            } else {
+                break;
+            }
+        }
+        return upcoming;
+    }
+
+    /**
+     * Lists the occurrences of a repeating event that overlap a time range.
+     * Times are half-open ranges, as in {@link EventIntervalTree}.
+     *
+     * @param series The repeating event.
+     * @param start The start of the range, in milliseconds.
+     * @param end The end of the range, in milliseconds, or {@code null} for
+     *            the instant at {@code start}.
+     * @param <T> The event type.
+     * @return The overlapping occurrences, ordered by time. Empty if the
+     *         event doesn't repeat.
+     */
+    public static <T extends Schedulable<T>> List<T> overlapping(T series, long start, Long end) {
+        List<T> found = new ArrayList<>();
+        Recurrence rule = series.recurrence() != null ? Recurrence.parse(series.recurrence()) : null;
+        if (rule == null) {
+            return found;
+        }
+
+        Long endTime = series.endTime();
+        long duration = endTime != null ? Math.max(1, endTime - series.eventTime()) : 1;
+        long stop = end != null && end > start ? end : start + 1;
+        Set<Long> skipped = exceptions(series.exceptions());
+        PrimitiveIterator.OfLong times = rule.occurrences(series.eventTime(), start - duration + 1);
+        while (times.hasNext()) {
+            long time = times.nextLong();
+            if (time >= stop) {
+                break;
+            }
+            if (!skipped.contains(time)) {
+                found.add(occurrence(series, time));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets a series' removed occurrences as a set.
+     *
+     * @param exceptions The removed occurrence times, may be {@code null}.
+     * @return The times, for fast lookups.
+     */
+    private static Set<Long> exceptions(List<Long> exceptions) {
+        if (exceptions == null || exceptions.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(exceptions);
+    }
+}
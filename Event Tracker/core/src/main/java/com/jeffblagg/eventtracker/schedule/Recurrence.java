@@ -0,0 +1,524 @@
+/*
+ * Recurrence.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A repeating event's recurrence rule, a subset of the iCalendar RRULE
+ * format (RFC 5545).
+ *
+ * <p>Supported parts are {@code FREQ} ({@code DAILY}, {@code WEEKLY},
+ * {@code MONTHLY} or {@code YEARLY}), {@code INTERVAL}, {@code COUNT},
+ * {@code UNTIL} and {@code BYDAY} without ordinals, for example
+ * {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;COUNT=10}. The first occurrence
+ * is the event's own time, and later occurrences keep its local time of day.
+ * As in RFC 5545, monthly and yearly occurrences that would fall on a day the
+ * month doesn't have, such as the 31st of April, are skipped.</p>
+ *
+ * <p>Occurrences are never stored. They are listed lazily from any time, so
+ * showing a window of a long running series only computes the occurrences
+ * in that window. Immutable and thread safe.</p>
+ */
+public final class Recurrence {
+    /**
+     * How often a rule repeats.
+     */
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    /**
+     * RRULE day codes, indexed by {@link Calendar} day of the week.
+     */
+    private static final String[] DAY_CODES = {"", "SU", "MO", "TU", "WE", "TH", "FR", "SA"};
+
+    /**
+     * Longest possible length of one period of each frequency, in
+     * milliseconds, allowing for a daylight saving change and leap days.
+     * Used to skip ahead to a time without listing every earlier period.
+     */
+    private static final long[] MAX_PERIOD = {
+            25 * 60 * 60 * 1000L,
+            (7 * 24 + 1) * 60 * 60 * 1000L,
+            (31 * 24 + 1) * 60 * 60 * 1000L,
+            (366 * 24 + 1) * 60 * 60 * 1000L
+    };
+
+    /**
+     * Most periods in a row without an occurrence before a series is
+     * treated as over, which only happens for rules that can never occur.
+     */
+    private static final int MAX_EMPTY_PERIODS = 1000;
+
+    /**
+     * Most parsed rules kept in {@link #PARSED}.
+     */
+    private static final int MAX_PARSED = 256;
+
+    /**
+     * Stands in for rules that can't be parsed in {@link #PARSED}.
+     */
+    private static final Recurrence INVALID = new Recurrence(Frequency.DAILY, 1, 0, null, 0);
+
+    // rule text -> parsed rule. Users repeat a few rules across many events, and
+    // every list refresh parses each rule again
+    private static final Map<String, Recurrence> PARSED = new ConcurrentHashMap<>();
+
+    // calendar set up for the last time zone used, cloned for each iterator since
+    // creating a calendar is slower than listing a few occurrences
+    private static volatile Calendar template = Calendar.getInstance();
+
+    /**
+     * How often the rule repeats.
+     */
+    public final Frequency frequency;
+
+    /**
+     * Number of periods between occurrences, at least 1.
+     */
+    public final int interval;
+
+    /**
+     * Number of occurrences in the series, or 0 if it's unbounded.
+     */
+    public final int count;
+
+    /**
+     * Time of the last possible occurrence, in milliseconds, or {@code null}
+     * if the series doesn't end on a date.
+     */
+    public final Long until;
+
+    /**
+     * Days of the week the rule occurs on, as a bit per {@link Calendar} day
+     * of the week, or 0 for the day of the first occurrence.
+     */
+    public final int days;
+
+    /**
+     * Recurrence constructor.
+     *
+     * @param frequency How often the rule repeats.
+     * @param interval Number of periods between occurrences, at least 1.
+     * @param count Number of occurrences, or 0 if the series is unbounded.
+     * @param until Time of the last possible occurrence, or {@code null}.
+     * @param days Days of the week as a bit per {@link Calendar} day of the
+     *             week, or 0. Only used for daily and weekly rules.
+     */
+    public Recurrence(Frequency frequency, int interval, int count, Long until, int days) {
+        this.frequency = frequency;
+        this.interval = Math.max(1, interval);
+        this.count = Math.max(0, count);
+        this.until = until;
+        this.days = days;
+    }
+
+    /**
+     * Creates a rule repeating every period with no end.
+     *
+     * @param frequency How often the rule repeats.
+     * @return The rule.
+     */
+    public static Recurrence every(Frequency frequency) {
+        return new Recurrence(frequency, 1, 0, null, 0);
+    }
+
+    /**
+     * Gets the bit for a day of the week, as used in {@link #days}.
+     *
+     * @param dayOfWeek The {@link Calendar} day of the week.
+     * @return The day's bit.
+     */
+    public static int day(int dayOfWeek) {
+        return 1 << dayOfWeek;
+    }
+
+    /**
+     * Parses a recurrence rule. An {@code RRULE:} prefix is allowed and
+     * {@code WKST} is ignored.
+     *
+     * @param rule The rule, such as {@code FREQ=WEEKLY;BYDAY=MO}.
+     * @return The rule, or {@code null} if it's missing, invalid or uses
+     *         parts that aren't supported.
+     */
+    public static Recurrence parse(String rule) {
+        if (rule == null) {
+            return null;
+        }
+        Recurrence parsed = PARSED.get(rule);
+        if (parsed == null) {
+            parsed = read(rule);
+            if (PARSED.size() >= MAX_PARSED) {
+                PARSED.clear();
+            }
+            PARSED.put(rule, parsed != null ? parsed : INVALID);
+        }
+        return parsed != INVALID ? parsed : null;
+    }
+
+    /**
+     * Parses a recurrence rule without the cache.
+     *
+     * @param rule The rule.
+     * @return The rule, or {@code null} if it isn't supported.
+     */
+    private static Recurrence read(String rule) {
+        String body = rule.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        int count = 0;
+        Long until = null;
+        int days = 0;
+        try {
+            for (String part : body.split(";")) {
+                if (part.isEmpty()) {
+                    continue;
+                }
+                int equals = part.indexOf('=');
+                if (equals < 0) {
+                    return null;
+                }
+                String name = part.substring(0, equals).trim().toUpperCase(Locale.ROOT);
+                String value = part.substring(equals + 1).trim().toUpperCase(Locale.ROOT);
+                switch (name) {
+                    case "FREQ":
+                        frequency = Frequency.valueOf(value);
+                        break;
+                    case "INTERVAL":
+                        interval = Integer.parseInt(value);
+                        if (interval < 1) {
+                            return null;
+                        }
+                        break;
+                    case "COUNT":
+                        count = Integer.parseInt(value);
+                        if (count < 1) {
+                            return null;
+                        }
+                        break;
+                    case "UNTIL":
+                        until = parseUntil(value);
+                        if (until == null) {
+                            return null;
+                        }
+                        break;
+                    case "BYDAY":
+                        for (String code : value.split(",")) {
+                            int dayOfWeek = dayOfWeek(code.trim());
+                            if (dayOfWeek < 0) {
+                                return null;
+                            }
+                            days |= day(dayOfWeek);
+                        }
+                        break;
+                    case "WKST":
+                        break;
+                    default:
+                        return null;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (frequency == null || (count > 0 && until != null)) {
+            return null;
+        }
+        if (days != 0 && frequency != Frequency.DAILY && frequency != Frequency.WEEKLY) {
+            return null;
+        }
+        return new Recurrence(frequency, interval, count, until, days);
+    }
+
+    /**
+     * Formats the rule in RRULE form, the way it's stored on an event.
+     *
+     * @return The rule, such as {@code FREQ=WEEKLY;BYDAY=MO}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval > 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (days != 0) {
+            rule.append(";BYDAY=");
+            // weeks start on Monday in RRULE
+            for (int i = 0; i < 7; i++) {
+                int dayOfWeek = (i + 1) % 7 + 1;
+                if ((days & day(dayOfWeek)) != 0) {
+                    if (rule.charAt(rule.length() - 1) != '=') {
+                        rule.append(',');
+                    }
+                    rule.append(DAY_CODES[dayOfWeek]);
+                }
+            }
+        }
+        if (count > 0) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            calendar.setTimeInMillis(until);
+            rule.append(String.format(Locale.ROOT, ";UNTIL=%04d%02d%02dT%02d%02d%02dZ",
+                    calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                    calendar.get(Calendar.DAY_OF_MONTH), calendar.get(Calendar.HOUR_OF_DAY),
+                    calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND)));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Lists the occurrences of a series in the default time zone.
+     *
+     * @param start The time of the first occurrence, in milliseconds.
+     * @param from The earliest occurrence time to list, in milliseconds.
+     * @return The occurrence times at or after {@code from}, in order.
+     */
+    public PrimitiveIterator.OfLong occurrences(long start, long from) {
+        return occurrences(start, from, TimeZone.getDefault());
+    }
+
+    /**
+     * Lists the occurrences of a series. Occurrences are computed as the
+     * iterator advances, and a series without a count skips straight to the
+     * period containing {@code from}.
+     *
+     * @param start The time of the first occurrence, in milliseconds.
+     * @param from The earliest occurrence time to list, in milliseconds.
+     * @param zone The time zone whose days, weeks and months are used.
+     * @return The occurrence times at or after {@code from}, in order.
+     */
+    public PrimitiveIterator.OfLong occurrences(long start, long from, TimeZone zone) {
+        return new Occurrences(start, from, zone);
+    }
+
+    /**
+     * Finds the first occurrence of a series at or after a time.
+     *
+     * @param start The time of the first occurrence, in milliseconds.
+     * @param from The earliest occurrence time, in milliseconds.
+     * @return The occurrence time, or {@code null} if the series is over.
+     */
+    public Long next(long start, long from) {
+        PrimitiveIterator.OfLong occurrences = occurrences(start, from);
+        return occurrences.hasNext() ? occurrences.nextLong() : null;
+    }
+
+    /**
+     * Creates a calendar for a time zone.
+     *
+     * @param zone The time zone.
+     * @return A new calendar.
+     */
+    private static Calendar calendar(TimeZone zone) {
+        Calendar calendar = template;
+        if (!calendar.getTimeZone().equals(zone)) {
+            calendar = Calendar.getInstance(zone);
+            template = calendar;
+        }
+        return (Calendar) calendar.clone();
+    }
+
+    /**
+     * Gets the {@link Calendar} day of the week for an RRULE day code.
+     *
+     * @param code The day code, such as {@code MO}.
+     * @return The day of the week, or -1 if the code isn't a plain day code.
+     */
+    private static int dayOfWeek(String code) {
+        for (int dayOfWeek = Calendar.SUNDAY; dayOfWeek <= Calendar.SATURDAY; dayOfWeek++) {
+            if (DAY_CODES[dayOfWeek].equals(code)) {
+                return dayOfWeek;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses an {@code UNTIL} value, either a UTC date-time such as
+     * {@code 20251231T235959Z} or a date, which includes the whole day.
+     *
+     * @param value The value.
+     * @return The time in milliseconds, or {@code null} if it's invalid.
+     */
+    private static Long parseUntil(String value) {
+        if (value.length() < 8) {
+            return null;
+        }
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.setLenient(false);
+        try {
+            calendar.set(Integer.parseInt(value.substring(0, 4)),
+                    Integer.parseInt(value.substring(4, 6)) - 1,
+                    Integer.parseInt(value.substring(6, 8)));
+            if (value.length() == 8) {
+                calendar.add(Calendar.DAY_OF_MONTH, 1);
+                return calendar.getTimeInMillis() - 1;
+            }
+            if (value.length() != 16 || value.charAt(8) != 'T' || value.charAt(15) != 'Z') {
+                return null;
+            }
+            calendar.set(Calendar.HOUR_OF_DAY, Integer.parseInt(value.substring(9, 11)));
+            calendar.set(Calendar.MINUTE, Integer.parseInt(value.substring(11, 13)));
+            calendar.set(Calendar.SECOND, Integer.parseInt(value.substring(13, 15)));
+            return calendar.getTimeInMillis();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Iterator computing a series' occurrences one period at a time.
+     */
+    private final class Occurrences implements PrimitiveIterator.OfLong {
+        private final long start;
+        private final long from;
+        private final int startDay;
+        private final int startMonth;
+        private final Calendar calendar;
+
+        // occurrences of the current period, at most one per day of a week
+        private final long[] candidates = new long[7];
+        private int candidateCount;
+        private int candidateIndex;
+
+        private long period;
+        private int listed;
+        private boolean done;
+        private boolean hasNext;
+        private long next;
+
+        Occurrences(long start, long from, TimeZone zone) {
+            this.start = start;
+            this.from = from;
+            this.calendar = calendar(zone);
+            calendar.setTimeInMillis(start);
+            this.startDay = calendar.get(Calendar.DAY_OF_MONTH);
+            this.startMonth = calendar.get(Calendar.MONTH);
+
+            // a counted series has to list every earlier occurrence to know when it ends
+            if (count == 0 && from > start) {
+                long skipped = (from - start) / MAX_PERIOD[frequency.ordinal()] / interval;
+                period = Math.max(0, skipped - 1);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!hasNext && !done) {
+                advance();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = false;
+            return next;
+        }
+
+        /**
+         * Finds the next occurrence at or after {@code from}, or marks the
+         * series as done.
+         */
+        private void advance() {
+            int emptyPeriods = 0;
+            while (true) {
+                if (candidateIndex < candidateCount) {
+                    long time = candidates[candidateIndex++];
+                    listed++;
+                    if ((count > 0 && listed > count) || (until != null && time > until)) {
+                        done = true;
+                        return;
+                    }
+                    if (time >= from) {
+                        next = time;
+                        hasNext = true;
+                        return;
+                    }
+                } else {
+                    if (emptyPeriods++ > MAX_EMPTY_PERIODS || period * interval > Integer.MAX_VALUE) {
+                        done = true;
+                        return;
+                    }
+                    fillPeriod();
+                    period++;
+                    if (candidateCount > 0) {
+                        emptyPeriods = 0;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Computes the occurrences in the current period.
+         */
+        private void fillPeriod() {
+            candidateCount = 0;
+            candidateIndex = 0;
+            calendar.setTimeInMillis(start);
+            int amount = (int) (period * interval);
+
+            switch (frequency) {
+                case DAILY:
+                    calendar.add(Calendar.DAY_OF_MONTH, amount);
+                    if (days == 0 || (days & day(calendar.get(Calendar.DAY_OF_WEEK))) != 0) {
+                        candidates[candidateCount++] = calendar.getTimeInMillis();
+                    }
+                    break;
+                case WEEKLY:
+                    calendar.add(Calendar.DAY_OF_MONTH, amount * 7);
+                    if (days == 0) {
+                        candidates[candidateCount++] = calendar.getTimeInMillis();
+                        break;
+                    }
+                    // go back to the Monday of the week, then list the rule's days
+                    int sinceMonday = (calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7;
+                    calendar.add(Calendar.DAY_OF_MONTH, -sinceMonday);
+                    for (int i = 0; i < 7; i++) {
+                        long time = calendar.getTimeInMillis();
+                        if ((days & day(calendar.get(Calendar.DAY_OF_WEEK))) != 0 && time >= start) {
+                            candidates[candidateCount++] = time;
+                        }
+                        calendar.add(Calendar.DAY_OF_MONTH, 1);
+                    }
+                    break;
+                case MONTHLY:
+                    calendar.add(Calendar.MONTH, amount);
+                    if (calendar.get(Calendar.DAY_OF_MONTH) == startDay) {
+                        candidates[candidateCount++] = calendar.getTimeInMillis();
+                    }
+                    break;
+                case YEARLY:
+                    calendar.add(Calendar.YEAR, amount);
+                    if (calendar.get(Calendar.DAY_OF_MONTH) == startDay
+                            && calendar.get(Calendar.MONTH) == startMonth) {
+                        candidates[candidateCount++] = calendar.getTimeInMillis();
+                    }
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Schedulable.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import java.util.List;
+
+/**
+ * An event that {@link Occurrences} can expand into its occurrences.
+ *
+ * <p>Implemented by each app's event types, so the scheduling code doesn't
+ * depend on how an app stores its events. The accessors aren't named like
+ * getters, so database and document mappers that look for getters ignore
+ * them.</p>
+ *
+ * @param <T> The event type, returned for each occurrence.
+ */
+public interface Schedulable<T extends Schedulable<T>> {
+    /**
+     * Gets the time of the event, or of a series' first occurrence.
+     *
+     * @return The time in milliseconds.
+     */
+    long eventTime();
+
+    /**
+     * Gets the end time of the event, or of a series' first occurrence.
+     *
+     * @return The time in milliseconds, or {@code null} if the event has no
+     *         set duration.
+     */
+    Long endTime();
+
+    /**
+     * Gets the recurrence rule of a repeating event.
+     *
+     * @return The {@link Recurrence} rule, or {@code null} for a single event.
+     */
+    String recurrence();
+
+    /**
+     * Gets the start times of occurrences removed from a repeating event.
+     *
+     * @return The times in milliseconds, or {@code null}.
+     */
+    List<Long> exceptions();
+
+    /**
+     * Copies the event to one of its occurrences, keeping its id and rule.
+     *
+     * @param eventTime The start time of the occurrence, in milliseconds.
+     * @param endTime The end time of the occurrence, in milliseconds, or
+     *                {@code null} if the event has no set duration.
+     * @return A copy of the event at the occurrence's time.
+     */
+    T occurrence(long eventTime, Long endTime);
+}
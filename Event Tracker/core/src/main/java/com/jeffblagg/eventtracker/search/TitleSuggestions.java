@@ -0,0 +1,522 @@
+/*
+ * TitleSuggestions.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Autocomplete suggestions for event titles, drawn from a user's existing
+ * events and weighted by how many events share each title.
+ *
+ * <p>Distinct titles are kept in a trie of their lowercase form, so the
+ * titles starting with a prefix are the titles below one node. Each node
+ * caches the best titles below it, so a suggestion only walks down the
+ * typed text and reads that node's cache. Adding, renaming or removing an
+ * event adjusts the count of its title and the caches on the title's path,
+ * without touching any other title.</p>
+ *
+ * <p>Thread safe, so suggestions can be read while events change.</p>
+ *
+ * @param <K> The type of the event ids.
+ */
+public final class TitleSuggestions<K> {
+    /**
+     * The most suggestions answered from the cached titles. Larger limits
+     * walk every title starting with the typed text.
+     */
+    public static final int MAX_CACHED_LIMIT = 10;
+
+    // one more than the limit, as a title matching the typed text is skipped
+    private static final int CACHE_SIZE = MAX_CACHED_LIMIT + 1;
+
+    // event id -> title
+    private final Map<K, String> titles = new HashMap<>();
+
+    private Node root = new Node();
+    private int size;
+
+    /**
+     * A trie node, reached by the characters of a lowercase title prefix.
+     */
+    private static final class Node {
+        // children, sorted by the character leading to them
+        private char[] chars;
+        private Node[] children;
+        private int childCount;
+
+        // the title ending at this node, if any event uses it
+        private String key;
+        private String label;
+        private int count;
+
+        // the best titles at or below this node, best first
+        private Node[] top;
+        private int topCount;
+
+        /**
+         * Finds a child node.
+         *
+         * @param c The character leading to the child.
+         * @return The child, or {@code null} if there is none.
+         */
+        private Node child(char c) {
+            int index = childIndex(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Finds a child node, adding it if there is none.
+         *
+         * @param c The character leading to the child.
+         * @return The child.
+         */
+        private Node addChild(char c) {
+            int index = childIndex(c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            index = -index - 1;
+            if (chars == null) {
+                chars = new char[2];
+                children = new Node[2];
+            } else if (childCount == chars.length) {
+                chars = Arrays.copyOf(chars, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            System.arraycopy(chars, index, chars, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            chars[index] = c;
+            children[index] = new Node();
+            childCount++;
+            return children[index];
+        }
+
+        /**
+         * Removes a child node.
+         *
+         * @param c The character leading to the child.
+         */
+        private void removeChild(char c) {
+            int index = childIndex(c);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(chars, index + 1, chars, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+
+        /**
+         * Finds a child with a binary search.
+         *
+         * @param c The character leading to the child.
+         * @return The index of the child, or {@code -(insertion point) - 1}.
+         */
+        private int childIndex(char c) {
+            return chars == null ? -1 : Arrays.binarySearch(chars, 0, childCount, c);
+        }
+
+        /**
+         * Finds a title in this node's cache.
+         *
+         * @param title The node of the title.
+         * @return The index of the title, or -1 if it isn't cached.
+         */
+        private int topIndex(Node title) {
+            for (int i = 0; i < topCount; i++) {
+                if (top[i] == title) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the number of distinct titles.
+     *
+     * @return The number of titles that can be suggested.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Adds an event's title, or replaces the title of an event added before.
+     *
+     * @param eventId The id of the event.
+     * @param title The event title, may be {@code null}.
+     */
+    public synchronized void put(K eventId, String title) {
+        String previous = titles.put(eventId, title);
+        if (Objects.equals(previous, title)) {
+            return;
+        }
+
+        if (previous != null) {
+            decrement(previous);
+        }
+        if (title != null) {
+            increment(title);
+        }
+    }
+
+    /**
+     * Adds the titles of many events. When nothing has been added yet, the
+     * titles are sorted and the trie is built in one pass, instead of
+     * updating the caches once per event.
+     *
+     * @param eventTitles The event titles, by event id. Titles may be
+     *                    {@code null}.
+     */
+    public synchronized void putAll(Map<? extends K, String> eventTitles) {
+        if (!titles.isEmpty()) {
+            for (Map.Entry<? extends K, String> entry : eventTitles.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        // key -> label, in the order the events were given
+        List<Map.Entry<String, String>> sorted = new ArrayList<>(eventTitles.size());
+        for (Map.Entry<? extends K, String> entry : eventTitles.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            titles.put(entry.getKey(), entry.getValue());
+            String label = entry.getValue().trim();
+            if (!label.isEmpty()) {
+                sorted.add(new AbstractMap.SimpleEntry<>(key(label), label));
+            }
+        }
+        // stable, so the last spelling of a title stays last
+        sorted.sort(Map.Entry.comparingByKey());
+
+        int start = 0;
+        while (start < sorted.size()) {
+            String key = sorted.get(start).getKey();
+            int end = start + 1;
+            while (end < sorted.size() && sorted.get(end).getKey().equals(key)) {
+                end++;
+            }
+
+            // keys arrive in order, so each new child is added at the end
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.addChild(key.charAt(i));
+            }
+            String label = sorted.get(end - 1).getValue();
+            node.key = key.equals(label) ? label : key;
+            node.label = label;
+            node.count = end - start;
+            size++;
+            start = end;
+        }
+        cacheBelow(root);
+    }
+
+    /**
+     * Removes an event's title.
+     *
+     * @param eventId The id of the event.
+     */
+    public synchronized void remove(K eventId) {
+        String previous = titles.remove(eventId);
+        if (previous != null) {
+            decrement(previous);
+        }
+    }
+
+    /**
+     * Removes every title.
+     */
+    public synchronized void clear() {
+        titles.clear();
+        root = new Node();
+        size = 0;
+    }
+
+    /**
+     * Suggests titles starting with the typed text, ignoring case.
+     *
+     * @param prefix The typed text.
+     * @param limit The maximum number of suggestions. Up to
+     *              {@link #MAX_CACHED_LIMIT} are read from the cache.
+     * @return The titles used by the most events first, then alphabetically.
+     * Empty if nothing has been typed. A title matching the typed text
+     * exactly isn't suggested.
+     */
+    public synchronized List<String> suggest(String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.stripLeading().toLowerCase(Locale.ROOT);
+        if (key.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return new ArrayList<>();
+        }
+
+        List<String> suggestions = new ArrayList<>(Math.min(limit, node.topCount));
+        if (limit <= MAX_CACHED_LIMIT) {
+            for (int i = 0; i < node.topCount && suggestions.size() < limit; i++) {
+                if (node.top[i] != node) {
+                    suggestions.add(node.top[i].label);
+                }
+            }
+            return suggestions;
+        }
+
+        // more than the cache holds, rank every title below the node
+        List<Node> found = new ArrayList<>();
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], found);
+        }
+        found.sort(TitleSuggestions::compare);
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            suggestions.add(found.get(i).label);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Counts one more event with a title, inserting the title if it's new.
+     * The most recently added spelling of a title is the one suggested.
+     *
+     * @param title The event title.
+     */
+    private void increment(String title) {
+        String label = title.trim();
+        String key = key(label);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].addChild(key.charAt(i));
+        }
+
+        Node node = path[key.length()];
+        if (node.count == 0) {
+            // share the string when the title is already lowercase
+            node.key = key.equals(label) ? label : key;
+            size++;
+        }
+        node.count++;
+        node.label = label;
+
+        // the title only moves up, so each cache gains it or reorders it
+        for (Node ancestor : path) {
+            promote(ancestor, node);
+        }
+    }
+
+    /**
+     * Counts one less event with a title, removing the title once no event
+     * uses it.
+     *
+     * @param title The event title.
+     */
+    private void decrement(String title) {
+        String key = key(title.trim());
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[key.length()];
+        if (node.count == 0) {
+            return;
+        }
+        if (--node.count == 0) {
+            node.key = null;
+            node.label = null;
+            size--;
+        }
+
+        // deepest first, as a full cache is rebuilt from its children's
+        for (int i = path.length - 1; i >= 0; i--) {
+            demote(path[i], node);
+        }
+
+        // drop the nodes no title passes through anymore
+        for (int i = path.length - 1; i > 0 && path[i].count == 0 && path[i].childCount == 0; i--) {
+            path[i - 1].removeChild(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Updates a node's cache after a title below it gained an event.
+     *
+     * @param node The node.
+     * @param title The node of the title.
+     */
+    private static void promote(Node node, Node title) {
+        int index = node.topIndex(title);
+        if (index < 0) {
+            if (node.topCount == CACHE_SIZE) {
+                if (compare(title, node.top[CACHE_SIZE - 1]) > 0) {
+                    return;
+                }
+                // replace the worst cached title
+                index = CACHE_SIZE - 1;
+            } else {
+                if (node.top == null) {
+                    node.top = new Node[1];
+                } else if (node.topCount == node.top.length) {
+                    node.top = Arrays.copyOf(node.top, Math.min(node.topCount * 2, CACHE_SIZE));
+                }
+                index = node.topCount++;
+            }
+        }
+
+        while (index > 0 && compare(title, node.top[index - 1]) < 0) {
+            node.top[index] = node.top[index - 1];
+            index--;
+        }
+        node.top[index] = title;
+    }
+
+    /**
+     * Updates a node's cache after a title below it lost an event.
+     *
+     * @param node The node.
+     * @param title The node of the title.
+     */
+    private static void demote(Node node, Node title) {
+        int index = node.topIndex(title);
+        if (index < 0) {
+            // it was already outranked by every cached title
+            return;
+        }
+
+        if (node.topCount == CACHE_SIZE) {
+            // an uncached title may now outrank it
+            cache(node);
+            return;
+        }
+
+        // every title below the node is cached, so reorder or drop it
+        if (title.count == 0) {
+            System.arraycopy(node.top, index + 1, node.top, index, node.topCount - index - 1);
+            node.topCount--;
+            node.top[node.topCount] = null;
+            return;
+        }
+        while (index + 1 < node.topCount && compare(node.top[index + 1], title) < 0) {
+            node.top[index] = node.top[index + 1];
+            index++;
+        }
+        node.top[index] = title;
+    }
+
+    /**
+     * Fills the caches of a node and every node below it.
+     *
+     * @param node The node.
+     */
+    private static void cacheBelow(Node node) {
+        for (int i = 0; i < node.childCount; i++) {
+            cacheBelow(node.children[i]);
+        }
+        cache(node);
+    }
+
+    /**
+     * Fills a node's cache from its own title and its children's caches.
+     *
+     * @param node The node.
+     */
+    private static void cache(Node node) {
+        Node[] top = new Node[CACHE_SIZE];
+        int topCount = 0;
+        if (node.count > 0) {
+            top[topCount++] = node;
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            Node child = node.children[c];
+            for (int t = 0; t < child.topCount; t++) {
+                Node title = child.top[t];
+                if (topCount == CACHE_SIZE && compare(title, top[CACHE_SIZE - 1]) > 0) {
+                    // the rest of the child's cache ranks lower still
+                    break;
+                }
+
+                int index = topCount < CACHE_SIZE ? topCount++ : CACHE_SIZE - 1;
+                while (index > 0 && compare(title, top[index - 1]) < 0) {
+                    top[index] = top[index - 1];
+                    index--;
+                }
+                top[index] = title;
+            }
+        }
+
+        node.topCount = topCount;
+        node.top = topCount == CACHE_SIZE ? top : topCount > 0 ? Arrays.copyOf(top, topCount) : null;
+    }
+
+    /**
+     * Adds every title at or below a node.
+     *
+     * @param node The node.
+     * @param found The titles found so far.
+     */
+    private static void collect(Node node, List<Node> found) {
+        if (node.count > 0) {
+            found.add(node);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], found);
+        }
+    }
+
+    /**
+     * Orders titles by how many events use them, then alphabetically.
+     *
+     * @param a The node of one title.
+     * @param b The node of another title.
+     * @return A negative number if {@code a} is suggested first.
+     */
+    private static int compare(Node a, Node b) {
+        return a.count != b.count ? Integer.compare(b.count, a.count) : a.key.compareTo(b.key);
+    }
+
+    /**
+     * Gets the key a title is sorted and matched by.
+     *
+     * @param title The trimmed title.
+     * @return The lowercase title.
+     */
+    private static String key(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * TimeListConverter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import androidx.room.TypeConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Room type converter storing a list of times, such as a repeating event's
+ * removed occurrences, as comma separated milliseconds.
+ */
+public class TimeListConverter {
+    /**
+     * Converts a list of times to its column value.
+     *
+     * @param times The times, in milliseconds, may be {@code null}.
+     * @return The comma separated times, or {@code null}.
+     */
+    @TypeConverter
+    public static String fromTimes(List<Long> times) {
+        if (times == null) {
+            return null;
+        }
+
+        StringBuilder value = new StringBuilder();
+        for (Long time : times) {
+            if (value.length() > 0) {
+                value.append(',');
+            }
+            value.append(time);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Converts a column value back to a list of times.
+     *
+     * @param value The comma separated times, may be {@code null}.
+     * @return The times, in milliseconds, or {@code null}.
+     */
+    @TypeConverter
+    public static List<Long> toTimes(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        List<Long> times = new ArrayList<>();
+        for (String time : value.split(",")) {
+            if (!time.isEmpty()) {
+                times.add(Long.parseLong(time));
+            }
+        }
+        return times;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * CalendarEvent.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.util.List;
+
+/**
+ * An event as it is read from or written to a calendar file.
+ *
+ * <p>It only holds what the file formats carry, so the readers and writers
+ * don't depend on how an app stores its events. Each app converts its own
+ * events to and from calendar events.</p>
+ */
+public class CalendarEvent {
+    /**
+     * The id the event is exported with, or {@code null} to export it with a
+     * new random id. Not set by the readers.
+     */
+    public String uid;
+
+    /**
+     * The time of the event, in milliseconds.
+     */
+    public long eventTime;
+
+    /**
+     * The end time of the event, in milliseconds, or {@code null} if the
+     * event has no set duration.
+     */
+    public Long endTime;
+
+    /**
+     * The recurrence rule of a repeating event, or {@code null}.
+     */
+    public String recurrence;
+
+    /**
+     * Start times of occurrences removed from a repeating event, in
+     * milliseconds, or {@code null}.
+     */
+    public List<Long> exceptions;
+
+    /**
+     * The title of the event.
+     */
+    public String title = "";
+
+    /**
+     * The description of the event, or {@code null}.
+     */
+    public String description;
+
+    /**
+     * The color of the event's card, or {@code null}.
+     */
+    public Integer cardColor;
+
+    /**
+     * CalendarEvent constructor.
+     */
+    public CalendarEvent() {
+        // Intentionally left blank.
+    }
+
+    /**
+     * CalendarEvent constructor.
+     *
+     * @param uid The id the event is exported with, may be {@code null}.
+     * @param eventTime The time of the event, in milliseconds.
+     * @param title The title of the event.
+     * @param description The description of the event, may be {@code null}.
+     * @param cardColor The color of the event's card, may be {@code null}.
+     */
+    public CalendarEvent(String uid, long eventTime, String title, String description, Integer cardColor) {
+        this.uid = uid;
+        this.eventTime = eventTime;
+        this.title = title;
+        this.description = description;
+        this.cardColor = cardColor;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * CsvEventReader.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import com.jeffblagg.eventtracker.schedule.Recurrence;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads events from a CSV (RFC 4180) file with a header row, such as one
+ * exported by this app or a spreadsheet.
+ *
+ * <p>Columns are found by their header, ignoring case and order. The
+ * columns this app writes are read, as are the {@code Subject},
+ * {@code Start Date}, {@code Start Time}, {@code End Date} and
+ * {@code End Time} columns other calendar apps export. Dates may be written
+ * as {@code 2025-01-06} or {@code 1/6/2025}, and times as {@code 09:00} or
+ * {@code 9:00 AM}, in the reader's time zone.</p>
+ *
+ * <p>The file is parsed one character at a time through a small buffer, so
+ * only the current row is held in memory. Rows without a title or a valid
+ * start are skipped.</p>
+ */
+public class CsvEventReader implements EventReader {
+    /**
+     * Longest row read, so a file with an unclosed quote can't fill memory.
+     */
+    private static final int MAX_ROW_LENGTH = 1 << 20;
+
+    private static final DateTimeFormatter[] DATES = {
+            DateTimeFormatter.ofPattern("uuuu-M-d", Locale.US),
+            DateTimeFormatter.ofPattern("M/d/uuuu", Locale.US)
+    };
+    private static final DateTimeFormatter[] TIMES = {
+            DateTimeFormatter.ofPattern("H:mm[:ss]", Locale.US),
+            new DateTimeFormatterBuilder().parseCaseInsensitive()
+                    .appendPattern("h:mm[:ss][ ]a").toFormatter(Locale.US)
+    };
+
+    private final Reader reader;
+    private final ZoneId zone;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean started;
+    private int skipped;
+
+    private int title = -1;
+    private int start = -1;
+    private int startTime = -1;
+    private int end = -1;
+    private int endTime = -1;
+    private int description = -1;
+    private int color = -1;
+    private int repeat = -1;
+    private int exceptions = -1;
+
+    /**
+     * CsvEventReader constructor using the device time zone.
+     *
+     * @param reader The CSV text.
+     */
+    public CsvEventReader(Reader reader) {
+        this(reader, ZoneId.systemDefault());
+    }
+
+    /**
+     * CsvEventReader constructor.
+     *
+     * @param reader The CSV text.
+     * @param zone The time zone dates and times are read in.
+     */
+    public CsvEventReader(Reader reader, ZoneId zone) {
+        this.reader = reader;
+        this.zone = zone;
+    }
+
+    @Override
+    public CalendarEvent read() throws IOException {
+        if (!started) {
+            started = true;
+            readHeader();
+        }
+
+        List<String> row;
+        while ((row = readRow()) != null) {
+            if (row.size() == 1 && row.get(0).isEmpty()) {
+                // blank line
+                continue;
+            }
+            CalendarEvent event = toEvent(row);
+            if (event != null) {
+                return event;
+            }
+            skipped++;
+        }
+        return null;
+    }
+
+    @Override
+    public int getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the header row and finds the columns.
+     *
+     * @throws IOException if the file can't be read or has no title and
+     *                     start columns.
+     */
+    private void readHeader() throws IOException {
+        List<String> header = readRow();
+        if (header == null) {
+            throw new IOException("CSV file is empty");
+        }
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "title":
+                case "subject":
+                case "summary":
+                    title = i;
+                    break;
+                case "start":
+                case "start date":
+                    start = i;
+                    break;
+                case "start time":
+                    startTime = i;
+                    break;
+                case "end":
+                case "end date":
+                    end = i;
+                    break;
+                case "end time":
+                    endTime = i;
+                    break;
+                case "description":
+                    description = i;
+                    break;
+                case "color":
+                    color = i;
+                    break;
+                case "repeat":
+                case "rrule":
+                    repeat = i;
+                    break;
+                case "exceptions":
+                    exceptions = i;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (title < 0 || start < 0) {
+            throw new IOException("CSV file has no title and start columns");
+        }
+    }
+
+    /**
+     * Converts a row to an event.
+     *
+     * @param row The row's fields.
+     * @return The event, or {@code null} if the row has no title or start.
+     */
+    private CalendarEvent toEvent(List<String> row) {
+        CalendarEvent event = new CalendarEvent();
+        event.title = field(row, title).trim();
+        Long eventTime = parseTime(field(row, start), field(row, startTime));
+        if (event.title.isEmpty() || eventTime == null) {
+            return null;
+        }
+        event.eventTime = eventTime;
+
+        Long eventEnd = parseTime(field(row, end), field(row, endTime));
+        event.endTime = eventEnd != null && eventEnd > eventTime ? eventEnd : null;
+
+        String text = field(row, description);
+        event.description = text.isEmpty() ? null : text;
+        event.cardColor = IcsEventReader.parseColor(field(row, color));
+
+        Recurrence rule = Recurrence.parse(field(row, repeat).trim());
+        if (rule != null) {
+            event.recurrence = rule.toString();
+            for (String value : field(row, exceptions).split(";")) {
+                Long time = parseTime(value, "");
+                if (time != null) {
+                    if (event.exceptions == null) {
+                        event.exceptions = new ArrayList<>();
+                    }
+                    event.exceptions.add(time);
+                }
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Parses a date and time.
+     *
+     * @param date The date, optionally followed by a space or {@code T} and
+     *             the time.
+     * @param time The time, if it is in a separate column, or empty.
+     * @return The time in milliseconds, or {@code null} if the date is
+     *         missing or can't be parsed. A missing time is midnight.
+     */
+    private Long parseTime(String date, String time) {
+        String dateText = date.trim();
+        String timeText = time.trim();
+        int split = dateText.indexOf('T') > 0 ? dateText.indexOf('T') : dateText.indexOf(' ');
+        if (split > 0) {
+            timeText = dateText.substring(split + 1).trim();
+            dateText = dateText.substring(0, split);
+        }
+        if (dateText.isEmpty()) {
+            return null;
+        }
+
+        LocalDate day = null;
+        for (DateTimeFormatter format : DATES) {
+            try {
+                day = LocalDate.parse(dateText, format);
+                break;
+            } catch (DateTimeException e) {
+                // try the next format
+            }
+        }
+        if (day == null) {
+            return null;
+        }
+
+        LocalTime localTime = timeText.isEmpty() ? LocalTime.MIDNIGHT : null;
+        for (DateTimeFormatter format : TIMES) {
+            if (localTime != null) {
+                break;
+            }
+            try {
+                localTime = LocalTime.parse(timeText, format);
+            } catch (DateTimeException e) {
+                // try the next format
+            }
+        }
+        if (localTime == null) {
+            return null;
+        }
+        return day.atTime(localTime).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Gets a field of a row.
+     *
+     * @param row The row's fields.
+     * @param column The column index, or {@code -1} if the file has no such
+     *               column.
+     * @return The field, or an empty string if it's missing.
+     */
+    private static String field(List<String> row, int column) {
+        return column >= 0 && column < row.size() ? row.get(column) : "";
+    }
+
+    /**
+     * Reads the next row. Quoted fields may contain commas, doubled quotes
+     * and line breaks. Rows may end with CRLF or LF.
+     *
+     * @return The row's fields, or {@code null} at the end of the file.
+     * @throws IOException if the file can't be read or a row is too long.
+     */
+    private List<String> readRow() throws IOException {
+        int c = next();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (c >= 0) {
+            if (++length > MAX_ROW_LENGTH) {
+                throw new IOException("CSV row longer than " + MAX_ROW_LENGTH + " characters");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                int following = next();
+                if (following != '\n' && following >= 0) {
+                    position--;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+        row.add(field.toString());
+        return row;
+    }
+
+    /**
+     * Reads the next character through the buffer.
+     *
+     * @return The character, or {@code -1} at the end of the file.
+     * @throws IOException if the file can't be read.
+     */
+    private int next() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
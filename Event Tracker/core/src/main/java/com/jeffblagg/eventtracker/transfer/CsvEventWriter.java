@@ -0,0 +1,159 @@
+/*
+ * CsvEventWriter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Writes events as a CSV (RFC 4180) file with a header row, for
+ * spreadsheets and for importing back into the app.
+ *
+ * <p>Times are written as {@code 2025-01-06 09:00} in the writer's time
+ * zone. A repeating event is one row with its rule in the {@code Repeat}
+ * column and its removed occurrences in the {@code Exceptions} column,
+ * separated by semicolons.</p>
+ */
+public class CsvEventWriter implements EventWriter {
+    /**
+     * The header row, in the order columns are written.
+     */
+    static final String HEADER = "Title,Start,End,Description,Color,Repeat,Exceptions";
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm", Locale.US);
+
+    private final Writer writer;
+    private final ZoneId zone;
+    private boolean started;
+
+    /**
+     * CsvEventWriter constructor using the device time zone.
+     *
+     * @param writer The writer the file is written to.
+     */
+    public CsvEventWriter(Writer writer) {
+        this(writer, ZoneId.systemDefault());
+    }
+
+    /**
+     * CsvEventWriter constructor.
+     *
+     * @param writer The writer the file is written to.
+     * @param zone The time zone times are written in.
+     */
+    public CsvEventWriter(Writer writer, ZoneId zone) {
+        this.writer = writer;
+        this.zone = zone;
+    }
+
+    @Override
+    public void write(CalendarEvent event) throws IOException {
+        start();
+
+        writeField(event.title);
+        writer.write(',');
+        writer.write(format(event.eventTime));
+        writer.write(',');
+        if (event.endTime != null) {
+            writer.write(format(event.endTime));
+        }
+        writer.write(',');
+        writeField(event.description);
+        writer.write(',');
+        if (event.cardColor != null) {
+            writer.write(String.format(Locale.US, "#%08X", event.cardColor));
+        }
+        writer.write(',');
+        if (event.recurrence != null) {
+            writeField(event.recurrence);
+            writer.write(',');
+            if (event.exceptions != null) {
+                for (int i = 0; i < event.exceptions.size(); i++) {
+                    if (i > 0) {
+                        writer.write(';');
+                    }
+                    writer.write(format(event.exceptions.get(i)));
+                }
+            }
+        } else {
+            writer.write(',');
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Closes the underlying writer. A file with no events still has its
+     * header row.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            start();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the header row before the first event.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            writer.write(HEADER);
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Formats a time in the writer's time zone.
+     *
+     * @param time The time, in milliseconds.
+     * @return The formatted time.
+     */
+    private String format(long time) {
+        return TIME.format(Instant.ofEpochMilli(time).atZone(zone));
+    }
+
+    /**
+     * Writes a text field, quoting it if it contains a comma, quote, line
+     * break or leading or trailing space.
+     *
+     * @param text The field, may be {@code null}.
+     * @throws IOException if the file can't be written.
+     */
+    private void writeField(String text) throws IOException {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        boolean quote = Character.isWhitespace(text.charAt(0))
+                || Character.isWhitespace(text.charAt(text.length() - 1));
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * EventFormat.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * The calendar file formats events can be imported from and exported to.
+ */
+public enum EventFormat {
+    /**
+     * iCalendar, read and written by most calendar apps.
+     */
+    ICS("text/calendar", ".ics"),
+
+    /**
+     * Comma separated values, for spreadsheets.
+     */
+    CSV("text/csv", ".csv");
+
+    /**
+     * The format's MIME type.
+     */
+    public final String mimeType;
+
+    /**
+     * The format's file name extension, including the dot.
+     */
+    public final String extension;
+
+    EventFormat(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    /**
+     * Creates a reader for a file in this format.
+     *
+     * @param reader The file's text.
+     * @return The event reader.
+     */
+    public EventReader reader(Reader reader) {
+        return this == ICS ? new IcsEventReader(reader) : new CsvEventReader(reader);
+    }
+
+    /**
+     * Creates a writer for a file in this format.
+     *
+     * @param writer The writer the file is written to.
+     * @param now The current time, in milliseconds.
+     * @return The event writer.
+     */
+    public EventWriter writer(Writer writer, long now) {
+        return this == ICS ? new IcsEventWriter(writer, now) : new CsvEventWriter(writer);
+    }
+
+    /**
+     * Finds the format of a file from its MIME type or name. Files shared
+     * from other apps often have a generic MIME type, so the name's
+     * extension is checked too.
+     *
+     * @param mimeType The file's MIME type, may be {@code null}.
+     * @param name The file's name, may be {@code null}.
+     * @return The format, or {@code null} if it isn't a supported format.
+     */
+    public static EventFormat of(String mimeType, String name) {
+        String lowerName = name != null ? name.toLowerCase(Locale.ROOT) : "";
+        for (EventFormat format : values()) {
+            if (format.mimeType.equalsIgnoreCase(mimeType) || lowerName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        if (lowerName.endsWith(".ical")) {
+            return ICS;
+        }
+        return "text/comma-separated-values".equalsIgnoreCase(mimeType) ? CSV : null;
+    }
+}
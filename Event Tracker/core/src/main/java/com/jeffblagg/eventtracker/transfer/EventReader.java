@@ -0,0 +1,39 @@
+/*
+ * EventReader.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads events one at a time from an exported calendar file.
+ *
+ * <p>Readers stream the file, so only the event being read is held in
+ * memory however large the file is. Entries that can't be imported, such as
+ * events without a title or start time, are skipped and counted. Reading the
+ * same file again returns the same events in the same order, which is what
+ * lets an import resume from a checkpoint.</p>
+ */
+public interface EventReader extends Closeable {
+    /**
+     * Reads the next event.
+     *
+     * @return The event, or {@code null} at the end of the file.
+     * @throws IOException if the file can't be read or isn't in the
+     *                     reader's format.
+     */
+    CalendarEvent read() throws IOException;
+
+    /**
+     * Gets the number of entries skipped so far.
+     *
+     * @return The number of entries that couldn't be imported.
+     */
+    int getSkipped();
+}
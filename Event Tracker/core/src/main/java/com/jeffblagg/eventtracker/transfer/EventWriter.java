@@ -0,0 +1,29 @@
+/*
+ * EventWriter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes events one at a time to an exported calendar file.
+ *
+ * <p>Each event is written through to the underlying writer as it is added,
+ * so exports don't hold the user's events in memory. Closing the writer
+ * finishes the file and closes the underlying writer.</p>
+ */
+public interface EventWriter extends Closeable {
+    /**
+     * Writes an event.
+     *
+     * @param event The event to write.
+     * @throws IOException if the event can't be written.
+     */
+    void write(CalendarEvent event) throws IOException;
+}
@@ -0,0 +1,417 @@
+/*
+ * IcsEventReader.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import com.jeffblagg.eventtracker.schedule.Recurrence;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the events of an iCalendar (RFC 5545) file, such as one exported
+ * from another calendar app.
+ *
+ * <p>Lines are unfolded as they are read and only the current event's
+ * properties are kept, so large calendars stream in constant memory. Each
+ * {@code VEVENT} becomes an event with its summary, description, start and
+ * end, and a repeating event keeps its rule and removed dates. Components
+ * nested in an event, such as alarms, are ignored.</p>
+ *
+ * <p>Times in UTC, with a {@code TZID}, or as whole dates are converted to
+ * milliseconds; floating times and unknown time zones use the reader's zone.
+ * Repeating rules {@link Recurrence} doesn't support are dropped, importing
+ * just the first occurrence. Events without a summary or start are skipped.</p>
+ */
+public class IcsEventReader implements EventReader {
+    /**
+     * Longest unfolded line read, so a corrupt file can't fill memory.
+     */
+    private static final int MAX_LINE_LENGTH = 1 << 20;
+
+    /**
+     * Property holding the event card color, which iCalendar has no
+     * equivalent for.
+     */
+    static final String COLOR_PROPERTY = "X-EVENT-TRACKER-COLOR";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss", Locale.US);
+
+    /**
+     * A content line split into its name, parameters and value.
+     */
+    private static final class Property {
+        final String name;
+        final Map<String, String> parameters;
+        final String value;
+
+        Property(String name, Map<String, String> parameters, String value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private String nextLine;
+    private boolean started;
+    private int skipped;
+
+    /**
+     * IcsEventReader constructor using the device time zone for floating
+     * times.
+     *
+     * @param reader The iCalendar text.
+     */
+    public IcsEventReader(Reader reader) {
+        this(reader, ZoneId.systemDefault());
+    }
+
+    /**
+     * IcsEventReader constructor.
+     *
+     * @param reader The iCalendar text.
+     * @param zone The time zone for floating times and whole dates.
+     */
+    public IcsEventReader(Reader reader, ZoneId zone) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.zone = zone;
+    }
+
+    @Override
+    public CalendarEvent read() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.trim().equalsIgnoreCase("BEGIN:VEVENT")) {
+                CalendarEvent event = readEvent();
+                if (event != null) {
+                    return event;
+                }
+                skipped++;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the properties of an event, up to its {@code END:VEVENT}.
+     *
+     * @return The event, or {@code null} if it can't be imported.
+     * @throws IOException if the file can't be read.
+     */
+    private CalendarEvent readEvent() throws IOException {
+        CalendarEvent event = new CalendarEvent();
+        Long start = null;
+        Long end = null;
+        Duration duration = null;
+        boolean complete = false;
+        int depth = 0;
+
+        String line;
+        while ((line = readLine()) != null) {
+            Property property = parse(line);
+            if (property == null) {
+                continue;
+            }
+
+            if (property.name.equals("BEGIN")) {
+                depth++;
+                continue;
+            }
+            if (property.name.equals("END")) {
+                if (depth == 0) {
+                    complete = property.value.trim().equalsIgnoreCase("VEVENT");
+                    break;
+                }
+                depth--;
+                continue;
+            }
+            if (depth > 0) {
+                continue;
+            }
+
+            switch (property.name) {
+                case "SUMMARY":
+                    event.title = unescape(property.value).trim();
+                    break;
+                case "DESCRIPTION":
+                    event.description = unescape(property.value);
+                    break;
+                case "DTSTART":
+                    start = parseTime(property.value, property.parameters);
+                    break;
+                case "DTEND":
+                    end = parseTime(property.value, property.parameters);
+                    break;
+                case "DURATION":
+                    duration = parseDuration(property.value);
+                    break;
+                case "RRULE":
+                    Recurrence rule = Recurrence.parse(property.value);
+                    event.recurrence = rule != null ? rule.toString() : null;
+                    break;
+                case "EXDATE":
+                    addExceptions(event, property);
+                    break;
+                case COLOR_PROPERTY:
+                    event.cardColor = parseColor(property.value);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (!complete || start == null || event.title == null || event.title.isEmpty()) {
+            return null;
+        }
+
+        event.eventTime = start;
+        if (end == null && duration != null) {
+            end = start + duration.toMillis();
+        }
+        event.endTime = end != null && end > start ? end : null;
+        if (event.recurrence == null) {
+            event.exceptions = null;
+        }
+        return event;
+    }
+
+    /**
+     * Reads the next content line, joining any folded continuation lines.
+     *
+     * @return The unfolded line, or {@code null} at the end of the file.
+     * @throws IOException if the file can't be read or a line is too long.
+     */
+    private String readLine() throws IOException {
+        String line = nextLine != null ? nextLine : reader.readLine();
+        nextLine = null;
+        if (line == null) {
+            return null;
+        }
+        if (!started) {
+            started = true;
+            if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = reader.readLine()) != null && !next.isEmpty()
+                && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            if (unfolded.length() + next.length() > MAX_LINE_LENGTH) {
+                throw new IOException("iCalendar line longer than " + MAX_LINE_LENGTH + " characters");
+            }
+            unfolded.append(next, 1, next.length());
+        }
+        nextLine = next;
+        return unfolded != null ? unfolded.toString() : line;
+    }
+
+    /**
+     * Splits a content line into its name, parameters and value. Colons and
+     * semicolons inside quoted parameter values are kept.
+     *
+     * @param line The unfolded line.
+     * @return The property, or {@code null} if the line has no value.
+     */
+    private static Property parse(String line) {
+        int nameEnd = 0;
+        while (nameEnd < line.length() && line.charAt(nameEnd) != ';' && line.charAt(nameEnd) != ':') {
+            nameEnd++;
+        }
+        if (nameEnd == line.length()) {
+            return null;
+        }
+
+        String name = line.substring(0, nameEnd).trim().toUpperCase(Locale.ROOT);
+        Map<String, String> parameters = new HashMap<>();
+        int index = nameEnd;
+        while (line.charAt(index) == ';') {
+            int parameterStart = index + 1;
+            boolean quoted = false;
+            index = parameterStart;
+            while (index < line.length() && (quoted || (line.charAt(index) != ';' && line.charAt(index) != ':'))) {
+                if (line.charAt(index) == '"') {
+                    quoted = !quoted;
+                }
+                index++;
+            }
+            if (index == line.length()) {
+                return null;
+            }
+
+            String parameter = line.substring(parameterStart, index);
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                parameters.put(parameter.substring(0, equals).trim().toUpperCase(Locale.ROOT),
+                        parameter.substring(equals + 1).replace("\"", ""));
+            }
+        }
+
+        return new Property(name, parameters, line.substring(index + 1));
+    }
+
+    /**
+     * Parses a date or date-time value.
+     *
+     * @param value The value, such as {@code 20250106T090000Z}.
+     * @param parameters The property parameters, for {@code TZID} and
+     *                   {@code VALUE=DATE}.
+     * @return The time in milliseconds, or {@code null} if the value can't be
+     *         parsed.
+     */
+    private Long parseTime(String value, Map<String, String> parameters) {
+        String text = value.trim();
+        try {
+            if ("DATE".equalsIgnoreCase(parameters.get("VALUE")) || text.length() == 8) {
+                return LocalDate.parse(text, DateTimeFormatter.BASIC_ISO_DATE)
+                        .atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            if (text.endsWith("Z") || text.endsWith("z")) {
+                return LocalDateTime.parse(text.substring(0, text.length() - 1), DATE_TIME)
+                        .toInstant(ZoneOffset.UTC).toEpochMilli();
+            }
+            return LocalDateTime.parse(text, DATE_TIME).atZone(zone(parameters.get("TZID")))
+                    .toInstant().toEpochMilli();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the time zone named by a {@code TZID} parameter.
+     *
+     * @param id The time zone id, may be {@code null}.
+     * @return The zone, or the reader's zone if the id is missing or unknown,
+     *         such as a Windows zone name.
+     */
+    private ZoneId zone(String id) {
+        if (id == null) {
+            return zone;
+        }
+        try {
+            return ZoneId.of(id.trim());
+        } catch (DateTimeException e) {
+            return zone;
+        }
+    }
+
+    /**
+     * Adds the times of an {@code EXDATE} property to an event's removed
+     * occurrences.
+     *
+     * @param event The event.
+     * @param property The property, with one or more comma separated times.
+     */
+    private void addExceptions(CalendarEvent event, Property property) {
+        for (String value : property.value.split(",")) {
+            Long time = parseTime(value, property.parameters);
+            if (time != null) {
+                if (event.exceptions == null) {
+                    event.exceptions = new ArrayList<>();
+                }
+                event.exceptions.add(time);
+            }
+        }
+    }
+
+    /**
+     * Parses a duration such as {@code PT1H30M}, {@code P1D} or {@code P2W}.
+     *
+     * @param value The duration value.
+     * @return The duration, or {@code null} if it can't be parsed or is negative.
+     */
+    private static Duration parseDuration(String value) {
+        String text = value.trim().toUpperCase(Locale.ROOT);
+        try {
+            Duration duration;
+            if (text.startsWith("P") && text.endsWith("W")) {
+                duration = Duration.ofDays(7 * Long.parseLong(text.substring(1, text.length() - 1)));
+            } else {
+                duration = Duration.parse(text);
+            }
+            return duration.isNegative() ? null : duration;
+        } catch (NumberFormatException | DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a card color written as {@code #AARRGGBB}.
+     *
+     * @param value The color value.
+     * @return The color, or {@code null} if it can't be parsed.
+     */
+    static Integer parseColor(String value) {
+        String text = value.trim();
+        if (text.startsWith("#")) {
+            text = text.substring(1);
+        }
+        if (text.length() != 6 && text.length() != 8) {
+            return null;
+        }
+        try {
+            long color = Long.parseLong(text, 16);
+            return (int) (text.length() == 6 ? color | 0xFF000000L : color);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Removes the escaping from a text value.
+     *
+     * @param value The escaped text.
+     * @return The text, with escaped newlines, commas, semicolons and
+     *         backslashes restored.
+     */
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+}
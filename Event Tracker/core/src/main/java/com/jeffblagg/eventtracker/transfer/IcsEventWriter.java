@@ -0,0 +1,208 @@
+/*
+ * IcsEventWriter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Writes events as an iCalendar (RFC 5545) file other calendar apps can
+ * import.
+ *
+ * <p>Single events are written in UTC. Repeating events are written in the
+ * writer's time zone, since their rules repeat at the same local time, so
+ * other apps expand them to the same occurrences. Lines are folded at 75
+ * octets with CRLF line endings, as the format requires.</p>
+ */
+public class IcsEventWriter implements EventWriter {
+    /**
+     * Longest line written, in UTF-8 octets, before it is folded.
+     */
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_TIME =
+            DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'", Locale.US).withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter LOCAL_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss", Locale.US);
+
+    private final Writer writer;
+    private final ZoneId zone;
+    private final String stamp;
+    private boolean started;
+
+    /**
+     * IcsEventWriter constructor using the device time zone for repeating
+     * events.
+     *
+     * @param writer The writer the file is written to.
+     * @param now The current time, in milliseconds, stamped on each event.
+     */
+    public IcsEventWriter(Writer writer, long now) {
+        this(writer, now, ZoneId.systemDefault());
+    }
+
+    /**
+     * IcsEventWriter constructor.
+     *
+     * @param writer The writer the file is written to.
+     * @param now The current time, in milliseconds, stamped on each event.
+     * @param zone The time zone repeating events are written in.
+     */
+    public IcsEventWriter(Writer writer, long now, ZoneId zone) {
+        this.writer = writer;
+        this.zone = zone;
+        this.stamp = UTC_TIME.format(Instant.ofEpochMilli(now));
+    }
+
+    @Override
+    public void write(CalendarEvent event) throws IOException {
+        start();
+
+        boolean repeating = event.recurrence != null;
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + (event.uid != null ? event.uid : UUID.randomUUID().toString()) + "@eventtracker");
+        writeLine("DTSTAMP:" + stamp);
+        writeLine("DTSTART" + time(event.eventTime, repeating));
+        if (event.endTime != null) {
+            writeLine("DTEND" + time(event.endTime, repeating));
+        }
+        writeLine("SUMMARY:" + escape(event.title));
+        if (event.description != null && !event.description.isEmpty()) {
+            writeLine("DESCRIPTION:" + escape(event.description));
+        }
+        if (repeating) {
+            writeLine("RRULE:" + event.recurrence);
+            if (event.exceptions != null && !event.exceptions.isEmpty()) {
+                StringBuilder dates = new StringBuilder("EXDATE;TZID=").append(zone.getId()).append(':');
+                for (int i = 0; i < event.exceptions.size(); i++) {
+                    if (i > 0) {
+                        dates.append(',');
+                    }
+                    dates.append(LOCAL_TIME.format(Instant.ofEpochMilli(event.exceptions.get(i)).atZone(zone)));
+                }
+                writeLine(dates.toString());
+            }
+        }
+        if (event.cardColor != null) {
+            writeLine(IcsEventReader.COLOR_PROPERTY + ":" + String.format(Locale.US, "#%08X", event.cardColor));
+        }
+        writeLine("END:VEVENT");
+    }
+
+    /**
+     * Finishes the calendar and closes the underlying writer. A calendar with
+     * no events is still a valid file.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            start();
+            writeLine("END:VCALENDAR");
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the calendar header before the first event.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        started = true;
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Jeff Blagg//Event Tracker//EN");
+    }
+
+    /**
+     * Formats a time as the parameters and value of a date-time property.
+     *
+     * @param time The time, in milliseconds.
+     * @param local Whether to write the time in the writer's time zone rather
+     *              than UTC.
+     * @return The property text following its name, such as
+     *         {@code :20250106T090000Z}.
+     */
+    private String time(long time, boolean local) {
+        Instant instant = Instant.ofEpochMilli(time);
+        if (local) {
+            return ";TZID=" + zone.getId() + ":" + LOCAL_TIME.format(instant.atZone(zone));
+        }
+        return ":" + UTC_TIME.format(instant);
+    }
+
+    /**
+     * Writes a content line, folding it so no line is longer than
+     * {@link #MAX_LINE_OCTETS} UTF-8 octets. Characters are never split
+     * across lines.
+     *
+     * @param line The unfolded line.
+     * @throws IOException if the file can't be written.
+     */
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        int lineStart = 0;
+        int index = 0;
+        while (index < line.length()) {
+            int codePoint = line.codePointAt(index);
+            int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write(line, lineStart, index - lineStart);
+                writer.write("\r\n ");
+                lineStart = index;
+                octets = 1;
+            }
+            octets += length;
+            index += Character.charCount(codePoint);
+        }
+        writer.write(line, lineStart, line.length() - lineStart);
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escapes a text value.
+     *
+     * @param text The text.
+     * @return The text with backslashes, semicolons, commas and newlines
+     *         escaped.
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                case ';':
+                case ',':
+                    escaped.append('\\').append(c);
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    escaped.append(c);
+                    break;
+            }
+        }
+        return escaped.toString();
+    }
+}
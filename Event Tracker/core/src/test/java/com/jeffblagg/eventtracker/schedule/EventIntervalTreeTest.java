@@ -0,0 +1,181 @@
+/*
+ * EventIntervalTreeTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that {@link EventIntervalTree} finds the same overlaps and free
+ * time as comparing every event, including after many incremental updates.
+ */
+public class EventIntervalTreeTest {
+    private static final long START = 1_800_000_000_000L;
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+
+    private final Random random = new Random(11);
+
+    @Test
+    public void findsOverlappingEvents() {
+        EventIntervalTree<String> tree = new EventIntervalTree<>();
+        tree.put("standup", START + 9 * HOUR, START + 9 * HOUR + 15 * MINUTE);
+        tree.put("lunch", START + 12 * HOUR, START + 13 * HOUR);
+        tree.put("review", START + 12 * HOUR + 30 * MINUTE, START + 14 * HOUR);
+        tree.put("reminder", START + 16 * HOUR, null);
+
+        assertEquals(Arrays.asList("lunch", "review"), tree.overlapping(START + 12 * HOUR + 45 * MINUTE, START + 15 * HOUR));
+        assertEquals(Collections.singletonList("review"), tree.overlapping(START + 13 * HOUR, START + 14 * HOUR));
+        assertTrue(tree.overlapping(START + 14 * HOUR, START + 16 * HOUR).isEmpty());
+        assertEquals(Collections.singletonList("reminder"), tree.overlapping(START + 16 * HOUR, null));
+        assertEquals(Collections.singletonList("reminder"), tree.overlapping(START + 15 * HOUR, START + 17 * HOUR));
+    }
+
+    @Test
+    public void movingAndRemovingEventsUpdatesOverlaps() {
+        EventIntervalTree<String> tree = new EventIntervalTree<>();
+        tree.put("lunch", START + 12 * HOUR, START + 13 * HOUR);
+        tree.put("lunch", START + 17 * HOUR, START + 18 * HOUR);
+
+        assertTrue(tree.overlapping(START + 12 * HOUR, START + 13 * HOUR).isEmpty());
+        assertEquals(Collections.singletonList("lunch"), tree.overlapping(START + 17 * HOUR, null));
+
+        tree.remove("lunch");
+        assertEquals(0, tree.size());
+        assertTrue(tree.overlapping(START, START + 24 * HOUR).isEmpty());
+    }
+
+    @Test
+    public void findsFreeTimeBetweenEvents() {
+        EventIntervalTree<String> tree = new EventIntervalTree<>();
+        tree.put("lunch", START + 12 * HOUR, START + 13 * HOUR);
+        tree.put("review", START + 12 * HOUR + 30 * MINUTE, START + 14 * HOUR);
+        tree.put("call", START + 14 * HOUR + 10 * MINUTE, START + 15 * HOUR);
+        tree.put("dinner", START + 18 * HOUR, START + 20 * HOUR);
+
+        List<EventIntervalTree.TimeRange> free = tree.freeTime(START + 12 * HOUR, START + 18 * HOUR, 30 * MINUTE);
+
+        // the ten minutes between the review and the call are too short
+        assertEquals(1, free.size());
+        assertEquals(START + 15 * HOUR, free.get(0).start);
+        assertEquals(START + 18 * HOUR, free.get(0).end);
+    }
+
+    @Test
+    public void matchesComparingEveryEvent() {
+        EventIntervalTree<Integer> tree = new EventIntervalTree<>();
+        Map<Integer, long[]> events = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                events.remove(id);
+                tree.remove(id);
+            } else {
+                long start = START + random.nextInt(7 * 24 * 4) * 15 * MINUTE;
+                Long end = random.nextInt(5) == 0 ? null : start + (1 + random.nextInt(16)) * 15 * MINUTE;
+                events.put(id, new long[]{start, end != null ? end : start + 1});
+                tree.put(id, start, end);
+            }
+
+            if (step % 500 == 0) {
+                for (int query = 0; query < 20; query++) {
+                    long start = START + random.nextInt(7 * 24) * HOUR;
+                    long end = start + random.nextInt(12) * HOUR;
+                    assertEquals(expectedOverlaps(events, start, end), sorted(tree.overlapping(start, end)));
+                    assertEquals(expectedFreeMinutes(events, start, end), freeMinutes(tree, start, end));
+                }
+            }
+        }
+        assertEquals(events.size(), tree.size());
+    }
+
+    /**
+     * Finds the events overlapping a range by comparing every event.
+     *
+     * @param events The event times, by id.
+     * @param start The start of the range.
+     * @param end The end of the range.
+     * @return The sorted ids of the overlapping events.
+     */
+    private static List<Integer> expectedOverlaps(Map<Integer, long[]> events, long start, long end) {
+        long stop = end > start ? end : start + 1;
+        List<Integer> overlaps = new ArrayList<>();
+        for (Map.Entry<Integer, long[]> entry : events.entrySet()) {
+            if (entry.getValue()[0] < stop && entry.getValue()[1] > start) {
+                overlaps.add(entry.getKey());
+            }
+        }
+        return sorted(overlaps);
+    }
+
+    /**
+     * Marks the free minutes of a range by comparing every event. Event
+     * times fall on whole quarter hours, so minutes are precise enough.
+     *
+     * @param events The event times, by id.
+     * @param start The start of the range.
+     * @param end The end of the range.
+     * @return Whether each minute of the range is free.
+     */
+    private static List<Boolean> expectedFreeMinutes(Map<Integer, long[]> events, long start, long end) {
+        List<Boolean> free = new ArrayList<>();
+        for (long minute = start; minute < end; minute += MINUTE) {
+            boolean busy = false;
+            for (long[] event : events.values()) {
+                busy |= event[0] < minute + MINUTE && event[1] > minute;
+            }
+            free.add(!busy);
+        }
+        return free;
+    }
+
+    /**
+     * Marks the free minutes of a range from the tree's free time.
+     *
+     * @param tree The tree.
+     * @param start The start of the range.
+     * @param end The end of the range.
+     * @return Whether each minute of the range is free.
+     */
+    private static List<Boolean> freeMinutes(EventIntervalTree<Integer> tree, long start, long end) {
+        List<EventIntervalTree.TimeRange> ranges = tree.freeTime(start, end, 1);
+        List<Boolean> free = new ArrayList<>();
+        for (long minute = start; minute < end; minute += MINUTE) {
+            boolean inRange = false;
+            for (EventIntervalTree.TimeRange range : ranges) {
+                inRange |= range.start <= minute && minute + MINUTE <= range.end;
+            }
+            free.add(inRange);
+        }
+        return free;
+    }
+
+    /**
+     * Sorts event ids.
+     *
+     * @param eventIds The ids.
+     * @return The sorted ids.
+     */
+    private static List<Integer> sorted(List<Integer> eventIds) {
+        List<Integer> sorted = new ArrayList<>(eventIds);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
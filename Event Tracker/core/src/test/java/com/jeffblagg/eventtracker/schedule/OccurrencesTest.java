@@ -0,0 +1,204 @@
+/*
+ * OccurrencesTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+/**
+ * Checks that {@link Occurrences} lists the same upcoming events as
+ * expanding every series.
+ */
+public class OccurrencesTest {
+    private static final long START = 1_800_000_000_000L;
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+
+    private final Random random = new Random(23);
+
+    @Test
+    public void mergesSeriesWithSingleEvents() {
+        TestEvent daily = event("daily", START + HOUR, "FREQ=DAILY;COUNT=3");
+        TestEvent single = event("single", START + DAY + 2 * HOUR, null);
+
+        List<TestEvent> upcoming = Occurrences.upcoming(List.of(single, daily), START, 10);
+
+        assertEquals(List.of("daily", "daily", "single", "daily"), ids(upcoming));
+        assertEquals(List.of(START + HOUR, START + DAY + HOUR, START + DAY + 2 * HOUR, START + 2 * DAY + HOUR),
+                times(upcoming));
+        assertEquals(2, Occurrences.upcoming(List.of(single, daily), START, 2).size());
+    }
+
+    @Test
+    public void skipsRemovedOccurrences() {
+        TestEvent daily = event("daily", START, "FREQ=DAILY");
+        daily.endTime = START + HOUR;
+        daily.exceptions = List.of(START + DAY);
+
+        List<TestEvent> upcoming = Occurrences.upcoming(List.of(daily), START, 2);
+        assertEquals(List.of(START, START + 2 * DAY), times(upcoming));
+        assertEquals(Long.valueOf(START + 2 * DAY + HOUR), upcoming.get(1).endTime);
+        assertEquals(Long.valueOf(START + 2 * DAY), Occurrences.next(daily, START + 1));
+    }
+
+    @Test
+    public void findsOverlappingOccurrences() {
+        TestEvent daily = event("daily", START, "FREQ=DAILY;COUNT=5");
+        daily.endTime = START + 2 * HOUR;
+
+        assertEquals(List.of(START + DAY, START + 2 * DAY),
+                times(Occurrences.overlapping(daily, START + DAY + HOUR, START + 2 * DAY + HOUR)));
+        assertEquals(List.of(START + 4 * DAY), times(Occurrences.overlapping(daily, START + 4 * DAY, null)));
+        assertTrue(Occurrences.overlapping(daily, START + 5 * DAY, START + 6 * DAY).isEmpty());
+        assertTrue(Occurrences.overlapping(event("single", START, null), START, START + DAY).isEmpty());
+    }
+
+    @Test
+    public void endedSeriesAreNotUpcoming() {
+        TestEvent course = event("course", START - 10 * DAY, "FREQ=WEEKLY;COUNT=2");
+
+        assertFalse(Occurrences.isUpcoming(course, START));
+        assertNull(Occurrences.next(course, START));
+        assertTrue(Occurrences.isUpcoming(event("weekly", START - 10 * DAY, "FREQ=WEEKLY"), START));
+    }
+
+    @Test
+    public void matchesExpandingEverySeries() {
+        String[] rules = {null, null, "FREQ=DAILY", "FREQ=DAILY;INTERVAL=3", "FREQ=WEEKLY;BYDAY=MO,WE,FR",
+                "FREQ=WEEKLY;INTERVAL=2;COUNT=6", "FREQ=MONTHLY", "FREQ=YEARLY"};
+
+        for (int round = 0; round < 200; round++) {
+            List<TestEvent> events = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                TestEvent event = event("e" + i, START + (random.nextInt(120) - 60) * DAY
+                        + random.nextInt(24) * HOUR, rules[random.nextInt(rules.length)]);
+                Long removed = Occurrences.next(event, START + random.nextInt(30) * DAY);
+                if (event.recurrence != null && removed != null && random.nextBoolean()) {
+                    event.exceptions = List.of(removed);
+                }
+                events.add(event);
+            }
+
+            long from = START + random.nextInt(30) * DAY;
+            List<TestEvent> expected = expandAll(events, from, from + 400 * DAY);
+            List<TestEvent> upcoming = Occurrences.upcoming(events, from, 100);
+            assertEquals(times(expected.subList(0, 100)), times(upcoming));
+        }
+    }
+
+    /**
+     * Lists every occurrence of every event in a range, sorted by time.
+     *
+     * @param events The events.
+     * @param from The start of the range.
+     * @param to The end of the range.
+     * @return The occurrences.
+     */
+    private static List<TestEvent> expandAll(List<TestEvent> events, long from, long to) {
+        List<TestEvent> all = new ArrayList<>();
+        for (TestEvent event : events) {
+            Recurrence rule = Recurrence.parse(event.recurrence);
+            if (rule == null) {
+                if (event.eventTime >= from) {
+                    all.add(event);
+                }
+                continue;
+            }
+            PrimitiveIterator.OfLong times = rule.occurrences(event.eventTime, event.eventTime);
+            while (times.hasNext()) {
+                long time = times.nextLong();
+                if (time >= to) {
+                    break;
+                }
+                if (time >= from && (event.exceptions == null || !event.exceptions.contains(time))) {
+                    all.add(Occurrences.occurrence(event, time));
+                }
+            }
+        }
+        all.sort(Comparator.comparingLong(event -> event.eventTime));
+        return all;
+    }
+
+    private static TestEvent event(String id, long eventTime, String recurrence) {
+        TestEvent event = new TestEvent();
+        event.id = id;
+        event.eventTime = eventTime;
+        event.recurrence = recurrence;
+        return event;
+    }
+
+    private static List<String> ids(List<TestEvent> events) {
+        List<String> ids = new ArrayList<>();
+        for (TestEvent event : events) {
+            ids.add(event.id);
+        }
+        return ids;
+    }
+
+    private static List<Long> times(List<TestEvent> events) {
+        List<Long> times = new ArrayList<>();
+        for (TestEvent event : events) {
+            times.add(event.eventTime);
+        }
+        return times;
+    }
+
+    /**
+     * A minimal event, as an app's event types would implement
+     * {@link Schedulable}.
+     */
+    private static final class TestEvent implements Schedulable<TestEvent> {
+        String id;
+        long eventTime;
+        Long endTime;
+        String recurrence;
+        List<Long> exceptions;
+
+        @Override
+        public long eventTime() {
+            return eventTime;
+        }
+
+        @Override
+        public Long endTime() {
+            return endTime;
+        }
+
+        @Override
+        public String recurrence() {
+            return recurrence;
+        }
+
+        @Override
+        public List<Long> exceptions() {
+            return exceptions;
+        }
+
+        @Override
+        public TestEvent occurrence(long eventTime, Long endTime) {
+            TestEvent occurrence = new TestEvent();
+            occurrence.id = id;
+            occurrence.eventTime = eventTime;
+            occurrence.endTime = endTime;
+            occurrence.recurrence = recurrence;
+            occurrence.exceptions = exceptions;
+            return occurrence;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * RecurrenceTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Checks parsing and formatting {@link Recurrence} rules, and that listing
+ * occurrences from any time matches listing every occurrence from the start
+ * of the series.
+ */
+public class RecurrenceTest {
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+
+    private final Random random = new Random(17);
+
+    @Test
+    public void parsesAndFormatsRules() {
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE,FR", Recurrence.parse("RRULE:freq=weekly;byday=FR,MO,WE").toString());
+        assertEquals("FREQ=MONTHLY;INTERVAL=3;COUNT=4", Recurrence.parse("FREQ=MONTHLY;INTERVAL=3;COUNT=4").toString());
+        assertEquals("FREQ=DAILY;UNTIL=20251231T235959Z", Recurrence.parse("FREQ=DAILY;UNTIL=20251231").toString());
+        assertEquals("FREQ=YEARLY", Recurrence.parse("FREQ=YEARLY;WKST=SU").toString());
+
+        assertNull(Recurrence.parse(null));
+        assertNull(Recurrence.parse("FREQ=HOURLY"));
+        assertNull(Recurrence.parse("INTERVAL=2"));
+        assertNull(Recurrence.parse("FREQ=WEEKLY;COUNT=0"));
+        assertNull(Recurrence.parse("FREQ=MONTHLY;BYDAY=1MO"));
+        assertNull(Recurrence.parse("FREQ=MONTHLY;BYMONTHDAY=1"));
+        assertNull(Recurrence.parse("FREQ=DAILY;COUNT=3;UNTIL=20251231"));
+        assertNull(Recurrence.parse("FREQ=DAILY;UNTIL=20251340"));
+    }
+
+    @Test
+    public void listsWeeklyDays() {
+        // Wednesday 1 January 2025, 9:00 UTC
+        long start = utc(2025, Calendar.JANUARY, 1, 9);
+        Recurrence rule = Recurrence.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=4");
+
+        assertEquals(List.of(start, utc(2025, Calendar.JANUARY, 6, 9), utc(2025, Calendar.JANUARY, 8, 9),
+                utc(2025, Calendar.JANUARY, 13, 9)), list(rule, start, start, UTC, 10));
+    }
+
+    @Test
+    public void skipsMonthsWithoutTheDay() {
+        long start = utc(2025, Calendar.JANUARY, 31, 12);
+        Recurrence rule = Recurrence.every(Recurrence.Frequency.MONTHLY);
+
+        assertEquals(List.of(start, utc(2025, Calendar.MARCH, 31, 12), utc(2025, Calendar.MAY, 31, 12)),
+                list(rule, start, start, UTC, 3));
+    }
+
+    @Test
+    public void keepsLocalTimeAcrossDaylightSaving() {
+        Calendar calendar = Calendar.getInstance(NEW_YORK);
+        calendar.clear();
+        calendar.set(2025, Calendar.MARCH, 7, 9, 0);
+        long start = calendar.getTimeInMillis();
+
+        List<Long> times = list(Recurrence.every(Recurrence.Frequency.DAILY), start, start, NEW_YORK, 4);
+        for (long time : times) {
+            calendar.setTimeInMillis(time);
+            assertEquals(9, calendar.get(Calendar.HOUR_OF_DAY));
+        }
+        // clocks went forward on Sunday 9 March
+        assertEquals(23 * HOUR, times.get(2) - times.get(1));
+    }
+
+    @Test
+    public void endsOnCountOrUntil() {
+        long start = utc(2025, Calendar.JANUARY, 1, 9);
+
+        Recurrence counted = Recurrence.parse("FREQ=DAILY;INTERVAL=2;COUNT=3");
+        assertEquals(List.of(start + 2 * DAY, start + 4 * DAY), list(counted, start, start + DAY, UTC, 10));
+
+        Recurrence until = Recurrence.parse("FREQ=DAILY;UNTIL=20250103T090000Z");
+        assertEquals(List.of(start, start + DAY, start + 2 * DAY), list(until, start, start, UTC, 10));
+        assertNull(until.next(start, start + 3 * DAY));
+    }
+
+    @Test
+    public void matchesListingFromTheStart() {
+        String[] frequencies = {"DAILY", "WEEKLY", "MONTHLY", "YEARLY"};
+        String[] days = {"", ";BYDAY=MO", ";BYDAY=TU,TH", ";BYDAY=MO,TU,WE,TH,FR", ";BYDAY=SA,SU"};
+
+        for (int i = 0; i < 2000; i++) {
+            String frequency = frequencies[random.nextInt(frequencies.length)];
+            String rule = "FREQ=" + frequency + ";INTERVAL=" + (1 + random.nextInt(3));
+            if (frequency.equals("DAILY") || frequency.equals("WEEKLY")) {
+                rule += days[random.nextInt(days.length)];
+            }
+            if (random.nextInt(3) == 0) {
+                rule += ";COUNT=" + (1 + random.nextInt(40));
+            }
+            Recurrence recurrence = Recurrence.parse(rule);
+
+            long start = utc(2024, Calendar.JANUARY, 1, 0) + random.nextInt(365 * 24 * 4) * 15 * 60 * 1000L;
+            long from = start + (random.nextInt(2000) - 100) * DAY + random.nextInt(24) * HOUR;
+
+            List<Long> expected = new ArrayList<>();
+            for (long time : list(recurrence, start, start, NEW_YORK, 2000)) {
+                if (time >= from && expected.size() < 5) {
+                    expected.add(time);
+                }
+            }
+            assertEquals(rule, expected, list(recurrence, start, from, NEW_YORK, 5));
+        }
+    }
+
+    /**
+     * Gets a time in UTC.
+     *
+     * @param year The year.
+     * @param month The {@link Calendar} month.
+     * @param day The day of the month.
+     * @param hour The hour of the day.
+     * @return The time in milliseconds.
+     */
+    private static long utc(int year, int month, int day, int hour) {
+        Calendar calendar = Calendar.getInstance(UTC);
+        calendar.clear();
+        calendar.set(year, month, day, hour, 0);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Lists a rule's first occurrences at or after a time.
+     *
+     * @param rule The rule.
+     * @param start The time of the first occurrence.
+     * @param from The earliest time to list.
+     * @param zone The time zone.
+     * @param limit The most occurrences to list.
+     * @return The occurrence times.
+     */
+    private static List<Long> list(Recurrence rule, long start, long from, TimeZone zone, int limit) {
+        List<Long> times = new ArrayList<>();
+        PrimitiveIterator.OfLong occurrences = rule.occurrences(start, from, zone);
+        while (occurrences.hasNext() && times.size() < limit) {
+            times.add(occurrences.nextLong());
+        }
+        return times;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * TitleSuggestionsTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Checks that {@link TitleSuggestions} suggests the same titles as counting
+ * every event's title, including after many incremental updates.
+ */
+public class TitleSuggestionsTest {
+    private static final String[] TITLES = {
+            "Team lunch", "Team meeting", "Teams sync", "Tennis", "Dentist", "Dentist appointment",
+            "Book club", "Planning meeting", "Quarterly review", "Soccer practice"
+    };
+
+    private static final String[] PREFIXES = {"t", "te", "TEAM", "team ", "dentist", "b", "x", "", "   p"};
+
+    private final Random random = new Random(7);
+
+    @Test
+    public void suggestsMostUsedTitlesFirst() {
+        TitleSuggestions<Long> suggestions = new TitleSuggestions<>();
+        suggestions.put(1L, "Team meeting");
+        suggestions.put(2L, "Team lunch");
+        suggestions.put(3L, "Team lunch");
+        suggestions.put(4L, "Tennis");
+        suggestions.put(5L, "Dentist");
+
+        assertEquals(Arrays.asList("Team lunch", "Team meeting", "Tennis"), suggestions.suggest("t", 5));
+        assertEquals(Arrays.asList("Team lunch", "Team meeting"), suggestions.suggest("TEAM", 5));
+        assertEquals(Arrays.asList("Team lunch"), suggestions.suggest("te", 1));
+    }
+
+    @Test
+    public void ignoresCaseAndSuggestsTheLatestSpelling() {
+        TitleSuggestions<Long> suggestions = new TitleSuggestions<>();
+        suggestions.put(1L, "book club");
+        suggestions.put(2L, "  Book Club ");
+
+        assertEquals(1, suggestions.size());
+        assertEquals(Arrays.asList("Book Club"), suggestions.suggest("bo", 5));
+        assertTrue(suggestions.suggest("book club", 5).isEmpty());
+    }
+
+    @Test
+    public void renamingAndRemovingEventsUpdatesCounts() {
+        TitleSuggestions<Long> suggestions = new TitleSuggestions<>();
+        suggestions.put(1L, "Dentist");
+        suggestions.put(2L, "Dentist appointment");
+        suggestions.put(3L, "Dentist appointment");
+
+        suggestions.put(2L, "Dentist");
+        assertEquals(Arrays.asList("Dentist", "Dentist appointment"), suggestions.suggest("d", 5));
+
+        suggestions.remove(3L);
+        assertEquals(Arrays.asList("Dentist"), suggestions.suggest("d", 5));
+
+        suggestions.remove(1L);
+        suggestions.remove(2L);
+        assertEquals(0, suggestions.size());
+        assertTrue(suggestions.suggest("d", 5).isEmpty());
+    }
+
+    @Test
+    public void matchesCountingEveryTitle() {
+        TitleSuggestions<Integer> suggestions = new TitleSuggestions<>();
+        Map<Integer, String> events = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                events.remove(id);
+                suggestions.remove(id);
+            } else {
+                String title = TITLES[random.nextInt(TITLES.length)];
+                title = random.nextBoolean() ? title : title.toLowerCase(Locale.ROOT);
+                events.put(id, title);
+                suggestions.put(id, title);
+            }
+
+            if (step % 1_000 == 0) {
+                for (String prefix : PREFIXES) {
+                    assertEquals("Prefix \"" + prefix + "\"",
+                            lowercase(expected(events, prefix)), lowercase(suggestions.suggest(prefix, 3)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void bulkLoadMatchesAddingOneByOne() {
+        Map<Integer, String> events = new LinkedHashMap<>();
+        for (int id = 0; id < 2_000; id++) {
+            String title = TITLES[random.nextInt(TITLES.length)] + " " + random.nextInt(100);
+            events.put(id, random.nextBoolean() ? title : title.toUpperCase(Locale.ROOT));
+        }
+        events.put(2_000, null);
+        events.put(2_001, "   ");
+
+        TitleSuggestions<Integer> loaded = new TitleSuggestions<>();
+        loaded.putAll(events);
+        TitleSuggestions<Integer> added = new TitleSuggestions<>();
+        for (Map.Entry<Integer, String> event : events.entrySet()) {
+            added.put(event.getKey(), event.getValue());
+        }
+
+        assertEquals(added.size(), loaded.size());
+        for (String prefix : PREFIXES) {
+            assertEquals("Prefix \"" + prefix + "\"", added.suggest(prefix, 5), loaded.suggest(prefix, 5));
+        }
+
+        // later changes keep both in step
+        for (int id = 0; id < 1_000; id++) {
+            loaded.remove(id);
+            added.remove(id);
+        }
+        loaded.put(3_000, "Team lunch 7");
+        added.put(3_000, "Team lunch 7");
+        assertEquals(added.size(), loaded.size());
+        for (String prefix : PREFIXES) {
+            assertEquals("Prefix \"" + prefix + "\"", added.suggest(prefix, 5), loaded.suggest(prefix, 5));
+        }
+    }
+
+    @Test
+    public void limitsBeyondTheCacheMatchCountingEveryTitle() {
+        TitleSuggestions<Integer> suggestions = new TitleSuggestions<>();
+        Map<Integer, String> events = new HashMap<>();
+        int limit = TitleSuggestions.MAX_CACHED_LIMIT + 5;
+
+        for (int step = 0; step < 5_000; step++) {
+            int id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                events.remove(id);
+                suggestions.remove(id);
+            } else {
+                String title = TITLES[random.nextInt(TITLES.length)] + " " + random.nextInt(20);
+                events.put(id, title);
+                suggestions.put(id, title);
+            }
+
+            if (step % 500 == 0) {
+                for (String prefix : PREFIXES) {
+                    assertEquals("Prefix \"" + prefix + "\"", lowercase(expected(events, prefix, limit)),
+                            lowercase(suggestions.suggest(prefix, limit)));
+                    assertEquals("Prefix \"" + prefix + "\"",
+                            lowercase(expected(events, prefix, TitleSuggestions.MAX_CACHED_LIMIT)),
+                            lowercase(suggestions.suggest(prefix, TitleSuggestions.MAX_CACHED_LIMIT)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Suggests titles by counting every event's title.
+     *
+     * @param events The event titles, by id.
+     * @param prefix The typed text.
+     * @return The three most used titles starting with the prefix.
+     */
+    private static List<String> expected(Map<Integer, String> events, String prefix) {
+        return expected(events, prefix, 3);
+    }
+
+    /**
+     * Suggests titles by counting every event's title.
+     *
+     * @param events The event titles, by id.
+     * @param prefix The typed text.
+     * @param limit The maximum number of suggestions.
+     * @return The most used titles starting with the prefix.
+     */
+    private static List<String> expected(Map<Integer, String> events, String prefix, int limit) {
+        String key = prefix.stripLeading().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // sorted by lowercase title, so equal counts come out alphabetically
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String title : events.values()) {
+            String lower = title.toLowerCase(Locale.ROOT);
+            if (lower.startsWith(key) && !lower.equals(key)) {
+                counts.merge(lower, 1, Integer::sum);
+            }
+        }
+
+        List<String> titles = new ArrayList<>(counts.keySet());
+        titles.sort((a, b) -> Integer.compare(counts.get(b), counts.get(a)));
+        return titles.subList(0, Math.min(limit, titles.size()));
+    }
+
+    /**
+     * Lowercases suggestions, since the suggested spelling depends on the
+     * order events were added.
+     *
+     * @param titles The titles.
+     * @return The lowercase titles.
+     */
+    private static List<String> lowercase(List<String> titles) {
+        List<String> lower = new ArrayList<>();
+        for (String title : titles) {
+            lower.add(title.toLowerCase(Locale.ROOT));
+        }
+        return lower;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * CsvEventReaderTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks reading CSV files from spreadsheets and other calendar apps, and
+ * that events written by {@link CsvEventWriter} read back the same.
+ */
+public class CsvEventReaderTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    public void readsQuotedFields() throws IOException {
+        List<CalendarEvent> events = readAll("Title,Start,Description\r\n"
+                + "\"Lunch, then a walk\",2025-01-06 12:00,\"Say \"\"hi\"\"\r\nto everyone\"\r\n"
+                + "Dentist,2025-01-07T09:30,\n");
+
+        assertEquals(2, events.size());
+        assertEquals("Lunch, then a walk", events.get(0).title);
+        assertEquals(local(2025, 1, 6, 12, 0), events.get(0).eventTime);
+        assertEquals("Say \"hi\"\r\nto everyone", events.get(0).description);
+        assertEquals(local(2025, 1, 7, 9, 30), events.get(1).eventTime);
+        assertNull(events.get(1).description);
+    }
+
+    @Test
+    public void readsOtherCalendarColumns() throws IOException {
+        List<CalendarEvent> events = readAll("\uFEFFSubject,Start Date,Start Time,End Date,End Time,All Day Event,Location\n"
+                + "Standup,01/06/2025,9:00 AM,01/06/2025,9:15 am,False,Office\n"
+                + "Holiday,1/20/2025,,,,True,\n");
+
+        assertEquals(2, events.size());
+        assertEquals("Standup", events.get(0).title);
+        assertEquals(local(2025, 1, 6, 9, 0), events.get(0).eventTime);
+        assertEquals(Long.valueOf(local(2025, 1, 6, 9, 15)), events.get(0).endTime);
+        assertEquals(local(2025, 1, 20, 0, 0), events.get(1).eventTime);
+        assertNull(events.get(1).endTime);
+    }
+
+    @Test
+    public void skipsRowsWithoutTitleOrStart() throws IOException {
+        CsvEventReader reader = new CsvEventReader(new StringReader("Start,Title\n"
+                + "2025-01-06 09:00,\n\nnot a date,Broken\n2025-01-06 10:00,Kept\n2025-13-40 10:00,Bad date"), NEW_YORK);
+
+        assertEquals("Kept", reader.read().title);
+        assertNull(reader.read());
+        assertEquals(3, reader.getSkipped());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsFilesWithoutTitleOrStartColumns() throws IOException {
+        readAll("Name,When\nDentist,2025-01-06 09:00\n");
+    }
+
+    @Test
+    public void writtenEventsReadBack() throws IOException {
+        CalendarEvent single = new CalendarEvent("single", local(2025, 1, 6, 14, 0), " Planning, review ",
+                "Bring the \"roadmap\"\nand notes", 0xFF475D92);
+        single.endTime = local(2025, 1, 6, 15, 30);
+        CalendarEvent weekly = new CalendarEvent("weekly", local(2025, 1, 6, 9, 0), "Standup", null, null);
+        weekly.recurrence = "FREQ=WEEKLY;BYDAY=MO,WE";
+        weekly.exceptions = List.of(local(2025, 1, 8, 9, 0), local(2025, 1, 13, 9, 0));
+
+        StringWriter text = new StringWriter();
+        try (CsvEventWriter writer = new CsvEventWriter(text, NEW_YORK)) {
+            writer.write(single);
+            writer.write(weekly);
+        }
+
+        List<CalendarEvent> events = readAll(text.toString());
+        assertEquals(2, events.size());
+        IcsEventReaderTest.assertSame(single, events.get(0));
+        IcsEventReaderTest.assertSame(weekly, events.get(1));
+    }
+
+    private static List<CalendarEvent> readAll(String text) throws IOException {
+        List<CalendarEvent> events = new ArrayList<>();
+        try (CsvEventReader reader = new CsvEventReader(new StringReader(text), NEW_YORK)) {
+            CalendarEvent event;
+            while ((event = reader.read()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static long local(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(NEW_YORK).toInstant().toEpochMilli();
+    }
+}
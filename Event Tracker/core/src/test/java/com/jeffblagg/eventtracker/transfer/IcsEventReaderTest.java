@@ -0,0 +1,163 @@
+/*
+ * IcsEventReaderTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks reading iCalendar files exported by other apps, and that events
+ * written by {@link IcsEventWriter} read back the same.
+ */
+public class IcsEventReaderTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Test
+    public void readsTimesInEachForm() throws IOException {
+        List<CalendarEvent> events = readAll(calendar(
+                "BEGIN:VEVENT", "SUMMARY:Utc", "DTSTART:20250106T140000Z", "DTEND:20250106T150000Z", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Zoned", "DTSTART;TZID=Europe/London:20250106T090000",
+                "DURATION:PT1H30M", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Floating", "DTSTART:20250106T090000", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:All day", "DTSTART;VALUE=DATE:20250106", "DTEND;VALUE=DATE:20250107",
+                "END:VEVENT"));
+
+        assertEquals(4, events.size());
+        assertEquals(utc(2025, 1, 6, 14), events.get(0).eventTime);
+        assertEquals(Long.valueOf(utc(2025, 1, 6, 15)), events.get(0).endTime);
+        assertEquals(utc(2025, 1, 6, 9), events.get(1).eventTime);
+        assertEquals(Long.valueOf(utc(2025, 1, 6, 9) + 90 * 60 * 1000L), events.get(1).endTime);
+        assertEquals(local(2025, 1, 6, 9), events.get(2).eventTime);
+        assertEquals(local(2025, 1, 6, 0), events.get(3).eventTime);
+        assertEquals(Long.valueOf(local(2025, 1, 7, 0)), events.get(3).endTime);
+    }
+
+    @Test
+    public void unfoldsAndUnescapesText() throws IOException {
+        CalendarEvent event = readAll(calendar("BEGIN:VEVENT", "DTSTART:20250106T140000Z",
+                "SUMMARY:Lunch\\, then", "  a walk", "DESCRIPTION:Line one\\nLine two\\; done\\\\",
+                "END:VEVENT")).get(0);
+
+        assertEquals("Lunch, then a walk", event.title);
+        assertEquals("Line one\nLine two; done\\", event.description);
+    }
+
+    @Test
+    public void readsRepeatingEvents() throws IOException {
+        CalendarEvent event = readAll(calendar("BEGIN:VEVENT", "SUMMARY:Standup",
+                "DTSTART;TZID=America/New_York:20250106T090000", "RRULE:FREQ=WEEKLY;BYDAY=WE,MO;WKST=SU",
+                "EXDATE;TZID=America/New_York:20250108T090000,20250113T090000", "END:VEVENT")).get(0);
+
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE", event.recurrence);
+        assertEquals(List.of(local(2025, 1, 8, 9), local(2025, 1, 13, 9)), event.exceptions);
+    }
+
+    @Test
+    public void dropsUnsupportedRules() throws IOException {
+        CalendarEvent event = readAll(calendar("BEGIN:VEVENT", "SUMMARY:First Monday", "DTSTART:20250106T140000Z",
+                "RRULE:FREQ=MONTHLY;BYDAY=1MO", "EXDATE:20250203T140000Z", "END:VEVENT")).get(0);
+
+        assertNull(event.recurrence);
+        assertNull(event.exceptions);
+    }
+
+    @Test
+    public void ignoresNestedComponentsAndSkipsIncompleteEvents() throws IOException {
+        IcsEventReader reader = new IcsEventReader(new StringReader(calendar(
+                "BEGIN:VEVENT", "SUMMARY:No start", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250106T140000Z", "END:VEVENT",
+                "BEGIN:VTODO", "SUMMARY:Not an event", "DTSTART:20250106T140000Z", "END:VTODO",
+                "BEGIN:VEVENT", "SUMMARY:Dentist", "DTSTART:20250106T140000Z",
+                "BEGIN:VALARM", "DESCRIPTION:Alarm", "TRIGGER:-PT15M", "END:VALARM", "END:VEVENT")), NEW_YORK);
+
+        CalendarEvent event = reader.read();
+        assertEquals("Dentist", event.title);
+        assertNull(event.description);
+        assertNull(reader.read());
+        assertEquals(2, reader.getSkipped());
+    }
+
+    @Test
+    public void writtenEventsReadBack() throws IOException {
+        CalendarEvent single = new CalendarEvent("single", utc(2025, 1, 6, 14), "Planning, review; notes",
+                "Bring the roadmap\nand the \"slides\"", 0xFF475D92);
+        single.endTime = single.eventTime + HOUR;
+        CalendarEvent weekly = new CalendarEvent("weekly", local(2025, 1, 6, 9), "Standup", null, null);
+        weekly.recurrence = "FREQ=WEEKLY;BYDAY=MO,WE";
+        weekly.exceptions = List.of(local(2025, 1, 8, 9));
+        CalendarEvent unicode = new CalendarEvent("unicode", utc(2025, 2, 1, 12),
+                "Caf\u00E9 \uD83C\uDF89 " + "party ".repeat(20), "\u00E9".repeat(100), null);
+
+        StringWriter text = new StringWriter();
+        try (IcsEventWriter writer = new IcsEventWriter(text, utc(2025, 1, 1, 0), NEW_YORK)) {
+            writer.write(single);
+            writer.write(weekly);
+            writer.write(unicode);
+        }
+        for (String line : text.toString().split("\r\n")) {
+            assertTrue(line, line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+
+        List<CalendarEvent> events = readAll(text.toString());
+        assertEquals(3, events.size());
+        assertSame(single, events.get(0));
+        assertSame(weekly, events.get(1));
+        assertSame(unicode, events.get(2));
+    }
+
+    /**
+     * Checks that an event read back matches the event written.
+     */
+    static void assertSame(CalendarEvent expected, CalendarEvent actual) {
+        assertEquals(expected.title.trim(), actual.title);
+        assertEquals(expected.eventTime, actual.eventTime);
+        assertEquals(expected.endTime, actual.endTime);
+        assertEquals(expected.description, actual.description);
+        assertEquals(expected.cardColor, actual.cardColor);
+        assertEquals(expected.recurrence, actual.recurrence);
+        assertEquals(expected.exceptions, actual.exceptions);
+    }
+
+    private static List<CalendarEvent> readAll(String text) throws IOException {
+        List<CalendarEvent> events = new ArrayList<>();
+        try (IcsEventReader reader = new IcsEventReader(new StringReader(text), NEW_YORK)) {
+            CalendarEvent event;
+            while ((event = reader.read()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static String calendar(String... lines) {
+        return "BEGIN:VCALENDAR\r\nVERSION:2.0\r\n" + String.join("\r\n", lines) + "\r\nEND:VCALENDAR\r\n";
+    }
+
+    private static long utc(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long local(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).atZone(NEW_YORK).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * BenchmarkEvents.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the events measured by the JMH benchmarks.
+ */
+final class BenchmarkEvents {
+    static final String USER_ID = "benchmark-user";
+
+    /** Start time of the first event. */
+    static final long FIRST_EVENT_TIME = 1_800_000_000_000L;
+
+    /** Time between consecutive events. */
+    static final long EVENT_INTERVAL = 60 * 60 * 1000L;
+
+    private static final String[] TITLES = {
+            "Planning meeting", "Dentist appointment", "Team lunch", "Quarterly review",
+            "Soccer practice", "Book club", "Flight to Denver", "Caf\u00e9 with Sam"
+    };
+
+    private static final String DESCRIPTION =
+            "Bring the quarterly numbers, the updated roadmap and the notes from last week's "
+            + "planning session. Parking is on the north side of the building.";
+
+    private BenchmarkEvents() {
+    }
+
+    /**
+     * Builds a number of events, one {@link #EVENT_INTERVAL} apart.
+     *
+     * @param count The number of events.
+     * @return The events, in time order.
+     */
+    static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event(
+                    "event-" + i,
+                    USER_ID,
+                    FIRST_EVENT_TIME + i * EVENT_INTERVAL,
+                    TITLES[i % TITLES.length] + " " + i,
+                    DESCRIPTION,
+                    null);
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Builds the list summaries for a number of events.
+     *
+     * @param count The number of events.
+     * @return The event summaries, in time order.
+     */
+    static List<EventSummary> summaries(int count) {
+        List<EventSummary> summaries = new ArrayList<>(count);
+        for (Event event : events(count)) {
+            summaries.add(EventSummary.from(event));
+        }
+        return summaries;
+    }
+}
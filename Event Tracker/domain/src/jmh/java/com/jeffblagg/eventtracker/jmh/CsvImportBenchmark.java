@@ -0,0 +1,75 @@
+/*
+ * CsvImportBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.store.InMemoryEventStore;
+import com.jeffblagg.eventtracker.transfer.CsvEventReader;
+import com.jeffblagg.eventtracker.transfer.CsvEventWriter;
+import com.jeffblagg.eventtracker.transfer.EventImporter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading an exported CSV file back into events, and importing it
+ * into an in-memory store in batches, the whole work of an import apart from
+ * the backend's writes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvImportBenchmark {
+    @Param({"1000", "100000"})
+    public int events;
+
+    private String csv;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringWriter text = new StringWriter();
+        try (CsvEventWriter writer = new CsvEventWriter(text, ZoneOffset.UTC)) {
+            for (Event event : BenchmarkEvents.events(events)) {
+                writer.write(event.toCalendarEvent());
+            }
+        }
+        csv = text.toString();
+    }
+
+    @Benchmark
+    public int readAll() throws IOException {
+        int read = 0;
+        try (CsvEventReader reader = new CsvEventReader(new StringReader(csv), ZoneOffset.UTC)) {
+            while (reader.read() != null) {
+                read++;
+            }
+        }
+        return read;
+    }
+
+    @Benchmark
+    public long importAll() throws IOException {
+        try (CsvEventReader reader = new CsvEventReader(new StringReader(csv), ZoneOffset.UTC)) {
+            return new EventImporter(new InMemoryEventStore()).run(reader, BenchmarkEvents.USER_ID,
+                    EventImporter.Checkpoint.start(), checkpoint -> { }).imported;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * EventFormatterBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.format.EventFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting the date shown on an event card and a reminder message,
+ * with a shared formatter and with a new formatter per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventFormatterBenchmark {
+    private EventFormatter formatter;
+    private long time;
+
+    @Setup
+    public void setUp() {
+        formatter = new EventFormatter(Locale.US);
+        time = BenchmarkEvents.FIRST_EVENT_TIME;
+    }
+
+    @Benchmark
+    public String cardDateTime() {
+        return formatter.dateTime(time);
+    }
+
+    @Benchmark
+    public String reminderMessage() {
+        return formatter.reminderMessage("Planning meeting", time);
+    }
+
+    @Benchmark
+    public String reminderMessageNewFormatter() {
+        return new EventFormatter(Locale.US).reminderMessage("Planning meeting", time);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * EventIntervalTreeBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.EventIntervalTree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the interval index, the overlap check run before saving
+ * an event, the free time query, and keeping the index up to date as an
+ * event is moved. Benchmark
+ * events are an hour apart and last 90 minutes, so each overlaps the next.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventIntervalTreeBenchmark {
+    private static final long DURATION = 90 * 60 * 1000L;
+
+    @Param({"1000", "100000"})
+    public int events;
+
+    private List<EventSummary> summaries;
+    private EventIntervalTree<String> intervals;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchmarkEvents.summaries(events);
+        intervals = new EventIntervalTree<>();
+        for (EventSummary summary : summaries) {
+            intervals.put(summary.id, summary.eventTime, summary.eventTime + DURATION);
+        }
+    }
+
+    /**
+     * Indexes every event, as loading a user's events does.
+     */
+    @Benchmark
+    public EventIntervalTree<String> buildIndex() {
+        EventIntervalTree<String> built = new EventIntervalTree<>();
+        for (EventSummary summary : summaries) {
+            built.put(summary.id, summary.eventTime, summary.eventTime + DURATION);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public List<String> overlapping() {
+        long start = summaries.get(nextIndex()).eventTime + 30 * 60 * 1000L;
+        return intervals.overlapping(start, start + BenchmarkEvents.EVENT_INTERVAL);
+    }
+
+    @Benchmark
+    public List<EventIntervalTree.TimeRange> freeTimeInADay() {
+        long start = summaries.get(nextIndex()).eventTime;
+        return intervals.freeTime(start, start + 24 * BenchmarkEvents.EVENT_INTERVAL, 0);
+    }
+
+    /**
+     * Moves one event a day later and back, as editing an event's time does.
+     */
+    @Benchmark
+    public int move() {
+        EventSummary summary = summaries.get(nextIndex());
+        long later = summary.eventTime + 24 * BenchmarkEvents.EVENT_INTERVAL;
+        intervals.put(summary.id, later, later + DURATION);
+        intervals.put(summary.id, summary.eventTime, summary.eventTime + DURATION);
+        return intervals.size();
+    }
+
+    /**
+     * Gets the next event to query, cycling through every event.
+     *
+     * @return The index of the event.
+     */
+    private int nextIndex() {
+        int index = next;
+        next = (next + 1) % summaries.size();
+        return index;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * EventSearchBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.search.EventSearch;
+import com.jeffblagg.eventtracker.search.EventSearchIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures searching a user's events by scanning every event summary, and
+ * through the inverted index, including building the index and keeping it
+ * up to date.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSearchBenchmark {
+    @Param({"1000", "100000"})
+    public int events;
+
+    private List<EventSummary> summaries;
+    private EventSearchIndex index;
+    private int nextUpdate = 0;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchmarkEvents.summaries(events);
+        index = new EventSearchIndex();
+        for (EventSummary summary : summaries) {
+            index.put(summary);
+        }
+    }
+
+    /**
+     * Indexes every event, as loading a user's events does.
+     */
+    @Benchmark
+    public EventSearchIndex buildIndex() {
+        EventSearchIndex built = new EventSearchIndex();
+        for (EventSummary summary : summaries) {
+            built.put(summary);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public List<EventSummary> filterTwoTerms() {
+        return EventSearch.filter(summaries, "quarterly rev");
+    }
+
+    @Benchmark
+    public List<EventSummary> filterNoMatch() {
+        return EventSearch.filter(summaries, "xylophone");
+    }
+
+    @Benchmark
+    public List<EventSummary> indexTwoTerms() {
+        return index.search("quarterly rev", BenchmarkEvents.FIRST_EVENT_TIME, 50);
+    }
+
+    @Benchmark
+    public List<EventSummary> indexNoMatch() {
+        return index.search("xylophone", BenchmarkEvents.FIRST_EVENT_TIME, 50);
+    }
+
+    /**
+     * Re-indexes one changed event, as a Firestore snapshot change does.
+     */
+    @Benchmark
+    public int indexUpdate() {
+        EventSummary summary = summaries.get(nextUpdate);
+        nextUpdate = (nextUpdate + 1) % summaries.size();
+        index.put(summary);
+        return index.size();
+    }
+
+    @Benchmark
+    public List<String> tokenizeTitle() {
+        return EventSearch.tokenize("Caf\u00e9 with Sam 42");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * OccurrencesBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures listing the first page of the events list when some events
+ * repeat, and finding a repeating event's next occurrence for its reminder.
+ * Every twentieth benchmark event repeats weekly on Mondays and Wednesdays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OccurrencesBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final long YEAR = 365 * 24 * BenchmarkEvents.EVENT_INTERVAL;
+
+    @Param({"1000", "100000"})
+    public int events;
+
+    private List<EventSummary> summaries;
+    private EventSummary weekly;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchmarkEvents.summaries(events);
+        for (int i = 0; i < summaries.size(); i += 20) {
+            summaries.get(i).recurrence = "FREQ=WEEKLY;BYDAY=MO,WE";
+        }
+        weekly = summaries.get(0);
+    }
+
+    @Benchmark
+    public List<EventSummary> firstPage() {
+        return Occurrences.upcoming(summaries, BenchmarkEvents.FIRST_EVENT_TIME, PAGE_SIZE);
+    }
+
+    /**
+     * Finds the occurrence a year into a series, as planning a long running
+     * series' reminder does.
+     */
+    @Benchmark
+    public Long nextOccurrenceAYearAhead() {
+        return Occurrences.next(weekly, BenchmarkEvents.FIRST_EVENT_TIME + YEAR);
+    }
+
+    /**
+     * Finds the occurrence ten years into a series, the worst case for a
+     * series that has run for a long time.
+     */
+    @Benchmark
+    public Long nextOccurrenceTenYearsAhead() {
+        return Occurrences.next(weekly, BenchmarkEvents.FIRST_EVENT_TIME + 10 * YEAR);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * ReminderPlannerBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures planning reminders for a batch of events, as done when a user's
+ * events are synced, and for a single saved event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReminderPlannerBenchmark {
+    @Param({"100", "10000"})
+    public int events;
+
+    private List<Event> batch;
+    private ReminderPlanner planner;
+
+    @Setup
+    public void setUp() {
+        batch = BenchmarkEvents.events(events);
+        // every reminder is still in the future
+        planner = new ReminderPlanner(() -> 0L, new EventFormatter(Locale.US));
+    }
+
+    @Benchmark
+    public List<ReminderPlanner.Reminder> planAll() {
+        return planner.planAll(batch);
+    }
+
+    @Benchmark
+    public ReminderPlanner.Reminder plan() {
+        return planner.plan(batch.get(0));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * ReminderSchedulerBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.VirtualClock;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+import com.jeffblagg.eventtracker.reminder.SimulatedReminderScheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scheduling, cancelling and dispatching reminders on a
+ * {@link SimulatedReminderScheduler} driven by a {@link VirtualClock}, with
+ * 100k reminders spread over a week.
+ *
+ * <p>Scores are reminders per second. The gc profiler the build adds reports
+ * {@code gc.alloc.rate.norm}, the bytes allocated per reminder, which for
+ * {@link #schedule()} is what each scheduled reminder costs in memory.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReminderSchedulerBenchmark {
+    private static final int REMINDERS = 100_000;
+    private static final long MINUTE = 60 * 1000L;
+    private static final long DAY = 24 * 60 * MINUTE;
+    private static final long SIMULATED_DAYS = 7;
+
+    /**
+     * The start of the simulation, a day before the first reminder is due.
+     */
+    private static final long START = BenchmarkEvents.FIRST_EVENT_TIME - ReminderPlanner.REMINDER_OFFSET - DAY;
+
+    private List<ReminderPlanner.Reminder> reminders;
+
+    /**
+     * The reminder of each event after the event is moved half an hour later.
+     */
+    private List<ReminderPlanner.Reminder> moved;
+
+    /**
+     * A scheduler with every reminder scheduled, rebuilt before each call so
+     * the cancels and the dispatching always start from the same queue.
+     */
+    @State(Scope.Thread)
+    public static class Loaded {
+        VirtualClock clock;
+        SimulatedReminderScheduler scheduler;
+
+        @Setup(Level.Invocation)
+        public void setUp(ReminderSchedulerBenchmark benchmark) {
+            clock = new VirtualClock(START);
+            scheduler = new SimulatedReminderScheduler(clock, (reminder, dispatchTime) -> { });
+            for (ReminderPlanner.Reminder reminder : benchmark.reminders) {
+                scheduler.schedule(reminder);
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        List<Event> events = BenchmarkEvents.events(REMINDERS);
+        List<Event> movedEvents = new ArrayList<>(REMINDERS);
+        long spacing = SIMULATED_DAYS * DAY / REMINDERS;
+        for (int i = 0; i < REMINDERS; i++) {
+            Event event = events.get(i);
+            event.eventTime = BenchmarkEvents.FIRST_EVENT_TIME + i * spacing;
+
+            Event later = new Event(event);
+            later.eventTime += 30 * MINUTE;
+            movedEvents.add(later);
+        }
+
+        ReminderPlanner planner = new ReminderPlanner(() -> START, new EventFormatter(Locale.US));
+        reminders = planner.planAll(events);
+        moved = planner.planAll(movedEvents);
+    }
+
+    /**
+     * Schedules every reminder on a new scheduler, as a full sync does.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public int schedule() {
+        SimulatedReminderScheduler scheduler =
+                new SimulatedReminderScheduler(new VirtualClock(START), (reminder, dispatchTime) -> { });
+        for (ReminderPlanner.Reminder reminder : reminders) {
+            scheduler.schedule(reminder);
+        }
+        return scheduler.pendingCount();
+    }
+
+    /**
+     * Cancels every reminder and schedules its replacement, as editing each
+     * event's time does.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public int reschedule(Loaded loaded) {
+        for (ReminderPlanner.Reminder reminder : moved) {
+            loaded.scheduler.cancel(reminder.eventId);
+            loaded.scheduler.schedule(reminder);
+        }
+        return loaded.scheduler.pendingCount();
+    }
+
+    /**
+     * Cancels every reminder, as deleting each event does.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public int cancel(Loaded loaded) {
+        for (ReminderPlanner.Reminder reminder : reminders) {
+            loaded.scheduler.cancel(reminder.eventId);
+        }
+        return loaded.scheduler.pendingCount();
+    }
+
+    /**
+     * Advances the clock a minute at a time until every reminder has been
+     * dispatched.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public int advance(Loaded loaded) {
+        long end = START + (SIMULATED_DAYS + 2) * DAY;
+        int dispatched = 0;
+        while (loaded.clock.now() < end) {
+            dispatched += loaded.scheduler.advance(MINUTE);
+        }
+        return dispatched;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * TitleSuggestionsBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.jmh;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.search.TitleSuggestions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building title suggestions, suggesting titles for each keystroke,
+ * and keeping them up to date as an event is renamed. Every benchmark event has a distinct title, the
+ * worst case for a prefix shared by many titles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TitleSuggestionsBenchmark {
+    @Param({"1000", "100000"})
+    public int events;
+
+    private List<EventSummary> summaries;
+    private Map<String, String> titles;
+    private TitleSuggestions<String> suggestions;
+    private int nextUpdate = 0;
+
+    @Setup
+    public void setUp() {
+        summaries = BenchmarkEvents.summaries(events);
+        titles = new HashMap<>();
+        for (EventSummary summary : summaries) {
+            titles.put(summary.id, summary.title);
+        }
+        suggestions = new TitleSuggestions<>();
+        suggestions.putAll(titles);
+    }
+
+    /**
+     * Builds the suggestions for every event at once, as loading the store does.
+     */
+    @Benchmark
+    public TitleSuggestions<String> loadAll() {
+        TitleSuggestions<String> loaded = new TitleSuggestions<>();
+        loaded.putAll(titles);
+        return loaded;
+    }
+
+    /**
+     * Builds the suggestions one event at a time, as a full sync does.
+     */
+    @Benchmark
+    public TitleSuggestions<String> putEach() {
+        TitleSuggestions<String> loaded = new TitleSuggestions<>();
+        for (EventSummary summary : summaries) {
+            loaded.put(summary.id, summary.title);
+        }
+        return loaded;
+    }
+
+    @Benchmark
+    public List<String> suggestOneLetter() {
+        return suggestions.suggest("p", 5);
+    }
+
+    @Benchmark
+    public List<String> suggestWord() {
+        return suggestions.suggest("planning m", 5);
+    }
+
+    @Benchmark
+    public List<String> suggestNoMatch() {
+        return suggestions.suggest("xylophone", 5);
+    }
+
+    /**
+     * Renames one event and back, as editing an event's title does.
+     */
+    @Benchmark
+    public int rename() {
+        EventSummary summary = summaries.get(nextUpdate);
+        nextUpdate = (nextUpdate + 1) % summaries.size();
+        suggestions.put(summary.id, "Renamed");
+        suggestions.put(summary.id, summary.title);
+        return suggestions.size();
+    }
+}
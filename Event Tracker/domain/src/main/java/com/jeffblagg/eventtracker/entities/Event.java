@@ -0,0 +1,195 @@
+/*
+ * Event.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-360 - Mobile Architecture and Programming
+ * Professor: Jerome DiMarzio
+ * Date: October 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import com.jeffblagg.eventtracker.schedule.Schedulable;
+import com.jeffblagg.eventtracker.transfer.CalendarEvent;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents and defines the data model for a user's scheduled event.
+ *
+ * <p>Events must include a title and event time, and may optionally include a description
+ * and a color for the event card.</p>
+ *
+ * <p>In Firestore the description is stored in a separate detail document,
+ * while the event document holds the list fields and a
+ * {@link EventSummary#preview(String) description preview}. Document fields
+ * without a matching field here, such as the preview, are ignored when an
+ * event is read.</p>
+ */
+public class Event implements Schedulable<Event> {
+   /**
+    * Autogenerated id for the event.
+    */
+   public String id;
+
+   /**
+    * The id of the user associated with the event.
+    */
+   public String userId;
+
+   /**
+    * The time of the event, stored in milliseconds.
+    */
+   public long eventTime;
+
+   /**
+    * The end time of the event, stored in milliseconds, or {@code null} if
+    * the event has no set duration.
+    */
+   public Long endTime;
+
+   /**
+    * The recurrence rule of a repeating event, such as
+    * {@code FREQ=WEEKLY;BYDAY=MO}, or {@code null} for a single event. The
+    * event time is the first occurrence. See {@code Recurrence} for the
+    * supported rules.
+    */
+   public String recurrence;
+
+   /**
+    * Start times of occurrences removed from a repeating event, in
+    * milliseconds. An occurrence edited on its own is removed here and saved
+    * as a separate event.
+    */
+   public List<Long> exceptions;
+
+   /**
+    * The title or name for the event. Cannot be {@code null}.
+    */
+   @NonNull
+   public String title;
+
+   /**
+    * The description for the event.
+    */
+   public String description;
+
+   /**
+    * The color for the event's card background.
+    */
+   public Integer cardColor;
+
+   /**
+    * Version of the event, incremented on every saved edit. Updates are only
+    * accepted when they are based on the current version.
+    */
+   public long version;
+
+   /**
+    * Server time of the last saved change. Firestore timestamps are read
+    * into a {@link Date} so the model has no Firebase dependency.
+    */
+   public Date updatedAt;
+
+   /**
+    * Constructor for an event object.
+    *
+    * @param id The id of the event.
+    * @param userId The id of the associated user.
+    * @param eventTime The time of the event, in milliseconds.
+    * @param title The {@code NonNull} title of the event.
+    * @param description The description of the event.
+    * @param cardColor The background color for the event's card.
+    */
+   public Event(String id, String userId, long eventTime,
+                @NonNull String title, String description, Integer cardColor) {
+      this.id = id;
+      this.userId = userId;
+      this.eventTime = eventTime;
+      this.title = title;
+      this.description = description;
+      this.cardColor = cardColor;
+   }
+
+   /**
+    * Copy constructor, used to edit an event while keeping the loaded original
+    * for change tracking.
+    *
+    * @param other The event to copy.
+    */
+   public Event(Event other) {
+      this(other.id, other.userId, other.eventTime, other.title, other.description, other.cardColor);
+      this.endTime = other.endTime;
+      this.recurrence = other.recurrence;
+      this.exceptions = other.exceptions != null ? new ArrayList<>(other.exceptions) : null;
+      this.version = other.version;
+      this.updatedAt = other.updatedAt;
+   }
+
+   /**
+    * No argument constructor required by Firebase.
+    */
+   public Event() {
+        // Intentionally left blank.
+   }
+
+   /**
+    * Creates an event from one read from a calendar file. The event has no
+    * id or user id yet.
+    *
+    * @param entry The event read from the file.
+    * @return The event.
+    */
+   public static Event from(CalendarEvent entry) {
+      Event event = new Event(null, null, entry.eventTime, entry.title, entry.description, entry.cardColor);
+      event.endTime = entry.endTime;
+      event.recurrence = entry.recurrence;
+      event.exceptions = entry.exceptions;
+      return event;
+   }
+
+   /**
+    * Converts the event to be written to a calendar file.
+    *
+    * @return The calendar event, exported with the event's id.
+    */
+   public CalendarEvent toCalendarEvent() {
+      CalendarEvent entry = new CalendarEvent(id, eventTime, title, description, cardColor);
+      entry.endTime = endTime;
+      entry.recurrence = recurrence;
+      entry.exceptions = exceptions;
+      return entry;
+   }
+
+   @Override
+   public long eventTime() {
+      return eventTime;
+   }
+
+   @Override
+   public Long endTime() {
+      return endTime;
+   }
+
+   @Override
+   public String recurrence() {
+      return recurrence;
+   }
+
+   @Override
+   public List<Long> exceptions() {
+      return exceptions;
+   }
+
+   @Override
+   public Event occurrence(long eventTime, Long endTime) {
+      Event occurrence = new Event(this);
+      occurrence.eventTime = eventTime;
+      occurrence.endTime = endTime;
+      return occurrence;
+   }
+}
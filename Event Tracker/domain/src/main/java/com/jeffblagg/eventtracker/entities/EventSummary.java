@@ -0,0 +1,158 @@
+/*
+ * EventSummary.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.entities;
+
+import com.jeffblagg.eventtracker.schedule.Schedulable;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * A lightweight, read-only projection of an {@link Event} used by the events list.
+ *
+ * <p>Event documents only store a short description preview. The full
+ * description lives in a separate detail document that is read when a
+ * single event is opened, so list snapshots stay small for users with
+ * long notes.</p>
+ */
+public class EventSummary implements Schedulable<EventSummary> {
+   /**
+    * Maximum number of description characters stored for the list.
+    */
+   public static final int PREVIEW_LENGTH = 120;
+
+   /**
+    * The id of the event.
+    */
+   public String id;
+
+   /**
+    * The time of the event, stored in milliseconds.
+    */
+   public long eventTime;
+
+   /**
+    * The end time of the event, stored in milliseconds, or {@code null} if
+    * the event has no set duration.
+    */
+   public Long endTime;
+
+   /**
+    * The recurrence rule of a repeating event, or {@code null} for a single
+    * event. The list shows each occurrence as a copy of the summary at the
+    * occurrence's time.
+    */
+   public String recurrence;
+
+   /**
+    * Start times of occurrences removed from a repeating event, in milliseconds.
+    */
+   public List<Long> exceptions;
+
+   /**
+    * The title or name for the event.
+    */
+   @NonNull
+   public String title = "";
+
+   /**
+    * The color for the event's card background.
+    */
+   public Integer cardColor;
+
+   /**
+    * The first {@link #PREVIEW_LENGTH} characters of the event description.
+    */
+   public String descriptionPreview;
+
+   /**
+    * Whether a local change to the event has not yet been saved to Firestore.
+    * Only set locally, event documents never contain it.
+    */
+   public boolean pending;
+
+   /**
+    * No argument constructor required by Firebase.
+    */
+   public EventSummary() {
+      // Intentionally left blank.
+   }
+
+   /**
+    * Creates the list summary for an event.
+    *
+    * @param event The event to summarize.
+    * @return The event summary.
+    */
+   public static EventSummary from(Event event) {
+      EventSummary summary = new EventSummary();
+      summary.id = event.id;
+      summary.eventTime = event.eventTime;
+      summary.endTime = event.endTime;
+      summary.recurrence = event.recurrence;
+      summary.exceptions = event.exceptions;
+      summary.title = event.title;
+      summary.cardColor = event.cardColor;
+      summary.descriptionPreview = preview(event.description);
+      return summary;
+   }
+
+   /**
+    * Truncates a description to the preview length used by the list.
+    *
+    * @param description The full description, may be {@code null}.
+    * @return The description preview, or {@code null} if there is no description.
+    */
+   public static String preview(String description) {
+      if (description == null || description.length() <= PREVIEW_LENGTH) {
+         return description;
+      }
+      return description.substring(0, PREVIEW_LENGTH);
+   }
+
+   @Override
+   public long eventTime() {
+      return eventTime;
+   }
+
+   @Override
+   public Long endTime() {
+      return endTime;
+   }
+
+   @Override
+   public String recurrence() {
+      return recurrence;
+   }
+
+   @Override
+   public List<Long> exceptions() {
+      return exceptions;
+   }
+
+   /**
+    * Copies the summary to one of its occurrences, keeping whether the
+    * series has unsaved changes.
+    */
+   @Override
+   public EventSummary occurrence(long eventTime, Long endTime) {
+      EventSummary occurrence = new EventSummary();
+      occurrence.id = id;
+      occurrence.eventTime = eventTime;
+      occurrence.endTime = endTime;
+      occurrence.title = title;
+      occurrence.cardColor = cardColor;
+      occurrence.descriptionPreview = descriptionPreview;
+      occurrence.pending = pending;
+      occurrence.recurrence = recurrence;
+      occurrence.exceptions = exceptions;
+      return occurrence;
+   }
+}
@@ -0,0 +1,140 @@
+/*
+ * ReminderPlanner.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.reminder;
+
+import com.jeffblagg.eventtracker.Clock;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decides when an event's reminder is sent and what it says.
+ *
+ * <p>Reminders are sent {@link #REMINDER_OFFSET} before the event. Events
+ * whose reminder time has already passed get no reminder. A repeating event
+ * only has a reminder for its next occurrence, and the next one is planned
+ * when it's sent, so there is one alarm per series rather than one per
+ * occurrence. Delivering the reminder is left to the platform.</p>
+ *
+ * <p>Not thread safe, since it shares one {@link EventFormatter}.</p>
+ */
+public final class ReminderPlanner {
+    /**
+     * How long before an event its reminder is sent, in milliseconds.
+     */
+    public static final long REMINDER_OFFSET = 2 * 60 * 60 * 1000L;
+
+    /**
+     * A reminder to send for an event.
+     */
+    public static final class Reminder {
+        public final String eventId;
+        public final long reminderTime;
+        public final String message;
+
+        /**
+         * The repeating event the reminder is for, used to plan the next
+         * occurrence's reminder once this one is sent. {@code null} for a
+         * single event.
+         */
+        public final Event series;
+
+        /**
+         * Reminder constructor.
+         *
+         * @param eventId The id of the event.
+         * @param reminderTime The time for the reminder to be sent, in milliseconds.
+         * @param message The message used as the SMS body.
+         */
+        public Reminder(String eventId, long reminderTime, String message) {
+            this(eventId, reminderTime, message, null);
+        }
+
+        /**
+         * Reminder constructor for an occurrence of a repeating event.
+         *
+         * @param eventId The id of the event.
+         * @param reminderTime The time for the reminder to be sent, in milliseconds.
+         * @param message The message used as the SMS body.
+         * @param series The repeating event, or {@code null} for a single event.
+         */
+        public Reminder(String eventId, long reminderTime, String message, Event series) {
+            this.eventId = eventId;
+            this.reminderTime = reminderTime;
+            this.message = message;
+            this.series = series;
+        }
+    }
+
+    private final Clock clock;
+    private final EventFormatter formatter;
+
+    /**
+     * ReminderPlanner constructor.
+     *
+     * @param clock The clock used to skip reminders that are already due.
+     * @param formatter The formatter used for reminder messages.
+     */
+    public ReminderPlanner(Clock clock, EventFormatter formatter) {
+        this.clock = clock;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Plans the reminder for an event. A repeating event gets one reminder,
+     * for its next occurrence whose reminder time hasn't passed.
+     *
+     * @param event The event to plan a reminder for.
+     * @return The reminder, or {@code null} if its time has already passed.
+     */
+    public Reminder plan(Event event) {
+        return plan(event, clock.now());
+    }
+
+    /**
+     * Plans the reminders for a batch of events, skipping events whose
+     * reminder time has already passed.
+     *
+     * @param events The events to plan reminders for.
+     * @return The planned reminders, in the order of the events.
+     */
+    public List<Reminder> planAll(Collection<Event> events) {
+        long now = clock.now();
+        List<Reminder> reminders = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Reminder reminder = plan(event, now);
+            if (reminder != null) {
+                reminders.add(reminder);
+            }
+        }
+        return reminders;
+    }
+
+    /**
+     * Plans the reminder for an event's first occurrence more than
+     * {@link #REMINDER_OFFSET} after a time.
+     *
+     * @param event The event to plan a reminder for.
+     * @param now The current time, in milliseconds.
+     * @return The reminder, or {@code null} if there is no such occurrence.
+     */
+    private Reminder plan(Event event, long now) {
+        Long eventTime = Occurrences.next(event, now + REMINDER_OFFSET + 1);
+        if (eventTime == null) {
+            return null;
+        }
+        return new Reminder(event.id, eventTime - REMINDER_OFFSET,
+                formatter.reminderMessage(event.title, eventTime),
+                Occurrences.isRecurring(event.recurrence) ? event : null);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * ReminderScheduler.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.reminder;
+
+/**
+ * Delivers planned reminders, for example as scheduled SMS messages.
+ */
+public interface ReminderScheduler {
+    /**
+     * Schedules a reminder, replacing any reminder already scheduled for the
+     * same event.
+     *
+     * @param reminder The reminder to schedule.
+     */
+    void schedule(ReminderPlanner.Reminder reminder);
+
+    /**
+     * Cancels the reminder scheduled for an event, if there is one.
+     *
+     * @param eventId The id of the event.
+     */
+    void cancel(String eventId);
+}
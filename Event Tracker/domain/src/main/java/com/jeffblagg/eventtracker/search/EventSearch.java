@@ -0,0 +1,108 @@
+/*
+ * EventSearch.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Matches events against a search query.
+ *
+ * <p>Queries and event text are split into lowercase terms with accents
+ * removed, so "cafe" finds "Caf&eacute;". An event matches when every query term is
+ * the start of a term in its title or description preview.</p>
+ */
+public final class EventSearch {
+    private EventSearch() {
+    }
+
+    /**
+     * Splits text into normalized search terms.
+     *
+     * @param text The text to split, may be {@code null}.
+     * @return The lowercase, accent free terms, in order.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString().toLowerCase(Locale.ROOT));
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString().toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+
+    /**
+     * Checks if an event matches every term of a query.
+     *
+     * @param event The event to check.
+     * @param queryTerms The {@link #tokenize(String) tokenized} query.
+     * @return {@code true} if the event matches.
+     */
+    public static boolean matches(EventSummary event, List<String> queryTerms) {
+        List<String> terms = tokenize(event.title);
+        terms.addAll(tokenize(event.descriptionPreview));
+
+        for (String queryTerm : queryTerms) {
+            boolean found = false;
+            for (String term : terms) {
+                if (term.startsWith(queryTerm)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Filters a list of events down to the ones matching a query.
+     *
+     * @param events The events to search, in display order.
+     * @param query The search query.
+     * @return The matching events, in the same order. All events if the query is blank.
+     */
+    public static List<EventSummary> filter(List<EventSummary> events, String query) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new ArrayList<>(events);
+        }
+
+        List<EventSummary> matches = new ArrayList<>();
+        for (EventSummary event : events) {
+            if (matches(event, queryTerms)) {
+                matches.add(event);
+            }
+        }
+        return matches;
+    }
+}
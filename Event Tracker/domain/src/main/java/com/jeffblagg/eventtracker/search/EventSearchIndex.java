@@ -0,0 +1,374 @@
+/*
+ * EventSearchIndex.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over event titles and description previews, updated one
+ * event at a time.
+ *
+ * <p>Matching follows {@link EventSearch}: an event matches when every query
+ * term is the start of a term in its title or description preview. Instead
+ * of scanning every event, each query term looks up the range of indexed
+ * terms it is a prefix of and only visits their postings. Matches are ranked
+ * with BM25F, with title terms weighted above description terms, then by
+ * event time.</p>
+ *
+ * <p>Removed and replaced events leave dead postings behind, which are
+ * dropped once they make up half of a term's postings. Not thread safe.</p>
+ */
+public final class EventSearchIndex {
+    /**
+     * Weight of a term in the title relative to the description preview.
+     */
+    static final double TITLE_WEIGHT = 2.0;
+
+    /**
+     * Weight of a term in the description preview.
+     */
+    static final double DESCRIPTION_WEIGHT = 1.0;
+
+    /**
+     * BM25 term frequency saturation.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 document length normalization.
+     */
+    private static final double B = 0.75;
+
+    /**
+     * Largest term frequency counted per field.
+     */
+    private static final int MAX_FREQUENCY = 0xFFFF;
+
+    /**
+     * An indexed term's postings: the ordinals of the events containing it
+     * and the term's title and description frequencies, packed into one int.
+     */
+    private static final class Postings {
+        int[] ordinals = new int[2];
+        int[] frequencies = new int[2];
+        int size;
+        int dead;
+
+        void add(int ordinal, int titleFrequency, int descriptionFrequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = Math.min(titleFrequency, MAX_FREQUENCY) << 16
+                    | Math.min(descriptionFrequency, MAX_FREQUENCY);
+            size++;
+        }
+
+        int live() {
+            return size - dead;
+        }
+    }
+
+    // indexed term -> postings, sorted so a prefix is a contiguous range
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    // event id -> ordinal of its current version
+    private final Map<String, Integer> ordinals = new HashMap<>();
+
+    // ordinal -> indexed event, or null once removed
+    private EventSummary[] events = new EventSummary[16];
+    private int[] titleLengths = new int[16];
+    private int[] descriptionLengths = new int[16];
+
+    private int nextOrdinal;
+    private long totalTitleLength;
+    private long totalDescriptionLength;
+
+    /**
+     * Gets the number of indexed events.
+     *
+     * @return The number of events.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Adds an event, or replaces the indexed version of an event with the same id.
+     *
+     * @param event The event summary to index. Must have an id.
+     */
+    public void put(EventSummary event) {
+        remove(event.id);
+
+        if (nextOrdinal == events.length) {
+            int capacity = events.length * 2;
+            events = Arrays.copyOf(events, capacity);
+            titleLengths = Arrays.copyOf(titleLengths, capacity);
+            descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+        }
+
+        int ordinal = nextOrdinal++;
+        List<String> titleTerms = EventSearch.tokenize(event.title);
+        List<String> descriptionTerms = EventSearch.tokenize(event.descriptionPreview);
+        events[ordinal] = event;
+        titleLengths[ordinal] = titleTerms.size();
+        descriptionLengths[ordinal] = descriptionTerms.size();
+        totalTitleLength += titleTerms.size();
+        totalDescriptionLength += descriptionTerms.size();
+        ordinals.put(event.id, ordinal);
+
+        // title and description frequencies of each distinct term
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : titleTerms) {
+            frequencies.computeIfAbsent(term, key -> new int[2])[0]++;
+        }
+        for (String term : descriptionTerms) {
+            frequencies.computeIfAbsent(term, key -> new int[2])[1]++;
+        }
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            Postings postings = terms.get(entry.getKey());
+            if (postings == null) {
+                postings = new Postings();
+                terms.put(entry.getKey(), postings);
+            }
+            postings.add(ordinal, entry.getValue()[0], entry.getValue()[1]);
+        }
+    }
+
+    /**
+     * Removes an event from the index.
+     *
+     * @param eventId The id of the event.
+     * @return {@code true} if the event was indexed.
+     */
+    public boolean remove(String eventId) {
+        Integer ordinal = ordinals.remove(eventId);
+        if (ordinal == null) {
+            return false;
+        }
+
+        EventSummary event = events[ordinal];
+        events[ordinal] = null;
+        totalTitleLength -= titleLengths[ordinal];
+        totalDescriptionLength -= descriptionLengths[ordinal];
+
+        List<String> eventTerms = EventSearch.tokenize(event.title);
+        eventTerms.addAll(EventSearch.tokenize(event.descriptionPreview));
+        for (String term : new HashSet<>(eventTerms)) {
+            Postings postings = terms.get(term);
+            postings.dead++;
+            if (postings.live() == 0) {
+                terms.remove(term);
+            } else if (postings.dead * 2 > postings.size) {
+                compact(postings);
+            }
+        }
+
+        // renumber once most ordinals belong to removed events
+        if (nextOrdinal > 64 && ordinals.size() * 2 < nextOrdinal) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * Removes every event from the index.
+     */
+    public void clear() {
+        terms.clear();
+        ordinals.clear();
+        Arrays.fill(events, 0, nextOrdinal, null);
+        nextOrdinal = 0;
+        totalTitleLength = 0;
+        totalDescriptionLength = 0;
+    }
+
+    /**
+     * Finds the events matching a query, best match first.
+     *
+     * @param query The search query.
+     * @param from The earliest event time to include, in milliseconds. A
+     *             repeating event is included if any occurrence is at or
+     *             after it.
+     * @param limit The maximum number of results.
+     * @return The matching events, ranked by relevance, then by time. Empty
+     * if the query has no terms.
+     */
+    public List<EventSummary> search(String query, long from, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(EventSearch.tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0 || ordinals.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // the indexed terms each query term is a prefix of, rarest query term first
+        List<Map<String, Postings>> expansions = new ArrayList<>(queryTerms.size());
+        List<Integer> postingCounts = new ArrayList<>(queryTerms.size());
+        for (String queryTerm : queryTerms) {
+            Map<String, Postings> expansion =
+                    terms.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+            if (expansion.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            int count = 0;
+            for (Postings postings : expansion.values()) {
+                count += postings.size;
+            }
+            int position = 0;
+            while (position < postingCounts.size() && postingCounts.get(position) <= count) {
+                position++;
+            }
+            expansions.add(position, expansion);
+            postingCounts.add(position, count);
+        }
+
+        int liveEvents = ordinals.size();
+        double averageTitleLength = Math.max(1.0, (double) totalTitleLength / liveEvents);
+        double averageDescriptionLength = Math.max(1.0, (double) totalDescriptionLength / liveEvents);
+
+        // matched[ordinal] counts the query terms an event has matched so far
+        int[] matched = new int[nextOrdinal];
+        double[] scores = new double[nextOrdinal];
+        int[] candidates = new int[0];
+        int candidateCount = 0;
+
+        for (int i = 0; i < expansions.size(); i++) {
+            for (Postings postings : expansions.get(i).values()) {
+                double idf = Math.log(1 + (liveEvents - postings.live() + 0.5) / (postings.live() + 0.5));
+
+                for (int p = 0; p < postings.size; p++) {
+                    int ordinal = postings.ordinals[p];
+                    EventSummary event = events[ordinal];
+                    if (event == null || matched[ordinal] < i || !isUpcoming(event, from)) {
+                        continue;
+                    }
+
+                    if (matched[ordinal] == i) {
+                        matched[ordinal] = i + 1;
+                        if (i == 0) {
+                            if (candidateCount == candidates.length) {
+                                candidates = Arrays.copyOf(candidates, Math.max(16, candidateCount * 2));
+                            }
+                            candidates[candidateCount++] = ordinal;
+                        }
+                    }
+
+                    int frequency = postings.frequencies[p];
+                    double weighted = TITLE_WEIGHT * (frequency >>> 16)
+                            / (1 - B + B * titleLengths[ordinal] / averageTitleLength)
+                            + DESCRIPTION_WEIGHT * (frequency & MAX_FREQUENCY)
+                            / (1 - B + B * descriptionLengths[ordinal] / averageDescriptionLength);
+                    scores[ordinal] += idf * weighted * (K1 + 1) / (weighted + K1);
+                }
+            }
+        }
+
+        // keep the best matches, worst of them at the head
+        int queryTermCount = expansions.size();
+        PriorityQueue<Integer> best = new PriorityQueue<>(
+                Math.min(limit, Math.max(1, candidateCount)),
+                (a, b) -> -compareRank(a, b, scores));
+        for (int c = 0; c < candidateCount; c++) {
+            int ordinal = candidates[c];
+            if (matched[ordinal] != queryTermCount) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(ordinal);
+            } else if (compareRank(ordinal, best.peek(), scores) < 0) {
+                best.poll();
+                best.add(ordinal);
+            }
+        }
+
+        EventSummary[] results = new EventSummary[best.size()];
+        for (int r = results.length - 1; r >= 0; r--) {
+            results[r] = events[best.poll()];
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Orders two matched events, the better match first: higher score, then
+     * earlier event time.
+     *
+     * @param a The first event's ordinal.
+     * @param b The second event's ordinal.
+     * @param scores The events' scores, by ordinal.
+     * @return A negative number if {@code a} ranks first.
+     */
+    private int compareRank(int a, int b, double[] scores) {
+        int byScore = Double.compare(scores[b], scores[a]);
+        return byScore != 0 ? byScore : Long.compare(events[a].eventTime, events[b].eventTime);
+    }
+
+    /**
+     * Drops a term's postings for removed events.
+     *
+     * @param postings The term's postings.
+     */
+    private void compact(Postings postings) {
+        int live = 0;
+        for (int p = 0; p < postings.size; p++) {
+            int ordinal = postings.ordinals[p];
+            EventSummary event = events[ordinal];
+            // a posting is live if its ordinal is still the event's current version
+            if (event != null) {
+                postings.ordinals[live] = ordinal;
+                postings.frequencies[live] = postings.frequencies[p];
+                live++;
+            }
+        }
+        postings.size = live;
+        postings.dead = 0;
+    }
+
+    /**
+     * Checks whether an event, or an occurrence of a repeating event, is at
+     * or after a time. Only repeating events that started earlier need their
+     * rule checked.
+     *
+     * @param event The event.
+     * @param from The earliest event time to include, in milliseconds.
+     * @return Whether the event can be a result.
+     */
+    private static boolean isUpcoming(EventSummary event, long from) {
+        return event.eventTime >= from || (event.recurrence != null && Occurrences.isUpcoming(event, from));
+    }
+
+    /**
+     * Rebuilds the index from its live events, so ordinals are dense again.
+     */
+    private void rebuild() {
+        List<EventSummary> live = new ArrayList<>(ordinals.size());
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (events[ordinal] != null) {
+                live.add(events[ordinal]);
+            }
+        }
+
+        clear();
+        for (EventSummary event : live) {
+            put(event);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * EventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import java.util.List;
+
+/**
+ * Storage for users' events, independent of where the events are kept.
+ *
+ * <p>Every operation is asynchronous and reports its result through a
+ * callback, which may be called on any thread. Failures are reported as a
+ * {@code null} result. Operations are applied in the order they are called.</p>
+ *
+ * <p>Every implementation must pass the shared conformance suite in the
+ * domain module's test fixtures.</p>
+ */
+public interface EventStore {
+    /**
+     * Most events added in one {@link #addAll(List, OnEventsSaved)} call.
+     * Each event is two Firestore writes and a batch holds at most 500.
+     */
+    int MAX_BATCH_SIZE = 200;
+
+    /**
+     * Interface for a callback after an event has been loaded.
+     */
+    interface OnEventLoaded { void onResult(Event event); }
+
+    /**
+     * Interface for a callback after a list of events has been loaded.
+     */
+    interface OnEventsLoaded { void onResult(List<EventSummary> events); }
+
+    /**
+     * Interface for a callback after an event has been added or updated.
+     */
+    interface OnEventSaved { void onResult(String eventId); }
+
+    /**
+     * Interface for a callback after a batch of events has been added.
+     */
+    interface OnEventsSaved { void onResult(List<String> eventIds); }
+
+    /**
+     * Interface for a callback after an event has been deleted.
+     */
+    interface OnEventDeleted { void onResult(boolean deleted); }
+
+    /**
+     * Gets a single event.
+     *
+     * @param userId The id of the user the event belongs to.
+     * @param eventId The id of the event.
+     * @param callback Callback with the event, or {@code null} if it doesn't exist.
+     */
+    void getEvent(String userId, String eventId, OnEventLoaded callback);
+
+    /**
+     * Gets the summaries of a user's events at or after a time, ordered by
+     * event time. A repeating event is included once, with its first
+     * occurrence's time, if any occurrence is at or after the time.
+     *
+     * @param userId The id of the user.
+     * @param from The earliest event time to include, in milliseconds.
+     * @param callback Callback with the event summaries.
+     */
+    void getUpcomingEvents(String userId, long from, OnEventsLoaded callback);
+
+    /**
+     * Adds an event, replacing any event with the same id. An id is assigned
+     * if the event doesn't have one. The event is stored at version 1,
+     * whatever its version.
+     *
+     * @param event The event to add.
+     * @param callback Callback with the id of the added event.
+     */
+    void add(Event event, OnEventSaved callback);
+
+    /**
+     * Adds a batch of events in one write, replacing any events with the
+     * same ids. Either every event is added or none are. Ids are assigned to
+     * events that don't have one, and each event is stored at version 1.
+     *
+     * @param events The events to add, at most {@link #MAX_BATCH_SIZE}.
+     * @param callback Callback with the ids of the added events, in order,
+     *                 or {@code null} if the batch failed or was too large.
+     */
+    void addAll(List<Event> events, OnEventsSaved callback);
+
+    /**
+     * Replaces an existing event. Fails if the event doesn't exist or belongs
+     * to another user. The event is stored at the stored version plus one,
+     * whatever its version.
+     *
+     * @param event The updated event.
+     * @param callback Callback with the id of the updated event.
+     */
+    void update(Event event, OnEventSaved callback);
+
+    /**
+     * Deletes an event.
+     *
+     * @param userId The id of the user the event belongs to.
+     * @param eventId The id of the event.
+     * @param callback Callback with {@code true} once the event no longer
+     *                 exists, or {@code false} if the delete failed.
+     */
+    void delete(String userId, String eventId, OnEventDeleted callback);
+}
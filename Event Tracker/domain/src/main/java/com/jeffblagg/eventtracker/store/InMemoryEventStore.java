@@ -0,0 +1,125 @@
+/*
+ * InMemoryEventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.schedule.Occurrences;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An EventStore that keeps events in memory. Nothing is persisted.
+ *
+ * <p>Callbacks are called right away on the calling thread. Events are
+ * copied in and out, so callers can't change stored events.</p>
+ */
+public class InMemoryEventStore implements EventStore {
+    private final Map<String, Event> events = new HashMap<>();
+
+    @Override
+    public void getEvent(String userId, String eventId, OnEventLoaded callback) {
+        Event event;
+        synchronized (this) {
+            event = events.get(eventId);
+            event = event != null && Objects.equals(event.userId, userId) ? new Event(event) : null;
+        }
+        callback.onResult(event);
+    }
+
+    @Override
+    public void getUpcomingEvents(String userId, long from, OnEventsLoaded callback) {
+        List<EventSummary> upcoming = new ArrayList<>();
+        synchronized (this) {
+            for (Event event : events.values()) {
+                if (Objects.equals(event.userId, userId)) {
+                    EventSummary summary = EventSummary.from(event);
+                    if (Occurrences.isUpcoming(summary, from)) {
+                        upcoming.add(summary);
+                    }
+                }
+            }
+        }
+        upcoming.sort(Comparator.comparingLong(event -> event.eventTime));
+        callback.onResult(upcoming);
+    }
+
+    @Override
+    public void add(Event event, OnEventSaved callback) {
+        Event stored = new Event(event);
+        if (stored.id == null) {
+            stored.id = UUID.randomUUID().toString();
+        }
+        stored.version = 1;
+
+        synchronized (this) {
+            events.put(stored.id, stored);
+        }
+        callback.onResult(stored.id);
+    }
+
+    @Override
+    public void addAll(List<Event> events, OnEventsSaved callback) {
+        if (events.size() > MAX_BATCH_SIZE) {
+            callback.onResult(null);
+            return;
+        }
+
+        List<Event> stored = new ArrayList<>(events.size());
+        List<String> eventIds = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Event copy = new Event(event);
+            if (copy.id == null) {
+                copy.id = UUID.randomUUID().toString();
+            }
+            copy.version = 1;
+            stored.add(copy);
+            eventIds.add(copy.id);
+        }
+
+        synchronized (this) {
+            for (Event event : stored) {
+                this.events.put(event.id, event);
+            }
+        }
+        callback.onResult(eventIds);
+    }
+
+    @Override
+    public void update(Event event, OnEventSaved callback) {
+        boolean updated;
+        synchronized (this) {
+            Event stored = event.id != null ? events.get(event.id) : null;
+            updated = stored != null && Objects.equals(stored.userId, event.userId);
+            if (updated) {
+                Event saved = new Event(event);
+                saved.version = stored.version + 1;
+                events.put(event.id, saved);
+            }
+        }
+        callback.onResult(updated ? event.id : null);
+    }
+
+    @Override
+    public void delete(String userId, String eventId, OnEventDeleted callback) {
+        synchronized (this) {
+            Event event = events.get(eventId);
+            if (event != null && Objects.equals(event.userId, userId)) {
+                events.remove(eventId);
+            }
+        }
+        callback.onResult(true);
+    }
+}
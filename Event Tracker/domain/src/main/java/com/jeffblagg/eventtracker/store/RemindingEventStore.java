@@ -0,0 +1,118 @@
+/*
+ * RemindingEventStore.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+import com.jeffblagg.eventtracker.reminder.ReminderScheduler;
+
+import java.util.List;
+
+/**
+ * An EventStore that keeps each event's reminder in step with the event.
+ *
+ * <p>Once the wrapped store confirms a change, the reminder for an added or
+ * updated event is scheduled, or cancelled if its time has passed, and the
+ * reminder for a deleted event is cancelled. Failed changes leave reminders
+ * untouched.</p>
+ */
+public class RemindingEventStore implements EventStore {
+    private final EventStore store;
+    private final ReminderPlanner planner;
+    private final ReminderScheduler scheduler;
+
+    /**
+     * RemindingEventStore constructor.
+     *
+     * @param store The store events are saved to.
+     * @param planner The planner deciding each event's reminder.
+     * @param scheduler The scheduler delivering reminders.
+     */
+    public RemindingEventStore(EventStore store, ReminderPlanner planner, ReminderScheduler scheduler) {
+        this.store = store;
+        this.planner = planner;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void getEvent(String userId, String eventId, OnEventLoaded callback) {
+        store.getEvent(userId, eventId, callback);
+    }
+
+    @Override
+    public void getUpcomingEvents(String userId, long from, OnEventsLoaded callback) {
+        store.getUpcomingEvents(userId, from, callback);
+    }
+
+    @Override
+    public void add(Event event, OnEventSaved callback) {
+        store.add(event, eventId -> {
+            if (eventId != null) {
+                Event saved = new Event(event);
+                saved.id = eventId;
+                updateReminder(saved);
+            }
+            callback.onResult(eventId);
+        });
+    }
+
+    @Override
+    public void addAll(List<Event> events, OnEventsSaved callback) {
+        store.addAll(events, eventIds -> {
+            if (eventIds != null) {
+                for (int i = 0; i < eventIds.size(); i++) {
+                    Event saved = new Event(events.get(i));
+                    saved.id = eventIds.get(i);
+                    updateReminder(saved);
+                }
+            }
+            callback.onResult(eventIds);
+        });
+    }
+
+    @Override
+    public void update(Event event, OnEventSaved callback) {
+        store.update(event, eventId -> {
+            if (eventId != null) {
+                updateReminder(event);
+            }
+            callback.onResult(eventId);
+        });
+    }
+
+    @Override
+    public void delete(String userId, String eventId, OnEventDeleted callback) {
+        store.delete(userId, eventId, deleted -> {
+            if (deleted) {
+                scheduler.cancel(eventId);
+            }
+            callback.onResult(deleted);
+        });
+    }
+
+    /**
+     * Schedules the reminder for a saved event, or cancels it if the
+     * reminder time has passed.
+     *
+     * @param event The saved event.
+     */
+    private void updateReminder(Event event) {
+        ReminderPlanner.Reminder reminder;
+        // callbacks may arrive on any thread and the planner is not thread safe
+        synchronized (planner) {
+            reminder = planner.plan(event);
+        }
+
+        if (reminder != null) {
+            scheduler.schedule(reminder);
+        } else {
+            scheduler.cancel(event.id);
+        }
+    }
+}
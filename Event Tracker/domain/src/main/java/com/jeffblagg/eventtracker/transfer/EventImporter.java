@@ -0,0 +1,213 @@
+/*
+ * EventImporter.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.store.EventStore;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports the events of a calendar file into an {@link EventStore} in
+ * batches.
+ *
+ * <p>Events are read one at a time and saved with
+ * {@link EventStore#addAll(List, EventStore.OnEventsSaved)} every
+ * {@code batchSize} events, so only one batch is held in memory and each
+ * batch is a single write. After each saved batch a {@link Checkpoint} is
+ * reported, which the caller keeps so a failed or interrupted import can
+ * resume from the last saved batch instead of starting over.</p>
+ *
+ * <p>Imported events are new events at version 1, with ids made from the
+ * import's id and their position in the file. A batch saved again after its
+ * result was lost replaces the same events rather than adding them twice.</p>
+ *
+ * <p>{@link #run} blocks until the import finishes, so it must be called on
+ * a background thread that isn't the one the store calls back on.</p>
+ */
+public class EventImporter {
+    /**
+     * How long to wait for a batch to be saved before the import fails.
+     */
+    private static final long BATCH_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Where an import has got to.
+     */
+    public static final class Checkpoint {
+        /**
+         * The id of the import, shared by each of its runs.
+         */
+        public final String importId;
+
+        /**
+         * The number of events from the start of the file that are saved.
+         */
+        public final long position;
+
+        /**
+         * Checkpoint constructor.
+         *
+         * @param importId The id of the import.
+         * @param position The number of events saved.
+         */
+        public Checkpoint(String importId, long position) {
+            this.importId = importId;
+            this.position = position;
+        }
+
+        /**
+         * Creates the checkpoint for a new import.
+         *
+         * @return A checkpoint with a new import id and nothing saved.
+         */
+        public static Checkpoint start() {
+            return new Checkpoint(UUID.randomUUID().toString(), 0);
+        }
+    }
+
+    /**
+     * The outcome of running an import.
+     */
+    public static final class Result {
+        /**
+         * Where the import got to.
+         */
+        public final Checkpoint checkpoint;
+
+        /**
+         * The number of events saved by this run.
+         */
+        public final long imported;
+
+        /**
+         * The number of entries in the file that couldn't be imported.
+         */
+        public final int skipped;
+
+        /**
+         * Whether the whole file was imported. If not, a batch failed to
+         * save and the import can be resumed from the checkpoint.
+         */
+        public final boolean complete;
+
+        Result(Checkpoint checkpoint, long imported, int skipped, boolean complete) {
+            this.checkpoint = checkpoint;
+            this.imported = imported;
+            this.skipped = skipped;
+            this.complete = complete;
+        }
+    }
+
+    /**
+     * Interface for a callback after each batch has been saved.
+     */
+    public interface OnProgress { void onProgress(Checkpoint checkpoint); }
+
+    private final EventStore store;
+    private final int batchSize;
+
+    /**
+     * EventImporter constructor saving the largest batches the store allows.
+     *
+     * @param store The store events are saved to.
+     */
+    public EventImporter(EventStore store) {
+        this(store, EventStore.MAX_BATCH_SIZE);
+    }
+
+    /**
+     * EventImporter constructor.
+     *
+     * @param store The store events are saved to.
+     * @param batchSize The number of events saved in each write, at most
+     *                  {@link EventStore#MAX_BATCH_SIZE}.
+     */
+    public EventImporter(EventStore store, int batchSize) {
+        this.store = store;
+        this.batchSize = Math.max(1, Math.min(batchSize, EventStore.MAX_BATCH_SIZE));
+    }
+
+    /**
+     * Imports a file's events for a user, starting after the events a
+     * checkpoint has already saved.
+     *
+     * @param reader The file's events. Not closed by the import.
+     * @param userId The id of the user the events are added for.
+     * @param checkpoint Where to resume from, or {@link Checkpoint#start()}.
+     * @param progress Callback after each saved batch, on the calling thread.
+     * @return The outcome of the import.
+     * @throws IOException if the file can't be read. Batches saved before
+     *                     the error have been reported to {@code progress}.
+     */
+    public Result run(EventReader reader, String userId, Checkpoint checkpoint, OnProgress progress)
+            throws IOException {
+        long position = 0;
+        while (position < checkpoint.position && reader.read() != null) {
+            position++;
+        }
+
+        List<Event> batch = new ArrayList<>(batchSize);
+        long imported = 0;
+        while (true) {
+            CalendarEvent entry = reader.read();
+            Event event = entry != null ? Event.from(entry) : null;
+            if (event != null) {
+                event.id = checkpoint.importId + "-" + (position + batch.size());
+                event.userId = userId;
+                event.version = 1;
+                batch.add(event);
+            }
+
+            if (batch.size() == batchSize || (event == null && !batch.isEmpty())) {
+                if (!save(batch)) {
+                    return new Result(new Checkpoint(checkpoint.importId, position), imported,
+                            reader.getSkipped(), false);
+                }
+                position += batch.size();
+                imported += batch.size();
+                batch.clear();
+                progress.onProgress(new Checkpoint(checkpoint.importId, position));
+            }
+
+            if (event == null) {
+                return new Result(new Checkpoint(checkpoint.importId, position), imported,
+                        reader.getSkipped(), true);
+            }
+        }
+    }
+
+    /**
+     * Saves a batch and waits for the result.
+     *
+     * @param batch The events to save.
+     * @return Whether the batch was saved in time.
+     */
+    private boolean save(List<Event> batch) {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<List<String>> saved = new AtomicReference<>();
+        store.addAll(new ArrayList<>(batch), eventIds -> {
+            saved.set(eventIds);
+            done.countDown();
+        });
+
+        try {
+            return done.await(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS) && saved.get() != null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
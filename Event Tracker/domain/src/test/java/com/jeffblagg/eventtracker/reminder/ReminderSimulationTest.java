@@ -0,0 +1,129 @@
+/*
+ * ReminderSimulationTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.reminder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.jeffblagg.eventtracker.VirtualClock;
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Simulates a week of SMS reminders on a {@link VirtualClock}.
+ *
+ * <p>100k reminders are planned and scheduled, a share of them are moved or
+ * cancelled, then the clock is advanced a minute at a time until every
+ * reminder is due. The run checks that each remaining reminder is dispatched
+ * exactly once, never early and at most one step late. The throughput and
+ * allocation of planning and scheduling reminders are measured by
+ * {@code ReminderPlannerBenchmark} and {@code ReminderSchedulerBenchmark}.</p>
+ */
+public class ReminderSimulationTest {
+    private static final long START = 1_800_000_000_000L;
+    private static final long MINUTE = 60 * 1000L;
+    private static final long DAY = 24 * 60 * MINUTE;
+
+    private static final int REMINDERS = 100_000;
+    private static final long SIMULATED_DAYS = 7;
+
+    /**
+     * How far the clock moves per step. Dispatch can be up to one step late.
+     */
+    private static final long TICK = MINUTE;
+
+    private final VirtualClock clock = new VirtualClock(START);
+    private final ReminderPlanner planner = new ReminderPlanner(clock, new EventFormatter(Locale.US));
+
+    /**
+     * The reminder time each event should still be dispatched at.
+     */
+    private final Map<String, Long> expected = new HashMap<>();
+    private int dispatched = 0;
+
+    /**
+     * The longest any reminder was dispatched after its reminder time.
+     */
+    private long latest = 0;
+
+    @Test
+    public void dispatchesEveryReminderOnTime() {
+        SimulatedReminderScheduler scheduler = new SimulatedReminderScheduler(clock, this::onDispatched);
+        Random random = new Random(42);
+
+        Event[] events = new Event[REMINDERS];
+        for (int i = 0; i < REMINDERS; i++) {
+            events[i] = new Event("event-" + i, "simulation", randomEventTime(random),
+                    "Event " + i, null, null);
+            expected.put(events[i].id, events[i].eventTime - ReminderPlanner.REMINDER_OFFSET);
+        }
+
+        // schedule every reminder
+        for (Event event : events) {
+            scheduler.schedule(planner.plan(event));
+        }
+        assertEquals(REMINDERS, scheduler.pendingCount());
+
+        // move every 10th event and cancel every 20th, like edits and deletes would
+        int cancelled = 0;
+        for (int i = 0; i < REMINDERS; i++) {
+            Event event = events[i];
+            if (i % 20 == 1) {
+                scheduler.cancel(event.id);
+                expected.remove(event.id);
+                cancelled++;
+            } else if (i % 10 == 0) {
+                event.eventTime = randomEventTime(random);
+                scheduler.cancel(event.id);
+                scheduler.schedule(planner.plan(event));
+                expected.put(event.id, event.eventTime - ReminderPlanner.REMINDER_OFFSET);
+            }
+        }
+        int remaining = REMINDERS - cancelled;
+        assertEquals(remaining, scheduler.pendingCount());
+
+        // advance time until every reminder is due
+        long end = START + SIMULATED_DAYS * DAY;
+        while (clock.now() < end) {
+            scheduler.advance(TICK);
+        }
+
+        assertEquals(remaining, dispatched);
+        assertTrue("Reminders were never dispatched: " + expected.size(), expected.isEmpty());
+        assertEquals(0, scheduler.pendingCount());
+
+        assertTrue("A reminder was dispatched more than one tick late", latest < TICK);
+    }
+
+    private void onDispatched(ReminderPlanner.Reminder reminder, long dispatchTime) {
+        Long reminderTime = expected.remove(reminder.eventId);
+        assertNotNull("Unexpected or repeated reminder for " + reminder.eventId, reminderTime);
+        assertEquals(reminderTime.longValue(), reminder.reminderTime);
+        assertTrue("Reminder dispatched early", dispatchTime >= reminder.reminderTime);
+        latest = Math.max(latest, dispatchTime - reminder.reminderTime);
+        dispatched++;
+    }
+
+    /**
+     * Picks an event time whose reminder falls inside the simulated days.
+     */
+    private static long randomEventTime(Random random) {
+        long first = START + ReminderPlanner.REMINDER_OFFSET + MINUTE;
+        long range = SIMULATED_DAYS * DAY - ReminderPlanner.REMINDER_OFFSET - MINUTE;
+        return first + (long) (random.nextDouble() * range);
+    }
+}
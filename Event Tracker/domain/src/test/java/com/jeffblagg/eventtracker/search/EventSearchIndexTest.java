@@ -0,0 +1,202 @@
+/*
+ * EventSearchIndexTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Checks that {@link EventSearchIndex} finds the same events as scanning with
+ * {@link EventSearch}, including after many incremental updates, and ranks
+ * them by relevance.
+ */
+public class EventSearchIndexTest {
+    private static final long START = 1_800_000_000_000L;
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private static final String[] WORDS = {
+            "planning", "meeting", "dentist", "appointment", "team", "lunch", "quarterly",
+            "review", "revenue", "soccer", "practice", "book", "club", "flight", "denver",
+            "caf\u00e9", "sam", "notes", "roadmap", "parking"
+    };
+
+    private static final String[] QUERIES = {
+            "rev", "quarterly rev", "cafe", "PLANNING meeting", "d", "xylophone", "sam caf", "  "
+    };
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void matchesTheSameEventsAsScanning() {
+        EventSearchIndex index = new EventSearchIndex();
+        Map<String, EventSummary> events = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            EventSummary event = randomEvent("event-" + i);
+            events.put(event.id, event);
+            index.put(event);
+        }
+
+        assertSameMatches(index, events, START);
+        assertSameMatches(index, events, START + 1_000 * HOUR);
+    }
+
+    @Test
+    public void staysConsistentAcrossUpdatesAndRemovals() {
+        EventSearchIndex index = new EventSearchIndex();
+        Map<String, EventSummary> events = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            String id = "event-" + random.nextInt(1_000);
+            if (random.nextInt(4) == 0) {
+                events.remove(id);
+                index.remove(id);
+            } else {
+                EventSummary event = randomEvent(id);
+                events.put(id, event);
+                index.put(event);
+            }
+        }
+
+        assertEquals(events.size(), index.size());
+        assertSameMatches(index, events, START);
+    }
+
+    @Test
+    public void ranksTitleMatchesAboveDescriptionMatches() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.put(event("description", START, "Team lunch", "Talk about the quarterly review"));
+        index.put(event("title", START + HOUR, "Quarterly review", "Bring the roadmap"));
+        index.put(event("both", START + 2 * HOUR, "Quarterly review", "The quarterly review notes"));
+        index.put(event("none", START, "Soccer practice", null));
+
+        List<EventSummary> results = index.search("quarterly review", START, 10);
+
+        assertEquals(3, results.size());
+        assertEquals("both", results.get(0).id);
+        assertEquals("title", results.get(1).id);
+        assertEquals("description", results.get(2).id);
+    }
+
+    @Test
+    public void replacingAnEventReplacesItsTerms() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.put(event("event", START, "Dentist appointment", null));
+        index.put(event("event", START, "Book club", null));
+
+        assertTrue(index.search("dentist", START, 10).isEmpty());
+        assertEquals(1, index.search("book", START, 10).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void returnsTheBestMatchesUpToTheLimit() {
+        EventSearchIndex index = new EventSearchIndex();
+        for (int i = 0; i < 100; i++) {
+            index.put(event("event-" + i, START + i * HOUR, "Team lunch " + i, null));
+        }
+
+        List<EventSummary> results = index.search("lunch", START, 5);
+
+        // equal scores fall back to time order
+        assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("event-" + i, results.get(i).id);
+        }
+    }
+
+    /**
+     * Checks that every query finds the same events in the index as by scanning.
+     *
+     * @param index The index.
+     * @param events The indexed events, by id.
+     * @param from The earliest event time to include.
+     */
+    private static void assertSameMatches(EventSearchIndex index, Map<String, EventSummary> events, long from) {
+        List<EventSummary> upcoming = new ArrayList<>();
+        for (EventSummary event : events.values()) {
+            if (event.eventTime >= from) {
+                upcoming.add(event);
+            }
+        }
+
+        for (String query : QUERIES) {
+            Set<String> expected = new HashSet<>();
+            if (!EventSearch.tokenize(query).isEmpty()) {
+                for (EventSummary event : EventSearch.filter(upcoming, query)) {
+                    expected.add(event.id);
+                }
+            }
+
+            Set<String> actual = new HashSet<>();
+            for (EventSummary event : index.search(query, from, Integer.MAX_VALUE)) {
+                actual.add(event.id);
+            }
+            assertEquals("Query \"" + query + "\"", expected, actual);
+        }
+    }
+
+    /**
+     * Builds an event with a title of two to four words and an optional
+     * description of up to twelve words.
+     *
+     * @param id The event id.
+     * @return The event summary.
+     */
+    private EventSummary randomEvent(String id) {
+        String description = random.nextBoolean() ? words(1 + random.nextInt(12)) : null;
+        return event(id, START + random.nextInt(2_000) * HOUR, words(2 + random.nextInt(3)), description);
+    }
+
+    /**
+     * Joins random words, capitalized at random.
+     *
+     * @param count The number of words.
+     * @return The words.
+     */
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            text.append(i == 0 ? "" : " ")
+                    .append(random.nextBoolean() ? word : word.toUpperCase(Locale.ROOT));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Builds an event summary.
+     *
+     * @param id The event id.
+     * @param eventTime The event time.
+     * @param title The title.
+     * @param description The description preview, may be {@code null}.
+     * @return The event summary.
+     */
+    private static EventSummary event(String id, long eventTime, String title, String description) {
+        EventSummary event = new EventSummary();
+        event.id = id;
+        event.eventTime = eventTime;
+        event.title = title;
+        event.descriptionPreview = description;
+        return event;
+    }
+}
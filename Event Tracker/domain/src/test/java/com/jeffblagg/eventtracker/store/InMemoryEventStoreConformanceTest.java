@@ -0,0 +1,19 @@
+/*
+ * InMemoryEventStoreConformanceTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+/**
+ * Runs the shared conformance suite against {@link InMemoryEventStore}.
+ */
+public class InMemoryEventStoreConformanceTest extends EventStoreConformanceTest {
+    @Override
+    protected EventStore createStore() {
+        return new InMemoryEventStore();
+    }
+}
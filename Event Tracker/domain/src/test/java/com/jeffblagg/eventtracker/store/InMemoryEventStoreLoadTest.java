@@ -0,0 +1,19 @@
+/*
+ * InMemoryEventStoreLoadTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+/**
+ * Runs the shared load suite against {@link InMemoryEventStore}.
+ */
+public class InMemoryEventStoreLoadTest extends EventStoreLoadTest {
+    @Override
+    protected EventStore createStore() {
+        return new InMemoryEventStore();
+    }
+}
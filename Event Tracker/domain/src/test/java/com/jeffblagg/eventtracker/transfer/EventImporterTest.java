@@ -0,0 +1,193 @@
+/*
+ * EventImporterTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.store.InMemoryEventStore;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Checks that {@link EventImporter} saves a file's events in batches,
+ * reports its progress, and resumes a failed import without adding events
+ * twice.
+ */
+public class EventImporterTest {
+    private static final String USER = "importer";
+
+    /**
+     * Store recording the size of each batch, which can be told to fail a
+     * batch.
+     */
+    private static final class BatchStore extends InMemoryEventStore {
+        final List<Integer> batches = new ArrayList<>();
+        int failBatch = -1;
+
+        @Override
+        public void addAll(List<Event> events, OnEventsSaved callback) {
+            batches.add(events.size());
+            if (batches.size() - 1 == failBatch) {
+                callback.onResult(null);
+            } else {
+                super.addAll(events, callback);
+            }
+        }
+    }
+
+    /**
+     * Store that only counts saved events, so large imports don't fill memory.
+     */
+    private static final class CountingStore extends InMemoryEventStore {
+        long saved;
+
+        @Override
+        public void addAll(List<Event> events, OnEventsSaved callback) {
+            List<String> eventIds = new ArrayList<>();
+            for (Event event : events) {
+                eventIds.add(event.id);
+            }
+            saved += events.size();
+            callback.onResult(eventIds);
+        }
+    }
+
+    @Test
+    public void savesInBatchesAndReportsProgress() throws IOException {
+        BatchStore store = new BatchStore();
+        List<Long> progress = new ArrayList<>();
+
+        EventImporter.Result result = new EventImporter(store, 200).run(reader(450), USER,
+                EventImporter.Checkpoint.start(), checkpoint -> progress.add(checkpoint.position));
+
+        assertTrue(result.complete);
+        assertEquals(450, result.imported);
+        assertEquals(List.of(200, 200, 50), store.batches);
+        assertEquals(List.of(200L, 400L, 450L), progress);
+        assertEquals(450, upcomingIds(store).size());
+    }
+
+    @Test
+    public void resumesFromTheLastSavedBatch() throws IOException {
+        BatchStore store = new BatchStore();
+        store.failBatch = 1;
+        EventImporter importer = new EventImporter(store, 200);
+
+        EventImporter.Result failed = importer.run(reader(450), USER, EventImporter.Checkpoint.start(),
+                checkpoint -> { });
+        assertFalse(failed.complete);
+        assertEquals(200, failed.checkpoint.position);
+
+        EventImporter.Result resumed = importer.run(reader(450), USER, failed.checkpoint, checkpoint -> { });
+        assertTrue(resumed.complete);
+        assertEquals(250, resumed.imported);
+        assertEquals(450, resumed.checkpoint.position);
+
+        Set<String> ids = upcomingIds(store);
+        assertEquals(450, ids.size());
+        assertTrue(ids.contains(failed.checkpoint.importId + "-0"));
+        assertTrue(ids.contains(failed.checkpoint.importId + "-449"));
+    }
+
+    @Test
+    public void countsSkippedRows() throws IOException {
+        BatchStore store = new BatchStore();
+        CsvEventReader reader = new CsvEventReader(new StringReader(
+                "Title,Start\nFirst,2030-01-01 09:00\n,2030-01-01 10:00\nThird,soon\n"), ZoneOffset.UTC);
+
+        EventImporter.Result result = new EventImporter(store).run(reader, USER, EventImporter.Checkpoint.start(),
+                checkpoint -> { });
+
+        assertEquals(1, result.imported);
+        assertEquals(2, result.skipped);
+    }
+
+    @Test
+    public void importsLargeFilesStreaming() throws IOException {
+        int events = 100_000;
+        CountingStore store = new CountingStore();
+
+        EventImporter.Result result = new EventImporter(store).run(reader(events), USER,
+                EventImporter.Checkpoint.start(), checkpoint -> { });
+
+        assertTrue(result.complete);
+        assertEquals(events, result.imported);
+        assertEquals(events, store.saved);
+    }
+
+    /**
+     * Creates a reader for a generated CSV file, produced as it is read.
+     *
+     * @param rows The number of events in the file.
+     * @return The event reader.
+     */
+    private static EventReader reader(int rows) {
+        return new CsvEventReader(new GeneratedCsv(rows), ZoneOffset.UTC);
+    }
+
+    private static Set<String> upcomingIds(InMemoryEventStore store) {
+        Set<String> ids = new HashSet<>();
+        store.getUpcomingEvents(USER, 0, events -> {
+            for (EventSummary event : events) {
+                ids.add(event.id);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * A CSV file of events an hour apart, generated one row at a time.
+     */
+    private static final class GeneratedCsv extends Reader {
+        private final int rows;
+        private int row = -1;
+        private String current = "Title,Start,End,Description\n";
+        private int offset;
+
+        GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            if (offset == current.length()) {
+                if (++row >= rows) {
+                    return -1;
+                }
+                int hour = row % 24;
+                int day = 1 + (row / 24) % 28;
+                current = String.format(Locale.US, "\"Event %d, imported\",2030-01-%02d %02d:00,2030-01-%02d %02d:30,"
+                        + "Notes for event %d\n", row, day, hour, day, hour, row);
+                offset = 0;
+            }
+            int count = Math.min(len, current.length() - offset);
+            current.getChars(offset, offset + count, buffer, off);
+            offset += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
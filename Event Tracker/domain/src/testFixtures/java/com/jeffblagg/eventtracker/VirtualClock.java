@@ -0,0 +1,43 @@
+/*
+ * VirtualClock.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker;
+
+/**
+ * A {@link Clock} that only moves when told to, so days of scheduled work
+ * can be simulated in a few seconds.
+ */
+public class VirtualClock implements Clock {
+    private volatile long now;
+
+    /**
+     * VirtualClock constructor.
+     *
+     * @param start The starting time, in milliseconds.
+     */
+    public VirtualClock(long start) {
+        this.now = start;
+    }
+
+    @Override
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param millis The amount of time to move forward, in milliseconds.
+     */
+    public synchronized void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("A clock can't move backwards.");
+        }
+        now += millis;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SimulatedReminderScheduler.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.reminder;
+
+import com.jeffblagg.eventtracker.VirtualClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link ReminderScheduler} that stands in for the alarm service on a
+ * {@link VirtualClock}. Reminders are kept in a queue ordered by time and
+ * dispatched when the clock is advanced past them.
+ *
+ * <p>Like an alarm, scheduling a reminder replaces the one scheduled for the
+ * same event. Replaced and cancelled reminders are left in the queue and
+ * skipped when they come due, so both are constant time apart from the
+ * queue insert.</p>
+ */
+public class SimulatedReminderScheduler implements ReminderScheduler {
+    /**
+     * Interface for a callback when a reminder is dispatched.
+     */
+    public interface OnDispatched { void onDispatched(ReminderPlanner.Reminder reminder, long dispatchTime); }
+
+    private final VirtualClock clock;
+    private final OnDispatched listener;
+
+    private final PriorityQueue<ReminderPlanner.Reminder> queue =
+            new PriorityQueue<>((a, b) -> Long.compare(a.reminderTime, b.reminderTime));
+
+    /**
+     * The reminder currently scheduled for each event.
+     */
+    private final Map<String, ReminderPlanner.Reminder> scheduled = new HashMap<>();
+
+    /**
+     * SimulatedReminderScheduler constructor.
+     *
+     * @param clock The clock reminders are dispatched by.
+     * @param listener The callback receiving each dispatched reminder.
+     */
+    public SimulatedReminderScheduler(VirtualClock clock, OnDispatched listener) {
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void schedule(ReminderPlanner.Reminder reminder) {
+        // an alarm in the past is dropped, like EventReminderManager does
+        if (reminder.reminderTime <= clock.now()) {
+            return;
+        }
+
+        scheduled.put(reminder.eventId, reminder);
+        queue.add(reminder);
+    }
+
+    @Override
+    public synchronized void cancel(String eventId) {
+        scheduled.remove(eventId);
+    }
+
+    /**
+     * Gets the number of reminders waiting to be dispatched.
+     *
+     * @return The number of scheduled reminders.
+     */
+    public synchronized int pendingCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * Moves the clock forward and dispatches every reminder that came due,
+     * in time order.
+     *
+     * @param millis The amount of time to move forward, in milliseconds.
+     * @return The number of reminders dispatched.
+     */
+    public synchronized int advance(long millis) {
+        clock.advance(millis);
+        long now = clock.now();
+
+        int dispatched = 0;
+        while (!queue.isEmpty() && queue.peek().reminderTime <= now) {
+            ReminderPlanner.Reminder reminder = queue.poll();
+
+            // skip reminders that were replaced or cancelled after being queued
+            if (scheduled.get(reminder.eventId) != reminder) {
+                continue;
+            }
+
+            scheduled.remove(reminder.eventId);
+            listener.onDispatched(reminder, now);
+            dispatched++;
+        }
+        return dispatched;
+    }
+}
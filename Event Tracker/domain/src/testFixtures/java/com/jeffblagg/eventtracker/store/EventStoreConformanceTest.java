@@ -0,0 +1,397 @@
+/*
+ * EventStoreConformanceTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+import com.jeffblagg.eventtracker.reminder.ReminderScheduler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Semantic checks every {@link EventStore} backend must pass.
+ *
+ * <p>Each backend test extends this class and provides a store. Every test
+ * uses a new user id, so backends with shared state, such as a Firestore
+ * emulator, don't need to be cleared between tests.</p>
+ */
+public abstract class EventStoreConformanceTest {
+    /** Fixed current time for the tests. */
+    protected static final long NOW = 1_800_000_000_000L;
+    protected static final long HOUR = 60 * 60 * 1000L;
+    protected static final long DAY = 24 * HOUR;
+
+    /**
+     * Scheduler recording the reminder currently scheduled for each event.
+     */
+    private static final class RecordingScheduler implements ReminderScheduler {
+        final Map<String, ReminderPlanner.Reminder> scheduled = new HashMap<>();
+
+        @Override
+        public synchronized void schedule(ReminderPlanner.Reminder reminder) {
+            scheduled.put(reminder.eventId, reminder);
+        }
+
+        @Override
+        public synchronized void cancel(String eventId) {
+            scheduled.remove(eventId);
+        }
+
+        synchronized ReminderPlanner.Reminder get(String eventId) {
+            return scheduled.get(eventId);
+        }
+    }
+
+    private final RecordingScheduler scheduler = new RecordingScheduler();
+    private EventStore backend;
+    private EventStore store;
+    private String userId;
+
+    /**
+     * Creates the store under test.
+     *
+     * @return A new or emptied store.
+     */
+    protected abstract EventStore createStore();
+
+    /**
+     * Creates the id of the user the test's events belong to. A new random
+     * id by default, so tests never see each other's events. Stores that
+     * check who is signed in override this to sign in a new test user.
+     *
+     * @return The user id.
+     */
+    protected String createUserId() {
+        return "conformance-" + UUID.randomUUID();
+    }
+
+    /**
+     * Releases the store after a test. Does nothing by default.
+     *
+     * @param store The store under test.
+     */
+    protected void closeStore(EventStore store) {
+    }
+
+    @Before
+    public void setUpStore() {
+        backend = createStore();
+        ReminderPlanner planner = new ReminderPlanner(() -> NOW, new EventFormatter(Locale.US));
+        store = new RemindingEventStore(backend, planner, scheduler);
+        userId = createUserId();
+    }
+
+    @After
+    public void tearDownStore() {
+        closeStore(backend);
+    }
+
+    @Test
+    public void addAssignsIdWhenMissing() {
+        String eventId = StoreCalls.add(store, event(null, NOW + HOUR, "Dentist"));
+
+        assertNotNull(eventId);
+        assertNotNull(StoreCalls.getEvent(store, userId, eventId));
+    }
+
+    @Test
+    public void addedEventRoundTrips() {
+        Event event = event("round-trip", NOW + HOUR, "Planning meeting");
+        event.description = "Bring the roadmap";
+        event.cardColor = 0xFF475D92;
+        event.endTime = NOW + 2 * HOUR;
+        StoreCalls.add(store, event);
+
+        Event loaded = StoreCalls.getEvent(store, userId, "round-trip");
+        assertNotNull(loaded);
+        assertEquals("round-trip", loaded.id);
+        assertEquals(userId, loaded.userId);
+        assertEquals(event.eventTime, loaded.eventTime);
+        assertEquals(event.title, loaded.title);
+        assertEquals(event.description, loaded.description);
+        assertEquals(event.cardColor, loaded.cardColor);
+        assertEquals(event.endTime, loaded.endTime);
+    }
+
+    @Test
+    public void upcomingEventsAreOrderedByTime() {
+        StoreCalls.add(store, event("third", NOW + 3 * HOUR, "Third"));
+        StoreCalls.add(store, event("first", NOW + HOUR, "First"));
+        StoreCalls.add(store, event("second", NOW + 2 * HOUR, "Second"));
+
+        assertEquals(List.of("first", "second", "third"), ids(StoreCalls.getUpcomingEvents(store, userId, NOW)));
+    }
+
+    @Test
+    public void upcomingEventsOnlyIncludeFutureEvents() {
+        StoreCalls.add(store, event("past", NOW - HOUR, "Past"));
+        StoreCalls.add(store, event("now", NOW, "Now"));
+        StoreCalls.add(store, event("future", NOW + HOUR, "Future"));
+
+        assertEquals(List.of("now", "future"), ids(StoreCalls.getUpcomingEvents(store, userId, NOW)));
+    }
+
+    @Test
+    public void upcomingEventsOnlyIncludeTheUser() {
+        StoreCalls.add(store, event("mine", NOW + HOUR, "Mine"));
+        Event other = event("theirs", NOW + HOUR, "Theirs");
+        other.userId = "other-" + userId;
+        StoreCalls.add(store, other);
+
+        assertEquals(List.of("mine"), ids(StoreCalls.getUpcomingEvents(store, userId, NOW)));
+        assertNull(StoreCalls.getEvent(store, userId, "theirs"));
+    }
+
+    @Test
+    public void upcomingEventsCarryDescriptionPreview() {
+        Event event = event("long", NOW + HOUR, "Long notes");
+        event.description = "x".repeat(EventSummary.PREVIEW_LENGTH * 2);
+        StoreCalls.add(store, event);
+
+        EventSummary summary = StoreCalls.getUpcomingEvents(store, userId, NOW).get(0);
+        assertEquals(EventSummary.preview(event.description), summary.descriptionPreview);
+    }
+
+    @Test
+    public void upcomingEventsCarryEndTime() {
+        Event timed = event("timed", NOW + HOUR, "Timed");
+        timed.endTime = NOW + 2 * HOUR;
+        StoreCalls.add(store, timed);
+        StoreCalls.add(store, event("untimed", NOW + 3 * HOUR, "Untimed"));
+
+        List<EventSummary> upcoming = StoreCalls.getUpcomingEvents(store, userId, NOW);
+        assertEquals(timed.endTime, upcoming.get(0).endTime);
+        assertNull(upcoming.get(1).endTime);
+    }
+
+    @Test
+    public void repeatingEventRoundTrips() {
+        Event weekly = event("weekly", NOW + HOUR, "Team sync");
+        weekly.recurrence = "FREQ=WEEKLY;BYDAY=MO,WE";
+        weekly.exceptions = List.of(NOW + 7 * DAY + HOUR);
+        StoreCalls.add(store, weekly);
+
+        Event loaded = StoreCalls.getEvent(store, userId, "weekly");
+        assertEquals(weekly.recurrence, loaded.recurrence);
+        assertEquals(weekly.exceptions, loaded.exceptions);
+
+        EventSummary summary = StoreCalls.getUpcomingEvents(store, userId, NOW).get(0);
+        assertEquals(weekly.recurrence, summary.recurrence);
+        assertEquals(weekly.exceptions, summary.exceptions);
+    }
+
+    @Test
+    public void upcomingEventsIncludeRepeatingEventsStartedBefore() {
+        Event daily = event("daily", NOW - 30 * DAY, "Standup");
+        daily.recurrence = "FREQ=DAILY";
+        StoreCalls.add(store, daily);
+        Event ended = event("ended", NOW - 30 * DAY, "Course");
+        ended.recurrence = "FREQ=DAILY;COUNT=5";
+        StoreCalls.add(store, ended);
+        StoreCalls.add(store, event("past", NOW - HOUR, "Past"));
+        StoreCalls.add(store, event("future", NOW + HOUR, "Future"));
+
+        assertEquals(List.of("daily", "future"), ids(StoreCalls.getUpcomingEvents(store, userId, NOW)));
+    }
+
+    @Test
+    public void addAllAddsEveryEventInOrder() {
+        List<Event> batch = new ArrayList<>();
+        batch.add(event("batch-2", NOW + 2 * HOUR, "Second"));
+        batch.add(event(null, NOW + 3 * HOUR, "Third"));
+        batch.add(event("batch-1", NOW + HOUR, "First"));
+
+        List<String> eventIds = StoreCalls.addAll(store, batch);
+        assertEquals(3, eventIds.size());
+        assertEquals("batch-2", eventIds.get(0));
+        assertNotNull(eventIds.get(1));
+        assertEquals("batch-1", eventIds.get(2));
+
+        assertEquals(List.of("batch-1", "batch-2", eventIds.get(1)),
+                ids(StoreCalls.getUpcomingEvents(store, userId, NOW)));
+        assertEquals("Third", StoreCalls.getEvent(store, userId, eventIds.get(1)).title);
+    }
+
+    @Test
+    public void addAllReplacesEventsWithTheSameId() {
+        StoreCalls.addAll(store, List.of(event("imported", NOW + HOUR, "Before")));
+        StoreCalls.addAll(store, List.of(event("imported", NOW + HOUR, "After")));
+
+        assertEquals(1, StoreCalls.getUpcomingEvents(store, userId, NOW).size());
+        assertEquals("After", StoreCalls.getEvent(store, userId, "imported").title);
+    }
+
+    @Test
+    public void addAllOfTooManyEventsFails() {
+        List<Event> batch = new ArrayList<>();
+        for (int i = 0; i <= EventStore.MAX_BATCH_SIZE; i++) {
+            batch.add(event("large-" + i, NOW + HOUR, "Large"));
+        }
+
+        assertNull(StoreCalls.addAll(store, batch));
+        assertTrue(StoreCalls.getUpcomingEvents(store, userId, NOW).isEmpty());
+    }
+
+    @Test
+    public void updateReplacesEvent() {
+        StoreCalls.add(store, event("edited", NOW + HOUR, "Before"));
+        Event edited = event("edited", NOW + 2 * HOUR, "After");
+
+        assertEquals("edited", StoreCalls.update(store, edited));
+        Event loaded = StoreCalls.getEvent(store, userId, "edited");
+        assertEquals("After", loaded.title);
+        assertEquals(NOW + 2 * HOUR, loaded.eventTime);
+    }
+
+    @Test
+    public void addStoresVersionOne() {
+        Event event = event("versioned", NOW + HOUR, "Versioned");
+        event.version = 7;
+        StoreCalls.add(store, event);
+
+        assertEquals(1, StoreCalls.getEvent(store, userId, "versioned").version);
+    }
+
+    @Test
+    public void addAllStoresVersionOne() {
+        Event event = event("batch-versioned", NOW + HOUR, "Versioned");
+        event.version = 7;
+        StoreCalls.addAll(store, List.of(event));
+
+        assertEquals(1, StoreCalls.getEvent(store, userId, "batch-versioned").version);
+    }
+
+    @Test
+    public void updateIncrementsStoredVersion() {
+        StoreCalls.add(store, event("edited", NOW + HOUR, "First"));
+        StoreCalls.update(store, event("edited", NOW + HOUR, "Second"));
+        Event stale = event("edited", NOW + HOUR, "Third");
+        stale.version = 1;
+
+        assertEquals("edited", StoreCalls.update(store, stale));
+        assertEquals(3, StoreCalls.getEvent(store, userId, "edited").version);
+    }
+
+    @Test
+    public void updateOfAnotherUsersEventFails() {
+        StoreCalls.add(store, event("owned", NOW + HOUR, "Mine"));
+        Event other = event("owned", NOW + HOUR, "Theirs");
+        other.userId = "other-" + userId;
+
+        assertNull(StoreCalls.update(store, other));
+        assertEquals("Mine", StoreCalls.getEvent(store, userId, "owned").title);
+    }
+
+    @Test
+    public void updateOfMissingEventFails() {
+        assertNull(StoreCalls.update(store, event("missing", NOW + HOUR, "Missing")));
+        assertNull(StoreCalls.getEvent(store, userId, "missing"));
+    }
+
+    @Test
+    public void deleteRemovesEvent() {
+        StoreCalls.add(store, event("deleted", NOW + HOUR, "Deleted"));
+
+        assertTrue(StoreCalls.delete(store, userId, "deleted"));
+        assertNull(StoreCalls.getEvent(store, userId, "deleted"));
+        assertTrue(StoreCalls.getUpcomingEvents(store, userId, NOW).isEmpty());
+    }
+
+    @Test
+    public void addSchedulesReminderUnderStoredId() {
+        String eventId = StoreCalls.add(store, event(null, NOW + 3 * HOUR, "Dentist"));
+
+        ReminderPlanner.Reminder reminder = scheduler.get(eventId);
+        assertNotNull(reminder);
+        assertEquals(NOW + 3 * HOUR - ReminderPlanner.REMINDER_OFFSET, reminder.reminderTime);
+    }
+
+    @Test
+    public void addAllSchedulesEachReminder() {
+        StoreCalls.addAll(store, List.of(event("early", NOW + 3 * HOUR, "Early"),
+                event("late", NOW + 5 * HOUR, "Late"), event("soon", NOW + HOUR, "Soon")));
+
+        assertEquals(NOW + 3 * HOUR - ReminderPlanner.REMINDER_OFFSET, scheduler.get("early").reminderTime);
+        assertEquals(NOW + 5 * HOUR - ReminderPlanner.REMINDER_OFFSET, scheduler.get("late").reminderTime);
+        assertNull(scheduler.get("soon"));
+    }
+
+    @Test
+    public void addWithPassedReminderTimeSchedulesNothing() {
+        StoreCalls.add(store, event("soon", NOW + HOUR, "Soon"));
+
+        assertNull(scheduler.get("soon"));
+    }
+
+    @Test
+    public void updateReschedulesReminder() {
+        StoreCalls.add(store, event("moved", NOW + 3 * HOUR, "Moved"));
+        StoreCalls.update(store, event("moved", NOW + 5 * HOUR, "Moved"));
+
+        assertEquals(NOW + 5 * HOUR - ReminderPlanner.REMINDER_OFFSET, scheduler.get("moved").reminderTime);
+    }
+
+    @Test
+    public void failedUpdateSchedulesNothing() {
+        StoreCalls.update(store, event("missing", NOW + 5 * HOUR, "Missing"));
+
+        assertNull(scheduler.get("missing"));
+    }
+
+    @Test
+    public void repeatingEventRemindsOfNextOccurrence() {
+        Event daily = event("daily", NOW - 30 * DAY + HOUR, "Standup");
+        daily.recurrence = "FREQ=DAILY";
+        StoreCalls.add(store, daily);
+
+        // today's occurrence is too soon for a reminder, so it's tomorrow's
+        ReminderPlanner.Reminder reminder = scheduler.get("daily");
+        assertEquals(NOW + DAY + HOUR - ReminderPlanner.REMINDER_OFFSET, reminder.reminderTime);
+        assertNotNull(reminder.series);
+    }
+
+    @Test
+    public void deleteCancelsReminder() {
+        StoreCalls.add(store, event("cancelled", NOW + 3 * HOUR, "Cancelled"));
+        StoreCalls.delete(store, userId, "cancelled");
+
+        assertNull(scheduler.get("cancelled"));
+    }
+
+    /**
+     * Builds an event for the test's user.
+     */
+    protected Event event(String id, long eventTime, String title) {
+        return new Event(id, userId, eventTime, title, null, null);
+    }
+
+    private static List<String> ids(List<EventSummary> events) {
+        List<String> ids = new ArrayList<>();
+        for (EventSummary event : events) {
+            ids.add(event.id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * EventStoreLoadTest.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.metrics.LatencyHistogram;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Throughput and latency scenarios run identically against every
+ * {@link EventStore} backend.
+ *
+ * <p>Each scenario issues one call at a time and waits for its callback, so
+ * the latencies include the backend's thread hops. Every result is checked
+ * outside the timed calls, so a backend that drops or mixes up writes under
+ * a steady stream of calls fails. Timings are reported, never asserted, as
+ * one line per scenario, for example:</p>
+ * <pre>
+ * InMemoryEventStoreLoadTest add: 1000 ops, 250000 ops/s, p50 0.003 ms, p95 0.010 ms, p99 0.020 ms, max 0.400 ms
+ * </pre>
+ */
+public abstract class EventStoreLoadTest {
+    private static final long NOW = 1_800_000_000_000L;
+    private static final long MINUTE = 60 * 1000L;
+
+    /** Number of upcoming events queries per scenario. */
+    private static final int QUERIES = 50;
+
+    private EventStore store;
+    private String userId;
+
+    /**
+     * Creates the store under test.
+     *
+     * @return A new or emptied store.
+     */
+    protected abstract EventStore createStore();
+
+    /**
+     * Creates the id of the user the scenario's events belong to. A new
+     * random id by default. Stores that check who is signed in override this
+     * to sign in a new test user.
+     *
+     * @return The user id.
+     */
+    protected String createUserId() {
+        return "load-" + UUID.randomUUID();
+    }
+
+    /**
+     * Releases the store after a test. Does nothing by default.
+     *
+     * @param store The store under test.
+     */
+    protected void closeStore(EventStore store) {
+    }
+
+    /**
+     * Number of events written and read per scenario. Remote backends may
+     * lower it to keep runs short.
+     *
+     * @return The number of events.
+     */
+    protected int eventCount() {
+        return 1000;
+    }
+
+    @Before
+    public void setUpStore() {
+        store = createStore();
+        userId = createUserId();
+    }
+
+    @After
+    public void tearDownStore() {
+        closeStore(store);
+    }
+
+    /**
+     * Reports a scenario's throughput and latency percentiles. Prints one
+     * line by default, which shows in the test output or logcat.
+     *
+     * @param scenario The name of the scenario.
+     * @param latencies The latency of each call, in nanoseconds.
+     * @param totalNanos The duration of the whole scenario, in nanoseconds.
+     */
+    protected void report(String scenario, LatencyHistogram latencies, long totalNanos) {
+        System.out.println(String.format(Locale.US,
+                "%s %s: %d ops, %.0f ops/s, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms",
+                getClass().getSimpleName(), scenario, latencies.getCount(),
+                latencies.getCount() / (totalNanos / 1e9),
+                latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(95) / 1e6,
+                latencies.getValueAtPercentile(99) / 1e6, latencies.getMax() / 1e6));
+    }
+
+    @Test
+    public void add() {
+        int count = eventCount();
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long callStart = System.nanoTime();
+            String eventId = StoreCalls.add(store, event(i));
+            latencies.record(System.nanoTime() - callStart);
+            assertEquals("event-" + i, eventId);
+        }
+        report("add", latencies, System.nanoTime() - start);
+        assertEquals(count, StoreCalls.getUpcomingEvents(store, userId, NOW).size());
+    }
+
+    @Test
+    public void getEvent() {
+        int count = eventCount();
+        seed(count);
+        Random random = new Random(42);
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int index = random.nextInt(count);
+            long callStart = System.nanoTime();
+            Event event = StoreCalls.getEvent(store, userId, "event-" + index);
+            latencies.record(System.nanoTime() - callStart);
+            assertNotNull(event);
+            assertEquals("Event " + index, event.title);
+            assertEquals(NOW + index * MINUTE, event.eventTime);
+        }
+        report("getEvent", latencies, System.nanoTime() - start);
+    }
+
+    @Test
+    public void getUpcomingEvents() {
+        int count = eventCount();
+        seed(count);
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            // slide the window so each query returns a different number of events
+            int firstIndex = count * i / QUERIES;
+            long from = NOW + firstIndex * MINUTE;
+            long callStart = System.nanoTime();
+            int returned = StoreCalls.getUpcomingEvents(store, userId, from).size();
+            latencies.record(System.nanoTime() - callStart);
+            assertEquals(count - firstIndex, returned);
+        }
+        report("getUpcomingEvents", latencies, System.nanoTime() - start);
+    }
+
+    @Test
+    public void update() {
+        int count = eventCount();
+        seed(count);
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            Event event = event(i);
+            event.title = "Updated " + i;
+            long callStart = System.nanoTime();
+            String eventId = StoreCalls.update(store, event);
+            latencies.record(System.nanoTime() - callStart);
+            assertEquals(event.id, eventId);
+        }
+        report("update", latencies, System.nanoTime() - start);
+        for (int i = 0; i < count; i++) {
+            assertEquals("Updated " + i, StoreCalls.getEvent(store, userId, "event-" + i).title);
+        }
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            StoreCalls.add(store, event(i));
+        }
+    }
+
+    private Event event(int index) {
+        return new Event("event-" + index, userId, NOW + index * MINUTE,
+                "Event " + index, "Notes for event " + index, null);
+    }
+}
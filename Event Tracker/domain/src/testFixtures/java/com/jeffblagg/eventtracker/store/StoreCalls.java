@@ -0,0 +1,91 @@
+/*
+ * StoreCalls.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.store;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Blocking wrappers around the asynchronous {@link EventStore} calls, used
+ * by the shared suites. Must not be called on the thread the store delivers
+ * its callbacks on.
+ */
+public final class StoreCalls {
+    /** How long to wait for a store callback before failing. */
+    private static final long TIMEOUT_SECONDS = 30;
+
+    /**
+     * An asynchronous call that reports its result to a receiver.
+     */
+    private interface Call<T> { void run(Receiver<T> receiver); }
+
+    /**
+     * Receiver for the result of an asynchronous call.
+     */
+    private interface Receiver<T> { void accept(T result); }
+
+    private StoreCalls() {
+    }
+
+    public static Event getEvent(EventStore store, String userId, String eventId) {
+        return await(receiver -> store.getEvent(userId, eventId, receiver::accept));
+    }
+
+    public static List<EventSummary> getUpcomingEvents(EventStore store, String userId, long from) {
+        return await(receiver -> store.getUpcomingEvents(userId, from, receiver::accept));
+    }
+
+    public static String add(EventStore store, Event event) {
+        return await(receiver -> store.add(event, receiver::accept));
+    }
+
+    public static List<String> addAll(EventStore store, List<Event> events) {
+        return await(receiver -> store.addAll(events, receiver::accept));
+    }
+
+    public static String update(EventStore store, Event event) {
+        return await(receiver -> store.update(event, receiver::accept));
+    }
+
+    public static boolean delete(EventStore store, String userId, String eventId) {
+        return await(receiver -> store.delete(userId, eventId, receiver::accept));
+    }
+
+    /**
+     * Runs a call and waits for its callback.
+     *
+     * @param call The call to run.
+     * @return The result passed to the callback.
+     * @throws AssertionError if the callback isn't called in time.
+     */
+    private static <T> T await(Call<T> call) {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<T> result = new AtomicReference<>();
+
+        call.run(value -> {
+            result.set(value);
+            done.countDown();
+        });
+
+        try {
+            if (!done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AssertionError("Store callback not called within " + TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted waiting for store callback", exception);
+        }
+        return result.get();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * BaselineProfileGenerator.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.macrobenchmark;
+
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.EVENT_COUNT;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.PACKAGE_NAME;
+
+import androidx.benchmark.macro.junit4.BaselineProfileRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiObject2;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import kotlin.Unit;
+
+/**
+ * Generates the app's Baseline Profile from startup, scrolling the events
+ * list and opening an event for editing.
+ *
+ * <p>Run {@code ./gradlew :app:generateBaselineProfile} with a device
+ * connected. The baseline profile plugin runs this test against the
+ * non-minified release build and writes the profile to
+ * {@code app/src/main/generated/baselineProfiles/baseline-prof.txt}, which is
+ * checked in. The profile is compiled into the release build and installed
+ * by profileinstaller.</p>
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class BaselineProfileGenerator {
+    @Rule
+    public final BaselineProfileRule baselineProfileRule = new BaselineProfileRule();
+
+    @Before
+    public void seedEvents() throws IOException {
+        BenchmarkData.seedEvents(EVENT_COUNT);
+    }
+
+    @Test
+    public void generate() {
+        baselineProfileRule.collect(PACKAGE_NAME, scope -> {
+            scope.pressHome();
+            scope.startActivityAndWait();
+            BenchmarkData.waitForEvents(scope);
+
+            UiObject2 list = scope.getDevice().findObject(By.res(PACKAGE_NAME, "eventsRecyclerView"));
+            list.setGestureMargin(scope.getDevice().getDisplayWidth() / 5);
+            list.fling(Direction.DOWN);
+            scope.getDevice().waitForIdle();
+
+            scope.getDevice().findObject(By.res(PACKAGE_NAME, "cardTitleTextView")).click();
+            BenchmarkData.waitForView(scope, "nameEditText");
+            scope.getDevice().pressBack();
+            return Unit.INSTANCE;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * BenchmarkData.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.macrobenchmark;
+
+import android.os.Bundle;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.Until;
+
+import java.io.IOException;
+
+/**
+ * Shared setup for the macrobenchmarks.
+ *
+ * <p>Benchmarks run against the app's minified {@code benchmark} build with
+ * {@code ./gradlew :macrobenchmark:connectedBenchmarkAndroidTest}. Results
+ * are written as JSON to
+ * {@code macrobenchmark/build/outputs/connected_android_test_additional_output/},
+ * so runs from different builds can be compared.</p>
+ *
+ * <p>Events are seeded into Firestore for a dedicated benchmark account,
+ * passed as instrumentation arguments:
+ * {@code -Pandroid.testInstrumentationRunnerArguments.benchmarkEmail=...} and
+ * {@code -Pandroid.testInstrumentationRunnerArguments.benchmarkPassword=...}.</p>
+ */
+final class BenchmarkData {
+    /**
+     * Package name of the app under test.
+     */
+    static final String PACKAGE_NAME = "com.jeffblagg.eventtracker";
+
+    /**
+     * Number of upcoming events seeded before each benchmark.
+     */
+    static final int EVENT_COUNT = 2000;
+
+    /**
+     * Number of measured iterations for each benchmark.
+     */
+    static final int ITERATIONS = 10;
+
+    private static final long TIMEOUT_MS = 5000;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Signs in the benchmark account and tops it up to {@code count} upcoming
+     * events, through the seed receiver in the app's benchmark build.
+     *
+     * @param count The number of events to seed.
+     * @throws IOException If the shell command fails.
+     */
+    static void seedEvents(int count) throws IOException {
+        Bundle arguments = InstrumentationRegistry.getArguments();
+        UiDevice device = UiDevice.getInstance(InstrumentationRegistry.getInstrumentation());
+        device.executeShellCommand("am broadcast --include-stopped-packages"
+                + " -n " + PACKAGE_NAME + "/.benchmark.SeedEventsReceiver"
+                + " --es email " + shellQuote(arguments.getString("benchmarkEmail"))
+                + " --es password " + shellQuote(arguments.getString("benchmarkPassword"))
+                + " --ei count " + count);
+    }
+
+    /**
+     * Quotes a value for the device shell, so spaces and characters like
+     * {@code $}, {@code &} or {@code ;} in a password reach the app unchanged.
+     *
+     * @param value The value to quote.
+     * @return The value in single quotes, with its own single quotes escaped.
+     */
+    private static String shellQuote(String value) {
+        return "'" + String.valueOf(value).replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * Waits until the events list shows its first card.
+     *
+     * @param scope The benchmark scope.
+     */
+    static void waitForEvents(MacrobenchmarkScope scope) {
+        scope.getDevice().wait(Until.hasObject(By.res(PACKAGE_NAME, "cardTitleTextView")), TIMEOUT_MS);
+    }
+
+    /**
+     * Waits until a view with the given id is shown.
+     *
+     * @param scope The benchmark scope.
+     * @param resourceId The id of the view.
+     */
+    static void waitForView(MacrobenchmarkScope scope, String resourceId) {
+        scope.getDevice().wait(Until.hasObject(By.res(PACKAGE_NAME, resourceId)), TIMEOUT_MS);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SaveEventBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.macrobenchmark;
+
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.EVENT_COUNT;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.ITERATIONS;
+import static com.jeffblagg.eventtracker.macrobenchmark.BenchmarkData.PACKAGE_NAME;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.UiObject2;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import kotlin.Unit;
+
+/**
+ * Measures frame timing for the edit and save flow: opening an event from
+ * the list, changing its title, saving, and returning to the list.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class SaveEventBenchmark {
+    @Rule
+    public final MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    private int saveCount = 0;
+
+    @Before
+    public void seedEvents() throws IOException {
+        BenchmarkData.seedEvents(EVENT_COUNT);
+    }
+
+    @Test
+    public void editAndSaveEvent() {
+        benchmarkRule.measureRepeated(
+                PACKAGE_NAME,
+                Collections.singletonList(new FrameTimingMetric()),
+                new CompilationMode.Partial(),
+                StartupMode.WARM,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    scope.startActivityAndWait();
+                    BenchmarkData.waitForEvents(scope);
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    scope.getDevice().findObject(By.res(PACKAGE_NAME, "cardTitleTextView")).click();
+                    BenchmarkData.waitForView(scope, "nameEditText");
+
+                    UiObject2 nameEditText = scope.getDevice().findObject(By.res(PACKAGE_NAME, "nameEditText"));
+                    nameEditText.setText("Benchmark save " + saveCount++);
+                    scope.getDevice().findObject(By.res(PACKAGE_NAME, "addEditButton")).click();
+
+                    BenchmarkData.waitForEvents(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * BenchmarkEvents.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.entities.Event;
+
+/**
+ * Builds the events measured by the microbenchmarks.
+ */
+final class BenchmarkEvents {
+    static final String USER_ID = "benchmark-user";
+
+    /** Long enough that every description is truncated to a preview. */
+    private static final String DESCRIPTION =
+            "Bring the quarterly numbers, the updated roadmap and the notes from last week's "
+            + "planning session. Parking is on the north side of the building, and the meeting "
+            + "room is on the third floor next to the kitchen.";
+
+    private static final Integer[] CARD_COLORS = {null, 0xFFE57373, 0xFF64B5F6, 0xFF81C784};
+
+    private BenchmarkEvents() {
+    }
+
+    /**
+     * Builds an event one hour after the previous index.
+     *
+     * @param index The index of the event.
+     * @return The event.
+     */
+    static Event event(int index) {
+        Event event = new Event(
+                "event-" + index,
+                USER_ID,
+                1_800_000_000_000L + index * 60 * 60 * 1000L,
+                "Planning meeting " + index,
+                DESCRIPTION,
+                CARD_COLORS[index % CARD_COLORS.length]);
+        event.version = 1;
+        return event;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * EventSummaryBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.entities.EventSummary;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures building the list summary of an event, done for each event that
+ * is saved or imported.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class EventSummaryBenchmark {
+    @Rule
+    public final BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private final Event event = BenchmarkEvents.event(0);
+
+    @Test
+    public void eventSummaryFromEvent() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            EventSummary.from(event);
+        }
+    }
+}
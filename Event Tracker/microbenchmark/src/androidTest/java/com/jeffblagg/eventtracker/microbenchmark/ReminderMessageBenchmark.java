@@ -0,0 +1,58 @@
+/*
+ * ReminderMessageBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.entities.Event;
+import com.jeffblagg.eventtracker.format.EventFormatter;
+import com.jeffblagg.eventtracker.reminder.ReminderPlanner;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures planning the SMS reminder scheduled for each saved event.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class ReminderMessageBenchmark {
+    @Rule
+    public final BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private final Event event = BenchmarkEvents.event(0);
+
+    /**
+     * A new formatter for every message.
+     */
+    @Test
+    public void reminderMessage() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            new EventFormatter().reminderMessage(event.title, event.eventTime);
+        }
+    }
+
+    /**
+     * The shared planner used by the repository.
+     */
+    @Test
+    public void planReminder() {
+        ReminderPlanner planner = new ReminderPlanner(() -> 0L, new EventFormatter());
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            planner.plan(event);
+        }
+    }
+}
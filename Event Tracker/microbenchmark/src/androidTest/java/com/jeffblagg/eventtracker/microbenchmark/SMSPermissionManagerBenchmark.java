@@ -0,0 +1,70 @@
+/*
+ * SMSPermissionManagerBenchmark.java
+ *
+ * Author: Jeff Blagg
+ * Class: CS-499 - CS Capstone
+ * Date: November 2025
+ */
+
+package com.jeffblagg.eventtracker.microbenchmark;
+
+import com.jeffblagg.eventtracker.reminder.SMSPermissionManager;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the SMS decision lookups, which parse the stored JSON of every
+ * user's decision on each call.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class SMSPermissionManagerBenchmark {
+    /** Number of users with a stored decision. */
+    private static final int USER_COUNT = 1000;
+
+    @Rule
+    public final BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+    private SMSPermissionManager smsPermissionManager;
+
+    @Before
+    public void storeDecisions() {
+        smsPermissionManager = new SMSPermissionManager(ApplicationProvider.getApplicationContext());
+        for (int i = 0; i < USER_COUNT; i++) {
+            smsPermissionManager.setSMSDecisionMade("user-" + i, true);
+        }
+    }
+
+    @Test
+    public void userHasDecidedSMS() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            smsPermissionManager.userHasDecidedSMS("user-" + (USER_COUNT / 2));
+        }
+    }
+
+    @Test
+    public void userHasNotDecidedSMS() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            smsPermissionManager.userHasDecidedSMS("unknown-user");
+        }
+    }
+
+    @Test
+    public void setSMSDecisionMade() {
+        BenchmarkState state = benchmarkRule.getState();
+        while (state.keepRunning()) {
+            smsPermissionManager.setSMSDecisionMade("user-0", true);
+        }
+    }
+}